@@ -0,0 +1,30 @@
+package uk.gov.moj.cpp.prosecution.casefile.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}: runs the benchmarks selected on the command line, accepting
+ * the usual JMH options, with the GC profiler always enabled so allocation rates are reported.
+ * <pre>
+ * mvn -Pbenchmarks -pl prosecutioncasefile-benchmarks -am package -DskipTests
+ * java -jar prosecutioncasefile-benchmarks/target/benchmarks.jar ReceiveProsecutionBenchmark -p defendants=100
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
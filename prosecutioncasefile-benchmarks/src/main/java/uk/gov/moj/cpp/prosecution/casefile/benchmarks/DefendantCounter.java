@@ -0,0 +1,23 @@
+package uk.gov.moj.cpp.prosecution.casefile.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary result counting the defendants processed, so each benchmark also reports a
+ * {@code defendants} throughput alongside the per-submission one.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class DefendantCounter {
+
+    public long defendants;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        defendants = 0;
+    }
+}
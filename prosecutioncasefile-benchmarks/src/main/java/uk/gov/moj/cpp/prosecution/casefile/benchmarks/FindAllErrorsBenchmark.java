@@ -0,0 +1,165 @@
+package uk.gov.moj.cpp.prosecution.casefile.benchmarks;
+
+import static java.time.LocalDate.now;
+import static java.util.Collections.singletonList;
+import static java.util.UUID.randomUUID;
+import static javax.json.Json.createArrayBuilder;
+import static javax.json.Json.createObjectBuilder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.OrderByField.HEARING_DATE;
+import static uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.SortOrder.ASC;
+
+import uk.gov.moj.cpp.prosecutioncasefile.mapping.FilterParameter;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorCaseDetails;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorDetails;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorSummary;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PaginationParameter;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PaginationResult;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorCaseDetailsRepository;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorRepository;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorSummaryRepository;
+import uk.gov.moj.cpp.prosecutioncasefile.query.view.response.BusinessValidationErrorView;
+import uk.gov.moj.cpp.prosecutioncasefile.query.view.service.BusinessErrorDetailsService;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.JsonArrayBuilder;
+
+import org.mockito.stubbing.Answer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Time to build a page of the cases errors work queue with
+ * {@link BusinessErrorDetailsService#findAllErrors}, by page size.
+ * <p>
+ * The viewstore repositories are stubbed, and every query they answer burns {@code queryCost}
+ * tokens of {@link Blackhole#consumeCPU} in place of a database round trip, so the score grows
+ * with the number of queries a page takes as well as with the cost of parsing the stored case
+ * details. The per-case lookup is stubbed too, so the benchmark also runs against revisions that
+ * still load case details one case at a time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class FindAllErrorsBenchmark {
+
+    private static final int DEFENDANTS = 3;
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    @Param({"0", "20000"})
+    public long queryCost;
+
+    private final BusinessErrorDetailsService businessErrorDetailsService = new BusinessErrorDetailsService();
+
+    private PaginationParameter paginationParameter;
+    private FilterParameter filterParameter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        final List<BusinessValidationErrorSummary> summaries = new ArrayList<>(pageSize);
+        final List<BusinessValidationErrorDetails> errors = new ArrayList<>();
+        final List<BusinessValidationErrorCaseDetails> caseDetails = new ArrayList<>(pageSize);
+        final Map<UUID, List<BusinessValidationErrorCaseDetails>> caseDetailsByCaseId = new HashMap<>();
+        for (int i = 0; i < pageSize; i++) {
+            final UUID caseId = randomUUID();
+            summaries.add(summary(caseId));
+            errors.add(error(caseId, null));
+            final JsonArrayBuilder defendants = createArrayBuilder();
+            for (int d = 0; d < DEFENDANTS; d++) {
+                final UUID defendantId = randomUUID();
+                errors.add(error(caseId, defendantId));
+                defendants.add(createObjectBuilder()
+                        .add("id", defendantId.toString())
+                        .add("firstName", "Joe")
+                        .add("lastName", "Root")
+                        .add("offences", createArrayBuilder().add(createObjectBuilder()
+                                .add("id", randomUUID().toString())
+                                .add("offenceCode", "CA03012"))));
+            }
+            final BusinessValidationErrorCaseDetails details = new BusinessValidationErrorCaseDetails(caseId,
+                    createObjectBuilder().add("defendants", defendants).build().toString());
+            caseDetails.add(details);
+            caseDetailsByCaseId.put(caseId, singletonList(details));
+        }
+
+        paginationParameter = new PaginationParameter(pageSize, 1, HEARING_DATE, ASC, null, false);
+        filterParameter = FilterParameter.filterParameterBuilder().build();
+
+        final BusinessValidationErrorSummaryRepository summaryRepository = mock(BusinessValidationErrorSummaryRepository.class);
+        when(summaryRepository.fetchFilteredCaseErrorSummary(any(), any())).thenAnswer(query(PaginationResult.uncounted(summaries, null)));
+
+        final BusinessValidationErrorRepository errorRepository = mock(BusinessValidationErrorRepository.class);
+        when(errorRepository.fetchAllCaseErrorDetailsByCaseIds(anyCollection(), any())).thenAnswer(query(errors));
+
+        final BusinessValidationErrorCaseDetailsRepository caseDetailsRepository = mock(BusinessValidationErrorCaseDetailsRepository.class);
+        when(caseDetailsRepository.findByCaseIds(anyCollection())).thenAnswer(query(caseDetails));
+        when(caseDetailsRepository.findByCaseId(any())).thenAnswer(invocation -> {
+            Blackhole.consumeCPU(queryCost);
+            return caseDetailsByCaseId.get(invocation.<UUID>getArgument(0));
+        });
+
+        inject("businessValidationErrorSummaryRepository", summaryRepository);
+        inject("businessValidationErrorsRepository", errorRepository);
+        inject("businessValidationErrorCaseDetailsRepository", caseDetailsRepository);
+    }
+
+    @Benchmark
+    public PaginationResult<BusinessValidationErrorView> findAllErrors() {
+        return businessErrorDetailsService.findAllErrors(paginationParameter, filterParameter);
+    }
+
+    private <T> Answer<T> query(final T result) {
+        return invocation -> {
+            Blackhole.consumeCPU(queryCost);
+            return result;
+        };
+    }
+
+    private void inject(final String fieldName, final Object repository) throws ReflectiveOperationException {
+        final Field field = BusinessErrorDetailsService.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(businessErrorDetailsService, repository);
+    }
+
+    private static BusinessValidationErrorSummary summary(final UUID caseId) {
+        final BusinessValidationErrorSummary summary = new BusinessValidationErrorSummary();
+        summary.setCaseId(caseId);
+        summary.setCourtLocation("Bootle");
+        summary.setCaseType("CC");
+        summary.setUrn("88GD6251318");
+        summary.setDefendantHearingDate(now());
+        return summary;
+    }
+
+    private static BusinessValidationErrorDetails error(final UUID caseId, final UUID defendantId) {
+        return new BusinessValidationErrorDetails(randomUUID(), "Error Value", randomUUID().toString(), "Display Name",
+                caseId, defendantId, "fieldName", "Bootle Magistrates' Court", "Bootle", "CC", "88GD6251318",
+                "CONDITIONAL", "Joe", "Root", null, now().minusMonths(1), now(), null);
+    }
+}
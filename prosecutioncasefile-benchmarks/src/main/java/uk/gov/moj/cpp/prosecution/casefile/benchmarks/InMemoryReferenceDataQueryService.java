@@ -0,0 +1,259 @@
+package uk.gov.moj.cpp.prosecution.casefile.benchmarks;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static uk.gov.moj.cpp.prosecution.casefile.benchmarks.SyntheticSubmissions.BAIL_STATUS;
+import static uk.gov.moj.cpp.prosecution.casefile.benchmarks.SyntheticSubmissions.CASE_MARKER;
+import static uk.gov.moj.cpp.prosecution.casefile.benchmarks.SyntheticSubmissions.COURT_HEARING_LOCATION;
+import static uk.gov.moj.cpp.prosecution.casefile.benchmarks.SyntheticSubmissions.CUSTODY_STATUS;
+import static uk.gov.moj.cpp.prosecution.casefile.benchmarks.SyntheticSubmissions.INITIATION_CODES;
+import static uk.gov.moj.cpp.prosecution.casefile.benchmarks.SyntheticSubmissions.SUMMONS_CODE;
+import static uk.gov.moj.cpp.prosecution.casefile.benchmarks.SyntheticSubmissions.caseMarkers;
+import static uk.gov.moj.cpp.prosecution.casefile.benchmarks.SyntheticSubmissions.offenceReferenceData;
+import static uk.gov.moj.cpp.prosecution.casefile.benchmarks.SyntheticSubmissions.organisationUnitWithCourtroom;
+import static uk.gov.moj.cpp.prosecution.casefile.benchmarks.SyntheticSubmissions.prosecutorsReferenceData;
+
+import uk.gov.justice.core.courts.CourtApplicationType;
+import uk.gov.justice.core.courts.LjaDetails;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.justice.services.messaging.Metadata;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.AlcoholLevelMethodReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.BailStatusReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseMarker;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.CustodyStatusReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DocumentTypeAccessReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.HearingTypes;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.LicenceCodeReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ModeOfTrialReasonsReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.MojOffences;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ObservedEthnicityReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Offence;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenceDateCodeReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenceReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenderCodeReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OrganisationUnitReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OrganisationUnitWithCourtroomReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ParentBundleSectionReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.PoliceForceReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.PoliceRankReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProsecutorsReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ReferenceDataCountryNationality;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.SelfdefinedEthnicityReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.SummonsCodeReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.VehicleCodeReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.json.JsonObjectBuilder;
+
+/**
+ * Reference data served from memory, consistent with the codes used by {@link SyntheticSubmissions},
+ * so that lookups the validation rules fall back to cost no more than building the result.
+ */
+public class InMemoryReferenceDataQueryService implements ReferenceDataQueryService {
+
+    private final List<CustodyStatusReferenceData> custodyStatuses = singletonList(CustodyStatusReferenceData.custodyStatusReferenceData()
+            .withStatusCode(CUSTODY_STATUS)
+            .build());
+
+    private final List<BailStatusReferenceData> bailStatuses = singletonList(BailStatusReferenceData.bailStatusReferenceData()
+            .withStatusCode(BAIL_STATUS)
+            .build());
+
+    private final List<SummonsCodeReferenceData> summonsCodes = singletonList(SummonsCodeReferenceData.summonsCodeReferenceData()
+            .withSummonsCode(SUMMONS_CODE)
+            .build());
+
+    private final List<OrganisationUnitReferenceData> organisationUnits = singletonList(OrganisationUnitReferenceData.organisationUnitReferenceData()
+            .withOucode(COURT_HEARING_LOCATION)
+            .build());
+
+    private final List<CaseMarker> caseMarkers = caseMarkers(CASE_MARKER);
+
+    @Override
+    public JsonObjectBuilder getCourtName(final JsonEnvelope envelope) {
+        return null;
+    }
+
+    @Override
+    public List<PoliceRankReferenceData> retrievePoliceRanks() {
+        return emptyList();
+    }
+
+    @Override
+    public List<ReferenceDataCountryNationality> retrieveCountryNationality() {
+        return emptyList();
+    }
+
+    @Override
+    public List<SummonsCodeReferenceData> retrieveSummonsCodes() {
+        return summonsCodes;
+    }
+
+    @Override
+    public List<DocumentTypeAccessReferenceData> retrieveDocumentsTypeAccess() {
+        return emptyList();
+    }
+
+    @Override
+    public List<AlcoholLevelMethodReferenceData> retrieveAlcoholLevelMethods() {
+        return emptyList();
+    }
+
+    @Override
+    public List<CustodyStatusReferenceData> retrieveCustodyStatuses() {
+        return custodyStatuses;
+    }
+
+    @Override
+    public List<BailStatusReferenceData> retrieveBailStatuses() {
+        return bailStatuses;
+    }
+
+    @Override
+    public List<OffenceDateCodeReferenceData> retrieveOffenceDateCodes() {
+        return emptyList();
+    }
+
+    @Override
+    public List<OffenderCodeReferenceData> retrieveOffenderCodes() {
+        return emptyList();
+    }
+
+    @Override
+    public List<SelfdefinedEthnicityReferenceData> retrieveSelfDefinedEthnicity() {
+        return emptyList();
+    }
+
+    @Override
+    public List<ObservedEthnicityReferenceData> retrieveObservedEthnicity() {
+        return emptyList();
+    }
+
+    @Override
+    public List<LicenceCodeReferenceData> retrieveLicenceCode() {
+        return emptyList();
+    }
+
+    @Override
+    public List<VehicleCodeReferenceData> retrieveVehicleCodes() {
+        return emptyList();
+    }
+
+    @Override
+    public Optional<OrganisationUnitWithCourtroomReferenceData> retrieveOrganisationUnitWithCourtroom(final String ouCode) {
+        return COURT_HEARING_LOCATION.equals(ouCode) ? of(organisationUnitWithCourtroom()) : empty();
+    }
+
+    @Override
+    public List<OrganisationUnitReferenceData> retrieveOrganisationUnits(final String ouCode) {
+        return organisationUnits;
+    }
+
+    @Override
+    public List<OrganisationUnitReferenceData> retrieveOrganisationUnitsByOuCode(final String ouCode) {
+        return organisationUnits;
+    }
+
+    @Override
+    public boolean isInitiationCodeValid(final String initiationCode) {
+        return INITIATION_CODES.contains(initiationCode);
+    }
+
+    @Override
+    public List<String> getInitiationCodes() {
+        return INITIATION_CODES;
+    }
+
+    @Override
+    public HearingTypes retrieveHearingTypes() {
+        return HearingTypes.hearingTypes().withHearingtypes(emptyList()).build();
+    }
+
+    @Override
+    public ProsecutorsReferenceData retrieveProsecutors(final String originatingOrganisation) {
+        return prosecutorsReferenceData();
+    }
+
+    @Override
+    public List<CaseMarker> getCaseMarkerDetails() {
+        return caseMarkers;
+    }
+
+    @Override
+    public List<OffenceReferenceData> retrieveOffenceData(final Offence offence, final String initiationCode) {
+        return singletonList(offenceReferenceData(offence.getOffenceCode()));
+    }
+
+    @Override
+    public List<OffenceReferenceData> retrieveOffenceDataList(final List<String> cjsOffenceCodeList, final Optional<String> sowRef) {
+        return cjsOffenceCodeList.stream()
+                .map(SyntheticSubmissions::offenceReferenceData)
+                .toList();
+    }
+
+    @Override
+    public List<PoliceForceReferenceData> retrievePoliceForceCode() {
+        return emptyList();
+    }
+
+    @Override
+    public ProsecutorsReferenceData getProsecutorsByOuCode(final Metadata metadata, final String ouCode) {
+        return prosecutorsReferenceData();
+    }
+
+    @Override
+    public ProsecutorsReferenceData getProsecutorsByOuCode(final String ouCode) {
+        return prosecutorsReferenceData();
+    }
+
+    @Override
+    public ProsecutorsReferenceData getProsecutorById(final UUID id) {
+        return prosecutorsReferenceData();
+    }
+
+    @Override
+    public ParentBundleSectionReferenceData getParentBundleSectionByCpsBundleCode(final Metadata metadata, final String cpsBundleCode) {
+        return null;
+    }
+
+    @Override
+    public DocumentTypeAccessReferenceData getDocumentTypeAccessBySectionCode(final Metadata metadata, final String sectionCode) {
+        return null;
+    }
+
+    @Override
+    public List<ModeOfTrialReasonsReferenceData> retrieveModeOfTrialReasons() {
+        return emptyList();
+    }
+
+    @Override
+    public List<CourtApplicationType> retrieveApplicationTypes() {
+        return emptyList();
+    }
+
+    @Override
+    public CourtApplicationType getApplicationType(final UUID applicationId) {
+        return null;
+    }
+
+    @Override
+    public Optional<OrganisationUnitWithCourtroomReferenceData> retrieveCourtCentreDetails(final String courtName) {
+        return of(organisationUnitWithCourtroom());
+    }
+
+    @Override
+    public List<MojOffences> retrieveOffencesByType(final String type) {
+        return emptyList();
+    }
+
+    @Override
+    public Optional<LjaDetails> getLjaDetails(final String lja, final String id) {
+        return empty();
+    }
+}
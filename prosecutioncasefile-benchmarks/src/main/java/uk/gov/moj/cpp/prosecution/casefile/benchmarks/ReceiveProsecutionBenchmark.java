@@ -0,0 +1,141 @@
+package uk.gov.moj.cpp.prosecution.casefile.benchmarks;
+
+import static java.util.Arrays.asList;
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel.CIVIL;
+
+import uk.gov.moj.cpp.prosecution.casefile.aggregate.GroupProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.domain.GroupProsecutionList;
+import uk.gov.moj.cpp.prosecution.casefile.domain.GroupProsecutionWithReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.domain.ProsecutionWithReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.GroupProsecution;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Prosecution;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.AlcoholLevelMethodsRefDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.DefendantRefDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.ModeOfTrialRefDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.NationalityRefDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.ObservedEthnicityRefDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.OffenceDataRefDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.OrganisationUnitWithCourtroomRefDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.SelfDefineEthnictyRefDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.VehicleCodeRefDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.proscase.CaseRefDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.proscase.GroupCasesInitiationCodeReferenceDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.proscase.GroupCasesProsecutorReferenceDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.proscase.GroupCasesReferenceDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.proscase.InitiationTypesRefDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.refdata.proscase.ProsecutorRefDataEnricher;
+import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the aggregate commands that receive a new prosecution, by number of defendants.
+ * <p>
+ * Submissions are built once per trial as received, and each invocation wraps one with an empty
+ * {@link uk.gov.moj.cpp.prosecution.casefile.domain.ReferenceDataVO} and receives it into a new
+ * aggregate, so the score covers enrichment by the real enrichers, backed by an
+ * {@link InMemoryReferenceDataQueryService}, as well as validation. The {@code defendants}
+ * secondary result gives the per-defendant throughput, and dividing {@code gc.alloc.rate.norm} by
+ * {@link #defendants} gives the bytes allocated per defendant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ReceiveProsecutionBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    public int defendants;
+
+    private final ReferenceDataQueryService referenceDataQueryService = new InMemoryReferenceDataQueryService();
+
+    private List<CaseRefDataEnricher> caseRefDataEnrichers;
+    private List<DefendantRefDataEnricher> defendantRefDataEnrichers;
+    private List<GroupCasesReferenceDataEnricher> groupCasesReferenceDataEnrichers;
+
+    private Prosecution chargeProsecution;
+    private Prosecution sjpProsecution;
+    private List<GroupProsecution> groupProsecutions;
+    private UUID groupExternalId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        caseRefDataEnrichers = asList(
+                inject(new InitiationTypesRefDataEnricher()),
+                inject(new ProsecutorRefDataEnricher()),
+                inject(new uk.gov.moj.cpp.prosecution.casefile.refdata.proscase.HearingTypesRefDataEnricher()));
+        defendantRefDataEnrichers = asList(
+                inject(new OrganisationUnitWithCourtroomRefDataEnricher()),
+                inject(new OffenceDataRefDataEnricher()),
+                inject(new ModeOfTrialRefDataEnricher()),
+                inject(new NationalityRefDataEnricher()),
+                inject(new ObservedEthnicityRefDataEnricher()),
+                inject(new SelfDefineEthnictyRefDataEnricher()),
+                inject(new AlcoholLevelMethodsRefDataEnricher()),
+                inject(new VehicleCodeRefDataEnricher()),
+                inject(new uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.HearingTypesRefDataEnricher()));
+        groupCasesReferenceDataEnrichers = asList(
+                inject(new GroupCasesInitiationCodeReferenceDataEnricher()),
+                inject(new GroupCasesProsecutorReferenceDataEnricher()));
+
+        chargeProsecution = SyntheticSubmissions.chargeSubmission(defendants);
+        sjpProsecution = SyntheticSubmissions.sjpSubmission(defendants);
+        groupProsecutions = SyntheticSubmissions.groupSubmission(defendants);
+        groupExternalId = randomUUID();
+    }
+
+    @Benchmark
+    public List<Object> receiveCCCase(final DefendantCounter counter) {
+        counter.defendants += defendants;
+        return new ProsecutionCaseFile()
+                .receiveCCCase(new ProsecutionWithReferenceData(chargeProsecution), caseRefDataEnrichers, defendantRefDataEnrichers, referenceDataQueryService)
+                .collect(toList());
+    }
+
+    @Benchmark
+    public List<Object> receiveSjpProsecution(final DefendantCounter counter) {
+        counter.defendants += defendants;
+        return new ProsecutionCaseFile()
+                .receiveSjpProsecution(new ProsecutionWithReferenceData(sjpProsecution), caseRefDataEnrichers, defendantRefDataEnrichers, referenceDataQueryService)
+                .collect(toList());
+    }
+
+    @Benchmark
+    public List<Object> receiveGroupProsecution(final DefendantCounter counter) {
+        counter.defendants += defendants;
+        final GroupProsecutionList groupProsecutionList = new GroupProsecutionList(groupProsecutions.stream()
+                .map(GroupProsecutionWithReferenceData::new)
+                .collect(toList()), groupExternalId, CIVIL);
+        return new GroupProsecutionCaseFile()
+                .receiveGroupProsecution(groupProsecutionList, groupCasesReferenceDataEnrichers, defendantRefDataEnrichers, referenceDataQueryService)
+                .collect(toList());
+    }
+
+    private <T> T inject(final T enricher) throws ReflectiveOperationException {
+        final Field field = enricher.getClass().getDeclaredField("referenceDataQueryService");
+        field.setAccessible(true);
+        field.set(enricher, referenceDataQueryService);
+        return enricher;
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.moj.cpp.prosecution.casefile.benchmarks;
+
+import static java.util.Collections.emptyList;
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static uk.gov.moj.cps.prosecutioncasefile.domain.event.MaterialPendingV2.materialPendingV2;
+import static uk.gov.moj.cps.prosecutioncasefile.domain.event.MaterialRejectedV2.materialRejectedV2;
+
+import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.domain.ProsecutionWithReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.event.SjpCaseAssigned;
+import uk.gov.moj.cpp.prosecution.casefile.event.SjpCaseUnAssigned;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to hydrate a {@link ProsecutionCaseFile} by replaying its event stream, by number of events.
+ * <p>
+ * The stream starts with the events of a received charge case and continues with material pending
+ * and rejected events and case assignment events, which are spread across the aggregate's event
+ * handlers as a long lived case's stream would be. Run against two revisions of the aggregate to
+ * compare the cost of applying events, e.g. with {@code -rf json} and a diff of the scores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ReplayProsecutionCaseFileBenchmark {
+
+    private static final int DEFENDANTS = 10;
+
+    @Param({"1000", "10000"})
+    public int events;
+
+    private List<Object> eventStream;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final ProsecutionWithReferenceData prosecution = SyntheticSubmissions.chargeProsecution(DEFENDANTS);
+        final UUID caseId = prosecution.getProsecution().getCaseDetails().getCaseId();
+
+        eventStream = new ArrayList<>(events);
+        eventStream.addAll(new ProsecutionCaseFile()
+                .receiveCCCase(prosecution, emptyList(), emptyList(), new InMemoryReferenceDataQueryService())
+                .collect(toList()));
+
+        while (eventStream.size() < events) {
+            final UUID material = randomUUID();
+            eventStream.add(materialPendingV2().withCaseId(caseId).withMaterial(material).build());
+            eventStream.add(new SjpCaseAssigned(caseId));
+            eventStream.add(new SjpCaseUnAssigned(caseId));
+            eventStream.add(materialRejectedV2().withCaseId(caseId).withMaterial(material).build());
+        }
+    }
+
+    @Benchmark
+    public ProsecutionCaseFile replay() {
+        final ProsecutionCaseFile prosecutionCaseFile = new ProsecutionCaseFile();
+        for (final Object event : eventStream) {
+            prosecutionCaseFile.apply(event);
+        }
+        return prosecutionCaseFile;
+    }
+}
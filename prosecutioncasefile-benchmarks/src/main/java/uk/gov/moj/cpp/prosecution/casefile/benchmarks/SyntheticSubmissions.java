@@ -0,0 +1,228 @@
+package uk.gov.moj.cpp.prosecution.casefile.benchmarks;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.of;
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static uk.gov.justice.cps.prosecutioncasefile.InitialHearing.initialHearing;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseDetails.caseDetails;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel.CIVIL;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel.CPPI;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel.SPI;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant.defendant;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Individual.individual;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Offence.offence;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.PersonalInformation.personalInformation;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Prosecution.prosecution;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.SelfDefinedInformation.selfDefinedInformation;
+
+import uk.gov.moj.cpp.prosecution.casefile.domain.GroupProsecutionList;
+import uk.gov.moj.cpp.prosecution.casefile.domain.GroupProsecutionWithReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.domain.ProsecutionWithReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.domain.ReferenceDataVO;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseDetails;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseMarker;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.GroupProsecution;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenceReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OrganisationUnitWithCourtroomReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Prosecution;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Prosecutor;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProsecutorsReferenceData;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Builds valid submissions with a given number of defendants, each with its own name, date of
+ * birth and offence, either as received or together with the reference data the aggregates would
+ * otherwise have been enriched with.
+ */
+public final class SyntheticSubmissions {
+
+    static final String CHARGE_INITIATION_CODE = "C";
+    static final String SJP_INITIATION_CODE = "J";
+    static final String CIVIL_INITIATION_CODE = "O";
+    static final List<String> INITIATION_CODES = asList(CHARGE_INITIATION_CODE, SJP_INITIATION_CODE, CIVIL_INITIATION_CODE, "S", "R", "Q");
+
+    static final String COURT_HEARING_LOCATION = "B01LY00";
+    static final String CUSTODY_STATUS = "C";
+    static final String BAIL_STATUS = "B";
+    static final String SUMMONS_CODE = "S02";
+    static final String CASE_MARKER = "AB";
+    static final String OFFENCE_CODE_PREFIX = "BM";
+    static final String OFFENCE_START_DATE = "2000-01-01";
+
+    private static final UUID PROSECUTOR_ID = UUID.fromString("7bd7ea8e-35ab-4e1a-9f5e-63c7c6e4b1a1");
+    private static final String PROSECUTOR_OU_CODE = "GAFTL00";
+    private static final int DISTINCT_OFFENCE_CODES = 50;
+
+    private SyntheticSubmissions() {
+    }
+
+    public static ProsecutionWithReferenceData chargeProsecution(final int defendants) {
+        return prosecutionWithReferenceData(chargeSubmission(defendants), defendants);
+    }
+
+    public static ProsecutionWithReferenceData sjpProsecution(final int defendants) {
+        return prosecutionWithReferenceData(sjpSubmission(defendants), defendants);
+    }
+
+    public static Prosecution chargeSubmission(final int defendants) {
+        return submission(CHARGE_INITIATION_CODE, SPI, defendants);
+    }
+
+    public static Prosecution sjpSubmission(final int defendants) {
+        return submission(SJP_INITIATION_CODE, CPPI, defendants);
+    }
+
+    /**
+     * A civil group of {@code cases} cases with one defendant each, the first being the group master.
+     */
+    public static GroupProsecutionList groupProsecution(final int cases) {
+        final ReferenceDataVO referenceDataVO = referenceDataVO(cases);
+        final List<GroupProsecutionWithReferenceData> groupProsecutions = groupSubmission(cases).stream()
+                .map(groupProsecution -> {
+                    final GroupProsecutionWithReferenceData groupProsecutionWithReferenceData = new GroupProsecutionWithReferenceData(groupProsecution);
+                    groupProsecutionWithReferenceData.setReferenceDataVO(referenceDataVO);
+                    return groupProsecutionWithReferenceData;
+                })
+                .collect(toList());
+
+        return new GroupProsecutionList(groupProsecutions, randomUUID(), CIVIL);
+    }
+
+    /**
+     * The cases of a civil group as received, see {@link #groupProsecution(int)}.
+     */
+    public static List<GroupProsecution> groupSubmission(final int cases) {
+        final UUID groupId = randomUUID();
+        return IntStream.range(0, cases)
+                .mapToObj(index -> GroupProsecution.groupProsecution()
+                        .withGroupId(groupId)
+                        .withIsCivil(true)
+                        .withIsGroupMaster(index == 0)
+                        .withCaseDetails(caseDetails(CIVIL_INITIATION_CODE, index))
+                        .withDefendants(singletonList(defendant(CIVIL_INITIATION_CODE, index)))
+                        .build())
+                .collect(toList());
+    }
+
+    static OffenceReferenceData offenceReferenceData(final String offenceCode) {
+        return OffenceReferenceData.offenceReferenceData()
+                .withCjsOffenceCode(offenceCode)
+                .withOffenceStartDate(OFFENCE_START_DATE)
+                .withModeOfTrial("EW")
+                .withTitle("Synthetic offence " + offenceCode)
+                .build();
+    }
+
+    static OrganisationUnitWithCourtroomReferenceData organisationUnitWithCourtroom() {
+        return OrganisationUnitWithCourtroomReferenceData.organisationUnitWithCourtroomReferenceData()
+                .withOucode(COURT_HEARING_LOCATION)
+                .withOucodeL3Name("Synthetic Magistrates' Court")
+                .build();
+    }
+
+    static ProsecutorsReferenceData prosecutorsReferenceData() {
+        return ProsecutorsReferenceData.prosecutorsReferenceData()
+                .withId(PROSECUTOR_ID)
+                .withOucode(PROSECUTOR_OU_CODE)
+                .withShortName("TFL")
+                .withFullName("Transport for London")
+                .withSjpFlag(true)
+                .withAocpApproved(true)
+                .build();
+    }
+
+    static List<CaseMarker> caseMarkers(final String markerTypeCode) {
+        return singletonList(CaseMarker.caseMarker()
+                .withMarkerTypeCode(markerTypeCode)
+                .build());
+    }
+
+    private static ProsecutionWithReferenceData prosecutionWithReferenceData(final Prosecution prosecution, final int defendants) {
+        final ProsecutionWithReferenceData prosecutionWithReferenceData = new ProsecutionWithReferenceData(prosecution);
+        prosecutionWithReferenceData.setReferenceDataVO(referenceDataVO(defendants));
+        return prosecutionWithReferenceData;
+    }
+
+    private static Prosecution submission(final String initiationCode, final Channel channel, final int defendants) {
+        return prosecution()
+                .withChannel(channel)
+                .withCaseDetails(caseDetails(initiationCode, 0))
+                .withDefendants(IntStream.range(0, defendants)
+                        .mapToObj(index -> defendant(initiationCode, index))
+                        .collect(toList()))
+                .build();
+    }
+
+    private static CaseDetails caseDetails(final String initiationCode, final int index) {
+        return caseDetails()
+                .withCaseId(randomUUID())
+                .withInitiationCode(initiationCode)
+                .withSummonsCode(SUMMONS_CODE)
+                .withProsecutorCaseReference("BM" + String.format("%08d", index))
+                .withOriginatingOrganisation(PROSECUTOR_OU_CODE)
+                .withCaseMarkers(caseMarkers(CASE_MARKER))
+                .withProsecutor(Prosecutor.prosecutor()
+                        .withReferenceData(prosecutorsReferenceData())
+                        .build())
+                .build();
+    }
+
+    private static Defendant defendant(final String initiationCode, final int index) {
+        final LocalDate offenceDate = LocalDate.now().minusMonths(2);
+        return defendant()
+                .withId(randomUUID().toString())
+                .withProsecutorDefendantReference("DEF" + index)
+                .withInitiationCode(initiationCode)
+                .withIndividual(individual()
+                        .withPersonalInformation(personalInformation()
+                                .withFirstName("Forename" + index)
+                                .withLastName("Surname" + index)
+                                .build())
+                        .withSelfDefinedInformation(selfDefinedInformation()
+                                .withDateOfBirth(LocalDate.of(1960, 1, 1).plusDays(index))
+                                .build())
+                        .build())
+                .withInitialHearing(initialHearing()
+                        .withCourtHearingLocation(COURT_HEARING_LOCATION)
+                        .withDateOfHearing(LocalDate.now().plusWeeks(4).toString())
+                        .withTimeOfHearing("10:00:00.000")
+                        .build())
+                .withCustodyStatus(CUSTODY_STATUS)
+                .withOffences(singletonList(offence()
+                        .withOffenceId(randomUUID())
+                        .withOffenceSequenceNumber(1)
+                        .withOffenceCode(offenceCode(index))
+                        .withOffenceCommittedDate(offenceDate)
+                        .withArrestDate(offenceDate.plusDays(1))
+                        .withChargeDate(offenceDate.plusDays(1))
+                        .withOffenceDateCode(1)
+                        .withOffenceLocation("London")
+                        .withStatementOfFacts("Synthetic statement of facts")
+                        .build()))
+                .build();
+    }
+
+    private static ReferenceDataVO referenceDataVO(final int defendants) {
+        final ReferenceDataVO referenceDataVO = new ReferenceDataVO();
+        referenceDataVO.setInitiationTypes(INITIATION_CODES);
+        referenceDataVO.setProsecutorsReferenceData(prosecutorsReferenceData());
+        referenceDataVO.setCaseMarkers(caseMarkers(CASE_MARKER));
+        referenceDataVO.setOrganisationUnitWithCourtroomReferenceData(of(organisationUnitWithCourtroom()));
+        referenceDataVO.setOffenceReferenceData(IntStream.range(0, Math.min(defendants, DISTINCT_OFFENCE_CODES))
+                .mapToObj(index -> offenceReferenceData(offenceCode(index)))
+                .collect(toList()));
+        return referenceDataVO;
+    }
+
+    private static String offenceCode(final int index) {
+        return OFFENCE_CODE_PREFIX + String.format("%05d", index % DISTINCT_OFFENCE_CODES);
+    }
+}
@@ -1,7 +1,9 @@
 package uk.gov.moj.cpp.prosecution.casefile.command.api;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.lang.Boolean.TRUE;
 import static java.time.LocalDate.now;
+import static java.util.Collections.singletonList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -9,6 +11,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_API;
 import static uk.gov.justice.services.messaging.Envelope.envelopeFrom;
 import static uk.gov.justice.services.messaging.Envelope.metadataFrom;
+import static uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.OffenceDataRefDataEnricher.sowRefFor;
 import static uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.OffenceLocationHelper.getOffenceLocation;
 
 import uk.gov.justice.services.core.annotation.Handles;
@@ -19,6 +22,7 @@ import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.moj.cpp.prosecution.casefile.command.api.service.CaseDetailsEnrichmentService;
 import uk.gov.moj.cpp.prosecution.casefile.domain.GroupProsecutionList;
 import uk.gov.moj.cpp.prosecution.casefile.domain.GroupProsecutionWithReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.domain.GroupReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.GroupProsecution;
@@ -72,7 +76,8 @@ public class InitiateGroupProsecutionApi {
             LOGGER.info("No offence or initiationCode submission id {}   ", initiateGroupProsecution.getExternalId());
             return;
         }
-        final String prosecutionAuthority = getProsecutionAuthorityShortName(envelope, groupProsecutionSelected.get());
+        final ProsecutorsReferenceData prosecutorsReferenceData = getProsecutorsReferenceData(envelope, groupProsecutionSelected.get());
+        final String prosecutionAuthority = nonNull(prosecutorsReferenceData) ? prosecutorsReferenceData.getShortName() : null;
         final OffenceReferenceData offenceReferenceData = getOffenceReferenceData(offence.get(), initiationCode);
 
         final List<GroupProsecution> groupProsecutions = initiateGroupProsecution.getGroupProsecutions()
@@ -92,6 +97,8 @@ public class InitiateGroupProsecutionApi {
         final GroupProsecutionList groupProsecutionList = new GroupProsecutionList(groupProsecutions.stream().map(GroupProsecutionWithReferenceData::new).collect(Collectors.toList()),
                 initiateGroupProsecution.getExternalId(),
                 initiateGroupProsecution.getChannel());
+        groupProsecutionList.setGroupReferenceData(new GroupReferenceData(prosecutorsReferenceData,
+                getGroupOffenceReferenceData(offence.get(), groupProsecutionSelected.get())));
         final Metadata metadata = metadataFrom(envelope.metadata())
                 .withName("prosecutioncasefile.command.initiate-group-prosecution-with-reference-data")
                 .build();
@@ -211,7 +218,15 @@ public class InitiateGroupProsecutionApi {
         return (offencesRefData != null && !offencesRefData.isEmpty()) ? offencesRefData.get(0) : null;
     }
 
-    private String getProsecutionAuthorityShortName(final Envelope<InitiateGroupProsecution> envelope, final GroupProsecutions groupProsecutions) {
+    /**
+     * Resolves the offence reference data of the group the same way the defendant enrichers would
+     * for each of its cases, so that they can take it from the group instead.
+     */
+    private List<OffenceReferenceData> getGroupOffenceReferenceData(final Offence offence, final GroupProsecutions groupProsecutions) {
+        return this.referenceDataQueryService.retrieveOffenceDataList(singletonList(offence.getOffenceCode()), sowRefFor(TRUE.equals(groupProsecutions.getIsCivil())));
+    }
+
+    private ProsecutorsReferenceData getProsecutorsReferenceData(final Envelope<InitiateGroupProsecution> envelope, final GroupProsecutions groupProsecutions) {
         final Prosecutor prosecutor = groupProsecutions.getCaseDetails().getProsecutor();
         ProsecutorsReferenceData prosecutorsReferenceData = null;
         if (nonNull(prosecutor.getProsecutingAuthority())) {
@@ -219,6 +234,6 @@ public class InitiateGroupProsecutionApi {
         } else if (nonNull(prosecutor.getProsecutionAuthorityId())) {
             prosecutorsReferenceData = this.referenceDataQueryService.getProsecutorById(prosecutor.getProsecutionAuthorityId());
         }
-        return nonNull(prosecutorsReferenceData) ? prosecutorsReferenceData.getShortName() : null;
+        return prosecutorsReferenceData;
     }
 }
@@ -77,6 +77,10 @@ public class InitiateGroupProsecutionApiTest {
                 .withShortName("OWTW")
                 .build();
         when(this.referenceDataQueryService.getProsecutorsByOuCode(any(), any())).thenReturn(prosecutorsReferenceData);
+        final OffenceReferenceData groupOffenceReferenceData = OffenceReferenceData.offenceReferenceData()
+                .withCjsOffenceCode("CA03012")
+                .build();
+        when(this.referenceDataQueryService.retrieveOffenceDataList(any(), any())).thenReturn(singletonList(groupOffenceReferenceData));
 
         final InitiateGroupProsecution initiateGroupProsecution = initiateGroupProsecutionPayloadFromFile("json/initiateGroupProsecution.json", "MCC");
         final Envelope<InitiateGroupProsecution> envelope = envelope(initiateGroupProsecution);
@@ -91,6 +95,8 @@ public class InitiateGroupProsecutionApiTest {
         assertThat(groupProsecutionDetailsEnvelope.payload().getGroupProsecutionWithReferenceDataList().get(0).getGroupProsecution().getDefendants().size(), is(1));
         assertThat(groupProsecutionDetailsEnvelope.payload().getGroupProsecutionWithReferenceDataList().get(0).getGroupProsecution().getCaseDetails().getPoliceSystemId(), is(POLICE_SYSTEM_ID));
         assertThat(groupProsecutionDetailsEnvelope.payload().getExternalId(), is(notNullValue()));
+        assertThat(groupProsecutionDetailsEnvelope.payload().getGroupReferenceData().getProsecutorsReferenceData(), is(prosecutorsReferenceData));
+        assertThat(groupProsecutionDetailsEnvelope.payload().getGroupReferenceData().getOffenceReferenceData(), is(singletonList(groupOffenceReferenceData)));
     }
 
     @Test
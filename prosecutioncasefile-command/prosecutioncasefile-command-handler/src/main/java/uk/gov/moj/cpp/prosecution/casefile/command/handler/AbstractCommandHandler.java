@@ -4,10 +4,23 @@ import static javax.json.JsonValue.NULL;
 import static uk.gov.justice.services.core.enveloper.Enveloper.toEnvelopeWithMetadataFrom;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.OptimisticLockingRetryException;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AppendRetryPolicy;
+
+import javax.inject.Inject;
+
 public class AbstractCommandHandler {
 
+    @Inject
+    protected AppendRetryPolicy appendRetryPolicy;
+
     public void appendEventsToStream(final uk.gov.justice.services.messaging.Envelope<?> envelope, final uk.gov.justice.services.eventsourcing.source.core.EventStream eventStream, final java.util.stream.Stream<Object> events) throws uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException {
         final uk.gov.justice.services.messaging.JsonEnvelope jsonEnvelope = envelopeFrom(envelope.metadata(), NULL);
-        eventStream.append(events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+        try {
+            eventStream.append(events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+        } catch (final OptimisticLockingRetryException e) {
+            appendRetryPolicy.recordConflict(envelope.metadata().name(), eventStream.getId());
+            throw e;
+        }
     }
 }
@@ -15,6 +15,7 @@ import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
 import uk.gov.justice.services.core.aggregate.AggregateService;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.OptimisticLockingRetryException;
 import uk.gov.justice.services.eventsourcing.source.core.EventSource;
 import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
@@ -23,6 +24,9 @@ import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.CpsServeMaterialAggregate;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache.HydratedAggregate;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AppendRetryPolicy;
 import uk.gov.moj.cpp.prosecution.casefile.command.service.ProsecutionCaseQueryService;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Material;
 import uk.gov.moj.cpp.prosecution.casefile.service.DefenceService;
@@ -60,6 +64,12 @@ public class AcceptCaseHandler {
     @Inject
     private AggregateService aggregateService;
 
+    @Inject
+    private AggregateCache aggregateCache;
+
+    @Inject
+    private AppendRetryPolicy appendRetryPolicy;
+
     @Inject
     private ReferenceDataQueryService referenceDataQueryService;
 
@@ -92,13 +102,14 @@ public class AcceptCaseHandler {
         final JsonEnvelope jsonEnvelope = envelopeFrom(envelope.metadata(), JsonValue.NULL);
 
         final EventStream eventStream = eventSource.getStreamById(streamId);
-        final ProsecutionCaseFile prosecutionCaseFile = aggregateService.get(eventStream, ProsecutionCaseFile.class);
+        final HydratedAggregate<ProsecutionCaseFile> hydratedCaseFile = aggregateCache.get(eventStream, ProsecutionCaseFile.class, aggregateService);
+        final ProsecutionCaseFile prosecutionCaseFile = hydratedCaseFile.getAggregate();
 
         final Stream<Object> events = prosecutionCaseFile.acceptCase(acceptCase.getCaseId(), acceptCase.getDefendantIds(), referenceDataQueryService);
 
         final Stream<JsonEnvelope> mappedEvents = mapUsingOriginalMaterialEvents(events, jsonEnvelope, eventSource.getStreamById(streamId));
 
-        eventStream.append(mappedEvents);
+        appendToCaseStream(envelope, hydratedCaseFile, eventStream, mappedEvents);
 
         final JsonObject prosecutionCase = fetchProsecutionCase(jsonEnvelope, streamId.toString());
         if (nonNull(prosecutionCase)) {
@@ -111,7 +122,7 @@ public class AcceptCaseHandler {
                             Optional.ofNullable(prosecutionCase), cpsFormValidator, referenceDataQueryService,
                             progressionService, jsonObjectToObjectConverter, objectToJsonObjectConverter, listToJsonArrayConverter, defenceService);
                     if(!petEvent.equals(Stream.empty())) {
-                        cpsEventStream.append(petEvent.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+                        appendToCpsStream(envelope, cpsEventStream, petEvent.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
                     }
 
                     final Stream<Object> bcmEvent = cpsServeMaterialAggregate.acceptCaseBcm(streamId, Optional.ofNullable(prosecutionCase),
@@ -119,7 +130,7 @@ public class AcceptCaseHandler {
                             objectToJsonObjectConverter, listToJsonArrayConverter);
 
                     if(!bcmEvent.equals(Stream.empty())) {
-                        cpsEventStream.append(bcmEvent.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+                        appendToCpsStream(envelope, cpsEventStream, bcmEvent.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
                     }
                 }
             }
@@ -130,7 +141,8 @@ public class AcceptCaseHandler {
     public void handleCheckPendingEvents(final Envelope<CheckPendingEventsForNewDefendants> envelope) throws EventStreamException {
         final UUID caseId = envelope.payload().getCaseId();
         final EventStream eventStream = eventSource.getStreamById(caseId);
-        final ProsecutionCaseFile prosecutionCaseFile = aggregateService.get(eventStream, ProsecutionCaseFile.class);
+        final HydratedAggregate<ProsecutionCaseFile> hydratedCaseFile = aggregateCache.get(eventStream, ProsecutionCaseFile.class, aggregateService);
+        final ProsecutionCaseFile prosecutionCaseFile = hydratedCaseFile.getAggregate();
 
         final Stream<Object> events = prosecutionCaseFile.runPendingEvents(referenceDataQueryService);
 
@@ -138,7 +150,26 @@ public class AcceptCaseHandler {
 
         final Stream<JsonEnvelope> mappedEvents = mapUsingOriginalMaterialEvents(events, jsonEnvelope, eventSource.getStreamById(caseId));
 
-        eventStream.append(mappedEvents);
+        appendToCaseStream(envelope, hydratedCaseFile, eventStream, mappedEvents);
+    }
+
+    private void appendToCaseStream(final Envelope<?> envelope, final HydratedAggregate<ProsecutionCaseFile> hydratedCaseFile,
+                                    final EventStream eventStream, final Stream<JsonEnvelope> events) throws EventStreamException {
+        try {
+            aggregateCache.append(hydratedCaseFile, eventStream, events);
+        } catch (final OptimisticLockingRetryException e) {
+            appendRetryPolicy.recordConflict(envelope.metadata().name(), eventStream.getId());
+            throw e;
+        }
+    }
+
+    private void appendToCpsStream(final Envelope<?> envelope, final EventStream cpsEventStream, final Stream<JsonEnvelope> events) throws EventStreamException {
+        try {
+            cpsEventStream.append(events);
+        } catch (final OptimisticLockingRetryException e) {
+            appendRetryPolicy.recordConflict(envelope.metadata().name(), cpsEventStream.getId());
+            throw e;
+        }
     }
 
     private Stream<JsonEnvelope> mapUsingOriginalMaterialEvents(final Stream<Object> events, final JsonEnvelope commandEnvelope, final EventStream eventStream) {
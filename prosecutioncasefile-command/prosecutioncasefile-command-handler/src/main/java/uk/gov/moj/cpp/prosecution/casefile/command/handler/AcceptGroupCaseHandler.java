@@ -1,7 +1,6 @@
 package uk.gov.moj.cpp.prosecution.casefile.command.handler;
 
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
-import static uk.gov.justice.services.core.enveloper.Enveloper.toEnvelopeWithMetadataFrom;
 
 import uk.gov.justice.services.core.aggregate.AggregateService;
 import uk.gov.justice.services.core.annotation.Handles;
@@ -10,7 +9,6 @@ import uk.gov.justice.services.eventsourcing.source.core.EventSource;
 import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
 import uk.gov.justice.services.messaging.Envelope;
-import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.GroupProsecutionCaseFile;
 import uk.gov.moj.cps.prosecutioncasefile.command.handler.AcceptGroupCases;
 
@@ -18,13 +16,12 @@ import java.util.UUID;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
-import javax.json.JsonValue;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @ServiceComponent(COMMAND_HANDLER)
-public class AcceptGroupCaseHandler {
+public class AcceptGroupCaseHandler extends AbstractCommandHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AcceptGroupCaseHandler.class);
     @Inject
@@ -46,7 +43,6 @@ public class AcceptGroupCaseHandler {
         final GroupProsecutionCaseFile groupProsecution = aggregateService.get(eventStream, GroupProsecutionCaseFile.class);
 
         final Stream<Object> events = groupProsecution.acceptGroupCases(groupId);
-        final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), JsonValue.NULL);
-        eventStream.append(events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+        appendEventsToStream(envelope, eventStream, events);
     }
 }
@@ -10,11 +10,15 @@ import uk.gov.justice.services.core.annotation.Component;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.enveloper.Enveloper;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.OptimisticLockingRetryException;
 import uk.gov.justice.services.eventsourcing.source.core.EventSource;
 import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache.HydratedAggregate;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AppendRetryPolicy;
 import uk.gov.moj.cpp.prosecution.casefile.domain.CaseDocument;
 
 import java.util.UUID;
@@ -39,6 +43,10 @@ public class AddDefendantIdpcHandler {
     private Enveloper enveloper;
     @Inject
     private AggregateService aggregateService;
+    @Inject
+    private AggregateCache aggregateCache;
+    @Inject
+    private AppendRetryPolicy appendRetryPolicy;
 
     @Handles("prosecutioncasefile.command.add-defendant-idpc")
     public void addDefendantIdpc(final JsonEnvelope command) throws EventStreamException {
@@ -63,13 +71,18 @@ public class AddDefendantIdpcHandler {
 
     private void applyToCaseAggregate(final JsonEnvelope command, final Function<ProsecutionCaseFile, Stream<Object>> function) throws EventStreamException {
         final EventStream eventStream = eventSource.getStreamById(getCaseId(command.payloadAsJsonObject()));
-        final ProsecutionCaseFile aCase = aggregateService.get(eventStream, ProsecutionCaseFile.class);
+        final HydratedAggregate<ProsecutionCaseFile> aCase = aggregateCache.get(eventStream, ProsecutionCaseFile.class, aggregateService);
 
-        final Stream<Object> events = function.apply(aCase);
+        final Stream<Object> events = function.apply(aCase.getAggregate());
 
-        eventStream.append(
-                events
-                        .map(toEnvelopeWithMetadataFrom(command)));
+        try {
+            aggregateCache.append(aCase, eventStream,
+                    events
+                            .map(toEnvelopeWithMetadataFrom(command)));
+        } catch (final OptimisticLockingRetryException e) {
+            appendRetryPolicy.recordConflict(command.metadata().name(), eventStream.getId());
+            throw e;
+        }
     }
 
     private UUID getCaseId(final JsonObject payload) {
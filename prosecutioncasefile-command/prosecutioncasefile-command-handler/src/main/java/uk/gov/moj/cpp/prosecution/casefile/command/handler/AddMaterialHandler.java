@@ -140,7 +140,7 @@ public class AddMaterialHandler extends BaseProsecutionCaseFileHandler {
 
         final Stream<JsonEnvelope> mappedEvents = mapNewEventsToEnvelope(events, jsonEnvelope);
 
-        eventStream.append(mappedEvents);
+        appendEnvelopesToStream(command, eventStream, mappedEvents);
     }
 
 
@@ -30,7 +30,7 @@ import java.util.List;
 
 import javax.inject.Inject;
 
-public class BaseCpsServeMaterialHandler {
+public class BaseCpsServeMaterialHandler extends AbstractCommandHandler {
 
     @Inject
     protected EventSource eventSource;
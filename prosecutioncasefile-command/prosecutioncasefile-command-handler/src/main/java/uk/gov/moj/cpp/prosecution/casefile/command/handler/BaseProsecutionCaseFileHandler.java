@@ -3,6 +3,7 @@ package uk.gov.moj.cpp.prosecution.casefile.command.handler;
 import static uk.gov.justice.services.core.enveloper.Enveloper.toEnvelopeWithMetadataFrom;
 
 import uk.gov.justice.services.core.aggregate.AggregateService;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.OptimisticLockingRetryException;
 import uk.gov.justice.services.eventsourcing.source.core.EventSource;
 import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
@@ -10,6 +11,9 @@ import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ApplicationFile;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache.HydratedAggregate;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AppendRetryPolicy;
 
 import java.util.UUID;
 import java.util.function.Function;
@@ -26,19 +30,36 @@ public class BaseProsecutionCaseFileHandler {
     @Inject
     protected AggregateService aggregateService;
 
+    @Inject
+    protected AggregateCache aggregateCache;
+
+    @Inject
+    protected AppendRetryPolicy appendRetryPolicy;
 
     protected void appendEventsToStream(final UUID streamId,
                                         final Envelope<?> envelope,
                                         final Function<ProsecutionCaseFile, Stream<Object>> function) throws EventStreamException {
 
-        final EventStream eventStream = eventSource.getStreamById(streamId);
-        final ProsecutionCaseFile prosecutionCaseFile = aggregateService.get(eventStream, ProsecutionCaseFile.class);
-
-        final Stream<Object> events = function.apply(prosecutionCaseFile);
         final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), JsonValue.NULL);
 
-
-        eventStream.append(events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+        for (int attempt = 1; ; attempt++) {
+            final EventStream eventStream = eventSource.getStreamById(streamId);
+            final HydratedAggregate<ProsecutionCaseFile> prosecutionCaseFile = aggregateCache.get(eventStream, ProsecutionCaseFile.class, aggregateService);
+
+            final Stream<Object> events = function.apply(prosecutionCaseFile.getAggregate());
+
+            try {
+                aggregateCache.append(prosecutionCaseFile, eventStream, events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+                return;
+            } catch (final OptimisticLockingRetryException e) {
+                if (!prosecutionCaseFile.getVersion().isPresent()) {
+                    // the conflict came from a failed insert, which leaves the transaction unusable for a retry
+                    appendRetryPolicy.recordConflict(envelope.metadata().name(), streamId);
+                    throw e;
+                }
+                appendRetryPolicy.onConflict(envelope.metadata().name(), streamId, attempt, e);
+            }
+        }
     }
 
     protected void appendApplicationEventsToStream(final UUID streamId,
@@ -52,6 +73,17 @@ public class BaseProsecutionCaseFileHandler {
         final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), JsonValue.NULL);
 
 
-        eventStream.append(events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+        appendEnvelopesToStream(envelope, eventStream, events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+    }
+
+    protected void appendEnvelopesToStream(final Envelope<?> envelope,
+                                           final EventStream eventStream,
+                                           final Stream<JsonEnvelope> events) throws EventStreamException {
+        try {
+            eventStream.append(events);
+        } catch (final OptimisticLockingRetryException e) {
+            appendRetryPolicy.recordConflict(envelope.metadata().name(), eventStream.getId());
+            throw e;
+        }
     }
 }
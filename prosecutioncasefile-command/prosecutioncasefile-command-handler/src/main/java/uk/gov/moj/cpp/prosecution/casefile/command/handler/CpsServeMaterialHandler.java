@@ -8,7 +8,6 @@ import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 import static javax.json.JsonValue.NULL;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
-import static uk.gov.justice.services.core.enveloper.Enveloper.toEnvelopeWithMetadataFrom;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.forms.FormConstant.CPS_DEFENDANT_ID;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.forms.FormConstant.DEFENDANT_ID;
 import static uk.gov.moj.cps.prosecutioncasefile.command.handler.staging.SubmissionStatus.PENDING;
@@ -96,7 +95,7 @@ public class CpsServeMaterialHandler extends BaseCpsServeMaterialHandler {
                 LOGGER.error("No stream found for caseID {} {}",caseId,e);
             }
         }
-        eventStream.append(aggregate
+        appendEventsToStream(envelope, eventStream, aggregate
                 .cpsReceivePet(objectToJsonObjectConverter.convert(processReceivedCpsServePet),
                         (prosecutionCase.isPresent() ? SUCCESS : PENDING).name(),
                         caseId,
@@ -106,18 +105,15 @@ public class CpsServeMaterialHandler extends BaseCpsServeMaterialHandler {
                         convertDefendantIdsToJsonArray(validationData),
                         jsonObjectToObjectConverter,prosecutionCaseFile,
                         progressionService,
-                        defenceService)
-                .map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+                        defenceService));
     }
 
     @Handles("prosecutioncasefile.command.cps-reject-pet-for-timer-expire")
     public void cpsServePetTimerExpired(final Envelope<CpsRejectPetForTimerExpire> envelope) throws EventStreamException {
         final EventStream eventStream = eventSource.getStreamById(envelope.payload().getTimerUUID());
         final CpsServeMaterialAggregate aggregate = aggregateService.get(eventStream, CpsServeMaterialAggregate.class);
-        final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), NULL);
-        eventStream.append(aggregate
-                .cpsRejectPetForTimerExpire()
-                .map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+        appendEventsToStream(envelope, eventStream, aggregate
+                .cpsRejectPetForTimerExpire());
     }
 
     @Handles("prosecutioncasefile.command.process-received-cps-serve-bcm")
@@ -130,15 +126,14 @@ public class CpsServeMaterialHandler extends BaseCpsServeMaterialHandler {
         final Optional<JsonObject> prosecutionCase = isCaseCreated(jsonEnvelope, caseUrn);
         final UUID caseId = prosecutionCase.map(jsonObject -> fromString((jsonObject.getString(CASE_ID)))).orElse(null);
         final ValidationData validationData = processReceivedCpsServeBcm.getValidationData();
-        eventStream.append(aggregate
+        appendEventsToStream(envelope, eventStream, aggregate
                 .cpsReceiveBcm(objectToJsonObjectConverter.convert(processReceivedCpsServeBcm),
                         (prosecutionCase.isPresent() ? SUCCESS : PENDING).name(),
                         caseId,
                         prosecutionCase,
                         cpsFormValidator,
                         validationData.getValidOffences(),
-                        convertDefendantIdsToJsonArray(validationData))
-                .map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+                        convertDefendantIdsToJsonArray(validationData)));
     }
 
     @Handles("prosecutioncasefile.command.process-received-cps-serve-ptph")
@@ -153,7 +148,7 @@ public class CpsServeMaterialHandler extends BaseCpsServeMaterialHandler {
         final PtphValidationData validationData = processReceivedCpsServePtph.getPtphValidationData();
         final Optional<OrganisationUnitReferenceData> organisationUnit = fetchOrganisationUnit(processReceivedCpsServePtph);
 
-        eventStream.append(aggregate
+        appendEventsToStream(envelope, eventStream, aggregate
                 .cpsReceivePtph(objectToJsonObjectConverter.convert(processReceivedCpsServePtph),
                         (prosecutionCase.isPresent() ? SUCCESS : PENDING).name(),
                         caseId,
@@ -162,18 +157,15 @@ public class CpsServeMaterialHandler extends BaseCpsServeMaterialHandler {
                         convertPtphDefendantIdsToJsonArray(validationData),
                         organisationUnit,
                         jsonObjectToObjectConverter,
-                        objectToJsonObjectConverter)
-                .map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+                        objectToJsonObjectConverter));
     }
 
     @Handles("prosecutioncasefile.command.cps-reject-bcm-for-timer-expire")
     public void cpsServeBcmTimerExpired(final Envelope<CpsRejectBcmForTimerExpire> envelope) throws EventStreamException {
         final EventStream eventStream = eventSource.getStreamById(envelope.payload().getTimerUUID());
         final CpsServeMaterialAggregate aggregate = aggregateService.get(eventStream, CpsServeMaterialAggregate.class);
-        final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), NULL);
-        eventStream.append(aggregate
-                .cpsRejectBcmForTimerExpire()
-                .map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+        appendEventsToStream(envelope, eventStream, aggregate
+                .cpsRejectBcmForTimerExpire());
     }
 
     public Optional<JsonObject> isCaseCreated(final JsonEnvelope jsonEnvelope, final String caseUrn) {
@@ -234,14 +226,13 @@ public class CpsServeMaterialHandler extends BaseCpsServeMaterialHandler {
         final ValidationData validationData = processReceivedCpsServeCotr.getValidationData();
         LOGGER.info("cpsServeCotrReceived validationData for Defendant Ids {}", nonNull(validationData) ? validationData.getDefendantIds() : null);
         
-        eventStream.append(aggregate
+        appendEventsToStream(envelope, eventStream, aggregate
                 .cpsReceiveCotr(objectToJsonObjectConverter.convert(processReceivedCpsServeCotr),
                         (prosecutionCase.isPresent() ? SUCCESS : PENDING).name(),
                         caseId,
                         prosecutionCase,
                         cpsFormValidator,
-                        nonNull(validationData) ? convertDefendantIdsToJsonArray(validationData) : null)
-                .map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+                        nonNull(validationData) ? convertDefendantIdsToJsonArray(validationData) : null));
     }
 
     @Handles("prosecutioncasefile.command.process-received-cps-update-cotr")
@@ -253,11 +244,10 @@ public class CpsServeMaterialHandler extends BaseCpsServeMaterialHandler {
         final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), NULL);
         final Optional<JsonObject> prosecutionCase = isCaseCreated(jsonEnvelope, caseUrn);
         final UUID caseId = prosecutionCase.map(jsonObject -> fromString((jsonObject.getString(CASE_ID)))).orElse(null);
-        eventStream.append(aggregate
+        appendEventsToStream(envelope, eventStream, aggregate
                 .cpsUpdateCotr(objectToJsonObjectConverter.convert(processReceivedCpsUpdateCotr),
                         (prosecutionCase.isPresent() ? SUCCESS : PENDING).name(),
-                        caseId)
-                .map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+                        caseId));
 
     }
 
@@ -2,9 +2,10 @@ package uk.gov.moj.cpp.prosecution.casefile.command.handler;
 
 
 import static com.google.common.collect.Lists.newArrayList;
+import static java.lang.Integer.parseInt;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
-import static uk.gov.justice.services.core.enveloper.Enveloper.toEnvelopeWithMetadataFrom;
 
+import uk.gov.justice.services.common.configuration.Value;
 import uk.gov.justice.services.core.aggregate.AggregateService;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
@@ -12,7 +13,6 @@ import uk.gov.justice.services.eventsourcing.source.core.EventSource;
 import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
 import uk.gov.justice.services.messaging.Envelope;
-import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.GroupProsecutionCaseFile;
 import uk.gov.moj.cpp.prosecution.casefile.domain.GroupProsecutionList;
 import uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.DefendantRefDataEnricher;
@@ -24,13 +24,12 @@ import java.util.stream.Stream;
 
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
-import javax.json.JsonValue;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @ServiceComponent(COMMAND_HANDLER)
-public class GroupProsecutionHandler {
+public class GroupProsecutionHandler extends AbstractCommandHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(GroupProsecutionHandler.class);
     @Inject
     private EventSource eventSource;
@@ -47,6 +46,9 @@ public class GroupProsecutionHandler {
     @Inject
     private ReferenceDataQueryService referenceDataQueryService;
 
+    @Inject
+    @Value(key = "prosecutioncasefile.group-prosecution.chunk-size", defaultValue = "250")
+    private String chunkSize;
 
     @Handles("prosecutioncasefile.command.initiate-group-prosecution-with-reference-data")
     public void handleInitiateGroupProsecutionWithReferenceData(final Envelope<GroupProsecutionList> envelope) throws EventStreamException {
@@ -55,8 +57,16 @@ public class GroupProsecutionHandler {
         LOGGER.info("prosecutioncasefile.command.initiate-group-prosecution-with-reference-data for submission id {} and GroupId {}", groupProsecutionList.getExternalId(), groupId);
         final EventStream eventStream = this.eventSource.getStreamById(groupId);
         final GroupProsecutionCaseFile groupProsecution = this.aggregateService.get(eventStream, GroupProsecutionCaseFile.class);
-        final Stream<Object> events = groupProsecution.receiveGroupProsecution(groupProsecutionList,  newArrayList(this.groupCasesReferenceDataEnrichers.iterator()), newArrayList(this.defendantRefDataEnrichers.iterator()), this.referenceDataQueryService);
-        final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), JsonValue.NULL);
-        eventStream.append(events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+        final Stream<Object> events = groupProsecution.receiveGroupProsecution(groupProsecutionList,  newArrayList(this.groupCasesReferenceDataEnrichers.iterator()), newArrayList(this.defendantRefDataEnrichers.iterator()), this.referenceDataQueryService, chunkSize());
+        appendEventsToStream(envelope, eventStream, events);
+    }
+
+    private int chunkSize() {
+        final int configuredChunkSize = parseInt(this.chunkSize.trim());
+        if (configuredChunkSize <= 0) {
+            LOGGER.warn("Ignoring non-positive group prosecution chunk size {}, validating each group as one chunk", configuredChunkSize);
+            return Integer.MAX_VALUE;
+        }
+        return configuredChunkSize;
     }
 }
@@ -3,7 +3,6 @@ package uk.gov.moj.cpp.prosecution.casefile.command.handler;
 import static java.util.Arrays.asList;
 import static java.util.Objects.nonNull;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
-import static uk.gov.justice.services.core.enveloper.Enveloper.toEnvelopeWithMetadataFrom;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.ProblemCode.DUPLICATED_PROSECUTION;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.Problems.newProblem;
 
@@ -14,22 +13,19 @@ import uk.gov.justice.services.eventsourcing.source.core.EventSource;
 import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
 import uk.gov.justice.services.messaging.Envelope;
-import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.GroupProsecutionCaseFile;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
 import uk.gov.moj.cps.prosecutioncasefile.command.handler.RejectGroupCases;
 
 import java.util.UUID;
-import java.util.stream.Stream;
 
 import javax.inject.Inject;
-import javax.json.JsonValue;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @ServiceComponent(COMMAND_HANDLER)
-public class RejectGroupCaseHandler {
+public class RejectGroupCaseHandler extends AbstractCommandHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RejectGroupCaseHandler.class);
     @Inject
@@ -60,10 +56,4 @@ public class RejectGroupCaseHandler {
             );
         }
     }
-
-    private void appendEventsToStream(final Envelope<RejectGroupCases> envelope, final EventStream eventStream,
-                                      final Stream<Object> events) throws EventStreamException {
-        final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), JsonValue.NULL);
-        eventStream.append(events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
-    }
 }
\ No newline at end of file
@@ -72,13 +72,13 @@ public class SummonsApplicationHandler extends BaseProsecutionCaseFileHandler {
                     newArrayList(caseRefDataEnrichers.iterator()), newArrayList(defendantRefDataEnrichers.iterator()), isCivil);
 
             final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), JsonValue.NULL);
-            eventStream.append(events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+            appendEnvelopesToStream(envelope, eventStream, events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
         } else {
             final EventStream eventStreamForGroupCases = eventSource.getStreamById(prosecutionCaseFile.getGroupId());
             final GroupProsecutionCaseFile groupProsecutionCaseFile = aggregateService.get(eventStreamForGroupCases, GroupProsecutionCaseFile.class);
             final Stream<Object> events = groupProsecutionCaseFile.approveGroupProsecution(newArrayList(groupCasesReferenceDataEnrichers.iterator()), newArrayList(defendantRefDataEnrichers.iterator()));
             final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), JsonValue.NULL);
-            eventStreamForGroupCases.append(events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+            appendEnvelopesToStream(envelope, eventStreamForGroupCases, events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
         }
     }
 
@@ -92,7 +92,7 @@ public class SummonsApplicationHandler extends BaseProsecutionCaseFileHandler {
         final Stream<Object> events = prosecutionCaseFile.updateCaseDetails(commandPayload.getContestedFeeStatus(),commandPayload.getContestedPaymentReference(),
                 commandPayload.getFeeStatus(), commandPayload.getPaymentReference());
         final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), JsonValue.NULL);
-        eventStream.append(events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+        appendEnvelopesToStream(envelope, eventStream, events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
     }
 
     @Handles("prosecutioncasefile.command.reject-case-defendants-as-summons-application-rejected")
@@ -114,13 +114,13 @@ public class SummonsApplicationHandler extends BaseProsecutionCaseFileHandler {
                             .build());
 
             final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), JsonValue.NULL);
-            eventStream.append(events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+            appendEnvelopesToStream(envelope, eventStream, events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
         } else {
             final EventStream eventStreamForGroupCases = eventSource.getStreamById(prosecutionCaseFile.getGroupId());
             final GroupProsecutionCaseFile groupProsecutionCaseFile = aggregateService.get(eventStreamForGroupCases, GroupProsecutionCaseFile.class);
             final Stream<Object> events = groupProsecutionCaseFile.rejectGroupProsecution();
             final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(envelope.metadata(), JsonValue.NULL);
-            eventStreamForGroupCases.append(events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
+            appendEnvelopesToStream(envelope, eventStreamForGroupCases, events.map(toEnvelopeWithMetadataFrom(jsonEnvelope)));
         }
     }
 }
@@ -0,0 +1,310 @@
+package uk.gov.moj.cpp.prosecution.casefile.command.service;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.parseInt;
+import static java.util.stream.Collectors.toList;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.core.aggregate.AggregateService;
+import uk.gov.justice.services.core.extension.EventFoundEvent;
+import uk.gov.justice.services.eventsourcing.source.core.EventStream;
+import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process cache of hydrated aggregates, so that a burst of commands against the same stream
+ * does not replay the whole stream for every command.
+ * <p>
+ * Entries are keyed by stream id and hold the aggregate together with the stream position of the
+ * last event applied to it. A command takes the entry out of the cache, applies only the events
+ * appended since that position, and appends its own events after that position, so any event
+ * appended concurrently by another command or node fails the append with an optimistic lock
+ * conflict instead of being missed. The entry is put back only once the command's transaction has
+ * committed; a failed or rolled back command leaves the stream uncached, and the next command
+ * loads it through the aggregate service, from its latest snapshot when there is one. Aggregates
+ * are never shared between concurrent commands.
+ * <p>
+ * The cache holds at most {@code maxEntries} aggregates and evicts the least recently used one
+ * when full. It is disabled by default; hits, misses, evictions and invalidations are exposed over
+ * JMX as {@value #OBJECT_NAME}.
+ */
+@ApplicationScoped
+public class AggregateCache implements AggregateCacheMXBean {
+
+    public static final String OBJECT_NAME = "uk.gov.moj.cpp.prosecution.casefile:type=AggregateCache";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AggregateCache.class);
+
+    @Inject
+    @Value(key = "prosecutioncasefile.aggregate.cache.enabled", defaultValue = "false")
+    private String enabledValue;
+
+    @Inject
+    @Value(key = "prosecutioncasefile.aggregate.cache.max-entries", defaultValue = "200")
+    private String maxEntriesValue;
+
+    @Inject
+    private JsonObjectToObjectConverter jsonObjectToObjectConverter;
+
+    @Resource
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    private boolean enabled = false;
+    private int maxEntries = 200;
+
+    private final Map<UUID, HydratedAggregate<?>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Class<?>> eventClasses = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder eventsApplied = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        enabled = parseBoolean(enabledValue);
+        maxEntries = parseInt(maxEntriesValue);
+        registerMBean();
+
+        LOGGER.info("Aggregate cache enabled: {}, max entries: {}", enabled, maxEntries);
+    }
+
+    public void registerEvent(@Observes final EventFoundEvent event) {
+        eventClasses.put(event.getEventName(), event.getClazz());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the aggregate of the stream, brought up to date from the cache when possible and
+     * otherwise loaded by the aggregate service.
+     */
+    public <T extends Aggregate> HydratedAggregate<T> get(final EventStream eventStream, final Class<T> aggregateClass, final AggregateService aggregateService) {
+        if (!enabled) {
+            return new HydratedAggregate<>(eventStream.getId(), aggregateService.get(eventStream, aggregateClass), null);
+        }
+
+        final HydratedAggregate<?> cached = checkOut(eventStream.getId());
+        if (cached != null && aggregateClass.equals(cached.aggregate.getClass())) {
+            final Optional<Long> version = applyEvents(eventStream.readFrom(cached.version + 1), cached.aggregate, cached.version);
+            if (version.isPresent()) {
+                hits.increment();
+                return new HydratedAggregate<>(eventStream.getId(), aggregateClass.cast(cached.aggregate), version.get());
+            }
+        }
+
+        misses.increment();
+        // read before loading, so that an event appended in between can only make the position
+        // stale, which fails the append with a conflict, and never makes the aggregate miss it
+        final long version = eventStream.getPosition();
+        return new HydratedAggregate<>(eventStream.getId(), aggregateService.get(eventStream, aggregateClass), version);
+    }
+
+    /**
+     * Appends the events raised by the aggregate to its stream, after the last event applied to
+     * it, and puts the aggregate back in the cache once the transaction commits.
+     */
+    public void append(final HydratedAggregate<?> hydratedAggregate, final EventStream eventStream, final Stream<JsonEnvelope> events) throws EventStreamException {
+        if (!enabled || hydratedAggregate.version == null) {
+            eventStream.append(events);
+            return;
+        }
+
+        final List<JsonEnvelope> appended = events.collect(toList());
+        try {
+            eventStream.appendAfter(appended.stream(), hydratedAggregate.version);
+        } catch (final EventStreamException | RuntimeException e) {
+            invalidations.increment();
+            throw e;
+        }
+
+        checkInOnCommit(new HydratedAggregate<>(hydratedAggregate.streamId, hydratedAggregate.aggregate, hydratedAggregate.version + appended.size()));
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        final long lookups = getHits() + getMisses();
+        return lookups == 0 ? 0 : (double) getHits() / lookups;
+    }
+
+    @Override
+    public long getEventsApplied() {
+        return eventsApplied.sum();
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    void setEnabled(final boolean enabled, final int maxEntries) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+    }
+
+    void setJsonObjectToObjectConverter(final JsonObjectToObjectConverter jsonObjectToObjectConverter) {
+        this.jsonObjectToObjectConverter = jsonObjectToObjectConverter;
+    }
+
+    /**
+     * Applies the events to the aggregate, returning the stream position of the last of them, or
+     * the given position when there are none. Returns empty if an event has no registered class or
+     * no position, in which case the aggregate must be discarded.
+     */
+    private Optional<Long> applyEvents(final Stream<JsonEnvelope> events, final Aggregate aggregate, final long fromVersion) {
+        long version = fromVersion;
+        try (final Stream<JsonEnvelope> envelopes = events) {
+            final Iterator<JsonEnvelope> iterator = envelopes.iterator();
+            while (iterator.hasNext()) {
+                final JsonEnvelope envelope = iterator.next();
+                final Class<?> eventClass = eventClasses.get(envelope.metadata().name());
+                final Optional<Long> position = envelope.metadata().position();
+                if (eventClass == null || !position.isPresent()) {
+                    return Optional.empty();
+                }
+                aggregate.apply(jsonObjectToObjectConverter.convert(envelope.payloadAsJsonObject(), eventClass));
+                eventsApplied.increment();
+                version = position.get();
+            }
+        }
+        return Optional.of(version);
+    }
+
+    private HydratedAggregate<?> checkOut(final UUID streamId) {
+        synchronized (entries) {
+            return entries.remove(streamId);
+        }
+    }
+
+    private void checkIn(final HydratedAggregate<?> hydratedAggregate) {
+        synchronized (entries) {
+            entries.put(hydratedAggregate.streamId, hydratedAggregate);
+            if (entries.size() > maxEntries) {
+                final UUID eldestStreamId = entries.keySet().iterator().next();
+                entries.remove(eldestStreamId);
+                evictions.increment();
+            }
+        }
+    }
+
+    private void checkInOnCommit(final HydratedAggregate<?> hydratedAggregate) {
+        if (transactionSynchronizationRegistry == null || transactionSynchronizationRegistry.getTransactionKey() == null) {
+            checkIn(hydratedAggregate);
+            return;
+        }
+
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // the aggregate is only cached once the outcome is known
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    checkIn(hydratedAggregate);
+                } else {
+                    invalidations.increment();
+                }
+            }
+        });
+    }
+
+    private void registerMBean() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(this, objectName);
+        } catch (final JMException | SecurityException e) {
+            LOGGER.warn("Unable to register aggregate cache MBean {}", OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * An aggregate together with the stream position of the last event applied to it, or no
+     * position if the cache is disabled.
+     */
+    public static class HydratedAggregate<T extends Aggregate> {
+
+        private final UUID streamId;
+        private final T aggregate;
+        private final Long version;
+
+        HydratedAggregate(final UUID streamId, final T aggregate, final Long version) {
+            this.streamId = streamId;
+            this.aggregate = aggregate;
+            this.version = version;
+        }
+
+        public T getAggregate() {
+            return aggregate;
+        }
+
+        public Optional<Long> getVersion() {
+            return Optional.ofNullable(version);
+        }
+    }
+}
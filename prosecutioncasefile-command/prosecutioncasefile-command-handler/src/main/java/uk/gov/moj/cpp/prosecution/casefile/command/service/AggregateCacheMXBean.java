@@ -0,0 +1,23 @@
+package uk.gov.moj.cpp.prosecution.casefile.command.service;
+
+/**
+ * JMX view of the hydrated aggregate cache, registered as {@value AggregateCache#OBJECT_NAME}.
+ */
+public interface AggregateCacheMXBean {
+
+    int getSize();
+
+    long getHits();
+
+    long getMisses();
+
+    double getHitRate();
+
+    long getEventsApplied();
+
+    long getEvictions();
+
+    long getInvalidations();
+
+    void invalidateAll();
+}
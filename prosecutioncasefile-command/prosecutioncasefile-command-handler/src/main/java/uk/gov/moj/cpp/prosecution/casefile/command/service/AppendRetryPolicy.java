@@ -0,0 +1,192 @@
+package uk.gov.moj.cpp.prosecution.casefile.command.service;
+
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.lang.Math.min;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.OptimisticLockingRetryException;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts optimistic lock conflicts on event stream appends and decides whether a command retries
+ * its append.
+ * <p>
+ * A conflict means another command appended to the stream after this one loaded its aggregate,
+ * which happens when, for example, SPI defendant additions and material submissions for the same
+ * case arrive together. Conflicts are counted per command name and, for the most recently
+ * conflicting streams, per stream id. A command that retries waits a random delay of up to
+ * {@code baseDelayMillis * 2^(attempt - 1)}, capped at {@code maxDelayMillis}, so that commands
+ * racing on the same stream do not collide again, then reloads its aggregate and applies itself
+ * again.
+ * <p>
+ * With the default of one attempt nothing is retried and the conflict is left to the framework's
+ * redelivery, as before. Only appends made through the {@link AggregateCache} are retried, as they
+ * detect the conflict from the stream position before inserting anything. Without the cache a
+ * conflict is only detected by a failed insert, which leaves the transaction unusable, so more
+ * than one attempt is refused while the cache is disabled. The counters are exposed over JMX as
+ * {@value #OBJECT_NAME}.
+ */
+@ApplicationScoped
+public class AppendRetryPolicy implements AppendRetryPolicyMXBean {
+
+    public static final String OBJECT_NAME = "uk.gov.moj.cpp.prosecution.casefile:type=AppendRetryPolicy";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AppendRetryPolicy.class);
+
+    private static final int MAX_STREAMS = 100;
+
+    @Inject
+    private AggregateCache aggregateCache;
+
+    @Inject
+    @Value(key = "prosecutioncasefile.append.retry.max-attempts", defaultValue = "1")
+    private String maxAttemptsValue;
+
+    @Inject
+    @Value(key = "prosecutioncasefile.append.retry.base-delay-millis", defaultValue = "20")
+    private String baseDelayMillisValue;
+
+    @Inject
+    @Value(key = "prosecutioncasefile.append.retry.max-delay-millis", defaultValue = "500")
+    private String maxDelayMillisValue;
+
+    private int maxAttempts = 1;
+    private long baseDelayMillis = 20;
+    private long maxDelayMillis = 500;
+
+    private final Map<String, LongAdder> conflictsByCommand = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> conflictsByStream = new LinkedHashMap<UUID, Long>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<UUID, Long> eldest) {
+            return size() > MAX_STREAMS;
+        }
+    };
+
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        maxAttempts = parseInt(maxAttemptsValue);
+        baseDelayMillis = parseLong(baseDelayMillisValue);
+        maxDelayMillis = parseLong(maxDelayMillisValue);
+        if (maxAttempts > 1 && !aggregateCache.isEnabled()) {
+            LOGGER.warn("Event stream append retries need the aggregate cache, which is disabled; making a single attempt instead of {}", maxAttempts);
+            maxAttempts = 1;
+        }
+        registerMBean();
+
+        LOGGER.info("Event stream append attempts: {}, base delay: {}ms, max delay: {}ms", maxAttempts, baseDelayMillis, maxDelayMillis);
+    }
+
+    /**
+     * Records a conflict on an append that cannot be retried.
+     */
+    public void recordConflict(final String commandName, final UUID streamId) {
+        conflicts.increment();
+        conflictsByCommand.computeIfAbsent(String.valueOf(commandName), name -> new LongAdder()).increment();
+        if (streamId != null) {
+            synchronized (conflictsByStream) {
+                conflictsByStream.merge(streamId, 1L, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Records a conflict on the given attempt of a command and waits before the next attempt, or
+     * rethrows the conflict when the command has no attempts left.
+     */
+    public void onConflict(final String commandName, final UUID streamId, final int attempt, final OptimisticLockingRetryException conflict) {
+        recordConflict(commandName, streamId);
+        if (attempt >= maxAttempts) {
+            if (maxAttempts > 1) {
+                exhausted.increment();
+                LOGGER.warn("Command {} conflicted on stream {} on all {} attempts", commandName, streamId, maxAttempts);
+            }
+            throw conflict;
+        }
+
+        retries.increment();
+        try {
+            Thread.sleep(delayMillis(attempt));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    @Override
+    public long getConflicts() {
+        return conflicts.sum();
+    }
+
+    @Override
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    @Override
+    public long getExhausted() {
+        return exhausted.sum();
+    }
+
+    @Override
+    public Map<String, Long> getConflictsByCommand() {
+        final Map<String, Long> counts = new HashMap<>();
+        conflictsByCommand.forEach((commandName, count) -> counts.put(commandName, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getConflictsByStream() {
+        final Map<String, Long> counts = new HashMap<>();
+        synchronized (conflictsByStream) {
+            conflictsByStream.forEach((streamId, count) -> counts.put(streamId.toString(), count));
+        }
+        return counts;
+    }
+
+    void configure(final int maxAttempts, final long baseDelayMillis, final long maxDelayMillis) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    long delayMillis(final int attempt) {
+        final long ceiling = min(maxDelayMillis, baseDelayMillis << min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void registerMBean() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(this, objectName);
+        } catch (final JMException | SecurityException e) {
+            LOGGER.warn("Unable to register append retry MBean {}", OBJECT_NAME, e);
+        }
+    }
+}
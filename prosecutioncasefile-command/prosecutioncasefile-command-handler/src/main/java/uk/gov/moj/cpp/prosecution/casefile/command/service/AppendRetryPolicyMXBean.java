@@ -0,0 +1,19 @@
+package uk.gov.moj.cpp.prosecution.casefile.command.service;
+
+import java.util.Map;
+
+/**
+ * JMX view of the event stream append conflicts, registered as {@value AppendRetryPolicy#OBJECT_NAME}.
+ */
+public interface AppendRetryPolicyMXBean {
+
+    long getConflicts();
+
+    long getRetries();
+
+    long getExhausted();
+
+    Map<String, Long> getConflictsByCommand();
+
+    Map<String, Long> getConflictsByStream();
+}
@@ -1,7 +1,6 @@
 package uk.gov.moj.cpp.prosecution.casefile.command.handler;
 
 import static com.google.common.collect.ImmutableList.of;
-import static com.google.common.collect.Lists.newArrayList;
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.withJsonPath;
 import static java.lang.Boolean.FALSE;
 import static java.util.Collections.singletonList;
@@ -51,8 +50,8 @@ import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.JsonObjects;
 import uk.gov.justice.services.messaging.Metadata;
 
-import uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cpp.prosecution.casefile.command.service.ProsecutionCaseQueryService;
 import uk.gov.moj.cpp.prosecution.casefile.domain.ProsecutionWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.event.CcCaseReceived;
@@ -78,7 +77,6 @@ import uk.gov.moj.cps.prosecutioncasefile.domain.event.MaterialRejectedV2;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.SjpCaseCreatedSuccessfully;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.SjpProsecutionReceived;
 
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -122,6 +120,9 @@ public class AcceptCaseHandlerTest {
     @Mock
     private AggregateService aggregateService;
 
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
+
     @Mock
     private ReferenceDataQueryService referenceDataQueryService;
 
@@ -217,11 +218,11 @@ public class AcceptCaseHandlerTest {
         aggregate.apply(buildSjpCaseReceivedEvent());
         final MaterialPending pdfMaterialPending = buildMaterialPendingEvent(PDF_FILE_STORE_ID, PDF_FILE_TYPE);
         final MaterialPending csvMaterialPending = buildMaterialPendingEvent(CSV_FILE_STORE_ID, CSV_FILE_TYPE);
-        final List<MaterialPending> pendingMaterialList = newArrayList(pdfMaterialPending, csvMaterialPending);
 
         mockPreviousMaterialEvents(materialPendingEventEnvelope(PDF_SUBMISSION_ID, pdfMaterialPending), materialPendingEventEnvelope(CSV_SUBMISSION_ID, csvMaterialPending));
 
-        ReflectionUtil.setField(aggregate, "pendingMaterials", pendingMaterialList);
+        aggregate.apply(pdfMaterialPending);
+        aggregate.apply(csvMaterialPending);
 
         final AcceptCase acceptCase = readJson("json/acceptSjpCase.json", AcceptCase.class);
 
@@ -288,11 +289,11 @@ public class AcceptCaseHandlerTest {
         aggregate.apply(buildCcCaseReceivedEvent());
         final MaterialPendingV2 pdfMaterialPending = buildMaterialPendingV2Event(PDF_FILE_STORE_ID, PDF_FILE_TYPE);
         final MaterialPendingV2 csvMaterialPending = buildMaterialPendingV2Event(CSV_FILE_STORE_ID, CSV_FILE_TYPE);
-        final List<MaterialPendingV2> pendingMaterialList = newArrayList(pdfMaterialPending, csvMaterialPending);
 
         mockPreviousMaterialEvents(materialPendingEventEnvelopeV2(PDF_SUBMISSION_ID, pdfMaterialPending), materialPendingEventEnvelopeV2(CSV_SUBMISSION_ID, csvMaterialPending));
 
-        ReflectionUtil.setField(aggregate, "pendingMaterialsV2", pendingMaterialList);
+        aggregate.apply(pdfMaterialPending);
+        aggregate.apply(csvMaterialPending);
 
         final AcceptCase acceptCase = readJson("json/acceptCcCase.json", AcceptCase.class);
 
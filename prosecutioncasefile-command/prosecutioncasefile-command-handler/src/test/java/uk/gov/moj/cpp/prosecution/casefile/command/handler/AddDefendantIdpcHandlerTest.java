@@ -30,6 +30,7 @@ import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.test.utils.core.enveloper.EnveloperFactory;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
 import uk.gov.moj.cpp.prosecution.casefile.command.handler.util.DefaultTestData;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cpp.prosecution.casefile.event.DefendantIdpcAdded;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.CaseDocumentAdditionFailed;
 
@@ -63,6 +64,9 @@ public class AddDefendantIdpcHandlerTest {
     @Mock
     private AggregateService aggregateService;
 
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
+
     @InjectMocks
     private AddDefendantIdpcHandler addCaseDocumentHandler;
 
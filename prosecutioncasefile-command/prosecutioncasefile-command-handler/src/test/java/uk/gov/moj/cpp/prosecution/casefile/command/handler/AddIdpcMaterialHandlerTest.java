@@ -45,6 +45,7 @@ import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.justice.services.messaging.spi.DefaultJsonMetadata;
 import uk.gov.justice.services.test.utils.core.enveloper.EnveloperFactory;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cpp.prosecution.casefile.domain.ProsecutionWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.CustodyStatusReferenceData;
@@ -106,6 +107,8 @@ public class AddIdpcMaterialHandlerTest {
     private EventStream eventStream;
     @Mock
     private AggregateService aggregateService;
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
     @Mock
     ReferenceDataQueryService referenceDataQueryService;
 
@@ -51,6 +51,7 @@ import uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil;
 import uk.gov.moj.cpp.prosecution.casefile.CaseType;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ApplicationFile;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OrganisationUnitReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ParentBundleSectionReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProsecutorsReferenceData;
@@ -117,6 +118,8 @@ public class AddMaterialHandlerTest {
     private EventStream eventStream;
     @Mock
     private AggregateService aggregateService;
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
     @Mock
     private ReferenceDataQueryService referenceDataQueryService;
     @Mock
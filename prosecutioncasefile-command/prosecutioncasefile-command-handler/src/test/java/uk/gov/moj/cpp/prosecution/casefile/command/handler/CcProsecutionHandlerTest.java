@@ -19,6 +19,7 @@ import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cpp.prosecution.casefile.domain.ProsecutionWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.event.CcCaseReceived;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseDetails;
@@ -51,6 +52,8 @@ public class CcProsecutionHandlerTest {
     private EventStream eventStream;
     @Mock
     private AggregateService aggregateService;
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
     @Mock
     private EventSource eventSource;
     @Mock
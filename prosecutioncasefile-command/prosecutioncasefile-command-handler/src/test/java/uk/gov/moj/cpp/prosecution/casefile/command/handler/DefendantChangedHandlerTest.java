@@ -21,6 +21,7 @@ import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamEx
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.test.utils.core.enveloper.EnveloperFactory;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cpp.prosecution.casefile.domain.ProsecutionWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.event.CcCaseReceived;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseDetails;
@@ -60,6 +61,9 @@ public class DefendantChangedHandlerTest {
     @Mock
     private AggregateService aggregateService;
 
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
+
     @Spy
     private Enveloper enveloper = EnveloperFactory
             .createEnveloperWithEvents(
@@ -5,7 +5,13 @@ import static java.util.UUID.fromString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.Envelope.envelopeFrom;
 import static uk.gov.justice.services.test.utils.core.matchers.EventStreamMatcher.eventStreamAppendedWith;
@@ -13,6 +19,7 @@ import static uk.gov.justice.services.test.utils.core.matchers.JsonEnvelopeMatch
 import static uk.gov.justice.services.test.utils.core.matchers.JsonEnvelopeMetadataMatcher.metadata;
 import static uk.gov.justice.services.test.utils.core.matchers.JsonEnvelopePayloadMatcher.payloadIsJson;
 import static uk.gov.justice.services.test.utils.core.matchers.JsonEnvelopeStreamMatcher.streamContaining;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 import static uk.gov.moj.cpp.prosecution.casefile.test.utils.HandlerTestHelper.metadataFor;
 import static uk.gov.moj.cpp.prosecution.casefile.test.utils.HandlerTestHelper.readJson;
 
@@ -22,12 +29,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.justice.services.core.aggregate.AggregateService;
 import uk.gov.justice.services.core.enveloper.Enveloper;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.OptimisticLockingRetryException;
 import uk.gov.justice.services.eventsourcing.source.core.EventSource;
 import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.test.utils.core.enveloper.EnveloperFactory;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AppendRetryPolicy;
 import uk.gov.moj.cpp.prosecution.casefile.event.CaseEjected;
 import uk.gov.moj.cps.prosecutioncasefile.command.handler.EjectCase;
 
@@ -53,6 +63,10 @@ public class EjectCaseHandlerTest {
     private EventStream eventStream;
     @Mock
     private AggregateService aggregateService;
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
+    @Spy
+    private AppendRetryPolicy appendRetryPolicy = new AppendRetryPolicy();
     @Mock
     private EventSource eventSource;
     @Mock
@@ -85,4 +99,45 @@ public class EjectCaseHandlerTest {
 
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReloadCaseAndRetryWhenAppendConflicts() throws Exception {
+        setField(aggregateCache, "enabled", true);
+        setField(appendRetryPolicy, "maxAttempts", 2);
+        setField(appendRetryPolicy, "baseDelayMillis", 0L);
+        final EjectCase ejectCase = readJson("json/addMaterial.json", EjectCase.class);
+        final Envelope<EjectCase> envelope =
+                envelopeFrom(metadataFor("prosecutioncasefile.command.eject-case"), ejectCase);
+
+        when(eventStream.getId()).thenReturn(ejectCase.getCaseId());
+        when(eventStream.getPosition()).thenReturn(3L);
+        when(prosecutionCaseFile.ejectCase(any())).thenAnswer(invocation -> Stream.of(new CaseEjected(ejectCase.getCaseId())));
+        doThrow(new OptimisticLockingRetryException("conflict")).doNothing().when(eventStream).appendAfter(any(), eq(3L));
+
+        ejectCaseHandler.handleEjectCase(envelope);
+
+        verify(aggregateService, times(2)).get(eventStream, ProsecutionCaseFile.class);
+        verify(eventStream, times(2)).appendAfter(any(), eq(3L));
+        assertThat(appendRetryPolicy.getConflicts(), is(1L));
+        assertThat(appendRetryPolicy.getRetries(), is(1L));
+        assertThat(appendRetryPolicy.getConflictsByCommand().get("prosecutioncasefile.command.eject-case"), is(1L));
+    }
+
+    @Test
+    public void shouldNotRetryConflictWhenAggregateCacheIsDisabled() throws Exception {
+        setField(appendRetryPolicy, "maxAttempts", 2);
+        setField(appendRetryPolicy, "baseDelayMillis", 0L);
+        final EjectCase ejectCase = readJson("json/addMaterial.json", EjectCase.class);
+        final Envelope<EjectCase> envelope =
+                envelopeFrom(metadataFor("prosecutioncasefile.command.eject-case"), ejectCase);
+
+        when(prosecutionCaseFile.ejectCase(any())).thenAnswer(invocation -> Stream.of(new CaseEjected(ejectCase.getCaseId())));
+        doThrow(new OptimisticLockingRetryException("conflict")).when(eventStream).append(any());
+
+        assertThrows(OptimisticLockingRetryException.class, () -> ejectCaseHandler.handleEjectCase(envelope));
+
+        verify(eventStream, times(1)).append(any());
+        assertThat(appendRetryPolicy.getConflicts(), is(1L));
+        assertThat(appendRetryPolicy.getRetries(), is(0L));
+    }
+}
@@ -29,6 +29,7 @@ import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamEx
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.test.utils.core.enveloper.EnveloperFactory;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cps.prosecutioncasefile.command.handler.ExpireBulkScanPendingMaterial;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.BulkscanMaterialRejected;
 
@@ -52,6 +53,8 @@ public class ExpireBulkScanPendingMaterialHandlerTest {
     private EventStream eventStream;
     @Mock
     private AggregateService aggregateService;
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
     @Mock
     private EventSource eventSource;
     @Mock
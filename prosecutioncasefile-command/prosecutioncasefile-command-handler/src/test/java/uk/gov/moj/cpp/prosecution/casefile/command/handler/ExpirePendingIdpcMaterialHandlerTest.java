@@ -31,6 +31,7 @@ import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamEx
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.test.utils.common.helper.StoppedClock;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cps.prosecutioncasefile.command.handler.ExpirePendingIdpcMaterial;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.IdpcMaterialRejected;
 
@@ -67,6 +68,8 @@ public class ExpirePendingIdpcMaterialHandlerTest {
     private EventStream eventStream;
     @Mock
     private AggregateService aggregateService;
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
     @Mock
     private ProsecutionCaseFile prosecutionCaseFile;
     @InjectMocks
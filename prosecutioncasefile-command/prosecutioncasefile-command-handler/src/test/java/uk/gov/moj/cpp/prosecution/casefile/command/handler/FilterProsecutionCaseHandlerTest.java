@@ -30,6 +30,7 @@ import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Material;
 import uk.gov.moj.cps.prosecutioncasefile.command.handler.FilterProsecutionCase;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.CaseFiltered;
@@ -61,6 +62,9 @@ public class FilterProsecutionCaseHandlerTest {
     @Mock
     private AggregateService aggregateService;
 
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
+
     @Mock
     private ProsecutionCaseFile prosecutionCaseFile;
 
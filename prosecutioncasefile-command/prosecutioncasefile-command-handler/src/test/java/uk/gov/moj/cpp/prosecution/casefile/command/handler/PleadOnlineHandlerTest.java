@@ -29,6 +29,7 @@ import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamEx
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.test.utils.common.helper.StoppedClock;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cpp.prosecution.casefile.plea.json.schemas.Address;
 import uk.gov.moj.cpp.prosecution.casefile.plea.json.schemas.Benefits;
 import uk.gov.moj.cpp.prosecution.casefile.plea.json.schemas.ContactDetails;
@@ -74,6 +75,9 @@ public class PleadOnlineHandlerTest {
     @Mock
     private AggregateService aggregateService;
 
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
+
     @Mock
     private ProsecutionCaseFile prosecutionCaseFile;
 
@@ -20,6 +20,7 @@ import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamEx
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.test.utils.core.enveloper.EnveloperFactory;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cpp.prosecutioncasefile.command.handler.RecordDecisionToReferCaseForCourtHearingSaved;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.CaseReferredToCourtRecorded;
 
@@ -49,6 +50,9 @@ public class RecordDecisionToReferCaseForCourtHearingSavedHandlerTest {
     @Mock
     private AggregateService aggregateService;
 
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
+
     @Spy
     private Enveloper enveloper = EnveloperFactory
             .createEnveloperWithEvents(
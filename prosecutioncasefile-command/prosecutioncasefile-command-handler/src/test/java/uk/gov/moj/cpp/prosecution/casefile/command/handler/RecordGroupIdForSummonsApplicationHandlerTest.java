@@ -16,6 +16,7 @@ import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.justice.services.test.utils.core.enveloper.EnveloperFactory;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cps.prosecutioncasefile.command.handler.RecordGroupIdForSummonsApplication;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.GroupIdRecordedForSummonsApplication;
 
@@ -44,6 +45,8 @@ public class RecordGroupIdForSummonsApplicationHandlerTest {
     private EventStream eventStream;
     @Mock
     private AggregateService aggregateService;
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
     @InjectMocks
     private RecordGroupIdForSummonsApplicationHandler recordGroupIdForSummonsApplicationHandler;
 
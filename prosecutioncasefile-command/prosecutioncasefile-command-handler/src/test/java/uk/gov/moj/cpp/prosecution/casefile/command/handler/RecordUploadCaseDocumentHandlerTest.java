@@ -22,6 +22,7 @@ import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.test.utils.core.enveloper.EnveloperFactory;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant;
 import uk.gov.moj.cps.prosecutioncasefile.command.handler.RecordUploadCaseDocument;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.UploadCaseDocumentRecorded;
@@ -51,6 +52,9 @@ public class RecordUploadCaseDocumentHandlerTest {
     @Mock
     private AggregateService aggregateService;
 
+    @Spy
+    private AggregateCache aggregateCache = new AggregateCache();
+
     @Spy
     private Enveloper enveloper = EnveloperFactory.createEnveloperWithEvents(UploadCaseDocumentRecorded.class);
 
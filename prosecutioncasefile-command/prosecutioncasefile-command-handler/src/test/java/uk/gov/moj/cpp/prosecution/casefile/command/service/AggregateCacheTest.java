@@ -0,0 +1,224 @@
+package uk.gov.moj.cpp.prosecution.casefile.command.service;
+
+import static java.util.Arrays.asList;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.Envelope.metadataBuilder;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.core.aggregate.AggregateService;
+import uk.gov.justice.services.core.extension.EventFoundEvent;
+import uk.gov.justice.services.eventsourcing.source.core.EventStream;
+import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.prosecution.casefile.command.service.AggregateCache.HydratedAggregate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AggregateCacheTest {
+
+    private static final String EVENT_NAME = "prosecutioncasefile.events.test-event";
+    private static final UUID STREAM_ID = randomUUID();
+
+    @Mock
+    private JsonObjectToObjectConverter jsonObjectToObjectConverter;
+
+    @Mock
+    private AggregateService aggregateService;
+
+    @Mock
+    private EventStream eventStream;
+
+    private final AggregateCache aggregateCache = new AggregateCache();
+
+    @BeforeEach
+    public void setUp() {
+        aggregateCache.setJsonObjectToObjectConverter(jsonObjectToObjectConverter);
+        aggregateCache.setEnabled(true, 2);
+        aggregateCache.registerEvent(new EventFoundEvent(TestEvent.class, EVENT_NAME));
+    }
+
+    @Test
+    public void shouldLoadThroughAggregateServiceWhenDisabled() throws EventStreamException {
+        aggregateCache.setEnabled(false, 2);
+        final TestAggregate aggregate = new TestAggregate();
+        when(aggregateService.get(eventStream, TestAggregate.class)).thenReturn(aggregate);
+        final Stream<JsonEnvelope> events = Stream.of(event(3));
+
+        final HydratedAggregate<TestAggregate> hydratedAggregate = aggregateCache.get(eventStream, TestAggregate.class, aggregateService);
+        aggregateCache.append(hydratedAggregate, eventStream, events);
+
+        assertThat(hydratedAggregate.getAggregate(), is(aggregate));
+        verify(eventStream).append(events);
+        verify(eventStream, never()).read();
+        assertThat(aggregateCache.getSize(), is(0));
+    }
+
+    @Test
+    public void shouldLoadMissThroughAggregateServiceAtStreamPosition() {
+        final TestAggregate aggregate = aggregate(1L, 2L);
+        when(eventStream.getId()).thenReturn(STREAM_ID);
+        when(eventStream.getPosition()).thenReturn(2L);
+        when(aggregateService.get(eventStream, TestAggregate.class)).thenReturn(aggregate);
+
+        final HydratedAggregate<TestAggregate> hydratedAggregate = aggregateCache.get(eventStream, TestAggregate.class, aggregateService);
+
+        assertThat(hydratedAggregate.getAggregate(), is(aggregate));
+        assertThat(hydratedAggregate.getVersion().get(), is(2L));
+        verify(eventStream, never()).read();
+        assertThat(aggregateCache.getMisses(), is(1L));
+    }
+
+    @Test
+    public void shouldApplyOnlyEventsNewerThanTheCachedVersion() throws EventStreamException {
+        givenStream(STREAM_ID);
+        when(eventStream.getPosition()).thenReturn(2L);
+        when(aggregateService.get(eventStream, TestAggregate.class)).thenReturn(aggregate(1L, 2L));
+        final HydratedAggregate<TestAggregate> loaded = aggregateCache.get(eventStream, TestAggregate.class, aggregateService);
+        aggregateCache.append(loaded, eventStream, Stream.of(event(3)));
+
+        when(eventStream.readFrom(4L)).thenReturn(Stream.of(event(4)));
+        final HydratedAggregate<TestAggregate> cached = aggregateCache.get(eventStream, TestAggregate.class, aggregateService);
+
+        verify(eventStream).appendAfter(any(), eq(2L));
+        assertThat(cached.getAggregate(), is(loaded.getAggregate()));
+        assertThat(cached.getAggregate().applied, contains(1L, 2L, 4L));
+        assertThat(cached.getVersion().get(), is(4L));
+        assertThat(aggregateCache.getHits(), is(1L));
+        assertThat(aggregateCache.getMisses(), is(1L));
+        assertThat(aggregateCache.getHitRate(), is(0.5));
+    }
+
+    @Test
+    public void shouldNotShareAnAggregateThatIsCheckedOut() {
+        when(eventStream.getId()).thenReturn(STREAM_ID);
+        when(eventStream.getPosition()).thenReturn(1L);
+        when(aggregateService.get(eventStream, TestAggregate.class)).thenReturn(aggregate(1L), aggregate(1L));
+
+        final HydratedAggregate<TestAggregate> first = aggregateCache.get(eventStream, TestAggregate.class, aggregateService);
+        final HydratedAggregate<TestAggregate> second = aggregateCache.get(eventStream, TestAggregate.class, aggregateService);
+
+        assertThat(second.getAggregate() == first.getAggregate(), is(false));
+        assertThat(aggregateCache.getMisses(), is(2L));
+    }
+
+    @Test
+    public void shouldInvalidateOnOptimisticLockConflict() throws EventStreamException {
+        when(eventStream.getId()).thenReturn(STREAM_ID);
+        when(eventStream.getPosition()).thenReturn(1L, 2L);
+        when(aggregateService.get(eventStream, TestAggregate.class)).thenReturn(aggregate(1L), aggregate(1L, 2L));
+        doThrow(new EventStreamException("conflict")).when(eventStream).appendAfter(any(), anyLong());
+
+        final HydratedAggregate<TestAggregate> loaded = aggregateCache.get(eventStream, TestAggregate.class, aggregateService);
+        assertThrows(EventStreamException.class, () -> aggregateCache.append(loaded, eventStream, Stream.of(event(2))));
+
+        final HydratedAggregate<TestAggregate> reloaded = aggregateCache.get(eventStream, TestAggregate.class, aggregateService);
+
+        assertThat(reloaded.getAggregate().applied, contains(1L, 2L));
+        assertThat(reloaded.getVersion().get(), is(2L));
+        assertThat(aggregateCache.getInvalidations(), is(1L));
+        assertThat(aggregateCache.getHits(), is(0L));
+        assertThat(aggregateCache.getSize(), is(0));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedAggregateWhenFull() throws EventStreamException {
+        for (int i = 0; i < 3; i++) {
+            final EventStream stream = mock(EventStream.class);
+            when(stream.getId()).thenReturn(randomUUID());
+            when(stream.getPosition()).thenReturn(1L);
+            when(aggregateService.get(stream, TestAggregate.class)).thenReturn(aggregate(1L));
+            aggregateCache.append(aggregateCache.get(stream, TestAggregate.class, aggregateService), stream, Stream.of(event(2)));
+        }
+
+        assertThat(aggregateCache.getSize(), is(2));
+        assertThat(aggregateCache.getEvictions(), is(1L));
+    }
+
+    @Test
+    public void shouldReloadThroughAggregateServiceWhenNewEventIsUnknown() throws EventStreamException {
+        final TestAggregate reloadedAggregate = aggregate(1L, 2L, 3L);
+        when(eventStream.getId()).thenReturn(STREAM_ID);
+        when(eventStream.getPosition()).thenReturn(1L, 3L);
+        when(aggregateService.get(eventStream, TestAggregate.class)).thenReturn(aggregate(1L), reloadedAggregate);
+        aggregateCache.append(aggregateCache.get(eventStream, TestAggregate.class, aggregateService), eventStream, Stream.of(event(2)));
+        when(eventStream.readFrom(3L)).thenReturn(Stream.of(envelopeFrom(metadataBuilder().withId(randomUUID()).withName("unknown").withPosition(3L), payload(3))));
+
+        final HydratedAggregate<TestAggregate> hydratedAggregate = aggregateCache.get(eventStream, TestAggregate.class, aggregateService);
+
+        assertThat(hydratedAggregate.getAggregate(), is(reloadedAggregate));
+        assertThat(hydratedAggregate.getVersion().get(), is(3L));
+        assertThat(aggregateCache.getHits(), is(0L));
+        assertThat(aggregateCache.getMisses(), is(2L));
+    }
+
+    private void givenStream(final UUID streamId) {
+        when(eventStream.getId()).thenReturn(streamId);
+        givenEventsConverted();
+    }
+
+    private void givenEventsConverted() {
+        when(jsonObjectToObjectConverter.convert(any(JsonObject.class), eq(TestEvent.class)))
+                .thenAnswer(invocation -> new TestEvent(invocation.<JsonObject>getArgument(0).getJsonNumber("position").longValue()));
+    }
+
+    private static TestAggregate aggregate(final Long... applied) {
+        final TestAggregate aggregate = new TestAggregate();
+        aggregate.applied.addAll(asList(applied));
+        return aggregate;
+    }
+
+    private static JsonEnvelope event(final long position) {
+        return envelopeFrom(metadataBuilder().withId(randomUUID()).withName(EVENT_NAME).withStreamId(STREAM_ID).withPosition(position), payload(position));
+    }
+
+    private static JsonObject payload(final long position) {
+        return createObjectBuilder().add("position", position).build();
+    }
+
+    public static class TestEvent {
+
+        private final long position;
+
+        public TestEvent(final long position) {
+            this.position = position;
+        }
+    }
+
+    public static class TestAggregate implements Aggregate {
+
+        private final List<Long> applied = new ArrayList<>();
+
+        @Override
+        public Object apply(final Object event) {
+            applied.add(((TestEvent) event).position);
+            return event;
+        }
+    }
+}
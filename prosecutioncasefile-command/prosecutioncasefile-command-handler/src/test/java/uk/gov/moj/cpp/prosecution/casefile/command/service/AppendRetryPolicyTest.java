@@ -0,0 +1,92 @@
+package uk.gov.moj.cpp.prosecution.casefile.command.service;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.OptimisticLockingRetryException;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class AppendRetryPolicyTest {
+
+    private static final String COMMAND_NAME = "prosecutioncasefile.command.add-material";
+
+    private final AppendRetryPolicy appendRetryPolicy = new AppendRetryPolicy();
+
+    @Test
+    public void shouldRethrowConflictWithoutRetryingByDefault() {
+        final UUID streamId = randomUUID();
+        final OptimisticLockingRetryException conflict = new OptimisticLockingRetryException("conflict");
+
+        final OptimisticLockingRetryException thrown = assertThrows(OptimisticLockingRetryException.class,
+                () -> appendRetryPolicy.onConflict(COMMAND_NAME, streamId, 1, conflict));
+
+        assertThat(thrown, is(conflict));
+        assertThat(appendRetryPolicy.getConflicts(), is(1L));
+        assertThat(appendRetryPolicy.getRetries(), is(0L));
+        assertThat(appendRetryPolicy.getExhausted(), is(0L));
+        assertThat(appendRetryPolicy.getConflictsByStream().get(streamId.toString()), is(1L));
+    }
+
+    @Test
+    public void shouldRetryUntilAttemptsAreExhausted() {
+        appendRetryPolicy.configure(3, 0, 0);
+        final UUID streamId = randomUUID();
+        final OptimisticLockingRetryException conflict = new OptimisticLockingRetryException("conflict");
+
+        appendRetryPolicy.onConflict(COMMAND_NAME, streamId, 1, conflict);
+        appendRetryPolicy.onConflict(COMMAND_NAME, streamId, 2, conflict);
+        assertThrows(OptimisticLockingRetryException.class, () -> appendRetryPolicy.onConflict(COMMAND_NAME, streamId, 3, conflict));
+
+        assertThat(appendRetryPolicy.getRetries(), is(2L));
+        assertThat(appendRetryPolicy.getExhausted(), is(1L));
+        assertThat(appendRetryPolicy.getConflictsByCommand().get(COMMAND_NAME), is(3L));
+        assertThat(appendRetryPolicy.getConflictsByStream().get(streamId.toString()), is(3L));
+    }
+
+    @Test
+    public void shouldRetryWhenConfiguredWithAggregateCacheEnabled() {
+        final AggregateCache aggregateCache = new AggregateCache();
+        aggregateCache.setEnabled(true, 10);
+        configureFromValues(aggregateCache, "3");
+
+        appendRetryPolicy.onConflict(COMMAND_NAME, randomUUID(), 1, new OptimisticLockingRetryException("conflict"));
+
+        assertThat(appendRetryPolicy.getRetries(), is(1L));
+    }
+
+    @Test
+    public void shouldRefuseRetriesWhenAggregateCacheIsDisabled() {
+        configureFromValues(new AggregateCache(), "3");
+
+        assertThrows(OptimisticLockingRetryException.class,
+                () -> appendRetryPolicy.onConflict(COMMAND_NAME, randomUUID(), 1, new OptimisticLockingRetryException("conflict")));
+
+        assertThat(appendRetryPolicy.getRetries(), is(0L));
+    }
+
+    @Test
+    public void shouldBoundJitteredDelayByBackOffAndMaximum() {
+        appendRetryPolicy.configure(5, 10, 25);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(appendRetryPolicy.delayMillis(1), lessThanOrEqualTo(10L));
+            assertThat(appendRetryPolicy.delayMillis(2), lessThanOrEqualTo(20L));
+            assertThat(appendRetryPolicy.delayMillis(4), lessThanOrEqualTo(25L));
+        }
+    }
+
+    private void configureFromValues(final AggregateCache aggregateCache, final String maxAttempts) {
+        setField(appendRetryPolicy, "aggregateCache", aggregateCache);
+        setField(appendRetryPolicy, "maxAttemptsValue", maxAttempts);
+        setField(appendRetryPolicy, "baseDelayMillisValue", "0");
+        setField(appendRetryPolicy, "maxDelayMillisValue", "0");
+        appendRetryPolicy.init();
+    }
+}
@@ -24,7 +24,7 @@ import static uk.gov.moj.cpp.prosecution.casefile.validation.ProblemCode.DEFENDA
 import static uk.gov.moj.cpp.prosecution.casefile.validation.ProblemCode.DUPLICATE_DEFENDANT;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.Problems.newProblem;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.ValidationRuleExecutor.validate;
-import static uk.gov.moj.cpp.prosecution.casefile.validation.provider.CcProsecutionValidationRuleProvider.getDefendantValidationRules;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.provider.CcProsecutionValidationRuleProvider.getDefendantValidationPlan;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.ASN;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.CPS_DEFENDANT_ID;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DATE_OF_BIRTH;
@@ -228,7 +228,7 @@ public class ProsecutionCaseFileHelper {
             final String initiationCode = defendantInitiationCode != null && isValidInitiationCode(defendantInitiationCode) ? defendant.getInitiationCode() : caseDetails.getInitiationCode();
 
             final List<Problem> defendantProblemList =
-                    validate(defendantWithReferenceData, referenceDataQueryService, getDefendantValidationRules(initiationCode, channel,isCivil));
+                    validate(defendantWithReferenceData, referenceDataQueryService, getDefendantValidationPlan(initiationCode, channel, isCivil, isMCCWithListNewHearing, isInactiveMigratedCase));
 
             if (!defendantProblemList.isEmpty()) {
                 defendantErrors.add(defendantProblem()
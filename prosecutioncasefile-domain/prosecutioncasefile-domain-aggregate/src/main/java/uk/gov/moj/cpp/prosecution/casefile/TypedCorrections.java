@@ -0,0 +1,232 @@
+package uk.gov.moj.cpp.prosecution.casefile;
+
+import static java.lang.Integer.parseInt;
+import static java.time.LocalDate.parse;
+import static java.util.Map.entry;
+import static java.util.Optional.empty;
+import static java.util.Optional.ofNullable;
+import static uk.gov.justice.cps.prosecutioncasefile.InitialHearing.initialHearing;
+import static uk.gov.moj.cpp.prosecution.casefile.ProsecutionCaseFileHelper.FIELD_NAME;
+import static uk.gov.moj.cpp.prosecution.casefile.ProsecutionCaseFileHelper.FIELD_VALUE;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseDetails.caseDetails;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.ContactDetails.contactDetails;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant.defendant;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Individual.individual;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Offence.offence;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.PersonalInformation.personalInformation;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.SelfDefinedInformation.selfDefinedInformation;
+
+import uk.gov.justice.cps.prosecutioncasefile.InitialHearing;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseDetails;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ContactDetails;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Individual;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Offence;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.PersonalInformation;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.SelfDefinedInformation;
+
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+/**
+ * Applies error corrections, each a {@code fieldName} and {@code value} sent by the correction
+ * screens, directly to the builders of the corrected defendant or case details, without the
+ * round trip through JSON that {@link ProsecutionCaseFileHelper#addJsonProperty} needs.
+ * <p>
+ * Field names are underscore separated paths through the JSON representation; offence fields are
+ * applied to the offence whose {@code offenceId} is the {@code id} of the correction. Only the
+ * fields mapped here are corrected. If any correction names another field, or a field whose parent
+ * object is missing, or has a value that cannot be parsed, nothing is corrected and an empty result
+ * is returned, leaving all the corrections to the JSON path.
+ */
+public class TypedCorrections {
+
+    private static final String ID = "id";
+    private static final String OFFENCE_CHARGE_DATE = "offence_chargeDate";
+
+    private static final Map<String, Correction<CaseDetails>> CASE_DETAILS_CORRECTIONS = Map.ofEntries(
+            entry("initiationCode", (existing, value) -> caseDetails().withValuesFrom(existing).withInitiationCode(value).build()),
+            entry("summonsCode", (existing, value) -> caseDetails().withValuesFrom(existing).withSummonsCode(value).build()),
+            entry("cpsOrganisation", (existing, value) -> caseDetails().withValuesFrom(existing).withCpsOrganisation(value).build()),
+            entry("courtReceivedFromCode", (existing, value) -> caseDetails().withValuesFrom(existing).withCourtReceivedFromCode(value).build()),
+            entry("courtReceivedToCode", (existing, value) -> caseDetails().withValuesFrom(existing).withCourtReceivedToCode(value).build()),
+            entry("policeForceCode", (existing, value) -> caseDetails().withValuesFrom(existing).withPoliceForceCode(value).build()));
+
+    private static final Map<String, Correction<Defendant>> DEFENDANT_CORRECTIONS = Map.ofEntries(
+            entry("custodyStatus", (existing, value) -> defendant().withValuesFrom(existing).withCustodyStatus(value).build()),
+            entry("emailAddress1", (existing, value) -> defendant().withValuesFrom(existing).withEmailAddress1(value).build()),
+            entry("emailAddress2", (existing, value) -> defendant().withValuesFrom(existing).withEmailAddress2(value).build()),
+            entry("organisationName", (existing, value) -> defendant().withValuesFrom(existing).withOrganisationName(value).build()),
+            entry("pncIdentifier", (existing, value) -> defendant().withValuesFrom(existing).withPncIdentifier(value).build()),
+            entry("croNumber", (existing, value) -> defendant().withValuesFrom(existing).withCroNumber(value).build()),
+            entry("initialHearing_courtHearingLocation", (defendant, value) -> correctInitialHearing(defendant, hearing -> hearing.withCourtHearingLocation(value))),
+            entry("initialHearing_dateOfHearing", (defendant, value) -> correctInitialHearing(defendant, hearing -> hearing.withDateOfHearing(value))),
+            entry("initialHearing_hearingTypeCode", (defendant, value) -> correctInitialHearing(defendant, hearing -> hearing.withHearingTypeCode(value))),
+            entry("individual_perceivedBirthYear", (defendant, value) -> correctIndividual(defendant, individual -> individual.withPerceivedBirthYear(value))),
+            entry("individual_offenderCode", (defendant, value) -> correctIndividual(defendant, individual -> individual.withOffenderCode(value))),
+            entry("individual_bailConditions", (defendant, value) -> correctIndividual(defendant, individual -> individual.withBailConditions(value))),
+            entry("individual_personalInformation_observedEthnicity",
+                    (defendant, value) -> correctPersonalInformation(defendant, information -> information.withObservedEthnicity(parseInt(value)))),
+            entry("individual_personalInformation_contactDetails_primaryEmail",
+                    (defendant, value) -> correctContactDetails(defendant, contactDetails -> contactDetails.withPrimaryEmail(value))),
+            entry("individual_personalInformation_contactDetails_secondaryEmail",
+                    (defendant, value) -> correctContactDetails(defendant, contactDetails -> contactDetails.withSecondaryEmail(value))),
+            entry("individual_selfDefinedInformation_nationality",
+                    (defendant, value) -> correctSelfDefinedInformation(defendant, information -> information.withNationality(value))),
+            entry("individual_selfDefinedInformation_ethnicity",
+                    (defendant, value) -> correctSelfDefinedInformation(defendant, information -> information.withEthnicity(value))),
+            entry("individual_selfDefinedInformation_dateOfBirth",
+                    (defendant, value) -> correctSelfDefinedInformation(defendant, information -> information.withDateOfBirth(parse(value)))));
+
+    private static final Map<String, Correction<Offence>> OFFENCE_CORRECTIONS = Map.ofEntries(
+            entry(OFFENCE_CHARGE_DATE, (existing, value) -> offence().withValuesFrom(existing).withChargeDate(parse(value)).build()),
+            entry("offence_arrestDate", (existing, value) -> offence().withValuesFrom(existing).withArrestDate(parse(value)).build()),
+            entry("offence_laidDate", (existing, value) -> offence().withValuesFrom(existing).withLaidDate(parse(value)).build()),
+            entry("offence_offenceCode", (existing, value) -> offence().withValuesFrom(existing).withOffenceCode(value).build()),
+            entry("offence_offenceDateCode", (existing, value) -> offence().withValuesFrom(existing).withOffenceDateCode(parseInt(value)).build()),
+            entry("offence_offenceLocation", (existing, value) -> offence().withValuesFrom(existing).withOffenceLocation(value).build()),
+            entry("offence_statementOfFacts", (existing, value) -> offence().withValuesFrom(existing).withStatementOfFacts(value).build()),
+            entry("offence_statementOfFactsWelsh", (existing, value) -> offence().withValuesFrom(existing).withStatementOfFactsWelsh(value).build()));
+
+    private TypedCorrections() {
+    }
+
+    public static Optional<CaseDetails> correct(final CaseDetails caseDetails, final JsonArray corrections) {
+        CaseDetails correctedCaseDetails = caseDetails;
+        for (final JsonValue correction : corrections) {
+            final JsonObject field = (JsonObject) correction;
+            final String fieldName = stringOf(field, FIELD_NAME);
+            final String value = stringOf(field, FIELD_VALUE);
+            if (fieldName == null || value == null) {
+                continue;
+            }
+            final Correction<CaseDetails> caseDetailsCorrection = CASE_DETAILS_CORRECTIONS.get(fieldName);
+            if (caseDetailsCorrection == null || stringOf(field, ID) != null) {
+                return empty();
+            }
+            correctedCaseDetails = caseDetailsCorrection.apply(correctedCaseDetails, value);
+        }
+        return Optional.of(correctedCaseDetails);
+    }
+
+    /**
+     * Corrects the defendant. As with the JSON path, correcting the charge date of an offence also
+     * sets the posting date of a defendant that has none.
+     */
+    public static Optional<Defendant> correct(final Defendant defendant, final JsonArray corrections) {
+        try {
+            Defendant correctedDefendant = defendant;
+            for (final JsonValue correction : corrections) {
+                final JsonObject field = (JsonObject) correction;
+                final String fieldName = stringOf(field, FIELD_NAME);
+                final String value = stringOf(field, FIELD_VALUE);
+                if (fieldName == null || value == null) {
+                    continue;
+                }
+                correctedDefendant = correct(correctedDefendant, fieldName, value, stringOf(field, ID));
+                if (correctedDefendant == null) {
+                    return empty();
+                }
+            }
+            return Optional.of(correctedDefendant);
+        } catch (final DateTimeParseException | NumberFormatException e) {
+            return empty();
+        }
+    }
+
+    private static Defendant correct(final Defendant defendant, final String fieldName, final String value, final String offenceId) {
+        if (offenceId == null) {
+            final Correction<Defendant> defendantCorrection = DEFENDANT_CORRECTIONS.get(fieldName);
+            return defendantCorrection == null ? null : defendantCorrection.apply(defendant, value);
+        }
+
+        final Correction<Offence> offenceCorrection = OFFENCE_CORRECTIONS.get(fieldName);
+        if (offenceCorrection == null || defendant.getOffences() == null) {
+            return null;
+        }
+
+        boolean offenceFound = false;
+        final List<Offence> offences = new ArrayList<>(defendant.getOffences().size());
+        for (final Offence offence : defendant.getOffences()) {
+            if (!offenceFound && offence.getOffenceId() != null && offenceId.equals(offence.getOffenceId().toString())) {
+                offences.add(offenceCorrection.apply(offence, value));
+                offenceFound = true;
+            } else {
+                offences.add(offence);
+            }
+        }
+        if (!offenceFound) {
+            return null;
+        }
+
+        final Defendant.Builder correctedDefendant = defendant().withValuesFrom(defendant).withOffences(offences);
+        if (OFFENCE_CHARGE_DATE.equals(fieldName) && defendant.getPostingDate() == null) {
+            correctedDefendant.withPostingDate(parse(value));
+        }
+        return correctedDefendant.build();
+    }
+
+    private static Defendant correctInitialHearing(final Defendant defendant, final UnaryOperator<InitialHearing.Builder> correction) {
+        final InitialHearing hearing = defendant.getInitialHearing();
+        if (hearing == null) {
+            return null;
+        }
+        return defendant().withValuesFrom(defendant)
+                .withInitialHearing(correction.apply(initialHearing().withValuesFrom(hearing)).build())
+                .build();
+    }
+
+    private static Defendant correctIndividual(final Defendant defendant, final UnaryOperator<Individual.Builder> correction) {
+        final Individual individual = defendant.getIndividual();
+        if (individual == null) {
+            return null;
+        }
+        return defendant().withValuesFrom(defendant)
+                .withIndividual(correction.apply(individual().withValuesFrom(individual)).build())
+                .build();
+    }
+
+    private static Defendant correctPersonalInformation(final Defendant defendant, final UnaryOperator<PersonalInformation.Builder> correction) {
+        final Optional<PersonalInformation> information = ofNullable(defendant.getIndividual()).map(Individual::getPersonalInformation);
+        return information
+                .map(existing -> correctIndividual(defendant, individual -> individual
+                        .withPersonalInformation(correction.apply(personalInformation().withValuesFrom(existing)).build())))
+                .orElse(null);
+    }
+
+    private static Defendant correctContactDetails(final Defendant defendant, final UnaryOperator<ContactDetails.Builder> correction) {
+        final Optional<ContactDetails> details = ofNullable(defendant.getIndividual())
+                .map(Individual::getPersonalInformation)
+                .map(PersonalInformation::getContactDetails);
+        return details
+                .map(existing -> correctPersonalInformation(defendant, information -> information
+                        .withContactDetails(correction.apply(contactDetails().withValuesFrom(existing)).build())))
+                .orElse(null);
+    }
+
+    private static Defendant correctSelfDefinedInformation(final Defendant defendant, final UnaryOperator<SelfDefinedInformation.Builder> correction) {
+        final Optional<SelfDefinedInformation> information = ofNullable(defendant.getIndividual()).map(Individual::getSelfDefinedInformation);
+        return information
+                .map(existing -> correctIndividual(defendant, individual -> individual
+                        .withSelfDefinedInformation(correction.apply(selfDefinedInformation().withValuesFrom(existing)).build())))
+                .orElse(null);
+    }
+
+    private static String stringOf(final JsonObject field, final String name) {
+        return field.containsKey(name) ? field.getString(name) : null;
+    }
+
+    @FunctionalInterface
+    private interface Correction<T> {
+
+        T apply(final T target, final String value);
+    }
+}
@@ -5,9 +5,7 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static java.util.UUID.fromString;
-import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.match;
-import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.otherwiseDoNothing;
-import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.when;
+import static uk.gov.moj.cpp.prosecution.casefile.aggregate.EventDispatcher.eventDispatcher;
 import static uk.gov.moj.cpp.prosecution.casefile.application.json.schemas.CourtCentre.courtCentre;
 import static uk.gov.moj.cps.prosecutioncasefile.domain.event.SubmitApplicationAccepted.submitApplicationAccepted;
 import static uk.gov.moj.cps.prosecutioncasefile.domain.event.SubmitApplicationValidationFailed.submitApplicationValidationFailed;
@@ -43,11 +41,13 @@ public class ApplicationAggregate implements Aggregate {
     private String senderEmail;
     private UUID pocaFileId;
 
+    private static final EventDispatcher<ApplicationAggregate> EVENT_HANDLERS = eventDispatcher(ApplicationAggregate.class)
+            .on(SubmitApplicationAccepted.class, ApplicationAggregate::onPocaSubmitApplicationAccepted)
+            .otherwiseDoNothing();
+
     @Override
     public Object apply(Object event) {
-        return match(event).with(
-                when(SubmitApplicationAccepted.class).apply(this::onPocaSubmitApplicationAccepted),
-                otherwiseDoNothing());
+        return EVENT_HANDLERS.apply(this, event);
     }
 
     private void onPocaSubmitApplicationAccepted(SubmitApplicationAccepted submitApplicationAccepted) {
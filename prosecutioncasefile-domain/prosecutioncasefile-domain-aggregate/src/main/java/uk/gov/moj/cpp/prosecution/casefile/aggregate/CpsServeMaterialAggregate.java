@@ -14,11 +14,9 @@ import static java.util.stream.Stream.of;
 import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
-import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.match;
-import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.otherwiseDoNothing;
-import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.when;
 import static uk.gov.justice.services.messaging.JsonObjects.getJsonObject;
 import static uk.gov.justice.services.messaging.JsonObjects.getString;
+import static uk.gov.moj.cpp.prosecution.casefile.aggregate.EventDispatcher.eventDispatcher;
 import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.CpsCaseContact.cpsCaseContact;
 import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.DefendantParentGuardian.defendantParentGuardian;
 import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.LocalAuthorityDetailsForYouthDefendants.localAuthorityDetailsForYouthDefendants;
@@ -145,6 +143,9 @@ import uk.gov.moj.cps.prosecutioncasefile.domain.event.SubmissionStatus;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.VariationStandardDirectionsProsecutorYesGroup;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.Witnesses;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -174,6 +175,8 @@ public class CpsServeMaterialAggregate implements Aggregate {
      * */
 
     private static final long serialVersionUID = 3368153075313169339L;
+    private static final int STATE_VERSION = 1;
+    private static final long SNAPSHOT_VERSION = SnapshotVersion.of(CpsServeMaterialAggregate.class, STATE_VERSION);
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CpsServeMaterialAggregate.class);
 
@@ -237,36 +240,50 @@ public class CpsServeMaterialAggregate implements Aggregate {
     private static final String DEFENDANT_IDS = "defendantIds";
     private static final String SOW_REF_VALUE = "MoJ";
 
+    private static final EventDispatcher<CpsServeMaterialAggregate> EVENT_HANDLERS = eventDispatcher(CpsServeMaterialAggregate.class)
+            .on(ReceivedCpsServePetProcessed.class, CpsServeMaterialAggregate::handleReceivedCpsServePetProcessed)
+            .on(ReceivedCpsServeBcmProcessed.class, CpsServeMaterialAggregate::handleReceivedCpsServeBcmProcessed)
+            .otherwiseDoNothing();
+
     @Override
     public Object apply(final Object event) {
-        return match(event).with(
-                when(ReceivedCpsServePetProcessed.class).apply(e -> {
-                    if (e.getSubmissionStatus().equals(PENDING)) {
-                        this.formType = PendingType.PET;
-                        this.isPending = TRUE;
-                        this.receivedCpsServePetProcessed = e;
-                        if (!this.pendingSet.contains(PendingType.PET)) {
-                            this.pendingSet.add(PendingType.PET);
-                        }
-                    } else {
-                        this.isPending = FALSE;
-                        this.pendingSet.remove(PendingType.PET);
-                    }
-                }),
-                when(ReceivedCpsServeBcmProcessed.class).apply(e -> {
-                    if (e.getSubmissionStatus().equals(PENDING)) {
-                        this.formType = PendingType.BCM;
-                        this.isPending = TRUE;
-                        this.receivedCpsServeBcmProcessed = e;
-                        if (!this.pendingSet.contains(PendingType.BCM)) {
-                            this.pendingSet.add(PendingType.BCM);
-                        }
-                    } else {
-                        this.isPending = FALSE;
-                        this.pendingSet.remove(PendingType.BCM);
-                    }
-                }),
-                otherwiseDoNothing());
+        return EVENT_HANDLERS.apply(this, event);
+    }
+
+    private void handleReceivedCpsServePetProcessed(final ReceivedCpsServePetProcessed event) {
+        if (event.getSubmissionStatus().equals(PENDING)) {
+            this.formType = PendingType.PET;
+            this.isPending = TRUE;
+            this.receivedCpsServePetProcessed = event;
+            if (!this.pendingSet.contains(PendingType.PET)) {
+                this.pendingSet.add(PendingType.PET);
+            }
+        } else {
+            this.isPending = FALSE;
+            this.pendingSet.remove(PendingType.PET);
+        }
+    }
+
+    private void handleReceivedCpsServeBcmProcessed(final ReceivedCpsServeBcmProcessed event) {
+        if (event.getSubmissionStatus().equals(PENDING)) {
+            this.formType = PendingType.BCM;
+            this.isPending = TRUE;
+            this.receivedCpsServeBcmProcessed = event;
+            if (!this.pendingSet.contains(PendingType.BCM)) {
+                this.pendingSet.add(PendingType.BCM);
+            }
+        } else {
+            this.isPending = FALSE;
+            this.pendingSet.remove(PendingType.BCM);
+        }
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        SnapshotVersion.write(out, SNAPSHOT_VERSION);
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        SnapshotVersion.read(in, CpsServeMaterialAggregate.class, SNAPSHOT_VERSION);
     }
 
     public Stream<Object> cpsReceivePet(final JsonObject processReceivedCpsServePetJson,
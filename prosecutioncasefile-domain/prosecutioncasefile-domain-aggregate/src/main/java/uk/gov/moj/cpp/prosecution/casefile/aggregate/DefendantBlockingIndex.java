@@ -0,0 +1,93 @@
+package uk.gov.moj.cpp.prosecution.casefile.aggregate;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.nonNull;
+
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.PersonalInformation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Blocking keys for the defendants on a case, so that an incoming defendant only has to be compared
+ * with the existing defendants that could be a duplicate of it rather than with every defendant.
+ * <p>
+ * Every duplicate rule matches on the ASN, the organisation name or the last name, so the defendants
+ * sharing one of those keys with the incoming defendant are the only candidates. Names are compared
+ * ignoring case by the rules and are normalised the same way here. Candidates are returned in case
+ * order, because the first candidate to match a rule decides the outcome.
+ */
+class DefendantBlockingIndex {
+
+    private final List<Defendant> defendants;
+    private final Map<String, List<Integer>> byAsn = new HashMap<>();
+    private final Map<String, List<Integer>> byOrganisationName = new HashMap<>();
+    private final Map<String, List<Integer>> byLastName = new HashMap<>();
+    private final Set<String> prosecutorDefendantReferences = new HashSet<>();
+
+    DefendantBlockingIndex(final List<Defendant> defendants) {
+        this.defendants = defendants;
+
+        for (int position = 0; position < defendants.size(); position++) {
+            final Defendant defendant = defendants.get(position);
+            index(byAsn, defendant.getAsn(), position);
+            index(byOrganisationName, normalise(defendant.getOrganisationName()), position);
+            index(byLastName, normalise(lastName(defendant)), position);
+            prosecutorDefendantReferences.add(defendant.getProsecutorDefendantReference());
+        }
+    }
+
+    List<Defendant> candidates(final Defendant defendant) {
+        final BitSet positions = new BitSet(defendants.size());
+        positionsOf(byAsn, defendant.getAsn()).forEach(positions::set);
+        positionsOf(byOrganisationName, normalise(defendant.getOrganisationName())).forEach(positions::set);
+        positionsOf(byLastName, normalise(lastName(defendant))).forEach(positions::set);
+
+        final List<Defendant> candidates = new ArrayList<>(positions.cardinality());
+        positions.stream().forEach(position -> candidates.add(defendants.get(position)));
+        return candidates;
+    }
+
+    Set<String> prosecutorDefendantReferences() {
+        return new HashSet<>(prosecutorDefendantReferences);
+    }
+
+    private static void index(final Map<String, List<Integer>> keys, final String key, final int position) {
+        if (nonNull(key)) {
+            keys.computeIfAbsent(key, k -> new ArrayList<>(1)).add(position);
+        }
+    }
+
+    private static List<Integer> positionsOf(final Map<String, List<Integer>> keys, final String key) {
+        return nonNull(key) ? keys.getOrDefault(key, emptyList()) : emptyList();
+    }
+
+    private static String lastName(final Defendant defendant) {
+        if (defendant.getIndividual() == null) {
+            return null;
+        }
+
+        final PersonalInformation personalInformation = defendant.getIndividual().getPersonalInformation();
+        return personalInformation == null ? null : personalInformation.getLastName();
+    }
+
+    /**
+     * Folds case one character at a time, as {@link String#equalsIgnoreCase(String)} does, so that
+     * names equal ignoring case always have the same key.
+     */
+    private static String normalise(final String name) {
+        if (name == null) {
+            return null;
+        }
+
+        final StringBuilder key = new StringBuilder(name.length());
+        name.codePoints().forEach(codePoint -> key.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return key.toString();
+    }
+}
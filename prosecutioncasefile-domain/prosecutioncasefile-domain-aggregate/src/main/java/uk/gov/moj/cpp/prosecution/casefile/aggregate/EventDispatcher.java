@@ -0,0 +1,85 @@
+package uk.gov.moj.cpp.prosecution.casefile.aggregate;
+
+import static java.lang.String.format;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Applies events to an aggregate through a table keyed by event class, so that applying an event
+ * during hydration is a single lookup rather than a test against every case of an
+ * {@code EventSwitcher} match.
+ * <p>
+ * An event is applied by the first handler registered for its class or for a supertype of it, as
+ * {@code match(event).with(when(...).apply(...), ...)} would choose. The handler chosen for each event
+ * class is looked up once and then cached. Events without a handler are ignored by a dispatcher
+ * finished with {@link Builder#otherwiseDoNothing()} and rejected by one finished with
+ * {@link Builder#build()}.
+ *
+ * @param <A> the aggregate the events are applied to
+ */
+final class EventDispatcher<A> {
+
+    private final List<Entry<Class<?>, BiConsumer<A, Object>>> handlers;
+    private final BiConsumer<A, Object> unmatched;
+    private final Map<Class<?>, BiConsumer<A, Object>> handlersByEventClass = new ConcurrentHashMap<>();
+
+    private EventDispatcher(final List<Entry<Class<?>, BiConsumer<A, Object>>> handlers, final BiConsumer<A, Object> unmatched) {
+        this.handlers = handlers;
+        this.unmatched = unmatched;
+    }
+
+    static <A> Builder<A> eventDispatcher(@SuppressWarnings("unused") final Class<A> aggregateClass) {
+        return new Builder<>();
+    }
+
+    Object apply(final A aggregate, final Object event) {
+        handlerFor(event.getClass()).accept(aggregate, event);
+        return event;
+    }
+
+    private BiConsumer<A, Object> handlerFor(final Class<?> eventClass) {
+        final BiConsumer<A, Object> handler = handlersByEventClass.get(eventClass);
+        if (handler != null) {
+            return handler;
+        }
+        return handlersByEventClass.computeIfAbsent(eventClass, this::resolve);
+    }
+
+    private BiConsumer<A, Object> resolve(final Class<?> eventClass) {
+        return handlers.stream()
+                .filter(handler -> handler.getKey().isAssignableFrom(eventClass))
+                .map(Entry::getValue)
+                .findFirst()
+                .orElse(unmatched);
+    }
+
+    static final class Builder<A> {
+
+        private final List<Entry<Class<?>, BiConsumer<A, Object>>> handlers = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        <E> Builder<A> on(final Class<E> eventClass, final BiConsumer<A, ? super E> handler) {
+            handlers.add(new SimpleImmutableEntry<>(eventClass, (aggregate, event) -> handler.accept(aggregate, eventClass.cast(event))));
+            return this;
+        }
+
+        EventDispatcher<A> otherwiseDoNothing() {
+            return new EventDispatcher<>(new ArrayList<>(handlers), (aggregate, event) -> {
+            });
+        }
+
+        EventDispatcher<A> build() {
+            return new EventDispatcher<>(new ArrayList<>(handlers), (aggregate, event) -> {
+                throw new IllegalArgumentException(format("No handler registered for event %s", event.getClass().getName()));
+            });
+        }
+    }
+}
@@ -1,14 +1,15 @@
 package uk.gov.moj.cpp.prosecution.casefile.aggregate;
 
+import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Stream.builder;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
-import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.match;
-import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.otherwiseDoNothing;
-import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.when;
 import static uk.gov.moj.cpp.prosecution.casefile.ProsecutionCaseFileHelper.buildDefendantWithReferenceData;
 import static uk.gov.moj.cpp.prosecution.casefile.ProsecutionCaseFileHelper.validateDefendantErrors;
+import static uk.gov.moj.cpp.prosecution.casefile.aggregate.EventDispatcher.eventDispatcher;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.CaseValidationExecutor.validateEach;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.ValidationRuleExecutor.validate;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.metrics.ValidationRuleMetrics.withTags;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.provider.CcProsecutionValidationRuleProvider.getCaseValidationRulesForCivil;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.provider.CcProsecutionValidationRuleProvider.getGroupCasesValidationRules;
 
@@ -16,6 +17,7 @@ import uk.gov.justice.domain.aggregate.Aggregate;
 import uk.gov.moj.cpp.prosecution.casefile.domain.DefendantsWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.domain.GroupProsecutionList;
 import uk.gov.moj.cpp.prosecution.casefile.domain.GroupProsecutionWithReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.domain.GroupReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.domain.ProsecutionWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.event.GroupCasesParkedForApproval;
 import uk.gov.moj.cpp.prosecution.casefile.event.GroupCasesReceived;
@@ -39,6 +41,7 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,33 +58,66 @@ public class GroupProsecutionCaseFile implements Aggregate {
     private UUID externalId;
     private Channel channel;
 
+    private static final EventDispatcher<GroupProsecutionCaseFile> EVENT_HANDLERS = eventDispatcher(GroupProsecutionCaseFile.class)
+            .on(GroupCasesReceived.class, GroupProsecutionCaseFile::handleGroupCasesReceived)
+            .on(GroupProsecutionRejected.class, GroupProsecutionCaseFile::handleGroupProsecutionRejected)
+            .on(GroupCasesParkedForApproval.class, GroupProsecutionCaseFile::handleGroupCasesParkedForApproval)
+            .otherwiseDoNothing();
+
     @Override
     public Object apply(final Object event) {
-        return match(event).with(
-                when(GroupCasesReceived.class).apply(e -> {
-                    this.groupProsecutions = e.getGroupProsecutionList().getGroupProsecutionWithReferenceDataList().stream()
-                            .map(GroupProsecutionWithReferenceData::getGroupProsecution)
-                            .toList();
-                    this.externalId = e.getGroupProsecutionList().getExternalId();
-                    this.channel = e.getGroupProsecutionList().getChannel();
-                }),
-                when(GroupProsecutionRejected.class).apply(e -> {
-                    this.groupProsecutions = e.getGroupProsecutions();
-                    this.externalId = e.getExternalId();
-                    this.channel = e.getChannel();
-                }),
-                when(GroupCasesParkedForApproval.class).apply(e -> {
-                    this.groupProsecutions = e.getGroupProsecutionList().getGroupProsecutionWithReferenceDataList().stream()
-                            .map(GroupProsecutionWithReferenceData::getGroupProsecution)
-                            .toList();
-                    this.externalId = e.getGroupProsecutionList().getExternalId();
-                    this.channel = e.getGroupProsecutionList().getChannel();
-
-                }),
-                otherwiseDoNothing());
+        return EVENT_HANDLERS.apply(this, event);
+    }
+
+    private void handleGroupCasesReceived(final GroupCasesReceived event) {
+        this.groupProsecutions = event.getGroupProsecutionList().getGroupProsecutionWithReferenceDataList().stream()
+                .map(GroupProsecutionWithReferenceData::getGroupProsecution)
+                .toList();
+        this.externalId = event.getGroupProsecutionList().getExternalId();
+        this.channel = event.getGroupProsecutionList().getChannel();
+    }
+
+    private void handleGroupProsecutionRejected(final GroupProsecutionRejected event) {
+        this.groupProsecutions = event.getGroupProsecutions();
+        this.externalId = event.getExternalId();
+        this.channel = event.getChannel();
+    }
+
+    private void handleGroupCasesParkedForApproval(final GroupCasesParkedForApproval event) {
+        this.groupProsecutions = event.getGroupProsecutionList().getGroupProsecutionWithReferenceDataList().stream()
+                .map(GroupProsecutionWithReferenceData::getGroupProsecution)
+                .toList();
+        this.externalId = event.getGroupProsecutionList().getExternalId();
+        this.channel = event.getGroupProsecutionList().getChannel();
     }
 
     public Stream<Object> receiveGroupProsecution(final GroupProsecutionList groupProsecutionList, final List<GroupCasesReferenceDataEnricher> groupCasesReferenceDataEnrichers, final List<DefendantRefDataEnricher> defendantRefDataEnrichers, final ReferenceDataQueryService referenceDataQueryService) {
+        return receiveGroupProsecution(groupProsecutionList, groupCasesReferenceDataEnrichers, defendantRefDataEnrichers, referenceDataQueryService, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Receives a group prosecution, enriching and validating its cases {@code chunkSize} cases at a
+     * time so that the defendants with reference data built for validation are only held for one
+     * chunk. This does not bound the command as a whole: every case keeps its enriched
+     * {@link uk.gov.moj.cpp.prosecution.casefile.domain.ReferenceDataVO}, the problems of every
+     * chunk are collected, and the event that accepts or rejects the group carries all its cases.
+     */
+    public Stream<Object> receiveGroupProsecution(final GroupProsecutionList groupProsecutionList, final List<GroupCasesReferenceDataEnricher> groupCasesReferenceDataEnrichers, final List<DefendantRefDataEnricher> defendantRefDataEnrichers, final ReferenceDataQueryService referenceDataQueryService, final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Group prosecution chunk size must be positive but was " + chunkSize);
+        }
+
+        final String masterInitiationCode = groupProsecutionList.getGroupProsecutionWithReferenceDataList().stream()
+                .filter(p -> Boolean.TRUE.equals(p.getGroupProsecution().getIsGroupMaster()) && p.getGroupProsecution().getCaseDetails() != null)
+                .map(p -> p.getGroupProsecution().getCaseDetails().getInitiationCode())
+                .findFirst()
+                .orElse(null);
+
+        return withTags(masterInitiationCode, groupProsecutionList.getChannel(),
+                () -> processGroupProsecution(groupProsecutionList, groupCasesReferenceDataEnrichers, defendantRefDataEnrichers, referenceDataQueryService, chunkSize));
+    }
+
+    private Stream<Object> processGroupProsecution(final GroupProsecutionList groupProsecutionList, final List<GroupCasesReferenceDataEnricher> groupCasesReferenceDataEnrichers, final List<DefendantRefDataEnricher> defendantRefDataEnrichers, final ReferenceDataQueryService referenceDataQueryService, final int chunkSize) {
 
         final Stream.Builder<Object> builder = builder();
 
@@ -101,24 +137,32 @@ public class GroupProsecutionCaseFile implements Aggregate {
             return builder.build();
         }
 
+        final GroupReferenceData groupReferenceData = groupProsecutionList.getGroupReferenceData();
+        if (groupReferenceData != null) {
+            groupProsecutionList.getGroupProsecutionWithReferenceDataList()
+                    .forEach(groupProsecutionWithReferenceData -> groupReferenceData.applyTo(groupProsecutionWithReferenceData.getReferenceDataVO()));
+        }
+
         final List<Problem> groupCaseProblems = validate(groupProsecutionList, referenceDataQueryService, getGroupCasesValidationRules());
 
         LOGGER.info("groupCaseProblems validated for submissionId {} with count {} ", groupProsecutionList.getExternalId(), groupCaseProblems.size());
 
         final List<Problem> caseProblems = new ArrayList<>();
-
-        final List<ProsecutionWithReferenceData> prosecutionWithReferenceDataList = groupProsecutionList.getGroupProsecutionWithReferenceDataList().stream()
-                .map(groupProsecutionWithReferenceData -> convertToProsecutionWithReferenceData(groupProsecutionWithReferenceData, groupProsecutionList.getChannel(), groupProsecutionList.getExternalId()))
-                .toList();
-
-        groupCasesReferenceDataEnrichers.forEach(x -> x.enrich(prosecutionWithReferenceDataList));
-
-        prosecutionWithReferenceDataList.forEach(
-                prosecutionWithReferenceData ->
-                    caseProblems.addAll(validate(prosecutionWithReferenceData, referenceDataQueryService, getCaseValidationRulesForCivil(prosecutionWithReferenceData.getProsecution().getCaseDetails().getInitiationCode())))
-        );
+        final List<DefendantProblem> defendantProblems = new ArrayList<>();
+
+        final List<List<GroupProsecutionWithReferenceData>> chunks = Lists.partition(groupProsecutionList.getGroupProsecutionWithReferenceDataList(), chunkSize);
+        for (int chunkIndex = 0; chunkIndex < chunks.size(); chunkIndex++) {
+            final List<GroupProsecutionWithReferenceData> chunk = chunks.get(chunkIndex);
+            final List<Problem> chunkCaseProblems = validateCases(chunk, groupProsecutionList.getChannel(), groupProsecutionList.getExternalId(), groupCasesReferenceDataEnrichers, referenceDataQueryService);
+            final List<DefendantProblem> chunkDefendantProblems = validateDefendants(chunk, groupProsecutionList.getChannel(), groupProsecutionList.getExternalId(), defendantRefDataEnrichers, referenceDataQueryService, builder, isCivil);
+            caseProblems.addAll(chunkCaseProblems);
+            defendantProblems.addAll(chunkDefendantProblems);
+
+            if (chunks.size() > 1) {
+                LOGGER.info("Chunk {} of {} validated for submissionId {} with case problem count {} and defendant problem count {}", chunkIndex + 1, chunks.size(), groupProsecutionList.getExternalId(), chunkCaseProblems.size(), chunkDefendantProblems.size());
+            }
+        }
         LOGGER.info("caseProblems validated for submissionId {} with count {} ", groupProsecutionList.getExternalId(), caseProblems.size());
-        final List<DefendantProblem> defendantProblems = validateDefendants(groupProsecutionList, defendantRefDataEnrichers, referenceDataQueryService, builder,isCivil);
 
         final boolean hasErrors = isNotEmpty(groupCaseProblems) || isNotEmpty(caseProblems) || isNotEmpty(defendantProblems);
 
@@ -189,20 +233,41 @@ public class GroupProsecutionCaseFile implements Aggregate {
         );
     }
 
-    private List<DefendantProblem> validateDefendants(final GroupProsecutionList groupProsecutionList, final List<DefendantRefDataEnricher> defendantRefDataEnrichers, final ReferenceDataQueryService referenceDataQueryService, final Stream.Builder builder,final Boolean isCivil) {
-        final Map<UUID, DefendantsWithReferenceData> defendantsWithReferenceDataMap = buildDefendantsWithReferenceDataByCaseId(groupProsecutionList.getGroupProsecutionWithReferenceDataList(), groupProsecutionList.getChannel(), groupProsecutionList.getExternalId(), defendantRefDataEnrichers);
+    private List<Problem> validateCases(final List<GroupProsecutionWithReferenceData> groupProsecutions, final Channel channel, final UUID externalId, final List<GroupCasesReferenceDataEnricher> groupCasesReferenceDataEnrichers, final ReferenceDataQueryService referenceDataQueryService) {
+        final List<ProsecutionWithReferenceData> prosecutionWithReferenceDataList = groupProsecutions.stream()
+                .map(groupProsecutionWithReferenceData -> convertToProsecutionWithReferenceData(groupProsecutionWithReferenceData, channel, externalId))
+                .toList();
+
+        groupCasesReferenceDataEnrichers.forEach(x -> x.enrich(prosecutionWithReferenceDataList));
+
+        return validateEach(prosecutionWithReferenceDataList,
+                prosecutionWithReferenceData -> validate(prosecutionWithReferenceData, referenceDataQueryService, getCaseValidationRulesForCivil(prosecutionWithReferenceData.getProsecution().getCaseDetails().getInitiationCode())))
+                .stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private List<DefendantProblem> validateDefendants(final List<GroupProsecutionWithReferenceData> groupProsecutions, final Channel channel, final UUID externalId, final List<DefendantRefDataEnricher> defendantRefDataEnrichers, final ReferenceDataQueryService referenceDataQueryService, final Stream.Builder<Object> builder, final Boolean isCivil) {
+        final Map<UUID, DefendantsWithReferenceData> defendantsWithReferenceDataMap = buildDefendantsWithReferenceDataByCaseId(groupProsecutions, channel, externalId, defendantRefDataEnrichers);
 
-        return groupProsecutionList.getGroupProsecutionWithReferenceDataList().stream()
-                .flatMap(groupProsecutionWithReferenceData -> {
-                    final DefendantsWithReferenceData defendantsWithReferenceData = defendantsWithReferenceDataMap.get(groupProsecutionWithReferenceData.getGroupProsecution().getCaseDetails().getCaseId());
-                    final List<DefendantProblem> errors = validateDefendantErrors(groupProsecutionWithReferenceData.getGroupProsecution().getCaseDetails(), groupProsecutionList.getChannel(), defendantsWithReferenceData, referenceDataQueryService, builder, Boolean.TRUE, false, false,isCivil);
-                    return errors.stream();
-                }).toList();
+        final List<CaseDefendantsValidation> caseDefendantsValidations = validateEach(groupProsecutions, groupProsecutionWithReferenceData -> {
+            final DefendantsWithReferenceData defendantsWithReferenceData = defendantsWithReferenceDataMap.get(groupProsecutionWithReferenceData.getGroupProsecution().getCaseDetails().getCaseId());
+            final Stream.Builder<Object> caseEvents = builder();
+            final List<DefendantProblem> errors = validateDefendantErrors(groupProsecutionWithReferenceData.getGroupProsecution().getCaseDetails(), channel, defendantsWithReferenceData, referenceDataQueryService, caseEvents, Boolean.TRUE, false, false, isCivil);
+            return new CaseDefendantsValidation(errors, caseEvents.build().toList());
+        });
+
+        final List<DefendantProblem> defendantProblems = new ArrayList<>();
+        caseDefendantsValidations.forEach(caseDefendantsValidation -> {
+            caseDefendantsValidation.events.forEach(builder::add);
+            defendantProblems.addAll(caseDefendantsValidation.defendantProblems);
+        });
+        return defendantProblems;
     }
 
     private Map<UUID, DefendantsWithReferenceData> buildDefendantsWithReferenceDataByCaseId(final List<GroupProsecutionWithReferenceData> groupProsecutions, final Channel channel, final UUID externalId, final List<DefendantRefDataEnricher> defendantRefDataEnrichers) {
         final List<DefendantsWithReferenceData> defendantsWithReferenceDataList = groupProsecutions.stream()
-                .map(prosecutionWithReferenceData -> buildDefendantWithReferenceData(convertToProsecutionWithReferenceData(prosecutionWithReferenceData, channel, externalId), defendantRefDataEnrichers))
+                .map(prosecutionWithReferenceData -> buildDefendantWithReferenceData(convertToProsecutionWithReferenceData(prosecutionWithReferenceData, channel, externalId), emptyList()))
                 .toList();
 
         defendantRefDataEnrichers.forEach(x -> x.enrich(defendantsWithReferenceDataList));
@@ -236,4 +301,19 @@ public class GroupProsecutionCaseFile implements Aggregate {
         );
         return apply(builder.build());
     }
+
+    /**
+     * The defendant problems of one case of a group, with the events its validation raised, kept
+     * together so that cases validated concurrently are merged back in group order.
+     */
+    private static class CaseDefendantsValidation {
+
+        private final List<DefendantProblem> defendantProblems;
+        private final List<Object> events;
+
+        CaseDefendantsValidation(final List<DefendantProblem> defendantProblems, final List<Object> events) {
+            this.defendantProblems = defendantProblems;
+            this.events = events;
+        }
+    }
 }
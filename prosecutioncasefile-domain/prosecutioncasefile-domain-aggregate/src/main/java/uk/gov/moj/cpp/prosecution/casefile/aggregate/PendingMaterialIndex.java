@@ -0,0 +1,76 @@
+package uk.gov.moj.cpp.prosecution.casefile.aggregate;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableCollection;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Pending materials in the order they were received, indexed by file id so that a material can be
+ * found, rejected or expired without scanning every pending material on the case.
+ * <p>
+ * More than one entry may share a file id, as they could in the list this replaces, and iteration
+ * order is always the order the entries were added in.
+ */
+class PendingMaterialIndex<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<Long, V> entries = new LinkedHashMap<>();
+    private final Map<K, List<Long>> entriesByKey = new HashMap<>();
+    private long nextEntry;
+
+    void add(final K key, final V value) {
+        final Long entry = nextEntry++;
+        entries.put(entry, value);
+        entriesByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+    }
+
+    List<V> get(final K key) {
+        final List<Long> keyEntries = entriesByKey.get(key);
+        if (keyEntries == null) {
+            return emptyList();
+        }
+
+        final List<V> values = new ArrayList<>(keyEntries.size());
+        keyEntries.forEach(entry -> values.add(entries.get(entry)));
+        return values;
+    }
+
+    void remove(final K key) {
+        removeIf(key, value -> true);
+    }
+
+    void removeIf(final K key, final Predicate<V> filter) {
+        final List<Long> keyEntries = entriesByKey.get(key);
+        if (keyEntries == null) {
+            return;
+        }
+
+        keyEntries.removeIf(entry -> filter.test(entries.get(entry)) && entries.remove(entry) != null);
+        if (keyEntries.isEmpty()) {
+            entriesByKey.remove(key);
+        }
+    }
+
+    void clear() {
+        entries.clear();
+        entriesByKey.clear();
+    }
+
+    Collection<V> values() {
+        return unmodifiableCollection(entries.values());
+    }
+
+    Stream<V> stream() {
+        return entries.values().stream();
+    }
+}
@@ -22,9 +22,6 @@ import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static org.apache.commons.collections.ListUtils.union;
 import static org.apache.commons.lang3.StringUtils.isBlank;
-import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.match;
-import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.otherwiseDoNothing;
-import static uk.gov.justice.domain.aggregate.matcher.EventSwitcher.when;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 import static uk.gov.moj.cpp.json.schemas.prosecutioncasefile.events.CaseReceivedWithDuplicateDefendants.caseReceivedWithDuplicateDefendants;
 import static uk.gov.moj.cpp.prosecution.casefile.CaseType.CC;
@@ -32,6 +29,7 @@ import static uk.gov.moj.cpp.prosecution.casefile.CaseType.SJP;
 import static uk.gov.moj.cpp.prosecution.casefile.CaseType.UNKNOWN;
 import static uk.gov.moj.cpp.prosecution.casefile.ProsecutionCaseFileHelper.*;
 import static uk.gov.moj.cpp.prosecution.casefile.ValidationHelper.buildCaseValidationFailedEvent;
+import static uk.gov.moj.cpp.prosecution.casefile.aggregate.EventDispatcher.eventDispatcher;
 import static uk.gov.moj.cpp.prosecution.casefile.domain.DomainConstants.PROBLEM_CODE_DOCUMENT_NOT_MATCHED;
 import static uk.gov.moj.cpp.prosecution.casefile.domain.DomainConstants.SOURCE_CPS_FOR_PUBLIC_EVENTS;
 import static uk.gov.moj.cpp.prosecution.casefile.domain.DomainConstants.getListOfAllowedDocumentTypes;
@@ -49,8 +47,9 @@ import static uk.gov.moj.cpp.prosecution.casefile.validation.ProblemCode.MATERIA
 import static uk.gov.moj.cpp.prosecution.casefile.validation.ProblemCode.SUMMONS_APPLICATION_REJECTED;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.Problems.newProblem;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.ValidationRuleExecutor.validate;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.metrics.ValidationRuleMetrics.withTags;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.provider.CcProsecutionValidationRuleProvider.getCaseValidationRules;
-import static uk.gov.moj.cpp.prosecution.casefile.validation.provider.CcProsecutionValidationRuleProvider.getDefendantValidationRules;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.provider.CcProsecutionValidationRuleProvider.getDefendantValidationPlan;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.provider.SjpProsecutionWarningRuleProvider.getWarningRules;
 import static uk.gov.moj.cps.prosecutioncasefile.domain.event.BulkscanMaterialRejected.bulkscanMaterialRejected;
 import static uk.gov.moj.cps.prosecutioncasefile.domain.event.CcProsecutionRejected.ccProsecutionRejected;
@@ -75,6 +74,7 @@ import uk.gov.moj.cpp.prosecution.casefile.AssociateIdpcToDefendantHelper;
 import uk.gov.moj.cpp.prosecution.casefile.CaseType;
 import uk.gov.moj.cpp.prosecution.casefile.DocumentDetails;
 import uk.gov.moj.cpp.prosecution.casefile.ProsecutionCaseFileHelper;
+import uk.gov.moj.cpp.prosecution.casefile.TypedCorrections;
 import uk.gov.moj.cpp.prosecution.casefile.domain.CaseDocument;
 import uk.gov.moj.cpp.prosecution.casefile.domain.CaseDocumentWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.domain.DefendantProblemsVO;
@@ -155,6 +155,9 @@ import uk.gov.moj.cps.prosecutioncasefile.domain.event.SjpProsecutionUpdateOffen
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.SummonsApplicationRejected;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.ValidationCompleted;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.StringReader;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
@@ -184,17 +187,19 @@ import com.google.gson.JsonParser;
 @SuppressWarnings("java:S4738")
 public class ProsecutionCaseFile implements Aggregate {
     private static final long serialVersionUID = 8155753984190031446L;
+    private static final int STATE_VERSION = 1;
+    private static final long SNAPSHOT_VERSION = SnapshotVersion.of(ProsecutionCaseFile.class, STATE_VERSION);
     private static final String EXPIRED_AT = "expiredAt";
     private static final String SUMMONS_INITIATION_CODE = "S";
     private static final String SJP_INITIATION_CODE = "J";
     public static final String METLI = "GALMT00";
     public static final String GM_00001 = "GM00001";
 
-    private final List<MaterialPending> pendingMaterials = new ArrayList<>();
-    private final List<MaterialPendingV2> pendingMaterialsV2 = new ArrayList<>();
+    private final PendingMaterialIndex<UUID, MaterialPending> pendingMaterials = new PendingMaterialIndex<>();
+    private final PendingMaterialIndex<UUID, MaterialPendingV2> pendingMaterialsV2 = new PendingMaterialIndex<>();
     private final List<MaterialAddedV2> pendingMaterialsForCourtDocumentUpload = new ArrayList<>();
     private final List<MaterialAddedWithWarnings> pendingMaterialsWithWarningsForCourtDocumentUpload = new ArrayList<>();
-    private final List<IdpcDefendantMatchPending> pendingIdpcMaterials = new ArrayList<>();
+    private final PendingMaterialIndex<UUID, IdpcDefendantMatchPending> pendingIdpcMaterials = new PendingMaterialIndex<>();
     private final List<String> defendantsWithIdpc = new ArrayList<>();
     private final List<Defendant> defendantsWithHeldAfterCaseReceived = new ArrayList<>();
     private final Map<UUID, List<UUID>> externalIdToDefendantsMap = new HashMap<>();
@@ -217,6 +222,7 @@ public class ProsecutionCaseFile implements Aggregate {
     private UUID referralReasonId;
     private transient JsonObjectToObjectConverter jsonObjectToObjectConverter;
     private transient ObjectToJsonObjectConverter objectToJsonObjectConverter;
+    private transient DefendantBlockingIndex defendantIndex;
     private boolean allErrorsFixed = true;
     private boolean isCaseAssigned;
     private boolean isCaseEjected;
@@ -229,8 +235,14 @@ public class ProsecutionCaseFile implements Aggregate {
     public static final String OFFENCES_CHARGE_DATE = "offence_chargeDate";
     public static final String POSTING_DATE = "postingDate";
 
+    public Stream<Object> receiveSjpProsecution(final ProsecutionWithReferenceData prosecutionWithReferenceData, final List<CaseRefDataEnricher> caseRefDataEnrichers, final List<DefendantRefDataEnricher> defendantRefDataEnrichers, final ReferenceDataQueryService referenceDataQueryService) {
+        final Prosecution prosecution = prosecutionWithReferenceData.getProsecution();
+        return withTags(ofNullable(prosecution.getCaseDetails().getInitiationCode()).orElse(SJP_INITIATION_CODE), prosecution.getChannel(),
+                () -> processSjpProsecution(prosecutionWithReferenceData, caseRefDataEnrichers, defendantRefDataEnrichers, referenceDataQueryService));
+    }
+
     @SuppressWarnings({"squid:S3655", "squid:MethodCyclomaticComplexity", "squid:S3776"})
-    public Stream<Object> receiveSjpProsecution(ProsecutionWithReferenceData prosecutionWithReferenceData, final List<CaseRefDataEnricher> caseRefDataEnrichers, final List<DefendantRefDataEnricher> defendantRefDataEnrichers, final ReferenceDataQueryService referenceDataQueryService) {
+    private Stream<Object> processSjpProsecution(ProsecutionWithReferenceData prosecutionWithReferenceData, final List<CaseRefDataEnricher> caseRefDataEnrichers, final List<DefendantRefDataEnricher> defendantRefDataEnrichers, final ReferenceDataQueryService referenceDataQueryService) {
         final Builder<Object> builder = builder();
         final ProsecutionWithReferenceData finalProsecutionWithReferenceData = prosecutionWithReferenceData;
         caseRefDataEnrichers.forEach(x -> x.enrich(finalProsecutionWithReferenceData));
@@ -267,7 +279,7 @@ public class ProsecutionCaseFile implements Aggregate {
             caseProblems.add(newProblem(DUPLICATED_PROSECUTION, "urn", prosecution.getCaseDetails().getProsecutorCaseReference()));
         }
         final Boolean isCivil = prosecution.getIsCivil();
-        final List<Problem> defendantProblems = validate(defendantWithReferenceData, referenceDataQueryService, getDefendantValidationRules(caseInitiationCode, prosecutionChannel,isCivil));
+        final List<Problem> defendantProblems = validate(defendantWithReferenceData, referenceDataQueryService, getDefendantValidationPlan(caseInitiationCode, prosecutionChannel, isCivil, false, false));
         final List<Problem> rejections = newArrayList(concat(caseProblems, defendantProblems));
         if (!rejections.isEmpty()) {
             builder.accept(new SjpProsecutionRejected(rejections, prosecutionWithReferenceData.getExternalId(), prosecution));
@@ -344,11 +356,10 @@ public class ProsecutionCaseFile implements Aggregate {
         this.jsonObjectToObjectConverter = jsonObjectToObjectConverter;
         this.objectToJsonObjectConverter = objectToJsonObjectConverter;
         if (prosecutionFoundWithErrors) {
-            final JsonObject caseDetailsJsonObject = objectToJsonObjectConverter.convert(caseDetails);
-            updateCaseCorrections(correctedFields, caseDetailsJsonObject);
+            updateCaseCorrections(correctedFields);
 
-            final List<JsonObject> updatedDefendantsJsonList = updateDefendantCorrections(correctedFields, defendants);
-            updatedDefendantsJsonList.stream().map(x -> jsonObjectToObjectConverter.convert(x, Defendant.class)).forEach(x -> replaceErrorCorrectedDefendant(x, defendants));
+            final List<Defendant> updatedDefendants = updateDefendantCorrections(correctedFields, defendants);
+            updatedDefendants.forEach(x -> replaceErrorCorrectedDefendant(x, defendants));
             final Prosecution prosecution = prosecution()
                     .withCaseDetails(caseDetails)
                     .withChannel(channel)
@@ -360,11 +371,12 @@ public class ProsecutionCaseFile implements Aggregate {
             if (caseType == SJP) {
                 eventStream = receiveSjpProsecution(prosecutionWithReferenceData, caseRefDataEnrichers, defendantRefDataEnrichers, referenceDataQueryService);
             } else {
-                eventStream = receiveCCCase(prosecutionWithReferenceData, caseRefDataEnrichers, defendantRefDataEnrichers, referenceDataQueryService, true);
+                eventStream = withTags(caseDetails.getInitiationCode(), channel,
+                        () -> receiveCCCase(prosecutionWithReferenceData, caseRefDataEnrichers, defendantRefDataEnrichers, referenceDataQueryService, true));
             }
         } else if (!defendantsWithHeldAfterCaseReceived.isEmpty()) {
-            final List<JsonObject> updatedDefendantsJsonList = updateDefendantCorrections(correctedFields, defendantsWithHeldAfterCaseReceived);
-            updatedDefendantsJsonList.stream().map(x -> jsonObjectToObjectConverter.convert(x, Defendant.class)).forEach(x -> replaceErrorCorrectedDefendant(x, defendantsWithHeldAfterCaseReceived));
+            final List<Defendant> updatedDefendants = updateDefendantCorrections(correctedFields, defendantsWithHeldAfterCaseReceived);
+            updatedDefendants.forEach(x -> replaceErrorCorrectedDefendant(x, defendantsWithHeldAfterCaseReceived));
             final DefendantsWithReferenceData defendantsWithReferenceData = new DefendantsWithReferenceData(defendantsWithHeldAfterCaseReceived);
             defendantsWithReferenceData.setCaseDetails(this.caseDetails);
             defendantRefDataEnrichers.forEach(x -> x.enrich(defendantsWithReferenceData));
@@ -408,10 +420,21 @@ public class ProsecutionCaseFile implements Aggregate {
         final Optional<Defendant> erroredDefendant = defendantList.stream().filter(d -> d.getId().equals(defendant.getId())).findAny();
         erroredDefendant.ifPresent(defendantList::remove);
         defendantList.add(defendant);
+        this.defendantIndex = null;
     }
 
-    private void updateCaseCorrections(final JsonObject correctedFields, final JsonObject jsonObject) {
+    private void updateCaseCorrections(final JsonObject correctedFields) {
         final Optional<JsonArray> caseCorrections = ofNullable(correctedFields.getJsonArray("errors"));
+        if (!caseCorrections.isPresent()) {
+            return;
+        }
+        final Optional<CaseDetails> typedCorrection = TypedCorrections.correct(caseDetails, caseCorrections.get());
+        if (typedCorrection.isPresent()) {
+            this.caseDetails = typedCorrection.get();
+            return;
+        }
+
+        final JsonObject jsonObject = objectToJsonObjectConverter.convert(caseDetails);
         final com.google.gson.JsonObject mutableJsonObject = new JsonParser().parse(jsonObject.toString()).getAsJsonObject();
         caseCorrections.ifPresent(x -> x.forEach(i -> {
             final JsonObject errorField = (JsonObject) i;
@@ -426,13 +449,18 @@ public class ProsecutionCaseFile implements Aggregate {
         }
     }
 
-    private List<JsonObject> updateDefendantCorrections(final JsonObject correctedFields, final List<Defendant> defendantList) {
+    private List<Defendant> updateDefendantCorrections(final JsonObject correctedFields, final List<Defendant> defendantList) {
         final Optional<JsonArray> defendantsCorrections = ofNullable(correctedFields.getJsonArray("defendants"));
         return defendantsCorrections.orElseGet(() -> createArrayBuilder().build()).stream().map(i -> {
             final JsonObject jsonObject = (JsonObject) i;
             final Defendant defendant = defendantList.stream().filter(d -> d.getId().equals(jsonObject.getString("id"))).findAny().get();
-            final com.google.gson.JsonObject mutableJsonObject = new JsonParser().parse(objectToJsonObjectConverter.convert(defendant).toString()).getAsJsonObject();
             final Optional<JsonArray> allErrors = ofNullable(jsonObject.getJsonArray("errors"));
+            final Optional<Defendant> typedCorrection = TypedCorrections.correct(defendant, allErrors.orElseGet(() -> createArrayBuilder().build()));
+            if (typedCorrection.isPresent()) {
+                return typedCorrection.get();
+            }
+
+            final com.google.gson.JsonObject mutableJsonObject = new JsonParser().parse(objectToJsonObjectConverter.convert(defendant).toString()).getAsJsonObject();
             allErrors.orElseGet(() -> createArrayBuilder().build()).forEach(x ->
                     {
                         final JsonObject errorField = (JsonObject) x;
@@ -447,7 +475,7 @@ public class ProsecutionCaseFile implements Aggregate {
             );
 
             try (JsonReader jsonReader = JsonObjects.createReader(new StringReader(mutableJsonObject.getAsJsonObject().toString()))) {
-                return jsonReader.readObject();
+                return jsonObjectToObjectConverter.convert(jsonReader.readObject(), Defendant.class);
             }
         }).collect(toList());
     }
@@ -455,7 +483,9 @@ public class ProsecutionCaseFile implements Aggregate {
 
     @SuppressWarnings({"squid:S1172", "squid:S3776"})
     public Stream<Object> receiveCCCase(final ProsecutionWithReferenceData receivedProsecutionWithReferenceData, final List<CaseRefDataEnricher> caseRefDataEnrichers, final List<DefendantRefDataEnricher> defendantRefDataEnrichers, final ReferenceDataQueryService referenceDataQueryService) {
-        return receiveCCCase(receivedProsecutionWithReferenceData, caseRefDataEnrichers, defendantRefDataEnrichers, referenceDataQueryService, false);
+        final Prosecution prosecution = receivedProsecutionWithReferenceData.getProsecution();
+        return withTags(prosecution.getCaseDetails().getInitiationCode(), prosecution.getChannel(),
+                () -> receiveCCCase(receivedProsecutionWithReferenceData, caseRefDataEnrichers, defendantRefDataEnrichers, referenceDataQueryService, false));
     }
 
     @SuppressWarnings({"squid:S1172", "squid:S3776", "squid:MethodCyclomaticComplexity"})
@@ -571,7 +601,7 @@ public class ProsecutionCaseFile implements Aggregate {
         }
 
         final List<Defendant> payloadDefendants = prosecutionWithReferenceData.getProsecution().getDefendants();
-        final Set<String> seenDefendants = this.defendants.stream().map(Defendant::getProsecutorDefendantReference).collect(toSet());
+        final Set<String> seenDefendants = defendantIndex().prosecutorDefendantReferences();
 
         seenDefendants.addAll(this.defendantsWithHeldAfterCaseReceived.stream().map(Defendant::getProsecutorDefendantReference).collect(toSet()));
 
@@ -580,7 +610,7 @@ public class ProsecutionCaseFile implements Aggregate {
 
 
         for (final Defendant payloadDefendant : payloadDefendants) {
-            if (isDuplicateDefendant(payloadDefendant, this.defendants, prosecutionCaseReference) || seenDefendants.contains(payloadDefendant.getProsecutorDefendantReference())) {
+            if (isDuplicateDefendant(payloadDefendant, prosecutionCaseReference) || seenDefendants.contains(payloadDefendant.getProsecutorDefendantReference())) {
                 duplicateDefendants.add(payloadDefendant);
             } else {
                 newDefendants.add(payloadDefendant);
@@ -600,8 +630,8 @@ public class ProsecutionCaseFile implements Aggregate {
     }
 
     @SuppressWarnings({"squid:S1172", "squid:S3776", "squid:MethodCyclomaticComplexity"})
-    private boolean isDuplicateDefendant(Defendant newDefendant, List<Defendant> existingDefendants, final String prosecutionCaseReference) {
-        for (final Defendant existingDefendant : existingDefendants) {
+    private boolean isDuplicateDefendant(final Defendant newDefendant, final String prosecutionCaseReference) {
+        for (final Defendant existingDefendant : defendantIndex().candidates(newDefendant)) {
             if (this.prosecutorCaseReference != null && this.prosecutorCaseReference.equals(prosecutionCaseReference)) {
                 if (newDefendant.getAsn() != null && existingDefendant.getAsn() != null &&
                         Objects.equals(newDefendant.getAsn(), existingDefendant.getAsn())) {
@@ -628,6 +658,13 @@ public class ProsecutionCaseFile implements Aggregate {
         return false;
     }
 
+    private DefendantBlockingIndex defendantIndex() {
+        if (defendantIndex == null) {
+            defendantIndex = new DefendantBlockingIndex(this.defendants);
+        }
+        return defendantIndex;
+    }
+
     @SuppressWarnings({"squid:S1172", "squid:S3776", "squid:MethodCyclomaticComplexity"})
     private static boolean isDuplicateDefendantBasedOnDefendantDetails(final Defendant newDefendant,
                                                                        final Defendant existingDefendant) {
@@ -758,14 +795,14 @@ public class ProsecutionCaseFile implements Aggregate {
 
         if (SPI.equals(prosecutionChannel) || defendantWarningsForIncomingMessage.isEmpty()) {
             return apply(builder.add(ccCaseReceived()
-                    .withProsecutionWithReferenceData(prosecutionWithReferenceData)
+                    .withProsecutionWithReferenceData(prosecutionWithReferenceData.withReferenceDataKeys())
                     .withId(randomUUID())
                     .build()
             ).build());
         }
 
         final CcCaseReceivedWithWarnings ccCaseReceivedWithWarnings = ccCaseReceivedWithWarnings()
-                .withProsecutionWithReferenceData(prosecutionWithReferenceData)
+                .withProsecutionWithReferenceData(prosecutionWithReferenceData.withReferenceDataKeys())
                 .withDefendantWarnings(defendantWarningsForIncomingMessage)
                 .withId(randomUUID())
                 .build();
@@ -1019,7 +1056,7 @@ public class ProsecutionCaseFile implements Aggregate {
     public Stream<Object> caseUpdated() {
         final AssociateIdpcToDefendantHelper helper = new AssociateIdpcToDefendantHelper(this.caseId, this.defendants);
         final List<Object> events = new ArrayList<>();
-        for (final IdpcDefendantMatchPending idpcDefendantMatchPending : this.pendingIdpcMaterials) {
+        for (final IdpcDefendantMatchPending idpcDefendantMatchPending : this.pendingIdpcMaterials.values()) {
             final Optional<Defendant> associatedDefendantOptional = helper.associateDefendant(idpcDefendantMatchPending.getCaseId(), idpcDefendantMatchPending.getDefendant());
             if (associatedDefendantOptional.isPresent()) {
                 final Defendant associatedDefendant = associatedDefendantOptional.get();
@@ -1057,8 +1094,7 @@ public class ProsecutionCaseFile implements Aggregate {
     }
 
     private List<Object> raiseBulkScanMaterialRejectedEvent(final UUID fileStoreId, final ZonedDateTime expiredAt) {
-        return pendingMaterials.stream()
-                .filter(pendingMaterial -> pendingMaterial.getMaterial().getFileStoreId().equals(fileStoreId))
+        return pendingMaterials.get(fileStoreId).stream()
                 .map(pendingMaterial -> bulkscanMaterialRejected()
                         .withCaseId(pendingMaterial.getCaseId())
                         .withMaterial(pendingMaterial.getMaterial())
@@ -1068,8 +1104,7 @@ public class ProsecutionCaseFile implements Aggregate {
     }
 
     private List<Object> raiseBulkScanMaterialRejectedEventV2(final UUID fileStoreId, final ZonedDateTime expiredAt) {
-        return pendingMaterialsV2.stream()
-                .filter(pendingMaterial -> pendingMaterial.getMaterial().equals(fileStoreId))
+        return pendingMaterialsV2.get(fileStoreId).stream()
                 .map(pendingMaterial -> bulkscanMaterialRejected()
                         .withCaseId(pendingMaterial.getCaseId())
                         .withMaterial(Material.material()
@@ -1083,8 +1118,7 @@ public class ProsecutionCaseFile implements Aggregate {
     }
 
     private List<Object> raiseMaterialRejectedEvent(UUID fileStoreId, ZonedDateTime expiredAt) {
-        return pendingMaterials.stream()
-                .filter(pendingMaterial -> pendingMaterial.getMaterial().getFileStoreId().equals(fileStoreId))
+        return pendingMaterials.get(fileStoreId).stream()
                 .map(pendingMaterial -> materialRejected()
                         .withCaseId(pendingMaterial.getCaseId())
                         .withProsecutingAuthority(pendingMaterial.getProsecutingAuthority())
@@ -1098,8 +1132,7 @@ public class ProsecutionCaseFile implements Aggregate {
     }
 
     private List<Object> raiseMaterialRejectedEventV2(UUID fileStoreId, ZonedDateTime expiredAt) {
-        return pendingMaterialsV2.stream()
-                .filter(pendingMaterial -> pendingMaterial.getMaterial().equals(fileStoreId))
+        return pendingMaterialsV2.get(fileStoreId).stream()
                 .map(pendingMaterial -> materialRejected()
                         .withCaseId(pendingMaterial.getCaseId())
                         .withProsecutingAuthority(pendingMaterial.getProsecutionCaseSubject().getProsecutingAuthority())
@@ -1161,210 +1194,268 @@ public class ProsecutionCaseFile implements Aggregate {
         return apply(of(new CaseEjected(caseId)));
     }
 
+    private static final EventDispatcher<ProsecutionCaseFile> EVENT_HANDLERS = eventDispatcher(ProsecutionCaseFile.class)
+            .on(SjpProsecutionReceived.class, ProsecutionCaseFile::handleSjpProsecutionReceived)
+            .on(SjpProsecutionReceivedWithWarnings.class, ProsecutionCaseFile::handleSjpProsecutionReceivedWithWarnings)
+            .on(SjpCaseCreatedSuccessfully.class, (prosecutionCaseFile, event) -> prosecutionCaseFile.handleCaseCreated())
+            .on(CaseCreatedSuccessfully.class, (prosecutionCaseFile, event) -> prosecutionCaseFile.handleCaseCreated())
+            .on(CaseCreatedSuccessfullyWithWarnings.class, (prosecutionCaseFile, event) -> prosecutionCaseFile.handleCaseCreated())
+            .on(SjpCaseCreatedSuccessfullyWithWarnings.class, (prosecutionCaseFile, event) -> prosecutionCaseFile.handleCaseCreated())
+            .on(MaterialPending.class, ProsecutionCaseFile::handleMaterialPending)
+            .on(MaterialPendingV2.class, ProsecutionCaseFile::handleMaterialPendingV2)
+            .on(IdpcDefendantMatchPending.class, ProsecutionCaseFile::handleIdpcDefendantMatchPending)
+            .on(CaseDocumentReviewRequired.class, (prosecutionCaseFile, event) -> {
+            })
+            .on(MaterialRejected.class, ProsecutionCaseFile::handleMaterialRejected)
+            .on(MaterialRejectedV2.class, ProsecutionCaseFile::handleMaterialRejectedV2)
+            .on(IdpcMaterialRejected.class, ProsecutionCaseFile::handleIdpcMaterialRejected)
+            .on(CaseReferredToCourtRecorded.class, ProsecutionCaseFile::handleCaseReferredToCourtRecorded)
+            .on(CcCaseReceived.class, ProsecutionCaseFile::handleCcCaseReceived)
+            .on(DefendantsParkedForSummonsApplicationApproval.class, ProsecutionCaseFile::handleDefendantsParkedForSummonsApplicationApproval)
+            .on(CcCaseReceivedWithWarnings.class, ProsecutionCaseFile::handleCcCaseReceivedWithWarnings)
+            .on(CaseDetailsUpdated.class, ProsecutionCaseFile::handleCaseDetailsUpdated)
+            .on(ProsecutionDefendantsAdded.class, ProsecutionCaseFile::handleProsecutionDefendantsAdded)
+            .on(IdpcDefendantMatched.class, ProsecutionCaseFile::handleIdpcDefendantMatched)
+            .on(CaseValidationFailed.class, ProsecutionCaseFile::handleCaseValidationFailed)
+            .on(DefendantValidationFailed.class, ProsecutionCaseFile::handleDefendantValidationFailed)
+            .on(DefendantsReceivedNotAdded.class, ProsecutionCaseFile::handleDefendantsReceivedNotAdded)
+            .on(SjpValidationFailed.class, ProsecutionCaseFile::handleSjpValidationFailed)
+            .on(SjpCaseAssigned.class, ProsecutionCaseFile::handleSjpCaseAssigned)
+            .on(SjpCaseUnAssigned.class, ProsecutionCaseFile::handleSjpCaseUnAssigned)
+            .on(CaseEjected.class, (prosecutionCaseFile, event) -> prosecutionCaseFile.isCaseEjected = true)
+            .on(CaseFiltered.class, (prosecutionCaseFile, event) -> prosecutionCaseFile.isCaseFiltered = true)
+            .on(SummonsApplicationRejected.class, ProsecutionCaseFile::handleSummonsApplicationRejected)
+            .on(MaterialAddedV2.class, ProsecutionCaseFile::handleMaterialAddedV2)
+            .on(MaterialAddedWithWarnings.class, ProsecutionCaseFile::handleMaterialAddedWithWarnings)
+            .on(CourtDocumentAdded.class, ProsecutionCaseFile::handleCourtDocumentAdded)
+            .on(CaseUpdatedWithDefendant.class, ProsecutionCaseFile::handleCaseUpdatedWithDefendant)
+            .on(GroupIdRecordedForSummonsApplication.class, ProsecutionCaseFile::handleGroupIdRecordedForSummonsApplication)
+            .on(SjpProsecutionUpdateOffenceCodeRequestReceived.class, ProsecutionCaseFile::handleSjpProsecutionUpdateOffenceCodeRequestReceived)
+            .otherwiseDoNothing();
+
     @Override
     @SuppressWarnings("squid:S2250")
     public Object apply(final Object event) {
-        return match(event).with(
-                when(SjpProsecutionReceived.class).apply(e -> {
-                    this.caseType = SJP;
-                    prosecutionReceived = true;
-                    final Prosecution prosecution = e.getProsecution();
-                    this.caseDetails = prosecution.getCaseDetails();
-                    this.channel = prosecution.getChannel();
-                    this.caseId = caseDetails.getCaseId();
-                    this.initiationCode = caseDetails.getInitiationCode();
-                    this.prosecutorCaseReference = caseDetails.getProsecutorCaseReference();
-                    this.defendants = singletonList(prosecution.getDefendants().get(0));
-                    hydrateExternalIdToDefendantsMap(e.getExternalId(), this.defendants);
-                }),
-                when(SjpProsecutionReceivedWithWarnings.class).apply(e -> {
-                    this.caseType = SJP;
-                    prosecutionReceived = true;
-                    prosecutionFoundWithErrors = false;
-                    final Prosecution prosecution = e.getProsecution();
-                    this.caseDetails = prosecution.getCaseDetails();
-                    this.channel = prosecution.getChannel();
-                    this.caseId = caseDetails.getCaseId();
-                    this.initiationCode = caseDetails.getInitiationCode();
-                    this.prosecutorCaseReference = caseDetails.getProsecutorCaseReference();
-                    this.defendants = singletonList(prosecution.getDefendants().get(0));
-                    hydrateExternalIdToDefendantsMap(e.getExternalId(), this.defendants);
-                    this.warnings = new ArrayList<>(e.getWarnings());
-                }),
-                when(SjpCaseCreatedSuccessfully.class).apply(e -> {
-                    prosecutionAccepted = true;
-                    pendingMaterials.clear();
-                    pendingMaterialsV2.clear();
-                }),
-                when(CaseCreatedSuccessfully.class).apply(e -> {
-                    prosecutionAccepted = true;
-                    pendingMaterials.clear();
-                    pendingMaterialsV2.clear();
-                }),
-                when(CaseCreatedSuccessfullyWithWarnings.class).apply(e -> {
-                    prosecutionAccepted = true;
-                    pendingMaterials.clear();
-                    pendingMaterialsV2.clear();
-                }),
-                when(SjpCaseCreatedSuccessfullyWithWarnings.class).apply(e -> {
-                    prosecutionAccepted = true;
-                    pendingMaterials.clear();
-                    pendingMaterialsV2.clear();
-                }),
-                when(MaterialPending.class).apply(pendingMaterials::add),
-                when(MaterialPendingV2.class).apply(pendingMaterialsV2::add),
-                when(IdpcDefendantMatchPending.class).apply(pendingIdpcMaterials::add),
-                when(CaseDocumentReviewRequired.class).apply(caseDocumentReviewRequired -> {
-                }),
-                when(MaterialRejected.class).apply(e -> pendingMaterials.removeIf(pendingMaterial -> pendingMaterial.getMaterial().equals(e.getMaterial()))),
-                when(MaterialRejectedV2.class).apply(e -> pendingMaterialsV2.removeIf(pendingMaterial -> pendingMaterial.getMaterial().equals(e.getMaterial()))),
-                when(IdpcMaterialRejected.class).apply(e -> pendingIdpcMaterials.removeIf(pendingMaterial -> pendingMaterial.getFileServiceId().equals(e.getFileServiceId()))),
-                when(CaseReferredToCourtRecorded.class).apply(e -> {
-                    this.caseReferredToCourt = true;
-                    this.referralReasonId = e.getReferralReasonId();
-                    this.caseType = CC;
-                    this.prosecutionReceived = true;
-                }),
-                when(CcCaseReceived.class).apply(e -> {
-                    this.prosecutionFoundWithErrors = false;
-                    this.prosecutionReceived = true;
-                    this.caseType = CC;
-                    final Prosecution prosecution = e.getProsecutionWithReferenceData().getProsecution();
-                    this.caseDetails = prosecution.getCaseDetails();
-                    this.channel = prosecution.getChannel();
-                    this.caseId = caseDetails.getCaseId();
-                    this.initiationCode = caseDetails.getInitiationCode();
-                    this.prosecutorCaseReference = caseDetails.getProsecutorCaseReference();
-                    this.defendants = union(this.defendants, getNewDefendantsFromProsecution(this.defendants, prosecution));
-                    hydrateExternalIdToDefendantsMap(e.getProsecutionWithReferenceData().getExternalId(), prosecution.getDefendants());
-                    removeDefendantsFromWithheldList(prosecution.getDefendants());
-                }),
-                when(DefendantsParkedForSummonsApplicationApproval.class).apply(e -> {
-                    this.prosecutionFoundWithErrors = false;
-                    this.caseType = CC;
-                    final Prosecution prosecution = e.getProsecutionWithReferenceData().getProsecution();
-                    this.channel = prosecution.getChannel();
-                    this.caseDetails = prosecution.getCaseDetails();
-                    this.caseId = caseDetails.getCaseId();
-                    this.initiationCode = caseDetails.getInitiationCode();
-                    this.defendantWarnings = union(this.defendantWarnings, isNotEmpty(e.getDefendantWarnings()) ? e.getDefendantWarnings() : emptyList());
-                    this.prosecutorCaseReference = caseDetails.getProsecutorCaseReference();
-                    this.defendants = union(this.defendants, getNewDefendantsFromProsecution(this.defendants, prosecution));
-                    hydrateExternalIdToDefendantsMap(e.getProsecutionWithReferenceData().getExternalId(), prosecution.getDefendants());
-                    if (isNotEmpty(e.getDefendantWarnings())) {
-                        e.getDefendantWarnings().forEach(defendantWarning -> this.warnings.addAll(defendantWarning.getProblems()));
-                    }
-                    this.applicationIdToDefendantIdsMap.put(e.getApplicationId(), prosecution.getDefendants().stream().map(Defendant::getId).map(UUID::fromString).collect(toList()));
-                }),
-                when(CcCaseReceivedWithWarnings.class).apply(e -> {
-                    this.caseType = CC;
-                    this.prosecutionReceived = true;
-                    final Prosecution prosecution = e.getProsecutionWithReferenceData().getProsecution();
-                    this.caseDetails = prosecution.getCaseDetails();
-                    this.initiationCode = caseDetails.getInitiationCode();
-                    this.channel = prosecution.getChannel();
-                    this.caseId = caseDetails.getCaseId();
-                    this.prosecutorCaseReference = caseDetails.getProsecutorCaseReference();
-                    this.defendants = union(this.defendants, getNewDefendantsFromProsecution(this.defendants, prosecution));
-                    hydrateExternalIdToDefendantsMap(e.getProsecutionWithReferenceData().getExternalId(), prosecution.getDefendants());
-                    final List<DefendantProblem> newDefendantsWarnings = getNewDefendantWarningsFromEvent(this.defendantWarnings, e.getDefendantWarnings());
-                    this.defendantWarnings = union(this.defendantWarnings, newDefendantsWarnings);
-                    if (isNotEmpty(e.getCaseWarnings())) {
-                        this.warnings.addAll(e.getCaseWarnings());
-                    }
-                    if (isNotEmpty(newDefendantsWarnings)) {
-                        newDefendantsWarnings.forEach(defendantProblem -> this.warnings.addAll(defendantProblem.getProblems()));
-                    }
-                }),
-                when(CaseDetailsUpdated.class).apply(e -> {
-                    CaseDetails updatedCaseDetails = CaseDetails.caseDetails()
-                            .withValuesFrom(this.caseDetails)
-                            .withFeeStatus(e.getFeeStatus())
-                            .withContestedFeeStatus(e.getContestedFeeStatus())
-                            .withContestedFeePaymentReference(e.getContestedPaymentReference())
-                            .withPaymentReference(e.getPaymentReference())
-                            .build();
-                    this.caseDetails=updatedCaseDetails;
-                }),
-                when(ProsecutionDefendantsAdded.class).apply(e -> {
-                    this.caseId = e.getCaseId();
-                    this.defendants = union(this.defendants, e.getDefendants());
-                    hydrateExternalIdToDefendantsMap(e.getExternalId(), e.getDefendants());
-                    removeDefendantsFromWithheldList(e.getDefendants());
-                }),
-                when(IdpcDefendantMatched.class).apply(e -> defendantsWithIdpc.add(e.getDefendantId())),
-                when(CaseValidationFailed.class).apply(e -> {
-                    final Prosecution prosecution = e.getProsecution();
-                    this.caseId = prosecution.getCaseDetails().getCaseId();
-                    this.prosecutionFoundWithErrors = true;
-                    this.caseDetails = prosecution.getCaseDetails();
-                    this.initiationCode = caseDetails.getInitiationCode();
-                    this.channel = prosecution.getChannel();
-                    // remove from list and update defendants to capture corrected state
-                    copyOf(prosecution.getDefendants()).forEach(i -> this.defendants.removeIf(x -> x.getId().equals(i.getId())));
-                    this.defendants = union(this.defendants, prosecution.getDefendants());
-                    hydrateExternalIdToDefendantsMap(e.getExternalId(), prosecution.getDefendants());
-                }),
-                when(DefendantValidationFailed.class).apply(e -> {
-                    this.caseId = e.getCaseId();
-                    if (prosecutionFoundWithErrors) {
-                        this.defendants.removeIf(x -> x.getId().equals(e.getDefendant().getId()));
-                        this.defendants.add(e.getDefendant());
-                    } else {
-                        defendantsWithHeldAfterCaseReceived.removeIf(x -> x.getId().equals(e.getDefendant().getId()));
-                        defendantsWithHeldAfterCaseReceived.add(e.getDefendant());
-                    }
-                }),
-                when(DefendantsReceivedNotAdded.class).apply(e -> {
-                    copyOf(e.getDefendants()).forEach(i -> this.defendants.removeIf(x -> x.getId().equals(i.getId())));
-                    this.defendants = union(this.defendants, e.getDefendants());
-                    hydrateExternalIdToDefendantsMap(e.getExternalId(), e.getDefendants());
-                }),
-
-                when(SjpValidationFailed.class).apply(e -> {
-                            this.caseId = e.getProsecution().getCaseDetails().getCaseId();
-                            this.prosecutionFoundWithErrors = true;
-                            this.caseType = SJP;
-                            this.defendants = e.getProsecution().getDefendants();
-                            this.caseDetails = e.getProsecution().getCaseDetails();
-                            this.channel = e.getProsecution().getChannel();
-                        }
-                ),
-                when(SjpCaseAssigned.class).apply(e -> {
-                    this.caseId = e.getCaseId();
-                    this.isCaseAssigned = true;
-                }),
-                when(SjpCaseUnAssigned.class).apply(e -> {
-                    this.caseId = e.getCaseId();
-                    this.isCaseAssigned = false;
-                }),
-                when(CaseEjected.class).apply(e -> this.isCaseEjected = true),
-                when(CaseFiltered.class).apply(e -> this.isCaseFiltered = true),
-                when(SummonsApplicationRejected.class).apply(e -> {
-                    final List<String> rejectedDefendants = e.getDefendantIds().stream().map(UUID::toString).collect(toList());
-                    this.rejectedApplicationDefendants = union(this.rejectedApplicationDefendants, this.defendants.stream().filter(defendant -> rejectedDefendants.contains(defendant.getId())).collect(toList()));
-                    this.defendants.removeIf(defendant -> rejectedDefendants.contains(defendant.getId()));
-                    this.rejectedApplicationIdToDefendantIdsMap.put(e.getApplicationId(), this.applicationIdToDefendantIdsMap.get(e.getApplicationId()));
-                    this.applicationIdToDefendantIdsMap.remove(e.getApplicationId());
-                    this.isSummonsCaseRejected = true;
-                    if (this.defendants.isEmpty()) {
-                        this.prosecutionReceived = false;
-                    }
-                }),
-                when(MaterialAddedV2.class).apply(this::handleMaterialAddedV2),
-                when(MaterialAddedWithWarnings.class).apply(this::handleMaterialAddedWithWarnings),
-                when(CourtDocumentAdded.class).apply(e -> {
-                    pendingMaterialsForCourtDocumentUpload
-                            .removeIf(materialAddedV2 -> materialAddedV2.getMaterial().toString().equals(e.getFileStoreId()));
-                    pendingMaterialsWithWarningsForCourtDocumentUpload
-                            .removeIf(materialAddedWithWarnings -> materialAddedWithWarnings.getMaterial().toString().equals(e.getFileStoreId()));
-                }),
-                when(CaseUpdatedWithDefendant.class).apply(this::handleCaseUpdatedWithDefendant),
-                when(GroupIdRecordedForSummonsApplication.class).apply(e -> this.groupId = e.getGroupId()),
-                when(SjpProsecutionUpdateOffenceCodeRequestReceived.class).apply(e -> {
-                    this.defendants = singletonList(e.getDefendants().get(0));
-                }),
-                otherwiseDoNothing());
+        this.defendantIndex = null;
+        return EVENT_HANDLERS.apply(this, event);
+    }
+
+    private void handleSjpProsecutionReceived(final SjpProsecutionReceived event) {
+        this.caseType = SJP;
+        prosecutionReceived = true;
+        final Prosecution prosecution = event.getProsecution();
+        this.caseDetails = prosecution.getCaseDetails();
+        this.channel = prosecution.getChannel();
+        this.caseId = caseDetails.getCaseId();
+        this.initiationCode = caseDetails.getInitiationCode();
+        this.prosecutorCaseReference = caseDetails.getProsecutorCaseReference();
+        this.defendants = singletonList(prosecution.getDefendants().get(0));
+        hydrateExternalIdToDefendantsMap(event.getExternalId(), this.defendants);
+    }
+
+    private void handleSjpProsecutionReceivedWithWarnings(final SjpProsecutionReceivedWithWarnings event) {
+        this.caseType = SJP;
+        prosecutionReceived = true;
+        prosecutionFoundWithErrors = false;
+        final Prosecution prosecution = event.getProsecution();
+        this.caseDetails = prosecution.getCaseDetails();
+        this.channel = prosecution.getChannel();
+        this.caseId = caseDetails.getCaseId();
+        this.initiationCode = caseDetails.getInitiationCode();
+        this.prosecutorCaseReference = caseDetails.getProsecutorCaseReference();
+        this.defendants = singletonList(prosecution.getDefendants().get(0));
+        hydrateExternalIdToDefendantsMap(event.getExternalId(), this.defendants);
+        this.warnings = new ArrayList<>(event.getWarnings());
+    }
+
+    private void handleCaseCreated() {
+        prosecutionAccepted = true;
+        pendingMaterials.clear();
+        pendingMaterialsV2.clear();
+    }
+
+    private void handleMaterialPending(final MaterialPending event) {
+        pendingMaterials.add(event.getMaterial().getFileStoreId(), event);
+    }
+
+    private void handleMaterialPendingV2(final MaterialPendingV2 event) {
+        pendingMaterialsV2.add(event.getMaterial(), event);
+    }
+
+    private void handleIdpcDefendantMatchPending(final IdpcDefendantMatchPending event) {
+        pendingIdpcMaterials.add(event.getFileServiceId(), event);
+    }
+
+    private void handleMaterialRejected(final MaterialRejected event) {
+        ofNullable(event.getMaterial())
+                .ifPresent(material -> pendingMaterials.removeIf(material.getFileStoreId(), pendingMaterial -> pendingMaterial.getMaterial().equals(material)));
+    }
+
+    private void handleMaterialRejectedV2(final MaterialRejectedV2 event) {
+        pendingMaterialsV2.remove(event.getMaterial());
+    }
+
+    private void handleIdpcMaterialRejected(final IdpcMaterialRejected event) {
+        pendingIdpcMaterials.remove(event.getFileServiceId());
+    }
+
+    private void handleCaseReferredToCourtRecorded(final CaseReferredToCourtRecorded event) {
+        this.caseReferredToCourt = true;
+        this.referralReasonId = event.getReferralReasonId();
+        this.caseType = CC;
+        this.prosecutionReceived = true;
+    }
+
+    private void handleCcCaseReceived(final CcCaseReceived event) {
+        this.prosecutionFoundWithErrors = false;
+        this.prosecutionReceived = true;
+        this.caseType = CC;
+        final Prosecution prosecution = event.getProsecutionWithReferenceData().getProsecution();
+        this.caseDetails = prosecution.getCaseDetails();
+        this.channel = prosecution.getChannel();
+        this.caseId = caseDetails.getCaseId();
+        this.initiationCode = caseDetails.getInitiationCode();
+        this.prosecutorCaseReference = caseDetails.getProsecutorCaseReference();
+        this.defendants = union(this.defendants, getNewDefendantsFromProsecution(this.defendants, prosecution));
+        hydrateExternalIdToDefendantsMap(event.getProsecutionWithReferenceData().getExternalId(), prosecution.getDefendants());
+        removeDefendantsFromWithheldList(prosecution.getDefendants());
+    }
+
+    private void handleDefendantsParkedForSummonsApplicationApproval(final DefendantsParkedForSummonsApplicationApproval event) {
+        this.prosecutionFoundWithErrors = false;
+        this.caseType = CC;
+        final Prosecution prosecution = event.getProsecutionWithReferenceData().getProsecution();
+        this.channel = prosecution.getChannel();
+        this.caseDetails = prosecution.getCaseDetails();
+        this.caseId = caseDetails.getCaseId();
+        this.initiationCode = caseDetails.getInitiationCode();
+        this.defendantWarnings = union(this.defendantWarnings, isNotEmpty(event.getDefendantWarnings()) ? event.getDefendantWarnings() : emptyList());
+        this.prosecutorCaseReference = caseDetails.getProsecutorCaseReference();
+        this.defendants = union(this.defendants, getNewDefendantsFromProsecution(this.defendants, prosecution));
+        hydrateExternalIdToDefendantsMap(event.getProsecutionWithReferenceData().getExternalId(), prosecution.getDefendants());
+        if (isNotEmpty(event.getDefendantWarnings())) {
+            event.getDefendantWarnings().forEach(defendantWarning -> this.warnings.addAll(defendantWarning.getProblems()));
+        }
+        this.applicationIdToDefendantIdsMap.put(event.getApplicationId(), prosecution.getDefendants().stream().map(Defendant::getId).map(UUID::fromString).collect(toList()));
+    }
+
+    private void handleCcCaseReceivedWithWarnings(final CcCaseReceivedWithWarnings event) {
+        this.caseType = CC;
+        this.prosecutionReceived = true;
+        final Prosecution prosecution = event.getProsecutionWithReferenceData().getProsecution();
+        this.caseDetails = prosecution.getCaseDetails();
+        this.initiationCode = caseDetails.getInitiationCode();
+        this.channel = prosecution.getChannel();
+        this.caseId = caseDetails.getCaseId();
+        this.prosecutorCaseReference = caseDetails.getProsecutorCaseReference();
+        this.defendants = union(this.defendants, getNewDefendantsFromProsecution(this.defendants, prosecution));
+        hydrateExternalIdToDefendantsMap(event.getProsecutionWithReferenceData().getExternalId(), prosecution.getDefendants());
+        final List<DefendantProblem> newDefendantsWarnings = getNewDefendantWarningsFromEvent(this.defendantWarnings, event.getDefendantWarnings());
+        this.defendantWarnings = union(this.defendantWarnings, newDefendantsWarnings);
+        if (isNotEmpty(event.getCaseWarnings())) {
+            this.warnings.addAll(event.getCaseWarnings());
+        }
+        if (isNotEmpty(newDefendantsWarnings)) {
+            newDefendantsWarnings.forEach(defendantProblem -> this.warnings.addAll(defendantProblem.getProblems()));
+        }
+    }
+
+    private void handleCaseDetailsUpdated(final CaseDetailsUpdated event) {
+        CaseDetails updatedCaseDetails = CaseDetails.caseDetails()
+                .withValuesFrom(this.caseDetails)
+                .withFeeStatus(event.getFeeStatus())
+                .withContestedFeeStatus(event.getContestedFeeStatus())
+                .withContestedFeePaymentReference(event.getContestedPaymentReference())
+                .withPaymentReference(event.getPaymentReference())
+                .build();
+        this.caseDetails=updatedCaseDetails;
+    }
+
+    private void handleProsecutionDefendantsAdded(final ProsecutionDefendantsAdded event) {
+        this.caseId = event.getCaseId();
+        this.defendants = union(this.defendants, event.getDefendants());
+        hydrateExternalIdToDefendantsMap(event.getExternalId(), event.getDefendants());
+        removeDefendantsFromWithheldList(event.getDefendants());
+    }
+
+    private void handleIdpcDefendantMatched(final IdpcDefendantMatched event) {
+        defendantsWithIdpc.add(event.getDefendantId());
+    }
+
+    private void handleCaseValidationFailed(final CaseValidationFailed event) {
+        final Prosecution prosecution = event.getProsecution();
+        this.caseId = prosecution.getCaseDetails().getCaseId();
+        this.prosecutionFoundWithErrors = true;
+        this.caseDetails = prosecution.getCaseDetails();
+        this.initiationCode = caseDetails.getInitiationCode();
+        this.channel = prosecution.getChannel();
+        // remove from list and update defendants to capture corrected state
+        copyOf(prosecution.getDefendants()).forEach(i -> this.defendants.removeIf(x -> x.getId().equals(i.getId())));
+        this.defendants = union(this.defendants, prosecution.getDefendants());
+        hydrateExternalIdToDefendantsMap(event.getExternalId(), prosecution.getDefendants());
+    }
+
+    private void handleDefendantValidationFailed(final DefendantValidationFailed event) {
+        this.caseId = event.getCaseId();
+        if (prosecutionFoundWithErrors) {
+            this.defendants.removeIf(x -> x.getId().equals(event.getDefendant().getId()));
+            this.defendants.add(event.getDefendant());
+        } else {
+            defendantsWithHeldAfterCaseReceived.removeIf(x -> x.getId().equals(event.getDefendant().getId()));
+            defendantsWithHeldAfterCaseReceived.add(event.getDefendant());
+        }
+    }
+
+    private void handleDefendantsReceivedNotAdded(final DefendantsReceivedNotAdded event) {
+        copyOf(event.getDefendants()).forEach(i -> this.defendants.removeIf(x -> x.getId().equals(i.getId())));
+        this.defendants = union(this.defendants, event.getDefendants());
+        hydrateExternalIdToDefendantsMap(event.getExternalId(), event.getDefendants());
+    }
+
+    private void handleSjpValidationFailed(final SjpValidationFailed event) {
+        this.caseId = event.getProsecution().getCaseDetails().getCaseId();
+        this.prosecutionFoundWithErrors = true;
+        this.caseType = SJP;
+        this.defendants = event.getProsecution().getDefendants();
+        this.caseDetails = event.getProsecution().getCaseDetails();
+        this.channel = event.getProsecution().getChannel();
+    }
+
+    private void handleSjpCaseAssigned(final SjpCaseAssigned event) {
+        this.caseId = event.getCaseId();
+        this.isCaseAssigned = true;
+    }
+
+    private void handleSjpCaseUnAssigned(final SjpCaseUnAssigned event) {
+        this.caseId = event.getCaseId();
+        this.isCaseAssigned = false;
+    }
+
+    private void handleSummonsApplicationRejected(final SummonsApplicationRejected event) {
+        final List<String> rejectedDefendants = event.getDefendantIds().stream().map(UUID::toString).collect(toList());
+        this.rejectedApplicationDefendants = union(this.rejectedApplicationDefendants, this.defendants.stream().filter(defendant -> rejectedDefendants.contains(defendant.getId())).collect(toList()));
+        this.defendants.removeIf(defendant -> rejectedDefendants.contains(defendant.getId()));
+        this.rejectedApplicationIdToDefendantIdsMap.put(event.getApplicationId(), this.applicationIdToDefendantIdsMap.get(event.getApplicationId()));
+        this.applicationIdToDefendantIdsMap.remove(event.getApplicationId());
+        this.isSummonsCaseRejected = true;
+        if (this.defendants.isEmpty()) {
+            this.prosecutionReceived = false;
+        }
+    }
+
+    private void handleCourtDocumentAdded(final CourtDocumentAdded event) {
+        pendingMaterialsForCourtDocumentUpload
+                .removeIf(materialAddedV2 -> materialAddedV2.getMaterial().toString().equals(event.getFileStoreId()));
+        pendingMaterialsWithWarningsForCourtDocumentUpload
+                .removeIf(materialAddedWithWarnings -> materialAddedWithWarnings.getMaterial().toString().equals(event.getFileStoreId()));
+    }
+
+    private void handleGroupIdRecordedForSummonsApplication(final GroupIdRecordedForSummonsApplication event) {
+        this.groupId = event.getGroupId();
+    }
+
+    private void handleSjpProsecutionUpdateOffenceCodeRequestReceived(final SjpProsecutionUpdateOffenceCodeRequestReceived event) {
+        this.defendants = singletonList(event.getDefendants().get(0));
     }
 
     private void handleCaseUpdatedWithDefendant(final CaseUpdatedWithDefendant caseUpdatedWithDefendant) {
@@ -1391,14 +1482,14 @@ public class ProsecutionCaseFile implements Aggregate {
         pendingMaterialsForCourtDocumentUpload.add(materialAddedV2);
         ofNullable(materialAddedV2.getProsecutionCaseSubject().getDefendantSubject())
                 .ifPresent(defendantSubject -> this.validDefendantIds.put(getDefendantId(defendantSubject), materialAddedV2.getDefendantId()));
-        pendingMaterialsV2.removeIf(pendingMaterial -> pendingMaterial.getMaterial().equals(materialAddedV2.getMaterial()));
+        pendingMaterialsV2.remove(materialAddedV2.getMaterial());
     }
 
     private void handleMaterialAddedWithWarnings(final MaterialAddedWithWarnings materialAddedWithWarnings) {
         pendingMaterialsWithWarningsForCourtDocumentUpload.add(materialAddedWithWarnings);
         ofNullable(materialAddedWithWarnings.getProsecutionCaseSubject().getDefendantSubject())
                 .ifPresent(defendantSubject -> this.validDefendantIds.put(getDefendantId(defendantSubject), materialAddedWithWarnings.getDefendantId()));
-        pendingMaterialsV2.removeIf(pendingMaterial -> pendingMaterial.getMaterial().equals(materialAddedWithWarnings.getMaterial()));
+        pendingMaterialsV2.remove(materialAddedWithWarnings.getMaterial());
     }
 
     private List<Defendant> getNewDefendantsFromProsecution(final List<Defendant> existingDefendants, final Prosecution prosecution) {
@@ -1485,8 +1576,7 @@ public class ProsecutionCaseFile implements Aggregate {
     }
 
     public Stream<Object> expirePendingIdpcMaterial(final UUID fileStoreId, final ZonedDateTime expiredAt) {
-        final List<Object> expired = pendingIdpcMaterials.stream()
-                .filter(pendingIdpcMaterial -> pendingIdpcMaterial.getFileServiceId().equals(fileStoreId))
+        final List<Object> expired = pendingIdpcMaterials.get(fileStoreId).stream()
                 .map(pendingIdpcMaterial -> idpcMaterialRejected()
                         .withCaseId(pendingIdpcMaterial.getCaseId())
                         .withFileServiceId(pendingIdpcMaterial.getFileServiceId())
@@ -1728,7 +1818,7 @@ public class ProsecutionCaseFile implements Aggregate {
         if (!this.prosecutionReceived) {
             if (SPI.equals(this.channel) || defendantWarningsForApprovedDefendants.isEmpty()) {
                 final CcCaseReceived caseReceived = ccCaseReceived()
-                        .withProsecutionWithReferenceData(prosecutionWithReferenceData)
+                        .withProsecutionWithReferenceData(prosecutionWithReferenceData.withReferenceDataKeys())
                         .withSummonsApprovedOutcome(summonsApprovedOutcome)
                         .withId(randomUUID())
                         .build();
@@ -1736,7 +1826,7 @@ public class ProsecutionCaseFile implements Aggregate {
             }
 
             final CcCaseReceivedWithWarnings ccCaseReceivedWithWarnings = ccCaseReceivedWithWarnings()
-                    .withProsecutionWithReferenceData(prosecutionWithReferenceData)
+                    .withProsecutionWithReferenceData(prosecutionWithReferenceData.withReferenceDataKeys())
                     .withDefendantWarnings(defendantWarnings)
                     .withSummonsApprovedOutcome(summonsApprovedOutcome)
                     .withId(randomUUID())
@@ -1979,4 +2069,12 @@ public class ProsecutionCaseFile implements Aggregate {
 
         return builder().build();
     }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        SnapshotVersion.write(out, SNAPSHOT_VERSION);
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        SnapshotVersion.read(in, ProsecutionCaseFile.class, SNAPSHOT_VERSION);
+    }
 }
@@ -0,0 +1,115 @@
+package uk.gov.moj.cpp.prosecution.casefile.aggregate;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Version stamp written with an aggregate snapshot so that snapshots taken before the aggregate
+ * changed are rejected instead of being deserialised with missing or stale state.
+ * <p>
+ * The version combines a state version, which must be incremented whenever the meaning of the
+ * aggregate state or its apply logic changes, with a fingerprint of the serialised fields of the
+ * aggregate and, recursively, of every {@code uk.gov} class they hold, generated pojos and their
+ * superclasses included, so that adding, removing or retyping a field anywhere in that graph
+ * invalidates existing snapshots. JDK types and enums are not walked, so removing an enum constant
+ * still needs the state version incremented. A rejected snapshot fails deserialisation with an
+ * {@link InvalidClassException}, which makes the aggregate service discard it and rebuild the
+ * aggregate from the full event stream.
+ */
+final class SnapshotVersion {
+
+    private static final String FINGERPRINTED_PACKAGE = "uk.gov.";
+
+    private SnapshotVersion() {
+    }
+
+    static long of(final Class<?> aggregateClass, final int stateVersion) {
+        return ((long) stateVersion << 32) | (fingerprint(aggregateClass).hashCode() & 0xFFFFFFFFL);
+    }
+
+    static String fingerprint(final Class<?> aggregateClass) {
+        final Map<String, String> fieldsByClass = new TreeMap<>();
+        addFields(aggregateClass, fieldsByClass);
+
+        return fieldsByClass.entrySet().stream()
+                .map(classFields -> classFields.getKey() + '{' + classFields.getValue() + '}')
+                .collect(joining(","));
+    }
+
+    private static void addFields(final Class<?> type, final Map<String, String> fieldsByClass) {
+        if (!isFingerprinted(type) || fieldsByClass.containsKey(type.getName())) {
+            return;
+        }
+
+        final Field[] fields = Stream.of(type.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
+                .sorted(comparing(Field::getName))
+                .toArray(Field[]::new);
+
+        fieldsByClass.put(type.getName(), Stream.of(fields)
+                .map(field -> field.getName() + ':' + field.getGenericType().getTypeName())
+                .collect(joining(",")));
+
+        addFields(type.getSuperclass(), fieldsByClass);
+        for (final Field field : fields) {
+            addTypes(field.getGenericType(), fieldsByClass);
+        }
+    }
+
+    private static void addTypes(final Type type, final Map<String, String> fieldsByClass) {
+        if (type instanceof Class) {
+            final Class<?> typeClass = (Class<?>) type;
+            if (typeClass.isArray()) {
+                addTypes(typeClass.getComponentType(), fieldsByClass);
+            } else {
+                addFields(typeClass, fieldsByClass);
+            }
+        } else if (type instanceof ParameterizedType) {
+            addTypes(((ParameterizedType) type).getRawType(), fieldsByClass);
+            Stream.of(((ParameterizedType) type).getActualTypeArguments()).forEach(argument -> addTypes(argument, fieldsByClass));
+        } else if (type instanceof GenericArrayType) {
+            addTypes(((GenericArrayType) type).getGenericComponentType(), fieldsByClass);
+        } else if (type instanceof WildcardType) {
+            Stream.of(((WildcardType) type).getUpperBounds()).forEach(bound -> addTypes(bound, fieldsByClass));
+        }
+    }
+
+    private static boolean isFingerprinted(final Class<?> type) {
+        return type != null && !type.isEnum() && type.getName().startsWith(FINGERPRINTED_PACKAGE);
+    }
+
+    static void write(final ObjectOutputStream out, final long version) throws IOException {
+        out.defaultWriteObject();
+        out.writeLong(version);
+    }
+
+    static void read(final ObjectInputStream in, final Class<?> aggregateClass, final long version) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        final long snapshotVersion;
+        try {
+            snapshotVersion = in.readLong();
+        } catch (final IOException e) {
+            throw new InvalidClassException(aggregateClass.getName(), "snapshot has no version");
+        }
+
+        if (snapshotVersion != version) {
+            throw new InvalidClassException(aggregateClass.getName(),
+                    "snapshot version " + Long.toHexString(snapshotVersion) + " does not match " + Long.toHexString(version));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package uk.gov.moj.cpp.prosecution.casefile.validation;
+
+import static java.util.stream.Collectors.toList;
+
+import uk.gov.moj.cpp.prosecution.casefile.validation.metrics.ValidationRuleMetrics;
+import uk.gov.moj.cpp.prosecution.casefile.validation.metrics.ValidationRuleMetrics.Tags;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Validates a batch of independent inputs, such as the cases of a group prosecution, and returns
+ * the results in input order.
+ * <p>
+ * Inputs are validated one after another on the calling thread unless parallel execution has been
+ * enabled with the {@value #PARALLELISM_PROPERTY} system property, in which case they are validated
+ * concurrently on a bounded pool of that many threads. Each input is validated with the metric tags
+ * of the calling thread. As with {@link ValidationRuleExecutor}, parallel execution requires the
+ * validation, and the context it reads, to be safe for concurrent use.
+ */
+public class CaseValidationExecutor {
+
+    public static final String PARALLELISM_PROPERTY = "prosecutioncasefile.validation.case-parallelism";
+
+    private CaseValidationExecutor() {
+    }
+
+    public static <T, R> List<R> validateEach(final List<T> inputs, final Function<T, R> validation) {
+        final ExecutorService executor = ParallelExecutorHolder.EXECUTOR;
+        if (executor == null || inputs.size() < 2) {
+            return inputs.stream()
+                    .map(validation)
+                    .collect(toList());
+        }
+
+        return validateEach(inputs, validation, executor);
+    }
+
+    /**
+     * Validates the inputs on the given executor, the first of them on the calling thread. If any
+     * validation fails, the failure of the earliest failing input in the list is rethrown.
+     */
+    public static <T, R> List<R> validateEach(final List<T> inputs, final Function<T, R> validation, final ExecutorService executor) {
+        final List<R> results = new ArrayList<>(inputs.size());
+        if (inputs.isEmpty()) {
+            return results;
+        }
+
+        final Tags tags = ValidationRuleMetrics.currentTags();
+        final List<Future<R>> futures = new ArrayList<>(inputs.size() - 1);
+        for (final T input : inputs.subList(1, inputs.size())) {
+            futures.add(executor.submit(() -> ValidationRuleMetrics.withTags(tags, () -> validation.apply(input))));
+        }
+
+        try {
+            results.add(validation.apply(inputs.get(0)));
+            for (final Future<R> future : futures) {
+                results.add(ValidationRuleExecutor.await(future));
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        return results;
+    }
+
+    private static class ParallelExecutorHolder {
+
+        private static final ExecutorService EXECUTOR = createExecutor(Integer.getInteger(PARALLELISM_PROPERTY, 0));
+
+        private static ExecutorService createExecutor(final int parallelism) {
+            if (parallelism < 2) {
+                return null;
+            }
+
+            final AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newFixedThreadPool(parallelism, runnable -> {
+                final Thread thread = new Thread(runnable, "case-validation-executor-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -1,22 +1,175 @@
 package uk.gov.moj.cpp.prosecution.casefile.validation;
 
+import static java.lang.Boolean.TRUE;
 import static java.util.stream.Collectors.toList;
 
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Problem;
+import uk.gov.moj.cpp.prosecution.casefile.validation.metrics.ValidationRuleMetrics;
+import uk.gov.moj.cpp.prosecution.casefile.validation.metrics.ValidationRuleMetrics.Sample;
+import uk.gov.moj.cpp.prosecution.casefile.validation.metrics.ValidationRuleMetrics.Tags;
+import uk.gov.moj.cpp.prosecution.casefile.validation.provider.ValidationRulePlan;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Runs validation rules against an input and collects their problems in rule-list order.
+ * <p>
+ * Rules run one after another on the calling thread unless parallel execution has been enabled
+ * with the {@value #PARALLELISM_PROPERTY} system property, in which case independent rules run
+ * concurrently on a bounded pool of that many threads. Rules annotated with {@link SequentialRule}
+ * are never run concurrently with any other rule, and the problems are always returned in the
+ * same order as sequential execution would produce, so the resulting events stay deterministic.
+ * Parallel execution requires the validation context (normally the reference data query service)
+ * to be safe for concurrent use.
+ * <p>
+ * Every rule execution is timed and its problems counted in {@link ValidationRuleMetrics}.
+ */
 public class ValidationRuleExecutor {
 
+    public static final String PARALLELISM_PROPERTY = "prosecutioncasefile.validation.parallelism";
+
+    private static final ThreadLocal<Boolean> VALIDATION_THREAD = new ThreadLocal<>();
+
     private ValidationRuleExecutor() {
     }
 
     public static <T, S> List<Problem> validate(final T input, final S context, final List<ValidationRule<T, S>> validationRules) {
-        return validationRules.stream()
-                .map(validationRule -> validationRule.validate(input, context))
+        final ExecutorService executor = ParallelExecutorHolder.EXECUTOR;
+        if (executor == null || validationRules.size() < 2 || TRUE.equals(VALIDATION_THREAD.get())) {
+            final Tags tags = ValidationRuleMetrics.currentTags();
+            return validationRules.stream()
+                    .map(validationRule -> run(validationRule, input, context, tags))
+                    .flatMap(validationResult -> validationResult.problems().stream())
+                    .collect(toList());
+        }
+
+        return validate(input, context, validationRules, executor);
+    }
+
+    /**
+     * Runs the rules of the plan that apply to the input, skipping those whose precondition does
+     * not hold.
+     */
+    public static <T, S> List<Problem> validate(final T input, final S context, final ValidationRulePlan<T, S> validationRulePlan) {
+        return validate(input, context, validationRulePlan.getApplicableRules(input));
+    }
+
+    /**
+     * Runs the rules on the given executor. Consecutive rules not marked as {@link SequentialRule}
+     * run concurrently, the first of them on the calling thread; each sequential rule waits for
+     * every earlier rule to complete and runs on the calling thread. If any rule fails, the
+     * failure of the earliest failing rule in the list is rethrown.
+     */
+    public static <T, S> List<Problem> validate(final T input, final S context, final List<ValidationRule<T, S>> validationRules,
+                                                final ExecutorService executor) {
+        final Tags tags = ValidationRuleMetrics.currentTags();
+        final List<ValidationResult> validationResults = new ArrayList<>(validationRules.size());
+        final List<ValidationRule<T, S>> independentRules = new ArrayList<>();
+
+        for (final ValidationRule<T, S> validationRule : validationRules) {
+            if (isSequential(validationRule)) {
+                validationResults.addAll(validateConcurrently(input, context, independentRules, executor, tags));
+                independentRules.clear();
+                validationResults.add(run(validationRule, input, context, tags));
+            } else {
+                independentRules.add(validationRule);
+            }
+        }
+        validationResults.addAll(validateConcurrently(input, context, independentRules, executor, tags));
+
+        return validationResults.stream()
                 .flatMap(validationResult -> validationResult.problems().stream())
                 .collect(toList());
     }
 
+    private static <T, S> ValidationResult run(final ValidationRule<T, S> validationRule, final T input, final S context, final Tags tags) {
+        final Sample sample = ValidationRuleMetrics.getInstance().start(validationRule.getClass(), tags);
+        final ValidationResult validationResult;
+        try {
+            validationResult = validationRule.validate(input, context);
+        } catch (final RuntimeException | Error e) {
+            sample.failed();
+            throw e;
+        }
+        sample.stop(validationResult.problems().size());
+        return validationResult;
+    }
+
+    private static boolean isSequential(final ValidationRule<?, ?> validationRule) {
+        return validationRule.getClass().isAnnotationPresent(SequentialRule.class);
+    }
+
+    private static <T, S> List<ValidationResult> validateConcurrently(final T input, final S context, final List<ValidationRule<T, S>> validationRules,
+                                                                      final ExecutorService executor, final Tags tags) {
+        final List<ValidationResult> validationResults = new ArrayList<>(validationRules.size());
+        if (validationRules.isEmpty()) {
+            return validationResults;
+        }
+
+        final List<Future<ValidationResult>> futures = new ArrayList<>(validationRules.size() - 1);
+        for (final ValidationRule<T, S> validationRule : validationRules.subList(1, validationRules.size())) {
+            futures.add(executor.submit(() -> run(validationRule, input, context, tags)));
+        }
+
+        try {
+            validationResults.add(run(validationRules.get(0), input, context, tags));
+            for (final Future<ValidationResult> future : futures) {
+                validationResults.add(await(future));
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        return validationResults;
+    }
+
+    static <V> V await(final Future<V> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for validation", e);
+        } catch (final CancellationException e) {
+            throw new IllegalStateException("Validation was cancelled", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static class ParallelExecutorHolder {
+
+        private static final ExecutorService EXECUTOR = createExecutor(Integer.getInteger(PARALLELISM_PROPERTY, 0));
+
+        private static ExecutorService createExecutor(final int parallelism) {
+            if (parallelism < 2) {
+                return null;
+            }
+
+            final AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newFixedThreadPool(parallelism, runnable -> {
+                final Thread thread = new Thread(() -> {
+                    VALIDATION_THREAD.set(TRUE);
+                    runnable.run();
+                }, "validation-rule-executor-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
 }
@@ -4,6 +4,7 @@ package uk.gov.moj.cpp.prosecution.casefile.validation.context;
 import static java.util.Collections.EMPTY_LIST;
 import static java.util.stream.Collectors.toList;
 
+import uk.gov.moj.cpp.prosecution.casefile.domain.ReferenceDataIndex;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenceReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ReferenceDataCountryNationality;
 
@@ -15,6 +16,8 @@ public class ReferenceDataValidationContext {
     final List<OffenceReferenceData> offenceCodeReferenceData;
     final List<ReferenceDataCountryNationality> nationalityReferenceData;
 
+    private final ReferenceDataIndex<OffenceReferenceData> offenceReferenceDataByCjsCode = new ReferenceDataIndex<>(OffenceReferenceData::getCjsOffenceCode, false);
+
     public static ReferenceDataValidationContext withOffenceCodeReferenceDataOnly(final List<OffenceReferenceData> offenceCodeReferenceData) {
 
         return new ReferenceDataValidationContext(offenceCodeReferenceData, EMPTY_LIST);
@@ -49,12 +52,9 @@ public class ReferenceDataValidationContext {
     }
 
     public Optional<OffenceReferenceData> getReferenceDataByOffenceCode(String offenceCode) {
-        return
-                getOffenceCodeReferenceData()
-                        .stream()
-                        .filter(rd -> rd.getCjsOffenceCode().equals(offenceCode))
-                        .findFirst();
-
+        return offenceReferenceDataByCjsCode.get(getOffenceCodeReferenceData(), offenceCode)
+                .stream()
+                .findFirst();
     }
 
 }
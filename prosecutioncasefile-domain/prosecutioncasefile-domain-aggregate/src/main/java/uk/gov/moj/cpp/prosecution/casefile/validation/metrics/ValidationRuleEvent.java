@@ -0,0 +1,34 @@
+package uk.gov.moj.cpp.prosecution.casefile.validation.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a single validation rule execution. Disabled by default; it is only
+ * recorded when a recording's settings enable {@code uk.gov.moj.cpp.prosecutioncasefile.ValidationRule}.
+ */
+@Name("uk.gov.moj.cpp.prosecutioncasefile.ValidationRule")
+@Label("Validation Rule")
+@Description("Execution of a prosecution case file validation rule")
+@Category({"Prosecution Case File", "Validation"})
+@StackTrace(false)
+@Enabled(false)
+class ValidationRuleEvent extends Event {
+
+    @Label("Rule")
+    String rule;
+
+    @Label("Case Type")
+    String caseType;
+
+    @Label("Channel")
+    String channel;
+
+    @Label("Problems")
+    int problems;
+}
@@ -0,0 +1,261 @@
+package uk.gov.moj.cpp.prosecution.casefile.validation.metrics;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel;
+import uk.gov.moj.cpp.prosecution.casefile.validation.CaseType;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import jdk.jfr.EventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-rule latency and problem counts for the validation engine, tagged by case type and channel.
+ * <p>
+ * The tags are taken from the enclosing {@link #withTags} call on the thread that starts the
+ * validation; rules validated outside one are tagged {@value #UNTAGGED}, and initiation codes
+ * that are not a known {@link CaseType} are tagged {@value #OTHER}. Rules are identified by their
+ * fully qualified class name. Metrics are exposed over JMX as {@value #OBJECT_NAME}, and each rule
+ * execution is also emitted as a {@link ValidationRuleEvent} when a Flight Recorder recording
+ * enables it. Recording can be turned off with the {@value #ENABLED_PROPERTY} system property.
+ */
+public class ValidationRuleMetrics implements ValidationRuleMetricsMXBean {
+
+    public static final String OBJECT_NAME = "uk.gov.moj.cpp.prosecution.casefile:type=ValidationRuleMetrics";
+    public static final String ENABLED_PROPERTY = "prosecutioncasefile.validation.metrics.enabled";
+
+    static final String UNTAGGED = "UNKNOWN";
+    static final String OTHER = "OTHER";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ValidationRuleMetrics.class);
+
+    private static final EventType RULE_EVENT_TYPE = EventType.getEventType(ValidationRuleEvent.class);
+    private static final Tags NO_TAGS = new Tags(UNTAGGED, UNTAGGED);
+    private static final ThreadLocal<Tags> CURRENT_TAGS = new ThreadLocal<>();
+    private static final ValidationRuleMetrics INSTANCE = new ValidationRuleMetrics(!"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY)));
+
+    static {
+        INSTANCE.registerMBean();
+    }
+
+    private final boolean enabled;
+    private final ConcurrentMap<Key, RuleMetrics> ruleMetrics = new ConcurrentHashMap<>();
+
+    ValidationRuleMetrics(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static ValidationRuleMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Runs {@code validation} with every rule it executes tagged with the case type of the given
+     * initiation code and the given channel.
+     */
+    public static <T> T withTags(final String initiationCode, final Channel channel, final Supplier<T> validation) {
+        return withTags(new Tags(caseTypeOf(initiationCode), channel == null ? UNTAGGED : channel.name()), validation);
+    }
+
+    /**
+     * Runs {@code validation} with the given tags, typically those {@link #currentTags() current} on
+     * the thread that handed the validation to another thread.
+     */
+    public static <T> T withTags(final Tags tags, final Supplier<T> validation) {
+        final Tags previousTags = CURRENT_TAGS.get();
+        CURRENT_TAGS.set(tags);
+        try {
+            return validation.get();
+        } finally {
+            if (previousTags == null) {
+                CURRENT_TAGS.remove();
+            } else {
+                CURRENT_TAGS.set(previousTags);
+            }
+        }
+    }
+
+    public static Tags currentTags() {
+        final Tags tags = CURRENT_TAGS.get();
+        return tags == null ? NO_TAGS : tags;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts timing a rule execution. The returned sample must be completed with
+     * {@link Sample#stop(int)} or {@link Sample#failed()}.
+     */
+    public Sample start(final Class<?> ruleClass, final Tags tags) {
+        return new Sample(ruleClass, tags);
+    }
+
+    @Override
+    public List<ValidationRuleStatistics> getRuleStatistics() {
+        return ruleMetrics.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(comparing(ValidationRuleStatistics::getTotalTimeMicros).reversed())
+                .collect(toList());
+    }
+
+    @Override
+    public void reset() {
+        ruleMetrics.clear();
+    }
+
+    private void record(final Class<?> ruleClass, final Tags tags, final long elapsedNanos, final int problems, final boolean failed) {
+        final RuleMetrics metrics = ruleMetrics.computeIfAbsent(new Key(ruleClass.getName(), tags), key -> new RuleMetrics());
+        metrics.invocations.increment();
+        metrics.totalTimeNanos.add(elapsedNanos);
+        metrics.maxTimeNanos.accumulate(elapsedNanos);
+        metrics.problems.add(problems);
+        if (failed) {
+            metrics.failures.increment();
+        }
+    }
+
+    private void registerMBean() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(this, objectName);
+        } catch (final JMException | SecurityException e) {
+            LOGGER.warn("Unable to register validation rule metrics MBean {}", OBJECT_NAME, e);
+        }
+    }
+
+    private static String caseTypeOf(final String initiationCode) {
+        return Stream.of(CaseType.values())
+                .filter(caseType -> caseType.getCode().equals(initiationCode))
+                .map(CaseType::name)
+                .findFirst()
+                .orElse(initiationCode == null ? UNTAGGED : OTHER);
+    }
+
+    public class Sample {
+
+        private final Class<?> ruleClass;
+        private final Tags tags;
+        private final long startNanos;
+        private final ValidationRuleEvent event;
+
+        private Sample(final Class<?> ruleClass, final Tags tags) {
+            this.ruleClass = ruleClass;
+            this.tags = tags;
+            // only allocated while a recording enables the event, as rules run on every validation
+            this.event = RULE_EVENT_TYPE.isEnabled() ? new ValidationRuleEvent() : null;
+            if (event != null) {
+                event.begin();
+            }
+            this.startNanos = System.nanoTime();
+        }
+
+        public void stop(final int problems) {
+            complete(problems, false);
+        }
+
+        public void failed() {
+            complete(0, true);
+        }
+
+        private void complete(final int problems, final boolean failed) {
+            final long elapsedNanos = System.nanoTime() - startNanos;
+            if (enabled) {
+                record(ruleClass, tags, elapsedNanos, problems, failed);
+            }
+
+            if (event == null) {
+                return;
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.rule = ruleClass.getName();
+                event.caseType = tags.caseType;
+                event.channel = tags.channel;
+                event.problems = problems;
+                event.commit();
+            }
+        }
+    }
+
+    public static class Tags {
+
+        private final String caseType;
+        private final String channel;
+
+        Tags(final String caseType, final String channel) {
+            this.caseType = caseType;
+            this.channel = channel;
+        }
+
+        public String getCaseType() {
+            return caseType;
+        }
+
+        public String getChannel() {
+            return channel;
+        }
+    }
+
+    private static class Key {
+
+        private final String rule;
+        private final Tags tags;
+
+        Key(final String rule, final Tags tags) {
+            this.rule = rule;
+            this.tags = tags;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return rule.equals(that.rule) && tags.caseType.equals(that.tags.caseType) && tags.channel.equals(that.tags.channel);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(rule, tags.caseType, tags.channel);
+        }
+    }
+
+    private static class RuleMetrics {
+
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder problems = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalTimeNanos = new LongAdder();
+        private final LongAccumulator maxTimeNanos = new LongAccumulator(Math::max, 0);
+
+        private ValidationRuleStatistics snapshot(final Key key) {
+            return new ValidationRuleStatistics(key.rule, key.tags.caseType, key.tags.channel, invocations.sum(),
+                    problems.sum(), failures.sum(), totalTimeNanos.sum(), maxTimeNanos.get());
+        }
+    }
+}
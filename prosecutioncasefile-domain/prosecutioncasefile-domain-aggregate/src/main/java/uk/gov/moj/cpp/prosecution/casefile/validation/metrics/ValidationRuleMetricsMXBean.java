@@ -0,0 +1,14 @@
+package uk.gov.moj.cpp.prosecution.casefile.validation.metrics;
+
+import java.util.List;
+
+/**
+ * JMX view of the per-rule validation metrics, registered as
+ * {@value ValidationRuleMetrics#OBJECT_NAME}.
+ */
+public interface ValidationRuleMetricsMXBean {
+
+    List<ValidationRuleStatistics> getRuleStatistics();
+
+    void reset();
+}
@@ -0,0 +1,73 @@
+package uk.gov.moj.cpp.prosecution.casefile.validation.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Point-in-time snapshot of the metrics recorded for one rule, case type and channel.
+ */
+public class ValidationRuleStatistics {
+
+    private final String rule;
+    private final String caseType;
+    private final String channel;
+    private final long invocations;
+    private final long problems;
+    private final long failures;
+    private final long totalTimeNanos;
+    private final long maxTimeNanos;
+
+    public ValidationRuleStatistics(final String rule, final String caseType, final String channel, final long invocations,
+                                    final long problems, final long failures, final long totalTimeNanos, final long maxTimeNanos) {
+        this.rule = rule;
+        this.caseType = caseType;
+        this.channel = channel;
+        this.invocations = invocations;
+        this.problems = problems;
+        this.failures = failures;
+        this.totalTimeNanos = totalTimeNanos;
+        this.maxTimeNanos = maxTimeNanos;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+
+    public String getCaseType() {
+        return caseType;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public long getInvocations() {
+        return invocations;
+    }
+
+    public long getProblems() {
+        return problems;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public long getTotalTimeMicros() {
+        return NANOSECONDS.toMicros(totalTimeNanos);
+    }
+
+    public long getMaxTimeMicros() {
+        return NANOSECONDS.toMicros(maxTimeNanos);
+    }
+
+    public long getMeanTimeMicros() {
+        return invocations == 0 ? 0 : NANOSECONDS.toMicros(totalTimeNanos / invocations);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationRuleStatistics{rule=" + rule + ", caseType=" + caseType + ", channel=" + channel
+                + ", invocations=" + invocations + ", problems=" + problems + ", failures=" + failures
+                + ", meanTimeMicros=" + getMeanTimeMicros() + ", maxTimeMicros=" + getMaxTimeMicros() + "}";
+    }
+}
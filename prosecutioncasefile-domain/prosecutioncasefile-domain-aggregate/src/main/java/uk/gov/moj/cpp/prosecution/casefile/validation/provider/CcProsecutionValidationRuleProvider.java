@@ -1,9 +1,11 @@
 package uk.gov.moj.cpp.prosecution.casefile.validation.provider;
 
 import static com.google.common.collect.ImmutableMap.of;
+import static java.lang.Boolean.TRUE;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toSet;
 import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel.CIVIL;
 import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel.MCC;
 import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel.SPI;
@@ -12,18 +14,47 @@ import static uk.gov.moj.cpp.prosecution.casefile.validation.CaseType.OTHER;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.CaseType.REQUISITION;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.CaseType.SJP;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.CaseType.SUMMONS;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.provider.RuleMetadata.reads;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.CORPORATE_DEFENDANT_PRIMARY_EMAIL_ADDRESS;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.CORPORATE_DEFENDANT_SECONDARY_EMAIL_ADDRESS;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.COURT_RECEIVED_FROM;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.COURT_RECEIVED_TO;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DEFENDANT_ADDITIONAL_NATIONALITY;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DEFENDANT_COURT_HEARING_LOCATION;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DEFENDANT_CUSTODY_STATUS;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DEFENDANT_DATE_OF_HEARING;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DEFENDANT_NATIONALITY;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DEFENDANT_OBSERVED_ETHNICITY;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DEFENDANT_OFFENDER_CODE;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DEFENDANT_PRIMARY_EMAIL_ADDRESS;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DEFENDANT_SECONDARY_EMAIL_ADDRESS;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DEFENDANT_SELF_DEFINED_ETHNICITY;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.HEARING_TYPE_CODE;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.OFFENCE_CODE;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.OFFENCE_LOCATION;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.OFFENCE_VEHICLE_CODE;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.PARENT_GUARDIAN_OBSERVED_ETHNICITY;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.PARENT_GUARDIAN_PRIMARY_EMAIL_ADDRESS;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.PARENT_GUARDIAN_SECONDARY_EMAIL_ADDRESS;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.PARENT_GUARDIAN_SELF_DEFINED_ETHNICITY;
 
 import uk.gov.moj.cpp.prosecution.casefile.domain.DefendantWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.domain.GroupProsecutionList;
 import uk.gov.moj.cpp.prosecution.casefile.domain.ProsecutionWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ContactDetails;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Individual;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ParentGuardianInformation;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.PersonalInformation;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.CaseType;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.CaseInitiationValidationRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.CaseMarkersValidationAndEnricherRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.CaseNewhearingListDefendantsValidationRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.PoliceForceCodeValidationRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ProsecutorReferenceDataValidationRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SummonsCodeValidationRule;
+import uk.gov.moj.cpp.prosecution.casefile.validation.provider.ValidationRulePlan.PlannedRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.defendant.AdditionalNationalityValidationAndEnricherRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.defendant.BailConditionsValidationAndEnricherRule;
@@ -82,8 +113,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
 @SuppressWarnings("java:S4738")
 public class CcProsecutionValidationRuleProvider {
 
@@ -281,6 +319,53 @@ public class CcProsecutionValidationRuleProvider {
             OTHER.getCode(), Stream.of(GROUP_CIVIL_DEFENDANT_RULE_SET,COMMON_DEFENDANT_RULE_SET, NON_POLICE_DEFENDANT_RULE_SET, CHARGE_DEFENDANT_RULE_SET_CIVIL).flatMap(Collection::stream).toList());
 
 
+    private static final String OTHER_INITIATION_CODES = "*";
+    private static final Set<String> KNOWN_INITIATION_CODES = Stream.of(CaseType.values()).map(CaseType::getCode).collect(toSet());
+
+    private static final Set<Class<?>> INITIAL_HEARING_RULES = ImmutableSet.of(
+            DateOfHearingValidationAndEnricherRule.class,
+            DateOfHearingPastDateValidationAndEnricherRule.class,
+            CourtHearingLocationValidationRule.class);
+
+    private static final Map<Class<?>, RuleMetadata<DefendantWithReferenceData>> DEFENDANT_RULE_METADATA = ImmutableMap.<Class<?>, RuleMetadata<DefendantWithReferenceData>>builder()
+            .put(IndividualDefendantPrimaryEmailAddressValidationRule.class, RuleMetadata.<DefendantWithReferenceData>reads(DEFENDANT_PRIMARY_EMAIL_ADDRESS)
+                    .onlyWhen(defendant -> individualContactDetail(defendant, ContactDetails::getPrimaryEmail)))
+            .put(IndividualDefendantSecondaryEmailAddressValidationRule.class, RuleMetadata.<DefendantWithReferenceData>reads(DEFENDANT_SECONDARY_EMAIL_ADDRESS)
+                    .onlyWhen(defendant -> individualContactDetail(defendant, ContactDetails::getSecondaryEmail)))
+            .put(CorporateDefendantPrimaryEmailAddressValidationRule.class, RuleMetadata.<DefendantWithReferenceData>reads(CORPORATE_DEFENDANT_PRIMARY_EMAIL_ADDRESS)
+                    .onlyWhen(defendant -> defendant.getDefendant().getEmailAddress1() != null))
+            .put(CorporateDefendantSecondaryEmailAddressValidationRule.class, RuleMetadata.<DefendantWithReferenceData>reads(CORPORATE_DEFENDANT_SECONDARY_EMAIL_ADDRESS)
+                    .onlyWhen(defendant -> defendant.getDefendant().getEmailAddress2() != null))
+            .put(ParentGuardianPrimaryEmailAddressValidationRule.class, RuleMetadata.<DefendantWithReferenceData>reads(PARENT_GUARDIAN_PRIMARY_EMAIL_ADDRESS)
+                    .onlyWhen(defendant -> parentGuardianContactDetail(defendant, ContactDetails::getPrimaryEmail)))
+            .put(ParentGuardianSecondaryEmailAddressValidationRule.class, RuleMetadata.<DefendantWithReferenceData>reads(PARENT_GUARDIAN_SECONDARY_EMAIL_ADDRESS)
+                    .onlyWhen(defendant -> parentGuardianContactDetail(defendant, ContactDetails::getSecondaryEmail)))
+            .put(DateOfHearingValidationAndEnricherRule.class, reads(DEFENDANT_DATE_OF_HEARING))
+            .put(DateOfHearingPastDateValidationAndEnricherRule.class, reads(DEFENDANT_DATE_OF_HEARING))
+            .put(CourtHearingLocationValidationRule.class, reads(DEFENDANT_COURT_HEARING_LOCATION))
+            .put(CourtReceivedFromCodeCourtValidationRules.class, reads(COURT_RECEIVED_FROM))
+            .put(CourtReceivedToCodeCourtValidationRules.class, reads(COURT_RECEIVED_TO))
+            .put(HearingTypeCodeValidationRule.class, reads(HEARING_TYPE_CODE))
+            .put(NationalityValidationAndEnricherRule.class, reads(DEFENDANT_NATIONALITY))
+            .put(AdditionalNationalityValidationAndEnricherRule.class, reads(DEFENDANT_ADDITIONAL_NATIONALITY))
+            .put(ObservedEthnicityValidationAndEnricherRule.class, reads(DEFENDANT_OBSERVED_ETHNICITY))
+            .put(SelfDefinedEthnicityValidationAndEnricherRule.class, reads(DEFENDANT_SELF_DEFINED_ETHNICITY))
+            .put(ParentGuardianObservedEthnicityValidationAndEnricherRule.class, reads(PARENT_GUARDIAN_OBSERVED_ETHNICITY))
+            .put(ParentGuardianSelfDefinedEthnicityValidationAndEnricherRule.class, reads(PARENT_GUARDIAN_SELF_DEFINED_ETHNICITY))
+            .put(OffenderCodeValidationAndEnricherRule.class, reads(DEFENDANT_OFFENDER_CODE))
+            .put(CustodyStatusValidationAndEnricherRule.class, reads(DEFENDANT_CUSTODY_STATUS))
+            .put(OffenceCodeValidationAndEnricherRule.class, reads(OFFENCE_CODE))
+            .put(OffenceLocationValidationAndEnricherRule.class, reads(OFFENCE_LOCATION))
+            .put(VehicleCodeValidationAndEnricherRule.class, reads(OFFENCE_VEHICLE_CODE))
+            .put(OffenceGenericValidationAndEnricherRule.class, reads(OFFENCE_CODE))
+            .put(OffenceDrugLevelAmountValidationAndEnricherRule.class, reads(OFFENCE_CODE))
+            .put(OffenceDrugLevelMethodValidationAndEnricherRule.class, reads(OFFENCE_CODE))
+            .put(OffenceBackDutyValidationRuleAndEnricherRule.class, reads(OFFENCE_CODE))
+            .build();
+
+    private static final Map<String, ValidationRulePlan<DefendantWithReferenceData, ReferenceDataQueryService>> defendantRulePlans = new ConcurrentHashMap<>();
+
+
     private CcProsecutionValidationRuleProvider() {
     }
 
@@ -297,16 +382,32 @@ public class CcProsecutionValidationRuleProvider {
     public static List<ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService>> getDefendantValidationRules(final String defendantInitiationCode,
                                                                                                                           final Channel channel,
                                                                                                                           final Boolean isCivil) {
-        if (nonNull(channel) && CIVIL.equals(channel) && nonNull(isCivil) && (isCivil)) {
-            return getValidationRules(defendantInitiationCode, COMMON_DEFENDANT_RULE_SET, SPI_DEFENDANT_RULE_SET, defendantValidationMapForGroupCivilCases);
-        } else if (nonNull(channel) && MCC.equals(channel) && nonNull(isCivil) && (isCivil)) {
-            return getValidationRules(defendantInitiationCode, COMMON_DEFENDANT_RULE_SET, SPI_DEFENDANT_RULE_SET, defendantValidationMapMCCCivil);
-        } else if (nonNull(channel) && SPI.equals(channel)) {
-            return getValidationRules(defendantInitiationCode, COMMON_DEFENDANT_RULE_SET, SPI_DEFENDANT_RULE_SET, defendantValidationMapSpi);
-        } else if (nonNull(channel) && MCC.equals(channel)) {
-            return getValidationRules(defendantInitiationCode, COMMON_DEFENDANT_RULE_SET, SPI_DEFENDANT_RULE_SET, defendantValidationMapMCC);
-        }
-        return getValidationRules(defendantInitiationCode, COMMON_DEFENDANT_RULE_SET, NON_POLICE_DEFENDANT_RULE_SET, defendantValidationMap);
+        return getDefendantValidationPlan(defendantInitiationCode, channel, isCivil, false, false).getRules();
+    }
+
+    /**
+     * Returns the defendant rule plan for the given combination of flags, compiling it on first
+     * use. Initial hearing rules are left out of the plan for MCC cases listed with a new hearing
+     * and for inactive migrated cases, as they never apply to them. Initiation codes without a rule
+     * set of their own share a single plan.
+     */
+    public static ValidationRulePlan<DefendantWithReferenceData, ReferenceDataQueryService> getDefendantValidationPlan(final String defendantInitiationCode,
+                                                                                                                       final Channel channel,
+                                                                                                                       final Boolean isCivil,
+                                                                                                                       final boolean isMCCWithListNewHearing,
+                                                                                                                       final boolean isInactiveMigratedCase) {
+        final String planInitiationCode = KNOWN_INITIATION_CODES.contains(defendantInitiationCode) ? defendantInitiationCode : OTHER_INITIATION_CODES;
+        final String key = String.join("|", planInitiationCode, String.valueOf(channel), String.valueOf(TRUE.equals(isCivil)),
+                String.valueOf(isMCCWithListNewHearing), String.valueOf(isInactiveMigratedCase));
+
+        return defendantRulePlans.computeIfAbsent(key, planKey -> {
+            final boolean withoutInitialHearing = isMCCWithListNewHearing || isInactiveMigratedCase;
+            final List<PlannedRule<DefendantWithReferenceData, ReferenceDataQueryService>> plannedRules = selectDefendantValidationRules(defendantInitiationCode, channel, isCivil).stream()
+                    .filter(rule -> !(withoutInitialHearing && INITIAL_HEARING_RULES.contains(rule.getClass())))
+                    .map(rule -> new PlannedRule<>(rule, DEFENDANT_RULE_METADATA.getOrDefault(rule.getClass(), RuleMetadata.unspecified())))
+                    .toList();
+            return new ValidationRulePlan<>(planKey, plannedRules);
+        });
     }
 
     public static List<ValidationRule<GroupProsecutionList, ReferenceDataQueryService>> getGroupCasesValidationRules() {
@@ -346,4 +447,36 @@ public class CcProsecutionValidationRuleProvider {
             return Stream.of(commonDefendantRules, spiDefendantRules, DEFAULT_DEFENDANT_RULE_SET).flatMap(Collection::stream).toList();
         }
     }
-}
\ No newline at end of file
+
+    private static List<ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService>> selectDefendantValidationRules(final String defendantInitiationCode,
+                                                                                                                             final Channel channel,
+                                                                                                                             final Boolean isCivil) {
+        if (nonNull(channel) && CIVIL.equals(channel) && nonNull(isCivil) && (isCivil)) {
+            return getValidationRules(defendantInitiationCode, COMMON_DEFENDANT_RULE_SET, SPI_DEFENDANT_RULE_SET, defendantValidationMapForGroupCivilCases);
+        } else if (nonNull(channel) && MCC.equals(channel) && nonNull(isCivil) && (isCivil)) {
+            return getValidationRules(defendantInitiationCode, COMMON_DEFENDANT_RULE_SET, SPI_DEFENDANT_RULE_SET, defendantValidationMapMCCCivil);
+        } else if (nonNull(channel) && SPI.equals(channel)) {
+            return getValidationRules(defendantInitiationCode, COMMON_DEFENDANT_RULE_SET, SPI_DEFENDANT_RULE_SET, defendantValidationMapSpi);
+        } else if (nonNull(channel) && MCC.equals(channel)) {
+            return getValidationRules(defendantInitiationCode, COMMON_DEFENDANT_RULE_SET, SPI_DEFENDANT_RULE_SET, defendantValidationMapMCC);
+        }
+        return getValidationRules(defendantInitiationCode, COMMON_DEFENDANT_RULE_SET, NON_POLICE_DEFENDANT_RULE_SET, defendantValidationMap);
+    }
+
+    private static boolean individualContactDetail(final DefendantWithReferenceData defendantWithReferenceData, final Function<ContactDetails, String> contactDetail) {
+        return Optional.ofNullable(defendantWithReferenceData.getDefendant().getIndividual())
+                .map(Individual::getPersonalInformation)
+                .map(PersonalInformation::getContactDetails)
+                .map(contactDetail)
+                .isPresent();
+    }
+
+    private static boolean parentGuardianContactDetail(final DefendantWithReferenceData defendantWithReferenceData, final Function<ContactDetails, String> contactDetail) {
+        return Optional.ofNullable(defendantWithReferenceData.getDefendant().getIndividual())
+                .map(Individual::getParentGuardianInformation)
+                .map(ParentGuardianInformation::getPersonalInformation)
+                .map(PersonalInformation::getContactDetails)
+                .map(contactDetail)
+                .isPresent();
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.moj.cpp.prosecution.casefile.validation.provider;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Static description of a validation rule: the input fields it reads and a cheap precondition
+ * that must hold for the rule to be able to report a problem. Rules whose precondition does not
+ * hold for an input are skipped without being run.
+ */
+public class RuleMetadata<T> {
+
+    private static final RuleMetadata<Object> UNSPECIFIED = new RuleMetadata<>(emptySet(), input -> true);
+
+    private final Set<FieldName> fieldsRead;
+    private final Predicate<T> precondition;
+
+    private RuleMetadata(final Set<FieldName> fieldsRead, final Predicate<T> precondition) {
+        this.fieldsRead = fieldsRead;
+        this.precondition = precondition;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> RuleMetadata<T> unspecified() {
+        return (RuleMetadata<T>) UNSPECIFIED;
+    }
+
+    public static <T> RuleMetadata<T> reads(final FieldName... fieldsRead) {
+        return new RuleMetadata<>(fieldSet(fieldsRead), input -> true);
+    }
+
+    public RuleMetadata<T> onlyWhen(final Predicate<T> precondition) {
+        return new RuleMetadata<>(fieldsRead, precondition);
+    }
+
+    public Set<FieldName> getFieldsRead() {
+        return fieldsRead;
+    }
+
+    public boolean appliesTo(final T input) {
+        return precondition.test(input);
+    }
+
+    private static Set<FieldName> fieldSet(final FieldName... fieldsRead) {
+        return fieldsRead.length == 0 ? emptySet() : unmodifiableSet(EnumSet.copyOf(asList(fieldsRead)));
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.moj.cpp.prosecution.casefile.validation.provider;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable, ordered set of validation rules selected for one combination of case flags, along
+ * with the {@link RuleMetadata} of each rule.
+ */
+public class ValidationRulePlan<T, S> {
+
+    private final String key;
+    private final List<PlannedRule<T, S>> plannedRules;
+    private final List<ValidationRule<T, S>> rules;
+
+    ValidationRulePlan(final String key, final List<PlannedRule<T, S>> plannedRules) {
+        this.key = key;
+        this.plannedRules = unmodifiableList(new ArrayList<>(plannedRules));
+        this.rules = unmodifiableList(plannedRules.stream().map(PlannedRule::getRule).collect(toList()));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public List<PlannedRule<T, S>> getPlannedRules() {
+        return plannedRules;
+    }
+
+    public List<ValidationRule<T, S>> getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the rules of this plan whose precondition holds for the given input, in plan order.
+     */
+    public List<ValidationRule<T, S>> getApplicableRules(final T input) {
+        final List<ValidationRule<T, S>> applicableRules = new ArrayList<>(plannedRules.size());
+        for (final PlannedRule<T, S> plannedRule : plannedRules) {
+            if (plannedRule.getMetadata().appliesTo(input)) {
+                applicableRules.add(plannedRule.getRule());
+            }
+        }
+        return applicableRules;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationRulePlan{" + key + ", rules=" + plannedRules.stream()
+                .map(plannedRule -> plannedRule.getRule().getClass().getSimpleName())
+                .collect(toList()) + "}";
+    }
+
+    public static class PlannedRule<T, S> {
+
+        private final ValidationRule<T, S> rule;
+        private final RuleMetadata<T> metadata;
+
+        PlannedRule(final ValidationRule<T, S> rule, final RuleMetadata<T> metadata) {
+            this.rule = rule;
+            this.metadata = metadata;
+        }
+
+        public ValidationRule<T, S> getRule() {
+            return rule;
+        }
+
+        public RuleMetadata<T> getMetadata() {
+            return metadata;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
 import java.util.ArrayList;
 import java.util.List;
 
+@SequentialRule
 public class CaseMarkersValidationAndEnricherRule implements ValidationRule<ProsecutionWithReferenceData, ReferenceDataQueryService> {
 
 
@@ -0,0 +1,23 @@
+package uk.gov.moj.cpp.prosecution.casefile.validation.rules;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link ValidationRule} that mutates the input or the reference data it validates against
+ * (the enricher rules, and the material rules that categorise a document or resolve its defendant),
+ * so it is never run concurrently with other rules. Every rule that mutates either must carry it.
+ * When rules are executed in parallel a sequential rule acts as a barrier: every rule before it in
+ * the rule list completes before it runs, and no rule after it starts until it has finished.
+ */
+@Documented
+@Inherited
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface SequentialRule {
+}
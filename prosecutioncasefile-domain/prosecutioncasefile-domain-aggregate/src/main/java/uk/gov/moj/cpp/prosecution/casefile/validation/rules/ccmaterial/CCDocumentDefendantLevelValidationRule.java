@@ -5,6 +5,7 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DocumentCategory;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DocumentTypeAccessReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
@@ -21,6 +22,7 @@ import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.PRO
 import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult.VALID;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult.newValidationResult;
 
+@SequentialRule
 public class CCDocumentDefendantLevelValidationRule implements ValidationRule<CaseDocumentWithReferenceData, ReferenceDataQueryService> {
 
     @Override
@@ -28,9 +28,11 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DefendantSubject;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DocumentCategory;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DocumentTypeAccessReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
+@SequentialRule
 public class CCDocumentDefendantLevelValidationRuleForPendingV2 implements ValidationRule<CaseDocumentWithReferenceData, ReferenceDataQueryService> {
 
     @Override
@@ -27,12 +27,14 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DocumentCategory;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DocumentTypeAccessReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
 import java.util.List;
 import java.util.Optional;
 
+@SequentialRule
 public class CCDocumentDefendantLevelValidationRuleV2 implements ValidationRule<CaseDocumentWithReferenceData, ReferenceDataQueryService> {
 
     @Override
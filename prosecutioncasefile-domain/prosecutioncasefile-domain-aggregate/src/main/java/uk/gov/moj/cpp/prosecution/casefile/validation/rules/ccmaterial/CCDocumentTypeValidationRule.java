@@ -4,6 +4,7 @@ import uk.gov.moj.cpp.prosecution.casefile.domain.CaseDocumentWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DocumentCategory;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DocumentTypeAccessReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
@@ -17,6 +18,7 @@ import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DOC
 import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult.VALID;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult.newValidationResult;
 
+@SequentialRule
 public class CCDocumentTypeValidationRule implements ValidationRule<CaseDocumentWithReferenceData, ReferenceDataQueryService> {
 
     @Override
@@ -13,9 +13,11 @@ import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRes
 import uk.gov.moj.cpp.prosecution.casefile.domain.CaseDocumentWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProsecutorsReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
+@SequentialRule
 public class OuCodeValidationRule implements ValidationRule<CaseDocumentWithReferenceData, ReferenceDataQueryService> {
 
     @Override
@@ -15,11 +15,13 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.SelfDefinedInformation;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
 import uk.gov.moj.cpp.prosecution.casefile.validation.ProblemCode;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
 import java.util.Optional;
 
+@SequentialRule
 abstract class AbstractNationalityValidationRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     protected abstract String getNationality(SelfDefinedInformation selfDefinedInformation);
@@ -42,9 +44,7 @@ abstract class AbstractNationalityValidationRule implements ValidationRule<Defen
         final String nationality = getNationality(defendantWithReferenceData.getDefendant().getIndividual().getSelfDefinedInformation());
         final ReferenceDataVO referenceDataVO = defendantWithReferenceData.getReferenceDataVO();
 
-        Optional<ReferenceDataCountryNationality> referenceDataCountryNationalityOptional = referenceDataVO.getCountryNationalityReferenceData().stream()
-                .filter(referenceDataCountryNationality -> isNationalityMatch(nationality, referenceDataCountryNationality))
-                .findAny();
+        Optional<ReferenceDataCountryNationality> referenceDataCountryNationalityOptional = referenceDataVO.findCountryNationality(nationality);
 
         if (referenceDataCountryNationalityOptional.isPresent()) {
             return VALID;
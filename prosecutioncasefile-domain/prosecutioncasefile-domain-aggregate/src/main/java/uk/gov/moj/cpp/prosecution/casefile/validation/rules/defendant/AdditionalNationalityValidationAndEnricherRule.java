@@ -3,10 +3,12 @@ package uk.gov.moj.cpp.prosecution.casefile.validation.rules.defendant;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.SelfDefinedInformation;
 import uk.gov.moj.cpp.prosecution.casefile.validation.ProblemCode;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 
 import static uk.gov.moj.cpp.prosecution.casefile.validation.ProblemCode.DEFENDANT_ADDITIONAL_NATIONALITY_INVALID;
 import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DEFENDANT_ADDITIONAL_NATIONALITY;
 
+@SequentialRule
 public class AdditionalNationalityValidationAndEnricherRule extends AbstractNationalityValidationRule {
 
     @Override
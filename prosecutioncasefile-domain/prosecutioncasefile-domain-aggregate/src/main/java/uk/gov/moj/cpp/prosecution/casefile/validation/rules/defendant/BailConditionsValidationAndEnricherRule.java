@@ -10,9 +10,11 @@ import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRes
 import uk.gov.moj.cpp.prosecution.casefile.domain.DefendantWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
+@SequentialRule
 public class BailConditionsValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
 
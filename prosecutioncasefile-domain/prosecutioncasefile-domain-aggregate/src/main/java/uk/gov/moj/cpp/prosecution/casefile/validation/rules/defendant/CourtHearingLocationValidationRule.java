@@ -13,11 +13,13 @@ import uk.gov.moj.cpp.prosecution.casefile.domain.ReferenceDataVO;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OrganisationUnitWithCourtroomReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
 import java.util.Optional;
 
+@SequentialRule
 public class CourtHearingLocationValidationRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     private static final int COURT_HEARING_OU_CODE_LENGHT = 7;
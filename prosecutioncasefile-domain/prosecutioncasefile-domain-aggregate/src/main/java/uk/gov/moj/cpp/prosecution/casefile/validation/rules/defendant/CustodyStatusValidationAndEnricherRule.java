@@ -12,12 +12,14 @@ import uk.gov.moj.cpp.prosecution.casefile.domain.ReferenceDataVO;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.BailStatusReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
 import java.util.Objects;
 import java.util.Optional;
 
+@SequentialRule
 public class CustodyStatusValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     public static final String CHARGE_CASE_TYPE = "C";
@@ -42,7 +44,7 @@ public class CustodyStatusValidationAndEnricherRule implements ValidationRule<De
             final String custodyStatus = defendantWithReferenceData.getDefendant().getCustodyStatus();
             final ReferenceDataVO referenceDataVO = defendantWithReferenceData.getReferenceDataVO();
 
-            Optional<BailStatusReferenceData> bailStatusReferenceDataOptional = referenceDataVO.getBailStatusReferenceData().stream().filter(custodyStatusReferenceData -> custodyStatus.equals(custodyStatusReferenceData.getStatusCode())).findAny();
+            Optional<BailStatusReferenceData> bailStatusReferenceDataOptional = referenceDataVO.findBailStatus(custodyStatus);
             if (bailStatusReferenceDataOptional.isPresent()) {
                 return VALID;
             }
@@ -10,12 +10,14 @@ import uk.gov.moj.cpp.prosecution.casefile.domain.DefendantWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
+@SequentialRule
 public class DateOfHearingPastDateValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     @Override
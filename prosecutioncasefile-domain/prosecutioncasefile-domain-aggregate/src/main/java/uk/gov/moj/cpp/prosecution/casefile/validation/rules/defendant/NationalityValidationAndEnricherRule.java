@@ -5,7 +5,9 @@ import static uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName.DEF
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.SelfDefinedInformation;
 import uk.gov.moj.cpp.prosecution.casefile.validation.ProblemCode;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.FieldName;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 
+@SequentialRule
 public class NationalityValidationAndEnricherRule extends AbstractNationalityValidationRule {
 
     @Override
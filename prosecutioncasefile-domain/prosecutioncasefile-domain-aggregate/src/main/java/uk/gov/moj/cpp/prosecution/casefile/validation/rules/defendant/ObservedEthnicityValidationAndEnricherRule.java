@@ -11,11 +11,13 @@ import uk.gov.moj.cpp.prosecution.casefile.domain.DefendantWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ObservedEthnicityReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
 import java.util.Optional;
 
+@SequentialRule
 public class ObservedEthnicityValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     @Override
@@ -29,8 +31,7 @@ public class ObservedEthnicityValidationAndEnricherRule implements ValidationRul
         final String observedEthnicity = defendantWithReferenceData.getDefendant().getIndividual().getPersonalInformation().getObservedEthnicity().toString();
 
         Optional<ObservedEthnicityReferenceData> referenceObservedEthnicityOptional = defendantWithReferenceData.getReferenceDataVO()
-                .getObservedEthnicityReferenceData().stream()
-                .filter(referenceObservedEthnicity -> referenceObservedEthnicity.getEthnicityCode().equals(observedEthnicity)).findAny();
+                .findObservedEthnicity(observedEthnicity);
 
         if (referenceObservedEthnicityOptional.isPresent()) {
             return VALID;
@@ -11,10 +11,12 @@ import uk.gov.moj.cpp.prosecution.casefile.domain.DefendantWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenderCodeReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 import java.util.Optional;
 
+@SequentialRule
 public class OffenderCodeValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     @Override
@@ -26,8 +28,7 @@ public class OffenderCodeValidationAndEnricherRule implements ValidationRule<Def
         final String offenderCode = defendantWithReferenceData.getDefendant().getIndividual().getOffenderCode();
 
         Optional<OffenderCodeReferenceData> referenceDataOffenderCodeOptional = defendantWithReferenceData.getReferenceDataVO()
-                                     .getOffenderCodeReferenceData().stream()
-                                     .filter(referenceDataOffenceCode -> referenceDataOffenceCode.getOffenderCode().equals(offenderCode)).findAny();
+                                     .findOffenderCode(offenderCode);
 
         if (referenceDataOffenderCodeOptional.isPresent()) {
             return VALID;
@@ -12,12 +12,14 @@ import uk.gov.moj.cpp.prosecution.casefile.domain.ReferenceDataVO;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ObservedEthnicityReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
 import java.util.List;
 import java.util.Optional;
 
+@SequentialRule
 public class ParentGuardianObservedEthnicityValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     @Override
@@ -31,7 +33,7 @@ public class ParentGuardianObservedEthnicityValidationAndEnricherRule implements
         final String observedEthnicity = defendantWithReferenceData.getDefendant().getIndividual().getParentGuardianInformation().getObservedEthnicity();
         final ReferenceDataVO referenceDataVO = defendantWithReferenceData.getReferenceDataVO();
 
-        Optional<ObservedEthnicityReferenceData> observedEthnicityReferenceDataOptional = referenceDataVO.getObservedEthnicityReferenceData().stream().filter(observedEthnicityReferenceData -> observedEthnicityReferenceData.getEthnicityCode().equalsIgnoreCase(observedEthnicity)).findAny();
+        Optional<ObservedEthnicityReferenceData> observedEthnicityReferenceDataOptional = referenceDataVO.findObservedEthnicityIgnoreCase(observedEthnicity);
         if (observedEthnicityReferenceDataOptional.isPresent()) {
             return VALID;
         }
@@ -12,12 +12,14 @@ import uk.gov.moj.cpp.prosecution.casefile.domain.ReferenceDataVO;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.SelfdefinedEthnicityReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
 import java.util.List;
 import java.util.Optional;
 
+@SequentialRule
 public class ParentGuardianSelfDefinedEthnicityValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     @Override
@@ -30,7 +32,7 @@ public class ParentGuardianSelfDefinedEthnicityValidationAndEnricherRule impleme
 
         final String selfDefinedEthnicity = defendantWithReferenceData.getDefendant().getIndividual().getParentGuardianInformation().getSelfDefinedEthnicity();
         final ReferenceDataVO referenceDataVO = defendantWithReferenceData.getReferenceDataVO();
-        Optional<SelfdefinedEthnicityReferenceData> selfDefinedEthnicityReferenceDataOptional = referenceDataVO.getSelfdefinedEthnicityReferenceData().stream().filter(selfdefinedEthnicityReferenceData -> selfdefinedEthnicityReferenceData.getCode().equalsIgnoreCase(selfDefinedEthnicity)).findAny();
+        Optional<SelfdefinedEthnicityReferenceData> selfDefinedEthnicityReferenceDataOptional = referenceDataVO.findSelfdefinedEthnicityIgnoreCase(selfDefinedEthnicity);
         if (selfDefinedEthnicityReferenceDataOptional.isPresent()) {
             return VALID;
         }
@@ -12,11 +12,13 @@ import uk.gov.moj.cpp.prosecution.casefile.domain.DefendantWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.SelfdefinedEthnicityReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
 import java.util.Optional;
 
+@SequentialRule
 public class SelfDefinedEthnicityValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     @Override
@@ -31,8 +33,7 @@ public class SelfDefinedEthnicityValidationAndEnricherRule implements Validation
 
 
         Optional<SelfdefinedEthnicityReferenceData> referenceSelfDefinedEthnicityOptional = defendantWithReferenceData.getReferenceDataVO()
-                .getSelfdefinedEthnicityReferenceData().stream()
-                .filter(referenceSelfdefinedEthnicity -> referenceSelfdefinedEthnicity.getCode().equals(selfDefinedIEthnicity)).findAny();
+                .findSelfdefinedEthnicity(selfDefinedIEthnicity);
 
         if (referenceSelfDefinedEthnicityOptional.isPresent()) {
             return VALID;
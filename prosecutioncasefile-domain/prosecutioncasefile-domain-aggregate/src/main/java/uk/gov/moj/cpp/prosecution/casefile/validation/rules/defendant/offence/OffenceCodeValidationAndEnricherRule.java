@@ -14,6 +14,7 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenceReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Problem;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
@@ -22,6 +23,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+@SequentialRule
 public class OffenceCodeValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
 
@@ -55,8 +57,7 @@ public class OffenceCodeValidationAndEnricherRule implements ValidationRule<Defe
 
     private Problem verifyOffenceCode(final Offence offence, final String initiationCode, final DefendantWithReferenceData defendantWithReferenceData, final ReferenceDataQueryService referenceDataQueryService) {
         final ReferenceDataVO referenceDataVO = defendantWithReferenceData.getReferenceDataVO();
-        final List<OffenceReferenceData> offenceReferenceDataListFromVO = referenceDataVO.getOffenceReferenceData().stream()
-                .filter(rd -> rd.getCjsOffenceCode().equals(offence.getOffenceCode())).filter(Objects::nonNull).collect(Collectors.toList());
+        final List<OffenceReferenceData> offenceReferenceDataListFromVO = referenceDataVO.findOffenceReferenceData(offence.getOffenceCode());
 
         if (offence.getOffenceCode().equalsIgnoreCase(GENERIC_ALTERED_OFFENCE_CODE)) {
             return null;
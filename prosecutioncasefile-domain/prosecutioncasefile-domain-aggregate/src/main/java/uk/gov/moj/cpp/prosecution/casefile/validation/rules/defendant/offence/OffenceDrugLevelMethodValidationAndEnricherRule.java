@@ -13,6 +13,7 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Offence;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenceReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
@@ -21,6 +22,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+@SequentialRule
 public class OffenceDrugLevelMethodValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     @Override
@@ -45,8 +47,7 @@ public class OffenceDrugLevelMethodValidationAndEnricherRule implements Validati
 
     private ProblemValue verifyAlcoholDrugLevelMethodRequired(final Offence offence, final String initiationCode, final DefendantWithReferenceData defendantWithReferenceData, final ReferenceDataQueryService referenceDataQueryService) {
         final ReferenceDataVO referenceDataVO = defendantWithReferenceData.getReferenceDataVO();
-        final List<OffenceReferenceData> offenceReferenceDataListFromVO = referenceDataVO.getOffenceReferenceData().stream()
-                .filter(rd -> rd.getCjsOffenceCode().equals(offence.getOffenceCode())).filter(Objects::nonNull).collect(Collectors.toList());
+        final List<OffenceReferenceData> offenceReferenceDataListFromVO = referenceDataVO.findOffenceReferenceData(offence.getOffenceCode());
 
         if (offenceReferenceDataListFromVO != null && !offenceReferenceDataListFromVO.isEmpty()) {
             return validateAlcoholDrugLevelMethod(offence, offenceReferenceDataListFromVO);
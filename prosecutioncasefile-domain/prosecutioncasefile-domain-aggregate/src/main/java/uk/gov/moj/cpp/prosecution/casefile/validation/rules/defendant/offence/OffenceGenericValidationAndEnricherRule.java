@@ -15,6 +15,7 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenceReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Problem;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
@@ -22,6 +23,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+@SequentialRule
 public class OffenceGenericValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     private static final String GENERIC_OFFENCE_CODE = "998";
@@ -44,8 +46,7 @@ public class OffenceGenericValidationAndEnricherRule implements ValidationRule<D
     private Problem verifyGenericOffenceCode(final Offence offence, final String initiationCode, final DefendantWithReferenceData defendantWithReferenceData, final ReferenceDataQueryService referenceDataQueryService) {
         final ReferenceDataVO referenceDataVO = defendantWithReferenceData.getReferenceDataVO();
 
-        List<OffenceReferenceData> offenceReferenceDataListFromVO = referenceDataVO.getOffenceReferenceData().stream()
-                .filter(rd -> rd.getCjsOffenceCode().equals(offence.getOffenceCode())).collect(Collectors.toList());
+        List<OffenceReferenceData> offenceReferenceDataListFromVO = referenceDataVO.findOffenceReferenceData(offence.getOffenceCode());
 
         if (offenceReferenceDataListFromVO.isEmpty()) {
 
@@ -60,8 +61,7 @@ public class OffenceGenericValidationAndEnricherRule implements ValidationRule<D
                     referenceDataVO.setOffenceReferenceData(newOffenceReferenceDataList);
                 }
 
-                offenceReferenceDataListFromVO = referenceDataVO.getOffenceReferenceData().stream()
-                        .filter(rd -> rd.getCjsOffenceCode().equals(offence.getOffenceCode())).collect(Collectors.toList());
+                offenceReferenceDataListFromVO = referenceDataVO.findOffenceReferenceData(offence.getOffenceCode());
             }
         }
 
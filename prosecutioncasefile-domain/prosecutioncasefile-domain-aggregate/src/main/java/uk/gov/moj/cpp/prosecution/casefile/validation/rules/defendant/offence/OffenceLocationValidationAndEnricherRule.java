@@ -16,6 +16,7 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenceReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Problem;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
@@ -24,6 +25,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+@SequentialRule
 public class OffenceLocationValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     @Override
@@ -48,8 +50,7 @@ public class OffenceLocationValidationAndEnricherRule implements ValidationRule<
     private Problem verifyOffenceLocationRequired(final Offence offence, final String initiationCode, final DefendantWithReferenceData defendantWithReferenceData, final ReferenceDataQueryService referenceDataQueryService) {
         final ReferenceDataVO referenceDataVO = defendantWithReferenceData.getReferenceDataVO();
 
-        List<OffenceReferenceData> offenceReferenceDataListFromVO = referenceDataVO.getOffenceReferenceData().stream()
-                .filter(rd -> rd.getCjsOffenceCode().equals(offence.getOffenceCode())).filter(Objects::nonNull).collect(Collectors.toList());
+        List<OffenceReferenceData> offenceReferenceDataListFromVO = referenceDataVO.findOffenceReferenceData(offence.getOffenceCode());
 
         if (offenceReferenceDataListFromVO.isEmpty()) {
 
@@ -70,8 +71,7 @@ public class OffenceLocationValidationAndEnricherRule implements ValidationRule<
                     referenceDataVO.setOffenceReferenceData(offenceReferenceDataList);
                 }
 
-                offenceReferenceDataListFromVO = referenceDataVO.getOffenceReferenceData().stream()
-                        .filter(rd -> rd.getCjsOffenceCode().equals(offence.getOffenceCode())).filter(Objects::nonNull).collect(Collectors.toList());
+                offenceReferenceDataListFromVO = referenceDataVO.findOffenceReferenceData(offence.getOffenceCode());
             }
         }
 
@@ -14,6 +14,7 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Offence;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.VehicleCodeReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 
@@ -22,6 +23,7 @@ import java.util.List;
 import java.util.Optional;
 
 @SuppressWarnings("squid:S3776")
+@SequentialRule
 public class VehicleCodeValidationAndEnricherRule implements ValidationRule<DefendantWithReferenceData, ReferenceDataQueryService> {
 
     @Override
@@ -42,7 +44,7 @@ public class VehicleCodeValidationAndEnricherRule implements ValidationRule<Defe
         final ReferenceDataVO referenceDataVO = defendantWithReferenceData.getReferenceDataVO();
 
         for(final Offence offence : vehicleOffenceList) {
-            if (referenceDataVO.getVehicleCodesReferenceData().stream().noneMatch(vehicleCodeReferenceData -> offence.getVehicleRelatedOffence()!=null && vehicleCodeReferenceData.getCode().equalsIgnoreCase(offence.getVehicleRelatedOffence().getVehicleCode()))) {
+            if (offence.getVehicleRelatedOffence() == null || !referenceDataVO.findVehicleCodeIgnoreCase(offence.getVehicleRelatedOffence().getVehicleCode()).isPresent()) {
 
                 if (referenceDataQueryService == null) {
                     problemValues.add(new ProblemValue(offence.getOffenceId().toString(), OFFENCE_VEHICLE_CODE.getValue(), offence.getVehicleRelatedOffence().getVehicleCode()));
@@ -0,0 +1,130 @@
+package uk.gov.moj.cpp.prosecution.casefile;
+
+import static java.util.Arrays.asList;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseDetails.caseDetails;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.ContactDetails.contactDetails;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant.defendant;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Individual.individual;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Offence.offence;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.PersonalInformation.personalInformation;
+
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseDetails;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Offence;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+
+import org.junit.jupiter.api.Test;
+
+public class TypedCorrectionsTest {
+
+    private static final UUID OFFENCE_ID = randomUUID();
+    private static final UUID OTHER_OFFENCE_ID = randomUUID();
+
+    private final Defendant defendant = defendant()
+            .withId("defendant-1")
+            .withIndividual(individual()
+                    .withPersonalInformation(personalInformation()
+                            .withLastName("Smith")
+                            .withContactDetails(contactDetails().withPrimaryEmail("wrong").build())
+                            .build())
+                    .build())
+            .withOffences(asList(
+                    offence().withOffenceId(OTHER_OFFENCE_ID).withOffenceCode("CA03012").build(),
+                    offence().withOffenceId(OFFENCE_ID).withOffenceCode("CA03013").build()))
+            .build();
+
+    @Test
+    public void shouldCorrectNestedDefendantFieldsAndOffenceWithId() {
+        final Optional<Defendant> corrected = TypedCorrections.correct(defendant, corrections(
+                correction("individual_personalInformation_contactDetails_primaryEmail", "smith@example.com"),
+                correction("offence_chargeDate", "2024-03-01").add("id", OFFENCE_ID.toString())));
+
+        final Defendant correctedDefendant = corrected.get();
+        assertThat(correctedDefendant.getIndividual().getPersonalInformation().getContactDetails().getPrimaryEmail(), is("smith@example.com"));
+        assertThat(correctedDefendant.getIndividual().getPersonalInformation().getLastName(), is("Smith"));
+        final Offence correctedOffence = correctedDefendant.getOffences().get(1);
+        assertThat(correctedOffence.getChargeDate(), is(LocalDate.of(2024, 3, 1)));
+        assertThat(correctedOffence.getOffenceCode(), is("CA03013"));
+        assertThat(correctedDefendant.getOffences().get(0).getChargeDate(), is(nullValue()));
+        assertThat(correctedDefendant.getPostingDate(), is(LocalDate.of(2024, 3, 1)));
+    }
+
+    @Test
+    public void shouldKeepPostingDateOfDefendantWhenCorrectingChargeDate() {
+        final Defendant defendantWithPostingDate = defendant().withValuesFrom(defendant).withPostingDate(LocalDate.of(2024, 1, 1)).build();
+
+        final Optional<Defendant> corrected = TypedCorrections.correct(defendantWithPostingDate,
+                corrections(correction("offence_chargeDate", "2024-03-01").add("id", OFFENCE_ID.toString())));
+
+        assertThat(corrected.get().getPostingDate(), is(LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    public void shouldLeaveCorrectionsOfUnmappedFieldsToTheJsonPath() {
+        final Optional<Defendant> corrected = TypedCorrections.correct(defendant, corrections(
+                correction("individual_personalInformation_contactDetails_primaryEmail", "smith@example.com"),
+                correction("individual_personalInformation_address_postcode", "CR0 1AB")));
+
+        assertThat(corrected.isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldLeaveCorrectionsOfMissingParentObjectsToTheJsonPath() {
+        final Optional<Defendant> corrected = TypedCorrections.correct(defendant,
+                corrections(correction("individual_selfDefinedInformation_nationality", "GBR")));
+
+        assertThat(corrected.isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldLeaveCorrectionsWithUnparsableValuesToTheJsonPath() {
+        final Optional<Defendant> corrected = TypedCorrections.correct(defendant,
+                corrections(correction("offence_chargeDate", "01/03/2024").add("id", OFFENCE_ID.toString())));
+
+        assertThat(corrected.isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldCorrectCaseDetails() {
+        final CaseDetails caseDetails = caseDetails().withCaseId(randomUUID()).withInitiationCode("X").withProsecutorCaseReference("URN").build();
+
+        final Optional<CaseDetails> corrected = TypedCorrections.correct(caseDetails, corrections(correction("initiationCode", "C")));
+
+        assertThat(corrected.get().getInitiationCode(), is("C"));
+        assertThat(corrected.get().getProsecutorCaseReference(), is("URN"));
+    }
+
+    @Test
+    public void shouldLeaveCaseMarkerCorrectionsToTheJsonPath() {
+        final CaseDetails caseDetails = caseDetails().withCaseId(randomUUID()).build();
+
+        final Optional<CaseDetails> corrected = TypedCorrections.correct(caseDetails, corrections(correction("caseMarkers", "AB").add("id", "0")));
+
+        assertThat(corrected.isPresent(), is(false));
+    }
+
+    private static JsonObjectBuilder correction(final String fieldName, final String value) {
+        return createObjectBuilder().add("fieldName", fieldName).add("value", value);
+    }
+
+    private static JsonArray corrections(final JsonObjectBuilder... corrections) {
+        final JsonArrayBuilder array = createArrayBuilder();
+        for (final JsonObjectBuilder correction : corrections) {
+            array.add(correction);
+        }
+        return array.build();
+    }
+}
@@ -0,0 +1,64 @@
+package uk.gov.moj.cpp.prosecution.casefile.aggregate;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant.defendant;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Individual.individual;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.PersonalInformation.personalInformation;
+
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant;
+
+import org.junit.jupiter.api.Test;
+
+public class DefendantBlockingIndexTest {
+
+    private final Defendant smith = person("ref-1", "John", "Smith");
+    private final Defendant jones = person("ref-2", "Jane", "Jones");
+    private final Defendant company = defendant().withProsecutorDefendantReference("ref-3").withOrganisationName("Acme Ltd").build();
+    private final Defendant otherSmith = person("ref-4", null, "SMITH");
+    private final Defendant withAsn = defendant().withProsecutorDefendantReference("ref-5").withAsn("ASN-1").build();
+
+    private final DefendantBlockingIndex index = new DefendantBlockingIndex(asList(smith, jones, company, otherSmith, withAsn));
+
+    @Test
+    public void shouldReturnDefendantsWithSameLastNameIgnoringCaseInCaseOrder() {
+        assertThat(index.candidates(person("ref-9", "Jack", "smith")), contains(smith, otherSmith));
+    }
+
+    @Test
+    public void shouldReturnDefendantsWithSameOrganisationNameIgnoringCase() {
+        assertThat(index.candidates(defendant().withOrganisationName("ACME LTD").build()), contains(company));
+    }
+
+    @Test
+    public void shouldReturnDefendantsWithSameAsn() {
+        assertThat(index.candidates(defendant().withAsn("ASN-1").build()), contains(withAsn));
+    }
+
+    @Test
+    public void shouldReturnNoCandidatesWhenNoKeyMatches() {
+        assertThat(index.candidates(person("ref-9", "John", "Brown")), is(empty()));
+        assertThat(index.candidates(defendant().build()), is(empty()));
+    }
+
+    @Test
+    public void shouldReturnProsecutorDefendantReferences() {
+        assertThat(index.prosecutorDefendantReferences(), containsInAnyOrder("ref-1", "ref-2", "ref-3", "ref-4", "ref-5"));
+    }
+
+    private static Defendant person(final String prosecutorDefendantReference, final String firstName, final String lastName) {
+        return defendant()
+                .withProsecutorDefendantReference(prosecutorDefendantReference)
+                .withIndividual(individual()
+                        .withPersonalInformation(personalInformation()
+                                .withFirstName(firstName)
+                                .withLastName(lastName)
+                                .build())
+                        .build())
+                .build();
+    }
+}
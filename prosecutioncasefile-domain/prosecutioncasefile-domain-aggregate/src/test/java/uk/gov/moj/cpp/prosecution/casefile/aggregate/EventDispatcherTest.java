@@ -0,0 +1,75 @@
+package uk.gov.moj.cpp.prosecution.casefile.aggregate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.moj.cpp.prosecution.casefile.aggregate.EventDispatcher.eventDispatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class EventDispatcherTest {
+
+    private final EventDispatcher<List<String>> dispatcher = eventDispatcher(listClass())
+            .on(FirstEvent.class, (applied, event) -> applied.add("first"))
+            .on(BaseEvent.class, (applied, event) -> applied.add("base"))
+            .on(SubEvent.class, (applied, event) -> applied.add("sub"))
+            .otherwiseDoNothing();
+
+    private final List<String> applied = new ArrayList<>();
+
+    @Test
+    public void shouldApplyHandlerRegisteredForEventClass() {
+        final Object event = new FirstEvent();
+
+        assertThat(dispatcher.apply(applied, event), is(sameInstance(event)));
+        assertThat(applied, contains("first"));
+    }
+
+    @Test
+    public void shouldApplyFirstHandlerRegisteredForSupertypeOfEvent() {
+        dispatcher.apply(applied, new SubEvent());
+        dispatcher.apply(applied, new SubEvent());
+
+        assertThat(applied, contains("base", "base"));
+    }
+
+    @Test
+    public void shouldIgnoreEventWithoutHandler() {
+        final Object event = new UnhandledEvent();
+
+        assertThat(dispatcher.apply(applied, event), is(sameInstance(event)));
+        assertThat(applied, is(empty()));
+    }
+
+    @Test
+    public void shouldRejectEventWithoutHandlerWhenNotOtherwiseDoingNothing() {
+        final EventDispatcher<List<String>> strictDispatcher = eventDispatcher(listClass())
+                .on(FirstEvent.class, (applied, event) -> applied.add("first"))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> strictDispatcher.apply(applied, new UnhandledEvent()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<List<String>> listClass() {
+        return (Class<List<String>>) (Class<?>) List.class;
+    }
+
+    private static class FirstEvent {
+    }
+
+    private static class BaseEvent {
+    }
+
+    private static class SubEvent extends BaseEvent {
+    }
+
+    private static class UnhandledEvent {
+    }
+}
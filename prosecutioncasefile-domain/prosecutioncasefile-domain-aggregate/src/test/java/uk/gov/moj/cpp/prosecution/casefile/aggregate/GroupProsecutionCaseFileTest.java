@@ -5,6 +5,7 @@ import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static uk.gov.moj.cpp.prosecution.casefile.aggregate.GroupProsecutionCaseFile.INITIATION_CODE_CIVIL_CASE;
 import static uk.gov.moj.cpp.prosecution.casefile.aggregate.GroupProsecutionCaseFile.INITIATION_CODE_FOR_SUMMONS;
@@ -132,6 +133,46 @@ public class GroupProsecutionCaseFileTest {
         assertThat(groupCasesReceived.getGroupProsecutionList().getGroupProsecutionWithReferenceDataList().get(0).getGroupProsecution().getCaseDetails().getInitiationCode(), is(INITIATION_CODE_CIVIL_CASE));
     }
 
+    @Test
+    public void shouldValidateInChunksAndRaiseGroupCasesReceivedWithEveryCase() {
+
+        final Optional<OrganisationUnitWithCourtroomReferenceData> optionalOrganisationUnitWithCourtroomReferenceData =
+                Optional.of(OrganisationUnitWithCourtroomReferenceData.organisationUnitWithCourtroomReferenceData().build());
+
+        when(referenceDataQueryService.retrieveOrganisationUnitWithCourtroom("C55BN00")).thenReturn(optionalOrganisationUnitWithCourtroomReferenceData);
+
+        final List<GroupProsecutionWithReferenceData> groupProsecutionWithReferenceDataList = new ArrayList<>();
+        final ReferenceDataVO referenceDataVO = new ReferenceDataVO();
+        referenceDataVO.setInitiationTypes(Arrays.asList("O"));
+        final UUID masterCaseId = randomUUID();
+        final UUID memberCaseId = randomUUID();
+        final GroupProsecutionWithReferenceData groupProsecutionWithReferenceData1 = buildGroupProsecutionWithReferenceData(INITIATION_CODE_CIVIL_CASE, masterCaseId, true, "URN1");
+        groupProsecutionWithReferenceData1.setReferenceDataVO(referenceDataVO);
+        final GroupProsecutionWithReferenceData groupProsecutionWithReferenceData2 = buildGroupProsecutionWithReferenceData(INITIATION_CODE_CIVIL_CASE, memberCaseId, false, "URN2");
+        groupProsecutionWithReferenceData2.setReferenceDataVO(referenceDataVO);
+        groupProsecutionWithReferenceDataList.add(groupProsecutionWithReferenceData1);
+        groupProsecutionWithReferenceDataList.add(groupProsecutionWithReferenceData2);
+        final GroupProsecutionList groupProsecutionList = new GroupProsecutionList(groupProsecutionWithReferenceDataList);
+        groupProsecutionList.setChannel(Channel.CIVIL);
+
+        final List<Object> events = groupProsecutionCaseFile.receiveGroupProsecution(groupProsecutionList, new ArrayList<>(), new ArrayList<>(), referenceDataQueryService, 1).toList();
+
+        assertThat(events, Matchers.hasSize(1));
+        assertThat(events.get(0), is(instanceOf(GroupCasesReceived.class)));
+        assertThat(((GroupCasesReceived) events.get(0)).getGroupProsecutionList().getGroupProsecutionWithReferenceDataList().stream()
+                .map(groupProsecutionWithReferenceData -> groupProsecutionWithReferenceData.getGroupProsecution().getCaseDetails().getCaseId())
+                .toList(), Matchers.contains(masterCaseId, memberCaseId));
+    }
+
+    @Test
+    public void shouldRejectNonPositiveChunkSize() {
+        final GroupProsecutionList groupProsecutionList = new GroupProsecutionList(new ArrayList<>(asList(
+                buildGroupProsecutionWithReferenceData(INITIATION_CODE_CIVIL_CASE, randomUUID(), true, "URN1"))));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> groupProsecutionCaseFile.receiveGroupProsecution(groupProsecutionList, new ArrayList<>(), new ArrayList<>(), referenceDataQueryService, 0));
+    }
+
     @Test
     public void shouldRaiseGroupProsecutionRejected() {
 
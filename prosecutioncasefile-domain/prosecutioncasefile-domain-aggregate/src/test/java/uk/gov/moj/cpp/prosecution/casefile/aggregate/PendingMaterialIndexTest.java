@@ -0,0 +1,60 @@
+package uk.gov.moj.cpp.prosecution.casefile.aggregate;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PendingMaterialIndexTest {
+
+    private PendingMaterialIndex<String, String> index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new PendingMaterialIndex<>();
+        index.add("a", "a1");
+        index.add("b", "b1");
+        index.add("a", "a2");
+        index.add("c", "c1");
+    }
+
+    @Test
+    public void shouldKeepInsertionOrder() {
+        assertThat(index.stream().collect(toList()), contains("a1", "b1", "a2", "c1"));
+        assertThat(index.values(), contains("a1", "b1", "a2", "c1"));
+    }
+
+    @Test
+    public void shouldReturnEveryEntryForKey() {
+        assertThat(index.get("a"), contains("a1", "a2"));
+        assertThat(index.get("d"), is(empty()));
+    }
+
+    @Test
+    public void shouldRemoveEveryEntryForKey() {
+        index.remove("a");
+
+        assertThat(index.get("a"), is(empty()));
+        assertThat(index.values(), contains("b1", "c1"));
+    }
+
+    @Test
+    public void shouldRemoveOnlyMatchingEntriesForKey() {
+        index.removeIf("a", "a2"::equals);
+
+        assertThat(index.get("a"), contains("a1"));
+        assertThat(index.values(), contains("a1", "b1", "c1"));
+    }
+
+    @Test
+    public void shouldClearEveryEntry() {
+        index.clear();
+
+        assertThat(index.values(), is(empty()));
+        assertThat(index.get("b"), is(empty()));
+    }
+}
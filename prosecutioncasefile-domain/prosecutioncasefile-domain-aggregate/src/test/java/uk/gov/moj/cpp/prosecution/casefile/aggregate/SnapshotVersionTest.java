@@ -0,0 +1,187 @@
+package uk.gov.moj.cpp.prosecution.casefile.aggregate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseDetails.caseDetails;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant.defendant;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Material.material;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Prosecution.prosecution;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.ProblemCode.DUPLICATED_PROSECUTION;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.Problems.newProblem;
+import static uk.gov.moj.cps.prosecutioncasefile.domain.event.MaterialPending.materialPending;
+import static uk.gov.moj.cps.prosecutioncasefile.domain.event.SjpCaseCreatedSuccessfully.sjpCaseCreatedSuccessfully;
+import static uk.gov.moj.cps.prosecutioncasefile.domain.event.SjpProsecutionReceivedWithWarnings.sjpProsecutionReceivedWithWarnings;
+
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Problem;
+import uk.gov.moj.cps.prosecutioncasefile.domain.event.CaseFiltered;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SnapshotVersionTest {
+
+    @BeforeEach
+    public void setUp() {
+        VersionedState.writeVersion = 1L;
+        VersionedState.readVersion = 1L;
+        VersionedState.versioned = true;
+    }
+
+    @Test
+    public void shouldRestoreProsecutionCaseFileFromSnapshot() throws Exception {
+        final ProsecutionCaseFile prosecutionCaseFile = new ProsecutionCaseFile();
+        prosecutionCaseFile.apply(sjpCaseCreatedSuccessfully().build());
+
+        final ProsecutionCaseFile restored = (ProsecutionCaseFile) deserialize(serialize(prosecutionCaseFile));
+
+        assertThat(restored.isProsecutionAccepted(), is(true));
+    }
+
+    @Test
+    public void shouldRestorePopulatedProsecutionCaseFileFromSnapshot() throws Exception {
+        final UUID caseId = UUID.randomUUID();
+        final UUID fileStoreId = UUID.randomUUID();
+        final String defendantId = UUID.randomUUID().toString();
+        final ProsecutionCaseFile prosecutionCaseFile = new ProsecutionCaseFile();
+        prosecutionCaseFile.apply(sjpProsecutionReceivedWithWarnings()
+                .withExternalId(UUID.randomUUID())
+                .withProsecution(prosecution()
+                        .withChannel(Channel.SPI)
+                        .withCaseDetails(caseDetails().withCaseId(caseId).withProsecutorCaseReference("URN").withInitiationCode("J").build())
+                        .withDefendants(List.of(defendant().withId(defendantId).build()))
+                        .build())
+                .withWarnings(List.of(newProblem(DUPLICATED_PROSECUTION, "urn", "URN")))
+                .build());
+        prosecutionCaseFile.apply(materialPending().withCaseId(caseId).withMaterial(material().withFileStoreId(fileStoreId).build()).build());
+
+        final ProsecutionCaseFile restored = (ProsecutionCaseFile) deserialize(serialize(prosecutionCaseFile));
+
+        assertThat(restored.getCaseId(), is(caseId));
+        assertThat(restored.getDefendants().get(0).getId(), is(defendantId));
+        assertThat(((Problem) ((List<?>) fieldOf(restored, "warnings")).get(0)).getCode(), is(DUPLICATED_PROSECUTION.name()));
+        final CaseFiltered caseFiltered = (CaseFiltered) restored.filterCase(caseId).findFirst().orElseThrow();
+        assertThat(caseFiltered.getMaterials().get(0).getFileStoreId(), is(fileStoreId));
+    }
+
+    @Test
+    public void shouldRestoreCpsServeMaterialAggregateFromSnapshot() throws Exception {
+        assertThat(deserialize(serialize(new CpsServeMaterialAggregate())), is(instanceOf(CpsServeMaterialAggregate.class)));
+    }
+
+    @Test
+    public void shouldRejectSnapshotWithDifferentVersion() throws Exception {
+        final byte[] snapshot = serialize(new VersionedState("state"));
+        VersionedState.readVersion = 2L;
+
+        assertThrows(InvalidClassException.class, () -> deserialize(snapshot));
+    }
+
+    @Test
+    public void shouldRejectSnapshotWithoutVersion() throws Exception {
+        VersionedState.versioned = false;
+        final byte[] snapshot = serialize(new VersionedState("state"));
+        VersionedState.versioned = true;
+
+        assertThrows(InvalidClassException.class, () -> deserialize(snapshot));
+    }
+
+    @Test
+    public void shouldRestoreSnapshotWithSameVersion() throws Exception {
+        final VersionedState restored = (VersionedState) deserialize(serialize(new VersionedState("state")));
+
+        assertThat(restored.value, is("state"));
+    }
+
+    @Test
+    public void shouldChangeVersionWithStateVersionAndFields() {
+        assertThat(SnapshotVersion.of(VersionedState.class, 1), is(SnapshotVersion.of(VersionedState.class, 1)));
+        assertThat(SnapshotVersion.of(VersionedState.class, 1), is(not(SnapshotVersion.of(VersionedState.class, 2))));
+        assertThat(SnapshotVersion.of(VersionedState.class, 1), is(not(SnapshotVersion.of(OtherState.class, 1))));
+    }
+
+    @Test
+    public void shouldFingerprintFieldsOfNestedClasses() {
+        final String fingerprint = SnapshotVersion.fingerprint(NestingState.class);
+
+        assertThat(fingerprint, containsString(VersionedState.class.getName() + "{value:java.lang.String}"));
+        assertThat(fingerprint, containsString(OtherState.class.getName() + "{value:int}"));
+    }
+
+    private static byte[] serialize(final Object object) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
+    private static Object fieldOf(final Object object, final String fieldName) throws ReflectiveOperationException {
+        final Field field = object.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(object);
+    }
+
+    private static class VersionedState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private static long writeVersion;
+        private static long readVersion;
+        private static boolean versioned;
+
+        private final String value;
+
+        VersionedState(final String value) {
+            this.value = value;
+        }
+
+        private void writeObject(final ObjectOutputStream out) throws IOException {
+            if (versioned) {
+                SnapshotVersion.write(out, writeVersion);
+            } else {
+                out.defaultWriteObject();
+            }
+        }
+
+        private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+            SnapshotVersion.read(in, VersionedState.class, readVersion);
+        }
+    }
+
+    private static class OtherState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private int value;
+    }
+
+    private static class NestingState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private List<VersionedState> states;
+        private OtherState[] otherStates;
+    }
+}
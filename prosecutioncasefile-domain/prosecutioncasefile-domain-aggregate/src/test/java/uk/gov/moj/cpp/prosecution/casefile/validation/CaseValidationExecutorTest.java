@@ -0,0 +1,82 @@
+package uk.gov.moj.cpp.prosecution.casefile.validation;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.CaseValidationExecutor.validateEach;
+
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel;
+import uk.gov.moj.cpp.prosecution.casefile.validation.metrics.ValidationRuleMetrics;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class CaseValidationExecutorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldReturnResultsInInputOrderWhenLaterInputsCompleteFirst() {
+        final CountDownLatch lastInputValidated = new CountDownLatch(1);
+
+        final List<String> results = validateEach(asList(1, 2, 3), input -> {
+            if (input == 3) {
+                lastInputValidated.countDown();
+            } else {
+                await(lastInputValidated);
+            }
+            return "case-" + input;
+        }, executor);
+
+        assertThat(results, contains("case-1", "case-2", "case-3"));
+    }
+
+    @Test
+    public void shouldValidateEachInputWithTheTagsOfTheCallingThread() {
+        final List<String> channels = ValidationRuleMetrics.withTags("O", Channel.CIVIL,
+                () -> validateEach(asList(1, 2, 3, 4), input -> ValidationRuleMetrics.currentTags().getChannel(), executor));
+
+        assertThat(channels, everyItem(is(Channel.CIVIL.name())));
+    }
+
+    @Test
+    public void shouldRethrowFailureOfEarliestFailingInput() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> validateEach(asList(1, 2, 3), input -> {
+            if (input > 1) {
+                throw new IllegalArgumentException("case-" + input);
+            }
+            return input;
+        }, executor));
+
+        assertThat(exception.getMessage(), is("case-2"));
+    }
+
+    @Test
+    public void shouldReturnNoResultsForNoInputs() {
+        assertThat(validateEach(emptyList(), input -> input, executor), is(empty()));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
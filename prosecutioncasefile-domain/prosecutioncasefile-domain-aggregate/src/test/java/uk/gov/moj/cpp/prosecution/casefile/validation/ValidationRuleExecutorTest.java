@@ -1,9 +1,13 @@
 package uk.gov.moj.cpp.prosecution.casefile.validation;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -12,6 +16,7 @@ import static org.mockito.Mockito.when;
 import uk.gov.moj.cpp.prosecution.casefile.aggregate.ProsecutionCaseFile;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Problem;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProblemValue;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SequentialRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.SjpProsecutionReceived;
@@ -19,8 +24,14 @@ import uk.gov.moj.cps.prosecutioncasefile.domain.event.SjpProsecutionReceived;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -41,6 +52,13 @@ public class ValidationRuleExecutorTest {
     @Mock
     private ProsecutionCaseFile prosecutionCaseFile;
 
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
     @Test
     public void shouldReturnEmptyProblemListsWhenAllRulesPassed() {
         shouldCollectProblemsFromAllValidationRules(null, null);
@@ -89,4 +107,92 @@ public class ValidationRuleExecutorTest {
         verify(validationRule1).validate(prosecution, prosecutionCaseFile);
         verify(validationRule2).validate(prosecution, prosecutionCaseFile);
     }
+
+    @Test
+    public void shouldRunIndependentRulesConcurrentlyAndReturnProblemsInRuleOrder() {
+        final CountDownLatch allRulesStarted = new CountDownLatch(3);
+        final List<ValidationRule<SjpProsecutionReceived, ProsecutionCaseFile>> validationRules = asList(
+                awaitingRule(allRulesStarted, PROBLEM_CODE_1),
+                awaitingRule(allRulesStarted, PROBLEM_CODE_2),
+                awaitingRule(allRulesStarted, "PROBLEM_CODE_3"));
+
+        final List<Problem> problems = ValidationRuleExecutor.validate(prosecution, prosecutionCaseFile, validationRules, executor);
+
+        assertThat(problems.stream().map(Problem::getCode).toList(), contains(PROBLEM_CODE_1, PROBLEM_CODE_2, "PROBLEM_CODE_3"));
+    }
+
+    @Test
+    public void shouldNotRunSequentialRulesConcurrentlyWithOtherRules() {
+        final AtomicInteger runningRules = new AtomicInteger();
+        final AtomicInteger maxConcurrentRulesAroundSequentialRule = new AtomicInteger();
+        final ValidationRule<SjpProsecutionReceived, ProsecutionCaseFile> independentRule = (input, context) -> {
+            runningRules.incrementAndGet();
+            sleep();
+            runningRules.decrementAndGet();
+            return ValidationResult.VALID;
+        };
+        final EnricherRule enricherRule = new EnricherRule(runningRules, maxConcurrentRulesAroundSequentialRule);
+
+        final List<Problem> problems = ValidationRuleExecutor.validate(prosecution, prosecutionCaseFile,
+                asList(independentRule, independentRule, enricherRule, independentRule, independentRule), executor);
+
+        assertThat(problems.stream().map(Problem::getCode).toList(), contains(PROBLEM_CODE_1));
+        assertThat(maxConcurrentRulesAroundSequentialRule.get(), is(1));
+    }
+
+    @Test
+    public void shouldRethrowExceptionOfEarliestFailingRuleWhenRunningConcurrently() {
+        final RuntimeException exception1 = new RuntimeException("Exception from rule 1");
+        final RuntimeException exception2 = new RuntimeException("Exception from rule 2");
+
+        final RuntimeException thrown = assertThrows(RuntimeException.class, () -> ValidationRuleExecutor.validate(prosecution, prosecutionCaseFile,
+                asList((input, context) -> ValidationResult.VALID, (input, context) -> {
+                    throw exception1;
+                }, (input, context) -> {
+                    throw exception2;
+                }), executor));
+
+        assertThat(thrown, equalTo(exception1));
+    }
+
+    private ValidationRule<SjpProsecutionReceived, ProsecutionCaseFile> awaitingRule(final CountDownLatch allRulesStarted, final String problemCode) {
+        return (input, context) -> {
+            allRulesStarted.countDown();
+            try {
+                assertThat(allRulesStarted.await(5, TimeUnit.SECONDS), is(true));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ValidationResult.newValidationResult(Optional.of(new Problem(problemCode, emptyList())));
+        };
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SequentialRule
+    private static class EnricherRule implements ValidationRule<SjpProsecutionReceived, ProsecutionCaseFile> {
+
+        private final AtomicInteger runningRules;
+        private final AtomicInteger maxConcurrentRules;
+
+        EnricherRule(final AtomicInteger runningRules, final AtomicInteger maxConcurrentRules) {
+            this.runningRules = runningRules;
+            this.maxConcurrentRules = maxConcurrentRules;
+        }
+
+        @Override
+        public ValidationResult validate(final SjpProsecutionReceived input, final ProsecutionCaseFile context) {
+            maxConcurrentRules.accumulateAndGet(runningRules.incrementAndGet(), Math::max);
+            sleep();
+            maxConcurrentRules.accumulateAndGet(runningRules.get(), Math::max);
+            runningRules.decrementAndGet();
+            return ValidationResult.newValidationResult(Optional.of(new Problem(PROBLEM_CODE_1, emptyList())));
+        }
+    }
 }
@@ -0,0 +1,132 @@
+package uk.gov.moj.cpp.prosecution.casefile.validation.metrics;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel.MCC;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel.SPI;
+
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Problem;
+import uk.gov.moj.cpp.prosecution.casefile.validation.ValidationRuleExecutor;
+import uk.gov.moj.cpp.prosecution.casefile.validation.metrics.ValidationRuleMetrics.Tags;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationResult;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationRuleMetricsTest {
+
+    @Test
+    public void shouldRecordInvocationsAndProblemsPerRuleAndTags() {
+        final ValidationRuleMetrics metrics = new ValidationRuleMetrics(true);
+        final Tags tags = new Tags("CHARGE", "SPI");
+
+        metrics.start(FirstRule.class, tags).stop(2);
+        metrics.start(FirstRule.class, tags).stop(0);
+        metrics.start(FirstRule.class, new Tags("SUMMONS", "SPI")).stop(1);
+        metrics.start(SecondRule.class, tags).failed();
+
+        final List<ValidationRuleStatistics> statistics = metrics.getRuleStatistics();
+        assertThat(statistics, hasSize(3));
+
+        final ValidationRuleStatistics firstRuleCharge = find(statistics, FirstRule.class, "CHARGE");
+        assertThat(firstRuleCharge.getChannel(), is("SPI"));
+        assertThat(firstRuleCharge.getInvocations(), is(2L));
+        assertThat(firstRuleCharge.getProblems(), is(2L));
+        assertThat(firstRuleCharge.getFailures(), is(0L));
+
+        assertThat(find(statistics, SecondRule.class, "CHARGE").getFailures(), is(1L));
+    }
+
+    @Test
+    public void shouldNotRecordWhenDisabled() {
+        final ValidationRuleMetrics metrics = new ValidationRuleMetrics(false);
+
+        metrics.start(FirstRule.class, new Tags("CHARGE", "SPI")).stop(1);
+
+        assertThat(metrics.getRuleStatistics(), hasSize(0));
+    }
+
+    @Test
+    public void shouldTagRulesRunByExecutorWithCaseTypeAndChannel() {
+        final ValidationRuleMetrics metrics = ValidationRuleMetrics.getInstance();
+        metrics.reset();
+
+        ValidationRuleMetrics.withTags("C", MCC, () -> ValidationRuleExecutor.validate("input", "context", asList(new FirstRule(), new SecondRule())));
+        ValidationRuleExecutor.validate("input", "context", asList(new FirstRule()));
+
+        final List<ValidationRuleStatistics> statistics = metrics.getRuleStatistics();
+        assertThat(find(statistics, FirstRule.class, "CHARGE").getChannel(), is(MCC.name()));
+        assertThat(find(statistics, SecondRule.class, "CHARGE").getProblems(), is(1L));
+        assertThat(find(statistics, FirstRule.class, ValidationRuleMetrics.UNTAGGED).getInvocations(), is(1L));
+        assertThat(ValidationRuleMetrics.currentTags().getChannel(), is(ValidationRuleMetrics.UNTAGGED));
+    }
+
+    @Test
+    public void shouldTagUnknownInitiationCodeAsOther() {
+        ValidationRuleMetrics.withTags("X", SPI, () -> {
+            assertThat(ValidationRuleMetrics.currentTags().getCaseType(), is(ValidationRuleMetrics.OTHER));
+            return null;
+        });
+    }
+
+    @Test
+    public void shouldRecordRulesWithSameSimpleNameSeparately() {
+        final ValidationRuleMetrics metrics = new ValidationRuleMetrics(true);
+        final Tags tags = new Tags("CHARGE", "SPI");
+
+        metrics.start(FirstRule.class, tags).stop(1);
+        metrics.start(Other.FirstRule.class, tags).stop(0);
+
+        final List<ValidationRuleStatistics> statistics = metrics.getRuleStatistics();
+        assertThat(statistics, hasSize(2));
+        assertThat(find(statistics, FirstRule.class, "CHARGE").getProblems(), is(1L));
+        assertThat(find(statistics, Other.FirstRule.class, "CHARGE").getProblems(), is(0L));
+    }
+
+    @Test
+    public void shouldRestoreEnclosingTagsAfterNestedValidation() {
+        ValidationRuleMetrics.withTags("J", SPI, () -> {
+            ValidationRuleMetrics.withTags("S", MCC, () -> null);
+            assertThat(ValidationRuleMetrics.currentTags().getCaseType(), is("SJP"));
+            assertThat(ValidationRuleMetrics.currentTags().getChannel(), is(SPI.name()));
+            return null;
+        });
+    }
+
+    private static ValidationRuleStatistics find(final List<ValidationRuleStatistics> statistics, final Class<?> rule, final String caseType) {
+        return statistics.stream()
+                .filter(statistic -> statistic.getRule().equals(rule.getName()) && statistic.getCaseType().equals(caseType))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+    }
+
+    private static class FirstRule implements ValidationRule<String, String> {
+        @Override
+        public ValidationResult validate(final String input, final String context) {
+            return ValidationResult.VALID;
+        }
+    }
+
+    private static class SecondRule implements ValidationRule<String, String> {
+        @Override
+        public ValidationResult validate(final String input, final String context) {
+            return ValidationResult.newValidationResult(Optional.of(new Problem("PROBLEM_CODE", emptyList())));
+        }
+    }
+
+    private static class Other {
+
+        private static class FirstRule implements ValidationRule<String, String> {
+            @Override
+            public ValidationResult validate(final String input, final String context) {
+                return ValidationResult.VALID;
+            }
+        }
+    }
+}
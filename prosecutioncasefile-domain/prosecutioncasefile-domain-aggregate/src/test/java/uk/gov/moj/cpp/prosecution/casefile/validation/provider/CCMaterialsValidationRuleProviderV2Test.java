@@ -0,0 +1,85 @@
+package uk.gov.moj.cpp.prosecution.casefile.validation.provider;
+
+import static java.util.Collections.singletonList;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.DocumentTypeAccessReferenceData.documentTypeAccessReferenceData;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.ProblemCode.DEFENDANT_ID_REQUIRED;
+import static uk.gov.moj.cpp.prosecution.casefile.validation.Problems.newProblem;
+
+import uk.gov.moj.cpp.prosecution.casefile.domain.CaseDocumentWithReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DefendantSubject;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DocumentCategory;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Problem;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProsecutionCaseSubject;
+import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+import uk.gov.moj.cpp.prosecution.casefile.validation.ValidationRuleExecutor;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CCMaterialsValidationRuleProviderV2Test {
+
+    private static final String DOCUMENT_TYPE = "Valid document type";
+    private static final int PARALLELISM = 4;
+    private static final int RUNS = 20;
+
+    @Mock
+    private ReferenceDataQueryService referenceDataQueryService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldReturnSameProblemsAndEnrichmentInParallelAsSequentially() {
+        when(referenceDataQueryService.retrieveDocumentsTypeAccess()).thenAnswer(invocation -> {
+            // widens the window in which a rule running alongside would see the document uncategorised
+            Thread.sleep(5);
+            return singletonList(documentTypeAccessReferenceData()
+                    .withId(randomUUID())
+                    .withSection(DOCUMENT_TYPE)
+                    .withDocumentCategory(DocumentCategory.DEFENDANT_LEVEL.toString())
+                    .build());
+        });
+        final List<ValidationRule<CaseDocumentWithReferenceData, ReferenceDataQueryService>> rejectionRules = CCMaterialsValidationRuleProviderV2.getRejectionRules();
+
+        final CaseDocumentWithReferenceData sequentialDocument = caseDocument();
+        final List<Problem> sequentialProblems = ValidationRuleExecutor.validate(sequentialDocument, referenceDataQueryService, rejectionRules);
+        assertThat(sequentialProblems, hasItem(newProblem(DEFENDANT_ID_REQUIRED, "prosecutorDefendantId", "")));
+
+        for (int run = 0; run < RUNS; run++) {
+            final CaseDocumentWithReferenceData parallelDocument = caseDocument();
+            final List<Problem> parallelProblems = ValidationRuleExecutor.validate(parallelDocument, referenceDataQueryService, rejectionRules, executor);
+
+            assertThat(parallelProblems, is(sequentialProblems));
+            assertThat(parallelDocument.getDocumentCategory(), is(sequentialDocument.getDocumentCategory()));
+            assertThat(parallelDocument.getDocumentTypeAccessReferenceData().getSection(), is(sequentialDocument.getDocumentTypeAccessReferenceData().getSection()));
+            assertThat(parallelDocument.getDefendantId(), is(sequentialDocument.getDefendantId()));
+            assertThat(parallelDocument.isHeaderOuCodeCPS(), is(sequentialDocument.isHeaderOuCodeCPS()));
+        }
+    }
+
+    private static CaseDocumentWithReferenceData caseDocument() {
+        return new CaseDocumentWithReferenceData(randomUUID(), false, new ArrayList<>(), DOCUMENT_TYPE, false, false, null,
+                ProsecutionCaseSubject.prosecutionCaseSubject().withDefendantSubject(DefendantSubject.defendantSubject().build()).build(),
+                null, null, new HashMap<>());
+    }
+}
@@ -1,7 +1,12 @@
 package uk.gov.moj.cpp.prosecution.casefile.validation.provider;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant.defendant;
 
 import uk.gov.moj.cpp.prosecution.casefile.domain.DefendantWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.domain.GroupProsecutionList;
@@ -13,8 +18,10 @@ import uk.gov.moj.cpp.prosecution.casefile.validation.rules.CaseInitiationValida
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ProsecutorReferenceDataValidationRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.SummonsCodeValidationRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.ValidationRule;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.defendant.CorporateDefendantPrimaryEmailAddressValidationRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.defendant.CroNumberSpiValidationRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.defendant.CroNumberValidationRule;
+import uk.gov.moj.cpp.prosecution.casefile.validation.rules.defendant.DateOfHearingValidationAndEnricherRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.defendant.PncIdSpiValidationRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.defendant.PncIdValidationRule;
 import uk.gov.moj.cpp.prosecution.casefile.validation.rules.defendant.offence.OffenceGenericValidationAndEnricherRule;
@@ -30,6 +37,7 @@ import uk.gov.moj.cpp.prosecution.casefile.validation.rules.groupcases.SameOffen
 
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -154,5 +162,39 @@ public class CcProsecutionValidationRuleProviderTest {
         assertTrue(validationRules.stream().map((Function<ValidationRule<ProsecutionWithReferenceData, ReferenceDataQueryService>, ? extends Class<? extends ValidationRule>>) ValidationRule<ProsecutionWithReferenceData, ReferenceDataQueryService>::getClass).anyMatch(s-> s.equals(SummonsCodeValidationRule.class)));
     }
 
+    @Test
+    public void shouldMemoiseDefendantValidationPlanPerCombinationOfFlags() {
+        final ValidationRulePlan<DefendantWithReferenceData, ReferenceDataQueryService> plan = CcProsecutionValidationRuleProvider
+                .getDefendantValidationPlan(INITIATION_CODE_CHARGE_CASE, Channel.MCC, Boolean.FALSE, false, false);
+
+        assertThat(CcProsecutionValidationRuleProvider.getDefendantValidationPlan(INITIATION_CODE_CHARGE_CASE, Channel.MCC, null, false, false), sameInstance(plan));
+        assertThat(CcProsecutionValidationRuleProvider.getDefendantValidationPlan(INITIATION_CODE_CHARGE_CASE, Channel.MCC, Boolean.FALSE, true, false), not(sameInstance(plan)));
+        assertThat(CcProsecutionValidationRuleProvider.getDefendantValidationRules(INITIATION_CODE_CHARGE_CASE, Channel.MCC, Boolean.FALSE), sameInstance(plan.getRules()));
+    }
+
+    @Test
+    public void shouldLeaveInitialHearingRulesOutOfPlanForMccCaseWithListNewHearing() {
+        final ValidationRulePlan<DefendantWithReferenceData, ReferenceDataQueryService> plan = CcProsecutionValidationRuleProvider
+                .getDefendantValidationPlan(INITIATION_CODE_CHARGE_CASE, Channel.MCC, Boolean.FALSE, true, false);
+
+        assertThat(ruleClasses(plan.getRules()), not(hasItem(DateOfHearingValidationAndEnricherRule.class)));
+        assertThat(ruleClasses(CcProsecutionValidationRuleProvider.getDefendantValidationRules(INITIATION_CODE_CHARGE_CASE, Channel.MCC, Boolean.FALSE)),
+                hasItem(DateOfHearingValidationAndEnricherRule.class));
+    }
 
+    @Test
+    public void shouldSkipEmailRulesWhenDefendantHasNoEmailAddress() {
+        final ValidationRulePlan<DefendantWithReferenceData, ReferenceDataQueryService> plan = CcProsecutionValidationRuleProvider
+                .getDefendantValidationPlan(INITIATION_CODE_CHARGE_CASE, Channel.CPPI, Boolean.FALSE, false, false);
+
+        final DefendantWithReferenceData withoutEmail = new DefendantWithReferenceData(defendant().build(), null, null);
+        final DefendantWithReferenceData withEmail = new DefendantWithReferenceData(defendant().withEmailAddress1("test@test.com").build(), null, null);
+
+        assertThat(ruleClasses(plan.getApplicableRules(withoutEmail)), not(hasItem(CorporateDefendantPrimaryEmailAddressValidationRule.class)));
+        assertThat(ruleClasses(plan.getApplicableRules(withEmail)), hasItem(CorporateDefendantPrimaryEmailAddressValidationRule.class));
+    }
+
+    private static List<Class<?>> ruleClasses(final List<? extends ValidationRule<?, ?>> validationRules) {
+        return validationRules.stream().<Class<?>>map(Object::getClass).collect(Collectors.toList());
+    }
 }
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,8 +35,8 @@ public class OffenceDrugLevelAmountValidationAndEnricherRuleTest {
 
     @Mock
     private ReferenceDataQueryService referenceDataQueryService;
-    @Mock
-    private ReferenceDataVO referenceDataVO;
+    @Spy
+    private ReferenceDataVO referenceDataVO = new ReferenceDataVO();
     @InjectMocks
     private OffenceDrugLevelAmountValidationAndEnricherRule offenceDrugLevelAmountValidationAndEnricherRule;
 
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,8 +39,8 @@ public class OffenceGenericValidationAndEnricherRuleTest {
     @Mock
     private ReferenceDataQueryService referenceDataQueryService;
 
-    @Mock
-    private ReferenceDataVO referenceDataVO;
+    @Spy
+    private ReferenceDataVO referenceDataVO = new ReferenceDataVO();
 
     @InjectMocks
     private OffenceGenericValidationAndEnricherRule offenceGenericValidationAndEnricherRule;
@@ -14,6 +14,8 @@ public class GroupProsecutionList {
 
     private Channel channel;
 
+    private GroupReferenceData groupReferenceData;
+
     public GroupProsecutionList(final List<GroupProsecutionWithReferenceData> groupProsecutionWithReferenceDataList) {
         if(groupProsecutionWithReferenceDataList != null) {
             this.groupProsecutionWithReferenceDataList = Collections.synchronizedList(groupProsecutionWithReferenceDataList);
@@ -57,4 +59,12 @@ public class GroupProsecutionList {
     public void setChannel(final Channel channel) {
         this.channel = channel;
     }
+
+    public GroupReferenceData getGroupReferenceData() {
+        return groupReferenceData;
+    }
+
+    public void setGroupReferenceData(final GroupReferenceData groupReferenceData) {
+        this.groupReferenceData = groupReferenceData;
+    }
 }
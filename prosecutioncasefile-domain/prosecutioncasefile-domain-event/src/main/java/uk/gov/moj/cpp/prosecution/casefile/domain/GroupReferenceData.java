@@ -0,0 +1,55 @@
+package uk.gov.moj.cpp.prosecution.casefile.domain;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toList;
+
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenceReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProsecutorsReferenceData;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * The reference data shared by every case of a group prosecution, resolved once when the group is
+ * initiated. All cases of a group have the same prosecutor and the same offence code, so it is
+ * added to the reference data of each case before the group is enriched and validated, and the
+ * enrichers and rules find it there rather than looking it up per case.
+ */
+@SuppressWarnings("squid:S2384")
+public class GroupReferenceData {
+
+    private final ProsecutorsReferenceData prosecutorsReferenceData;
+    private final List<OffenceReferenceData> offenceReferenceData;
+
+    @JsonCreator
+    public GroupReferenceData(final ProsecutorsReferenceData prosecutorsReferenceData, final List<OffenceReferenceData> offenceReferenceData) {
+        this.prosecutorsReferenceData = prosecutorsReferenceData;
+        this.offenceReferenceData = offenceReferenceData == null ? emptyList() : unmodifiableList(offenceReferenceData);
+    }
+
+    public ProsecutorsReferenceData getProsecutorsReferenceData() {
+        return prosecutorsReferenceData;
+    }
+
+    public List<OffenceReferenceData> getOffenceReferenceData() {
+        return offenceReferenceData;
+    }
+
+    /**
+     * Adds the group's reference data to the reference data of one of its cases, keeping anything
+     * the case already has.
+     */
+    public void applyTo(final ReferenceDataVO referenceDataVO) {
+        if (nonNull(prosecutorsReferenceData) && referenceDataVO.getProsecutorsReferenceData() == null) {
+            referenceDataVO.setProsecutorsReferenceData(prosecutorsReferenceData);
+        }
+
+        final List<OffenceReferenceData> missingOffenceReferenceData = offenceReferenceData.stream()
+                .filter(referenceData -> referenceDataVO.findOffenceReferenceData(referenceData.getCjsOffenceCode()).isEmpty())
+                .collect(toList());
+        missingOffenceReferenceData.forEach(referenceDataVO::addOffenceReferenceData);
+    }
+}
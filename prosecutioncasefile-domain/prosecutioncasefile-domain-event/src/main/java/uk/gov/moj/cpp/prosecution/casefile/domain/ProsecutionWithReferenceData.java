@@ -1,5 +1,7 @@
 package uk.gov.moj.cpp.prosecution.casefile.domain;
 
+import static uk.gov.moj.cpp.prosecution.casefile.domain.ReferenceDataKeys.referenceDataKeysOf;
+
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Prosecution;
 
 import java.util.UUID;
@@ -15,6 +17,8 @@ public class ProsecutionWithReferenceData {
 
     private UUID externalId;
 
+    private ReferenceDataKeys referenceDataKeys;
+
     @JsonCreator
     public ProsecutionWithReferenceData(final Prosecution prosecution) {
         this.prosecution = prosecution;
@@ -50,4 +54,26 @@ public class ProsecutionWithReferenceData {
     public void setExternalId(final UUID externalId) {
         this.externalId = externalId;
     }
+
+    public ReferenceDataKeys getReferenceDataKeys() {
+        return referenceDataKeys;
+    }
+
+    public void setReferenceDataKeys(final ReferenceDataKeys referenceDataKeys) {
+        this.referenceDataKeys = referenceDataKeys;
+    }
+
+    /**
+     * A copy of this prosecution to record on an event, with the reference data replaced by its
+     * {@link ReferenceDataKeys keys}. The offence reference data is kept as it is, since it holds the
+     * versions of the offences the prosecution was validated against.
+     */
+    public ProsecutionWithReferenceData withReferenceDataKeys() {
+        final ReferenceDataVO offenceReferenceDataOnly = new ReferenceDataVO();
+        offenceReferenceDataOnly.setOffenceReferenceData(referenceDataVO.getOffenceReferenceData());
+
+        final ProsecutionWithReferenceData prosecutionWithReferenceDataKeys = new ProsecutionWithReferenceData(prosecution, offenceReferenceDataOnly, externalId);
+        prosecutionWithReferenceDataKeys.setReferenceDataKeys(referenceDataKeysOf(referenceDataVO));
+        return prosecutionWithReferenceDataKeys;
+    }
 }
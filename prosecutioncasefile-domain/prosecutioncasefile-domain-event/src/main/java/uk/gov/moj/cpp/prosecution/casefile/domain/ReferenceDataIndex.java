@@ -0,0 +1,63 @@
+package uk.gov.moj.cpp.prosecution.casefile.domain;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Locale.ROOT;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Hash index over a reference data list, keyed by one of the entry's codes.
+ * <p>
+ * The index is built lazily on first lookup and rebuilt whenever the indexed list is replaced or
+ * changes size, since the enricher rules append to the reference data lists in place while a
+ * submission is being validated. Entries sharing a key are returned in list order.
+ */
+public class ReferenceDataIndex<T> {
+
+    private final Function<T, String> keyExtractor;
+    private final boolean ignoreCase;
+
+    private List<T> indexedList;
+    private int indexedSize;
+    private Map<String, List<T>> index;
+
+    public ReferenceDataIndex(final Function<T, String> keyExtractor, final boolean ignoreCase) {
+        this.keyExtractor = keyExtractor;
+        this.ignoreCase = ignoreCase;
+    }
+
+    public synchronized List<T> get(final List<T> referenceData, final String key) {
+        if (referenceData == null || key == null) {
+            return emptyList();
+        }
+
+        if (index == null || indexedList != referenceData || indexedSize != referenceData.size()) {
+            rebuild(referenceData);
+        }
+
+        return unmodifiableList(index.getOrDefault(normalise(key), emptyList()));
+    }
+
+    private void rebuild(final List<T> referenceData) {
+        final Map<String, List<T>> newIndex = new HashMap<>();
+        for (final T entry : referenceData) {
+            final String key = entry == null ? null : keyExtractor.apply(entry);
+            if (key != null) {
+                newIndex.computeIfAbsent(normalise(key), k -> new ArrayList<>(1)).add(entry);
+            }
+        }
+
+        index = newIndex;
+        indexedList = referenceData;
+        indexedSize = referenceData.size();
+    }
+
+    private String normalise(final String key) {
+        return ignoreCase ? key.toUpperCase(ROOT) : key;
+    }
+}
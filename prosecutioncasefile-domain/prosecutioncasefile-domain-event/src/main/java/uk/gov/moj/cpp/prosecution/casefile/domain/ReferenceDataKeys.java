@@ -0,0 +1,131 @@
+package uk.gov.moj.cpp.prosecution.casefile.domain;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.nonNull;
+
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.BailStatusReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseMarker;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ModeOfTrialReasonsReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ObservedEthnicityReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OrganisationUnitWithCourtroomReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ReferenceDataCountryNationality;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.SelfdefinedEthnicityReferenceData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * The keys of the reference data a prosecution was validated against, recorded on a received case
+ * event in place of the reference data itself.
+ * <p>
+ * Only the reference data read when the received case is sent on to progression is recorded. The
+ * event processor looks each entry up again by its key through the cached reference data queries.
+ */
+@SuppressWarnings("squid:S2384")
+public class ReferenceDataKeys {
+
+    private final UUID prosecutorId;
+    private final String courtroomOuCode;
+    private final UUID hearingTypeId;
+    private final List<String> caseMarkerCodes;
+    private final List<String> modeOfTrialReasonIds;
+    private final List<String> countryNationalityIds;
+    private final List<UUID> selfdefinedEthnicityIds;
+    private final List<UUID> observedEthnicityIds;
+    private final List<UUID> bailStatusIds;
+
+    @JsonCreator
+    @SuppressWarnings("squid:S00107")
+    public ReferenceDataKeys(final UUID prosecutorId,
+                             final String courtroomOuCode,
+                             final UUID hearingTypeId,
+                             final List<String> caseMarkerCodes,
+                             final List<String> modeOfTrialReasonIds,
+                             final List<String> countryNationalityIds,
+                             final List<UUID> selfdefinedEthnicityIds,
+                             final List<UUID> observedEthnicityIds,
+                             final List<UUID> bailStatusIds) {
+        this.prosecutorId = prosecutorId;
+        this.courtroomOuCode = courtroomOuCode;
+        this.hearingTypeId = hearingTypeId;
+        this.caseMarkerCodes = orEmpty(caseMarkerCodes);
+        this.modeOfTrialReasonIds = orEmpty(modeOfTrialReasonIds);
+        this.countryNationalityIds = orEmpty(countryNationalityIds);
+        this.selfdefinedEthnicityIds = orEmpty(selfdefinedEthnicityIds);
+        this.observedEthnicityIds = orEmpty(observedEthnicityIds);
+        this.bailStatusIds = orEmpty(bailStatusIds);
+    }
+
+    public static ReferenceDataKeys referenceDataKeysOf(final ReferenceDataVO referenceDataVO) {
+        return new ReferenceDataKeys(
+                nonNull(referenceDataVO.getProsecutorsReferenceData()) ? referenceDataVO.getProsecutorsReferenceData().getId() : null,
+                referenceDataVO.getOrganisationUnitWithCourtroomReferenceData().map(OrganisationUnitWithCourtroomReferenceData::getOucode).orElse(null),
+                nonNull(referenceDataVO.getHearingType()) ? referenceDataVO.getHearingType().getId() : null,
+                keysOf(referenceDataVO.getCaseMarkers(), CaseMarker::getMarkerTypeCode),
+                keysOf(referenceDataVO.getModeOfTrialReasonsReferenceData(), ModeOfTrialReasonsReferenceData::getId),
+                keysOf(referenceDataVO.getCountryNationalityReferenceData(), ReferenceDataCountryNationality::getId),
+                keysOf(referenceDataVO.getSelfdefinedEthnicityReferenceData(), SelfdefinedEthnicityReferenceData::getId),
+                keysOf(referenceDataVO.getObservedEthnicityReferenceData(), ObservedEthnicityReferenceData::getId),
+                keysOf(referenceDataVO.getBailStatusReferenceData(), BailStatusReferenceData::getId));
+    }
+
+    public UUID getProsecutorId() {
+        return prosecutorId;
+    }
+
+    public String getCourtroomOuCode() {
+        return courtroomOuCode;
+    }
+
+    public UUID getHearingTypeId() {
+        return hearingTypeId;
+    }
+
+    public List<String> getCaseMarkerCodes() {
+        return caseMarkerCodes;
+    }
+
+    public List<String> getModeOfTrialReasonIds() {
+        return modeOfTrialReasonIds;
+    }
+
+    public List<String> getCountryNationalityIds() {
+        return countryNationalityIds;
+    }
+
+    public List<UUID> getSelfdefinedEthnicityIds() {
+        return selfdefinedEthnicityIds;
+    }
+
+    public List<UUID> getObservedEthnicityIds() {
+        return observedEthnicityIds;
+    }
+
+    public List<UUID> getBailStatusIds() {
+        return bailStatusIds;
+    }
+
+    private static <T, K> List<K> keysOf(final List<T> referenceData, final Function<T, K> key) {
+        if (referenceData == null) {
+            return emptyList();
+        }
+
+        final List<K> keys = new ArrayList<>(referenceData.size());
+        referenceData.stream()
+                .filter(Objects::nonNull)
+                .map(key)
+                .filter(each -> nonNull(each) && !keys.contains(each))
+                .forEach(keys::add);
+        return keys;
+    }
+
+    private static <K> List<K> orEmpty(final List<K> keys) {
+        return keys == null ? emptyList() : unmodifiableList(keys);
+    }
+}
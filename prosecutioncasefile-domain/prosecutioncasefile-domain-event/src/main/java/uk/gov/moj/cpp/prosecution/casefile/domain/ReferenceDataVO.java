@@ -44,6 +44,15 @@ public class ReferenceDataVO {
     private HearingType hearingType;
     private List<ModeOfTrialReasonsReferenceData> modeOfTrialReasonsReferenceData = new ArrayList<>();
 
+    private final transient ReferenceDataIndex<OffenceReferenceData> offenceReferenceDataByCjsCode = new ReferenceDataIndex<>(OffenceReferenceData::getCjsOffenceCode, false);
+    private final transient ReferenceDataIndex<ReferenceDataCountryNationality> countryNationalityByIsoCode = new ReferenceDataIndex<>(ReferenceDataCountryNationality::getIsoCode, false);
+    private final transient ReferenceDataIndex<ReferenceDataCountryNationality> countryNationalityByCjsCode = new ReferenceDataIndex<>(ReferenceDataCountryNationality::getCjsCode, false);
+    private final transient ReferenceDataIndex<SelfdefinedEthnicityReferenceData> selfdefinedEthnicityByCode = new ReferenceDataIndex<>(SelfdefinedEthnicityReferenceData::getCode, true);
+    private final transient ReferenceDataIndex<ObservedEthnicityReferenceData> observedEthnicityByCode = new ReferenceDataIndex<>(ObservedEthnicityReferenceData::getEthnicityCode, true);
+    private final transient ReferenceDataIndex<VehicleCodeReferenceData> vehicleCodeByCode = new ReferenceDataIndex<>(VehicleCodeReferenceData::getCode, true);
+    private final transient ReferenceDataIndex<OffenderCodeReferenceData> offenderCodeByCode = new ReferenceDataIndex<>(OffenderCodeReferenceData::getOffenderCode, false);
+    private final transient ReferenceDataIndex<BailStatusReferenceData> bailStatusByStatusCode = new ReferenceDataIndex<>(BailStatusReferenceData::getStatusCode, false);
+
     public ProsecutorsReferenceData getProsecutorsReferenceData() {
         return prosecutorsReferenceData;
     }
@@ -187,4 +196,52 @@ public class ReferenceDataVO {
     public void setModeOfTrialReferenceData(final List<ModeOfTrialReasonsReferenceData> modeOfTrialReasonsReferenceData) {
         this.modeOfTrialReasonsReferenceData = modeOfTrialReasonsReferenceData;
     }
+
+    public List<OffenceReferenceData> findOffenceReferenceData(final String cjsOffenceCode) {
+        return offenceReferenceDataByCjsCode.get(getOffenceReferenceData(), cjsOffenceCode);
+    }
+
+    /**
+     * Finds the country nationality whose ISO code, or failing that whose CJS code, matches the given nationality.
+     */
+    public Optional<ReferenceDataCountryNationality> findCountryNationality(final String nationality) {
+        final Optional<ReferenceDataCountryNationality> byIsoCode = first(countryNationalityByIsoCode.get(getCountryNationalityReferenceData(), nationality));
+        return byIsoCode.isPresent() ? byIsoCode : first(countryNationalityByCjsCode.get(getCountryNationalityReferenceData(), nationality));
+    }
+
+    public Optional<SelfdefinedEthnicityReferenceData> findSelfdefinedEthnicity(final String code) {
+        return selfdefinedEthnicityByCode.get(getSelfdefinedEthnicityReferenceData(), code).stream()
+                .filter(ethnicity -> ethnicity.getCode().equals(code))
+                .findFirst();
+    }
+
+    public Optional<SelfdefinedEthnicityReferenceData> findSelfdefinedEthnicityIgnoreCase(final String code) {
+        return first(selfdefinedEthnicityByCode.get(getSelfdefinedEthnicityReferenceData(), code));
+    }
+
+    public Optional<ObservedEthnicityReferenceData> findObservedEthnicity(final String ethnicityCode) {
+        return observedEthnicityByCode.get(getObservedEthnicityReferenceData(), ethnicityCode).stream()
+                .filter(ethnicity -> ethnicity.getEthnicityCode().equals(ethnicityCode))
+                .findFirst();
+    }
+
+    public Optional<ObservedEthnicityReferenceData> findObservedEthnicityIgnoreCase(final String ethnicityCode) {
+        return first(observedEthnicityByCode.get(getObservedEthnicityReferenceData(), ethnicityCode));
+    }
+
+    public Optional<VehicleCodeReferenceData> findVehicleCodeIgnoreCase(final String code) {
+        return first(vehicleCodeByCode.get(getVehicleCodesReferenceData(), code));
+    }
+
+    public Optional<OffenderCodeReferenceData> findOffenderCode(final String offenderCode) {
+        return first(offenderCodeByCode.get(getOffenderCodeReferenceData(), offenderCode));
+    }
+
+    public Optional<BailStatusReferenceData> findBailStatus(final String statusCode) {
+        return first(bailStatusByStatusCode.get(getBailStatusReferenceData(), statusCode));
+    }
+
+    private static <T> Optional<T> first(final List<T> referenceData) {
+        return referenceData.isEmpty() ? empty() : Optional.of(referenceData.get(0));
+    }
 }
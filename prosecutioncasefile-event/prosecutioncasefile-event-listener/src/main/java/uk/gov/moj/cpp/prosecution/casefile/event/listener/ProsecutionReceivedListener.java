@@ -1,6 +1,6 @@
 package uk.gov.moj.cpp.prosecution.casefile.event.listener;
 
-import static java.util.Objects.nonNull;
+import static java.util.Collections.singleton;
 import static java.util.UUID.fromString;
 import static java.util.UUID.randomUUID;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -40,6 +40,7 @@ import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.DefendantDetails;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.ResolvedCases;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorCaseDetailsRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorRepository;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorSummaryRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.CaseDetailsRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.ResolvedCasesRepository;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.ResolvedCase;
@@ -78,6 +79,9 @@ public class ProsecutionReceivedListener {
     @Inject
     private BusinessValidationErrorCaseDetailsRepository businessValidationErrorCaseDetailsRepository;
 
+    @Inject
+    private BusinessValidationErrorSummaryRepository businessValidationErrorSummaryRepository;
+
     @Inject
     private ResolvedCasesRepository resolvedCasesRepository;
 
@@ -93,15 +97,9 @@ public class ProsecutionReceivedListener {
         final CcCaseReceived ccCaseReceived = envelope.payload();
         final CaseDetails caseDetails = prosecutionReceivedToCaseConverter.convert(ccCaseReceived.getProsecutionWithReferenceData().getProsecution());
         caseDetailsRepository.save(caseDetails);
-        caseDetails.getDefendants().forEach(defendant -> {
-            businessValidationErrorRepository.deleteByCaseIdAndDefendantId(caseDetails.getCaseId(), fromString(defendant.getDefendantId()));
-            if (nonNull(defendant.getPersonalInformation())) {
-                businessValidationErrorRepository.deleteByCaseIdAndFirstNameAndLastName(caseDetails.getCaseId(), defendant.getPersonalInformation().getFirstName(), defendant.getPersonalInformation().getLastName());
-            } else if (nonNull(defendant.getOrganisationInformation())) {
-                businessValidationErrorRepository.deleteByCaseIdAndOrganisationName(caseDetails.getCaseId(), defendant.getOrganisationInformation().getOrganisationName());
-            }
-        });
+        businessValidationErrorRepository.deleteByCaseIdAndDefendants(caseDetails.getCaseId(), caseDetails.getDefendants());
         deleteErrorCaseDetails(caseDetails.getCaseId());
+        businessValidationErrorSummaryRepository.refreshCaseErrorSummary(caseDetails.getCaseId());
     }
 
     @Handles("prosecutioncasefile.events.spi-prosecution-defendants-added")
@@ -109,9 +107,9 @@ public class ProsecutionReceivedListener {
         final SpiProsecutionDefendantsAdded prosecutionDefendantsAdded = envelope.payload();
         final CaseDetails caseDetails = caseDetailsRepository.findBy(prosecutionDefendantsAdded.getCaseId());
         caseDetails.getDefendants().addAll(getDefendantDetails(prosecutionDefendantsAdded.getDefendants()));
-        caseDetails.getDefendants().forEach(x -> businessValidationErrorRepository.deleteByDefendantId(fromString(x.getDefendantId())));
+        businessValidationErrorRepository.deleteByDefendantIds(getDefendantIds(caseDetails));
         deleteErrorCaseDetails(prosecutionDefendantsAdded.getCaseId());
-
+        businessValidationErrorSummaryRepository.refreshCaseErrorSummary(prosecutionDefendantsAdded.getCaseId());
     }
 
     @Handles("prosecutioncasefile.events.prosecution-defendants-added")
@@ -120,8 +118,9 @@ public class ProsecutionReceivedListener {
         if (SPI.equals(prosecutionDefendantsAdded.getChannel())) {
             final CaseDetails caseDetails = caseDetailsRepository.findBy(prosecutionDefendantsAdded.getCaseId());
             caseDetails.getDefendants().addAll(getDefendantDetails(prosecutionDefendantsAdded.getDefendants()));
-            caseDetails.getDefendants().forEach(details -> businessValidationErrorRepository.deleteByDefendantId(fromString(details.getDefendantId())));
+            businessValidationErrorRepository.deleteByDefendantIds(getDefendantIds(caseDetails));
             deleteErrorCaseDetails(prosecutionDefendantsAdded.getCaseId());
+            businessValidationErrorSummaryRepository.refreshCaseErrorSummary(prosecutionDefendantsAdded.getCaseId());
         }
     }
 
@@ -156,9 +155,9 @@ public class ProsecutionReceivedListener {
                             businessValidationErrorDetails.addAll(buildBusinessErrorDetailsToPersist(defendantProblemsVO.getDefendant(), urn, caseId, problem, version, caseType))
                     ));
 
-            businessValidationErrorDetails.forEach(businessValidationErrorEntity ->
-                    businessValidationErrorRepository.save(businessValidationErrorEntity));
+            businessValidationErrorRepository.saveAll(businessValidationErrorDetails);
             saveBusinessCaseDetails(caseId, prosecution.getDefendants().get(0));
+            businessValidationErrorSummaryRepository.refreshCaseErrorSummary(caseId);
         }
     }
 
@@ -169,20 +168,16 @@ public class ProsecutionReceivedListener {
         final long version = envelope.metadata().eventNumber().orElse(0L);
 
         // clear all old violations
-        businessValidationErrorRepository.findByCaseId(prosecution.getCaseDetails().getCaseId()).stream()
-                .filter(x -> x.getDefendantId() == null)
-                .forEach(x -> businessValidationErrorRepository.remove(x));
-
-        caseValidationFailed.getProblems().forEach(problem -> {
-                    final List<BusinessValidationErrorDetails> businessValidationErrorCaseDetails = buildBusinessErrorCaseDetailsToPersist(prosecution, problem, version, caseValidationFailed.getInitialHearing());
-                    businessValidationErrorCaseDetails.forEach(businessValidationErrorCaseEntity ->
-                            businessValidationErrorRepository.save(businessValidationErrorCaseEntity));
-                }
-        );
+        businessValidationErrorRepository.deleteByCaseIdAndDefendantIdIsNull(prosecution.getCaseDetails().getCaseId());
+
+        final List<BusinessValidationErrorDetails> businessValidationErrorCaseDetails = new ArrayList<>();
+        caseValidationFailed.getProblems().forEach(problem ->
+                businessValidationErrorCaseDetails.addAll(buildBusinessErrorCaseDetailsToPersist(prosecution, problem, version, caseValidationFailed.getInitialHearing())));
+        businessValidationErrorRepository.saveAll(businessValidationErrorCaseDetails);
         if(prosecution.getDefendants() !=null && !prosecution.getDefendants().isEmpty()) {
             saveBusinessCaseDetails(prosecution.getCaseDetails().getCaseId(), prosecution.getDefendants().get(0));
         }
-
+        businessValidationErrorSummaryRepository.refreshCaseErrorSummary(prosecution.getCaseDetails().getCaseId());
     }
 
     public void saveBusinessValidationErrorCaseDetails(ErrorCaseDetails errorCaseDetails) {
@@ -269,22 +264,27 @@ public class ProsecutionReceivedListener {
         // clear all old violations of defendant
         businessValidationErrorRepository.deleteByDefendantId(fromString(defendant.getId()));
 
-        defendantValidationFailed.getProblems().forEach(problem -> {
-            final List<BusinessValidationErrorDetails> businessValidationErrorDetails = buildBusinessErrorDetailsToPersist(defendant, defendantValidationFailed.getUrn(), defendantValidationFailed.getCaseId(), problem, version, caseType);
-            businessValidationErrorDetails.forEach(businessValidationErrorEntity ->
-                    businessValidationErrorRepository.save(businessValidationErrorEntity));
-        });
+        final List<BusinessValidationErrorDetails> businessValidationErrorDetails = new ArrayList<>();
+        defendantValidationFailed.getProblems().forEach(problem ->
+                businessValidationErrorDetails.addAll(buildBusinessErrorDetailsToPersist(defendant, defendantValidationFailed.getUrn(), defendantValidationFailed.getCaseId(), problem, version, caseType)));
+        businessValidationErrorRepository.saveAll(businessValidationErrorDetails);
         saveBusinessCaseDetails(defendantValidationFailed.getCaseId(), defendantValidationFailed.getDefendant());
-
+        businessValidationErrorSummaryRepository.refreshCaseErrorSummary(defendantValidationFailed.getCaseId());
     }
 
     @Handles("prosecutioncasefile.events.defendant-validation-passed")
     public void defendantsValidationPassed(final Envelope<DefendantValidationPassed> envelope) {
         final DefendantValidationPassed defendantValidationFailedPassed = envelope.payload();
+        final Set<UUID> caseIds = defendantValidationFailedPassed.getCaseId() != null
+                ? singleton(defendantValidationFailedPassed.getCaseId())
+                : businessValidationErrorRepository.findByDefendantId(defendantValidationFailedPassed.getDefendantId()).stream()
+                .map(BusinessValidationErrorDetails::getCaseId)
+                .collect(Collectors.toSet());
         businessValidationErrorRepository.deleteByDefendantId(defendantValidationFailedPassed.getDefendantId());
         if (defendantValidationFailedPassed.getCaseId() != null) {
             deleteErrorCaseDetails(defendantValidationFailedPassed.getCaseId());
         }
+        caseIds.forEach(businessValidationErrorSummaryRepository::refreshCaseErrorSummary);
     }
 
     @Handles("prosecutioncasefile.event.resolved-case")
@@ -381,6 +381,10 @@ public class ProsecutionReceivedListener {
         return defendants.stream().map(defendantToDefendantDetail::convert).collect(Collectors.toSet());
     }
 
+    private Set<UUID> getDefendantIds(final CaseDetails caseDetails) {
+        return caseDetails.getDefendants().stream().map(defendant -> fromString(defendant.getDefendantId())).collect(Collectors.toSet());
+    }
+
     private ResolvedCases createResolvedCases(final UUID id,
                                               final UUID caseId,
                                               final LocalDate localDate,
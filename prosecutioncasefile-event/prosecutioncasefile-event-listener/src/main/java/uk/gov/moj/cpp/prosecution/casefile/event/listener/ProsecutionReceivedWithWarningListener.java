@@ -9,6 +9,7 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Prosecution;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.CaseDetails;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorCaseDetailsRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorRepository;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorSummaryRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.CaseDetailsRepository;
 
 import javax.inject.Inject;
@@ -32,6 +33,9 @@ public class ProsecutionReceivedWithWarningListener {
     @Inject
     private BusinessValidationErrorCaseDetailsRepository businessValidationErrorCaseDetailsRepository;
 
+    @Inject
+    private BusinessValidationErrorSummaryRepository businessValidationErrorSummaryRepository;
+
     @Handles("prosecutioncasefile.events.cc-case-received-with-warnings")
     public void prosecutionCCCaseReceivedWithWarning(final Envelope<CcCaseReceivedWithWarnings> envelope) {
         final CcCaseReceivedWithWarnings caseReceivedWithWarnings = envelope.payload();
@@ -43,6 +47,7 @@ public class ProsecutionReceivedWithWarningListener {
             caseDetailsRepository.save(caseDetails);
             businessValidationErrorRepository.deleteByCaseId(caseDetails.getCaseId());
             businessValidationErrorCaseDetailsRepository.deleteByCaseId(caseDetails.getCaseId());
+            businessValidationErrorSummaryRepository.refreshCaseErrorSummary(caseDetails.getCaseId());
         }
     }
 
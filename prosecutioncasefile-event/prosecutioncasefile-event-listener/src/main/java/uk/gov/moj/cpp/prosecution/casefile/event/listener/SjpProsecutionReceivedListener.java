@@ -9,6 +9,7 @@ import uk.gov.moj.cpp.prosecution.casefile.event.listener.converter.ProsecutionR
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.CaseDetails;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorCaseDetailsRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorRepository;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorSummaryRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.CaseDetailsRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.DefendantRepository;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.SjpProsecutionReceived;
@@ -30,6 +31,9 @@ public class SjpProsecutionReceivedListener {
     @Inject
     private BusinessValidationErrorCaseDetailsRepository businessValidationErrorCaseDetailsRepository;
 
+    @Inject
+    private BusinessValidationErrorSummaryRepository businessValidationErrorSummaryRepository;
+
     @Inject
     private DefendantRepository defendantRepository;
 
@@ -40,6 +44,7 @@ public class SjpProsecutionReceivedListener {
 
         businessValidationErrorRepository.deleteByCaseId(caseDetails.getCaseId());
         businessValidationErrorCaseDetailsRepository.deleteByCaseId(caseDetails.getCaseId());
+        businessValidationErrorSummaryRepository.refreshCaseErrorSummary(caseDetails.getCaseId());
         final CaseDetails existingCase = caseDetailsRepository.findBy(caseDetails.getCaseId());
 
         // Deltaspike bug - It can't update existing child records
@@ -9,6 +9,7 @@ import uk.gov.moj.cpp.prosecution.casefile.event.listener.converter.ProsecutionR
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.CaseDetails;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorCaseDetailsRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorRepository;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorSummaryRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.CaseDetailsRepository;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.SjpProsecutionReceivedWithWarnings;
 
@@ -28,12 +29,16 @@ public class SjpProsecutionReceivedWithWarningsListener {
     @Inject
     private BusinessValidationErrorCaseDetailsRepository businessValidationErrorCaseDetailsRepository;
 
+    @Inject
+    private BusinessValidationErrorSummaryRepository businessValidationErrorSummaryRepository;
+
     @Handles("prosecutioncasefile.events.sjp-prosecution-received-with-warnings")
     public void prosecutionReceived(final Envelope<SjpProsecutionReceivedWithWarnings> envelope) {
         final SjpProsecutionReceivedWithWarnings sjpProsecutionReceived = envelope.payload();
         final CaseDetails caseDetails = prosecutionReceivedWithWarningsToCaseConverter.convert(sjpProsecutionReceived);
         businessValidationErrorRepository.deleteByCaseId(caseDetails.getCaseId());
         businessValidationErrorCaseDetailsRepository.deleteByCaseId(caseDetails.getCaseId());
+        businessValidationErrorSummaryRepository.refreshCaseErrorSummary(caseDetails.getCaseId());
         caseDetailsRepository.save(caseDetails);
     }
 }
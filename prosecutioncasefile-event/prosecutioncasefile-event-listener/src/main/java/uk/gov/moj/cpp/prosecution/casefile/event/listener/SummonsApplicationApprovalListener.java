@@ -12,6 +12,7 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Defendant;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorDetails;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorCaseDetailsRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorRepository;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorSummaryRepository;
 
 import java.util.List;
 import java.util.UUID;
@@ -27,6 +28,9 @@ public class SummonsApplicationApprovalListener {
     @Inject
     private BusinessValidationErrorCaseDetailsRepository businessValidationErrorCaseDetailsRepository;
 
+    @Inject
+    private BusinessValidationErrorSummaryRepository businessValidationErrorSummaryRepository;
+
 
     @Handles("prosecutioncasefile.events.defendants-parked-for-summons-application-approval")
     public void processApplicationApprovalRequest(final Envelope<DefendantsParkedForSummonsApplicationApproval> envelope) {
@@ -38,6 +42,7 @@ public class SummonsApplicationApprovalListener {
             defendants.forEach(d -> businessValidationErrorRepository.deleteByDefendantId(fromString(d.getId())));
         }
         deleteErrorCaseDetails(caseId);
+        businessValidationErrorSummaryRepository.refreshCaseErrorSummary(caseId);
     }
     public void deleteErrorCaseDetails(UUID caseId) {
         final List<BusinessValidationErrorDetails> errorDetails = businessValidationErrorRepository.findByCaseId(caseId);
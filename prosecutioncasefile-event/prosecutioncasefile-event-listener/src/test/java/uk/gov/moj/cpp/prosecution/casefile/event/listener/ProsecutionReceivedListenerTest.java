@@ -1,6 +1,7 @@
 package uk.gov.moj.cpp.prosecution.casefile.event.listener;
 
 import static java.time.LocalDate.now;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.UUID.fromString;
@@ -15,15 +16,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.cps.prosecutioncasefile.InitialHearing.initialHearing;
 import static uk.gov.justice.services.messaging.Envelope.envelopeFrom;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithDefaults;
-import static uk.gov.moj.cpp.prosecution.casefile.event.listener.converter.TestDataProvider.FIRST_NAME;
-import static uk.gov.moj.cpp.prosecution.casefile.event.listener.converter.TestDataProvider.LAST_NAME;
 import static uk.gov.moj.cpp.prosecution.casefile.event.listener.converter.TestDataProvider.createCorporateDefendant;
 import static uk.gov.moj.cpp.prosecution.casefile.event.listener.converter.TestDataProvider.createDefendant;
 import static uk.gov.moj.cpp.prosecution.casefile.event.listener.converter.TestDataProvider.createProsecution;
@@ -68,6 +66,7 @@ import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.PersonalInformation
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.ResolvedCases;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorCaseDetailsRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorRepository;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorSummaryRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.CaseDetailsRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.ResolvedCasesRepository;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.ResolvedCase;
@@ -116,6 +115,8 @@ public class ProsecutionReceivedListenerTest {
     @Mock
     private BusinessValidationErrorCaseDetailsRepository businessValidationErrorCaseDetailsRepository;
     @Mock
+    private BusinessValidationErrorSummaryRepository businessValidationErrorSummaryRepository;
+    @Mock
     private ProsecutionWithReferenceData prosecutionWithReferenceData;
     @Mock
     private CaseDetails caseDetails;
@@ -152,7 +153,7 @@ public class ProsecutionReceivedListenerTest {
     private ResolvedCasesRepository resolvedCasesRepository;
 
     @Captor
-    private ArgumentCaptor<BusinessValidationErrorDetails> businessValidationErrorDetailsArgumentCaptor;
+    private ArgumentCaptor<List<BusinessValidationErrorDetails>> businessValidationErrorDetailsArgumentCaptor;
 
     @Captor
     private ArgumentCaptor<BusinessValidationErrorCaseDetails> businessValidationErrorCaseDetailsArgumentCaptor;
@@ -213,8 +214,9 @@ public class ProsecutionReceivedListenerTest {
         when(objectToJsonObjectConverter.convert(any())).thenReturn(createObjectBuilder().build());
         prosecutionReceivedListener.defendantsValidationFailed(defendantValidationFailedEnvelope);
 
-        verify(businessValidationErrorRepository).save(businessValidationErrorDetailsArgumentCaptor.capture());
-        final BusinessValidationErrorDetails savedBusinessValidationErrorDetails = businessValidationErrorDetailsArgumentCaptor.getValue();
+        verify(businessValidationErrorRepository).saveAll(businessValidationErrorDetailsArgumentCaptor.capture());
+        assertThat(businessValidationErrorDetailsArgumentCaptor.getValue(), hasSize(1));
+        final BusinessValidationErrorDetails savedBusinessValidationErrorDetails = businessValidationErrorDetailsArgumentCaptor.getValue().get(0);
         assertThat(savedBusinessValidationErrorDetails.getFieldId(), is(problemValue.getId()));
         assertThat(savedBusinessValidationErrorDetails.getErrorValue(), is(problemValue.getValue()));
         assertThat(savedBusinessValidationErrorDetails.getDisplayName(), is(problem.getCode()));
@@ -232,6 +234,7 @@ public class ProsecutionReceivedListenerTest {
         assertThat(savedBusinessValidationErrorDetails.getDefendantChargeDate(), is(defendant.getOffences().get(0).getChargeDate()));
         assertThat(savedBusinessValidationErrorDetails.getDefendantHearingDate().toString(), is(defendant.getInitialHearing().getDateOfHearing()));
         assertThat(savedBusinessValidationErrorDetails.getDateOfBirth(), is(defendant.getIndividual().getSelfDefinedInformation().getDateOfBirth()));
+        verify(businessValidationErrorSummaryRepository).refreshCaseErrorSummary(caseId);
     }
 
 
@@ -251,6 +254,23 @@ public class ProsecutionReceivedListenerTest {
 
     }
 
+    @Test
+    public void shouldRefreshErrorSummaryOfCasesOfDefendantOnDefendantValidationPassed() {
+        final UUID defendantId = randomUUID();
+        final DefendantValidationPassed defendantValidationPassed = DefendantValidationPassed.defendantValidationPassed().withDefendantId(defendantId).build();
+        final Envelope<DefendantValidationPassed> defendantValidationPassedEnvelope = envelopeFrom(
+                MetadataBuilderFactory.metadataWithRandomUUIDAndName().withEventNumber(1L).build(),
+                defendantValidationPassed);
+        final BusinessValidationErrorDetails businessValidationErrorDetails = new BusinessValidationErrorDetails();
+        businessValidationErrorDetails.setCaseId(caseId);
+        when(businessValidationErrorRepository.findByDefendantId(defendantId)).thenReturn(asList(businessValidationErrorDetails, businessValidationErrorDetails));
+
+        prosecutionReceivedListener.defendantsValidationPassed(defendantValidationPassedEnvelope);
+
+        verify(businessValidationErrorRepository).deleteByDefendantId(defendantId);
+        verify(businessValidationErrorSummaryRepository).refreshCaseErrorSummary(caseId);
+    }
+
     @Test
     public void shouldPersistBusinessValidationErrorDetailsOnCaseValidationFailed() {
         final Prosecution prosecution = Prosecution.prosecution()
@@ -278,8 +298,9 @@ public class ProsecutionReceivedListenerTest {
 
         prosecutionReceivedListener.caseValidationFailed(caseValidationFailedEnvelope);
 
-        verify(businessValidationErrorRepository).save(businessValidationErrorDetailsArgumentCaptor.capture());
-        final BusinessValidationErrorDetails savedBusinessValidationErrorDetails = businessValidationErrorDetailsArgumentCaptor.getValue();
+        verify(businessValidationErrorRepository).saveAll(businessValidationErrorDetailsArgumentCaptor.capture());
+        assertThat(businessValidationErrorDetailsArgumentCaptor.getValue(), hasSize(1));
+        final BusinessValidationErrorDetails savedBusinessValidationErrorDetails = businessValidationErrorDetailsArgumentCaptor.getValue().get(0);
         assertThat(savedBusinessValidationErrorDetails.getFieldId(), is(problemValue.getId()));
         assertThat(savedBusinessValidationErrorDetails.getErrorValue(), is(problemValue.getValue()));
         assertThat(savedBusinessValidationErrorDetails.getDisplayName(), is(problem.getCode()));
@@ -305,10 +326,6 @@ public class ProsecutionReceivedListenerTest {
         when(ccCaseReceived.getProsecutionWithReferenceData()).thenReturn(prosecutionWithReferenceData);
         when(prosecutionReceivedToCaseConverter.convert(ccCaseReceived.getProsecutionWithReferenceData().getProsecution())).thenReturn(caseDetails);
         when(caseDetails.getCaseId()).thenReturn(caseId);
-        when(defendantDetails.getDefendantId()).thenReturn(defendantId.toString());
-        when(defendantDetails.getPersonalInformation()).thenReturn(personalInformationDetails);
-        when(personalInformationDetails.getLastName()).thenReturn(LAST_NAME);
-        when(personalInformationDetails.getFirstName()).thenReturn(FIRST_NAME);
 
         defendantDetailsSet.add(defendantDetails);
         when(caseDetails.getDefendants()).thenReturn(defendantDetailsSet);
@@ -316,8 +333,7 @@ public class ProsecutionReceivedListenerTest {
         prosecutionReceivedListener.prosecutionReceived(ccCaseReceivedEnvelope);
 
         verify(caseDetailsRepository).save(eq(caseDetails));
-        verify(businessValidationErrorRepository).deleteByCaseIdAndDefendantId(caseId, defendantId);
-        verify(businessValidationErrorRepository).deleteByCaseIdAndFirstNameAndLastName(caseId, personalInformationDetails.getFirstName(), personalInformationDetails.getLastName());
+        verify(businessValidationErrorRepository).deleteByCaseIdAndDefendants(caseId, defendantDetailsSet);
         verify(businessValidationErrorCaseDetailsRepository).deleteByCaseId(caseId);
     }
 
@@ -329,10 +345,6 @@ public class ProsecutionReceivedListenerTest {
         when(prosecutionReceivedToCaseConverter.convert(ccCaseReceived.getProsecutionWithReferenceData().getProsecution())).thenReturn(caseDetails);
 
         when(caseDetails.getCaseId()).thenReturn(caseId);
-        when(defendantDetails.getDefendantId()).thenReturn(defendantId.toString());
-        when(defendantDetails.getPersonalInformation()).thenReturn(personalInformationDetails);
-        when(personalInformationDetails.getLastName()).thenReturn(LAST_NAME);
-        when(personalInformationDetails.getFirstName()).thenReturn(FIRST_NAME);
 
         defendantDetailsSet.add(defendantDetails);
         when(caseDetails.getDefendants()).thenReturn(defendantDetailsSet);
@@ -342,8 +354,7 @@ public class ProsecutionReceivedListenerTest {
         prosecutionReceivedListener.prosecutionReceived(ccCaseReceivedEnvelope);
 
         verify(caseDetailsRepository).save(eq(caseDetails));
-        verify(businessValidationErrorRepository).deleteByCaseIdAndDefendantId(caseId, defendantId);
-        verify(businessValidationErrorRepository).deleteByCaseIdAndFirstNameAndLastName(caseId, personalInformationDetails.getFirstName(), personalInformationDetails.getLastName());
+        verify(businessValidationErrorRepository).deleteByCaseIdAndDefendants(caseId, defendantDetailsSet);
         verify(businessValidationErrorRepository).findByCaseId(caseId);
         verifyNoInteractions(businessValidationErrorCaseDetailsRepository);
     }
@@ -356,12 +367,6 @@ public class ProsecutionReceivedListenerTest {
         when(prosecutionReceivedToCaseConverter.convert(ccCaseReceived.getProsecutionWithReferenceData().getProsecution())).thenReturn(caseDetails);
 
         when(caseDetails.getCaseId()).thenReturn(caseId);
-        when(defendantDetails.getDefendantId()).thenReturn(defendantId.toString());
-        when(defendantDetails.getOrganisationInformation()).thenReturn(organisationInformation);
-        when(organisationInformation.getOrganisationName()).thenReturn("TFL");
-
-        when(defendantDetails.getPersonalInformation()).thenReturn(null);
-
         defendantDetailsSet.add(defendantDetails);
         when(caseDetails.getDefendants()).thenReturn(defendantDetailsSet);
         BusinessValidationErrorDetails businessValidationErrorDetails = new BusinessValidationErrorDetails();
@@ -370,8 +375,7 @@ public class ProsecutionReceivedListenerTest {
         prosecutionReceivedListener.prosecutionReceived(ccCaseReceivedEnvelope);
 
         verify(caseDetailsRepository).save(eq(caseDetails));
-        verify(businessValidationErrorRepository).deleteByCaseIdAndDefendantId(caseId, defendantId);
-        verify(businessValidationErrorRepository).deleteByCaseIdAndOrganisationName(caseId, organisationInformation.getOrganisationName());
+        verify(businessValidationErrorRepository).deleteByCaseIdAndDefendants(caseId, defendantDetailsSet);
         verify(businessValidationErrorRepository).findByCaseId(caseId);
         verifyNoInteractions(businessValidationErrorCaseDetailsRepository);
     }
@@ -387,7 +391,7 @@ public class ProsecutionReceivedListenerTest {
 
         prosecutionReceivedListener.defendantReceived(spiProsecutionDefendantsAddedEnvelope);
 
-        verify(businessValidationErrorRepository).deleteByDefendantId(defendantId);
+        verify(businessValidationErrorRepository).deleteByDefendantIds(Collections.singleton(defendantId));
     }
 
     @Test
@@ -414,9 +418,9 @@ public class ProsecutionReceivedListenerTest {
 
         verify(caseDetailsRepository).findBy(prosecutionDefendants.getCaseId());
         assertThat(caseDetails.getDefendants(), hasSize(2));
-        verify(businessValidationErrorRepository, times(2)).deleteByDefendantId(any());
-        verify(businessValidationErrorRepository).deleteByDefendantId(fromString(caseDetails.getDefendants().iterator().next().getDefendantId()));
-        verify(businessValidationErrorRepository).deleteByDefendantId(fromString(prosecutionDefendants.getDefendants().get(0).getId()));
+        verify(businessValidationErrorRepository).deleteByDefendantIds(new HashSet<>(Arrays.asList(
+                fromString(caseDetails.getDefendants().iterator().next().getDefendantId()),
+                fromString(prosecutionDefendants.getDefendants().get(0).getId()))));
     }
 
     @Test
@@ -475,7 +479,8 @@ public class ProsecutionReceivedListenerTest {
 
         when(objectToJsonObjectConverter.convert(any())).thenReturn(jsonObject);
         prosecutionReceivedListener.sjpCaseValidationFailed(envelope);
-        verify(businessValidationErrorRepository, times(2)).save(businessValidationErrorDetailsArgumentCaptor.capture());
+        verify(businessValidationErrorRepository).saveAll(businessValidationErrorDetailsArgumentCaptor.capture());
+        assertThat(businessValidationErrorDetailsArgumentCaptor.getValue(), hasSize(2));
         verify(businessValidationErrorCaseDetailsRepository).save(businessValidationErrorCaseDetailsArgumentCaptor.capture());
 
         final BusinessValidationErrorCaseDetails businessValidationErrorCaseDetails = businessValidationErrorCaseDetailsArgumentCaptor.getValue();
@@ -16,6 +16,7 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Prosecution;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.CaseDetails;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorCaseDetailsRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorRepository;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorSummaryRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.CaseDetailsRepository;
 
 import java.util.UUID;
@@ -43,6 +44,8 @@ public class ProsecutionReceivedWithWarningsListenerTest {
     @Mock
     private BusinessValidationErrorCaseDetailsRepository businessValidationErrorCaseDetailsRepository;
     @Mock
+    private BusinessValidationErrorSummaryRepository businessValidationErrorSummaryRepository;
+    @Mock
     private ProsecutionWithReferenceData prosecutionWithReferenceData;
     @Mock
     private CaseDetails caseDetails;
@@ -11,6 +11,7 @@ import uk.gov.moj.cpp.prosecution.casefile.event.listener.converter.ProsecutionR
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.CaseDetails;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorCaseDetailsRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorRepository;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorSummaryRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.CaseDetailsRepository;
 import uk.gov.moj.cps.prosecutioncasefile.domain.event.SjpProsecutionReceivedWithWarnings;
 
@@ -44,6 +45,9 @@ public class SjpProsecutionReceivedWithWarningsListenerTest {
     @Mock
     private BusinessValidationErrorCaseDetailsRepository businessValidationErrorCaseDetailsRepository;
 
+    @Mock
+    private BusinessValidationErrorSummaryRepository businessValidationErrorSummaryRepository;
+
     @Mock
     private SjpProsecutionReceivedWithWarnings sjpProsecutionReceivedWithWarnings;
 
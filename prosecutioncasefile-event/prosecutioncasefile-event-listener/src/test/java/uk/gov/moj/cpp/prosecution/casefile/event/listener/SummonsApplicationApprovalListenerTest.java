@@ -20,6 +20,7 @@ import uk.gov.moj.cpp.prosecution.casefile.domain.ProsecutionWithReferenceData;
 import uk.gov.moj.cpp.prosecution.casefile.event.DefendantsParkedForSummonsApplicationApproval;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorCaseDetailsRepository;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorRepository;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.repository.BusinessValidationErrorSummaryRepository;
 
 import java.util.List;
 import java.util.UUID;
@@ -42,6 +43,9 @@ public class SummonsApplicationApprovalListenerTest {
     @Mock
     private BusinessValidationErrorCaseDetailsRepository businessValidationErrorCaseDetailsRepository;
 
+    @Mock
+    private BusinessValidationErrorSummaryRepository businessValidationErrorSummaryRepository;
+
     @Test
     public void processApplicationApprovalRequest_AlwaysRemoveCaseAndAssociatedDefendantErrors() {
 
@@ -26,6 +26,7 @@ import uk.gov.moj.cpp.prosecution.casefile.event.CcCaseReceived;
 import uk.gov.moj.cpp.prosecution.casefile.event.CcCaseReceivedWithWarnings;
 import uk.gov.moj.cpp.prosecution.casefile.event.processor.converter.ProsecutionCaseFileDefendantToDefenceDefendantConverter;
 import uk.gov.moj.cpp.prosecution.casefile.event.processor.converter.CCCaseToProsecutionCaseConverter;
+import uk.gov.moj.cpp.prosecution.casefile.event.processor.service.ProsecutionReferenceDataResolver;
 import uk.gov.moj.cpp.prosecution.casefile.event.processor.utils.EnvelopeHelper;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Channel;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DefenceCaseDetails;
@@ -68,13 +69,16 @@ public class ProsecutionReceivedProcessor {
     @Inject
     private ProsecutionCaseFileDefendantToDefenceDefendantConverter prosecutionCaseFileDefendantToDefenceDefendantConverter;
 
+    @Inject
+    private ProsecutionReferenceDataResolver prosecutionReferenceDataResolver;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(ProsecutionReceivedProcessor.class);
 
     @Handles("prosecutioncasefile.events.cc-case-received")
     public void handleCcCaseReceived(final Envelope<CcCaseReceived> envelope) {
 
         LOGGER.info("Received prosecutioncasefile.events.cc-case-received- {} ", envelope.payload());
-        final CcCaseReceived ccCaseReceived = envelope.payload();
+        final CcCaseReceived ccCaseReceived = withResolvedReferenceData(envelope.payload());
         final Prosecution prosecution = ccCaseReceived.getProsecutionWithReferenceData().getProsecution();
         final InitiateCourtProceedings initiateCourtProceedings = ccCaseToProsecutionCaseConverter.convert(ccCaseReceived);
 
@@ -113,7 +117,7 @@ public class ProsecutionReceivedProcessor {
 
     @Handles("prosecutioncasefile.events.cc-case-received-with-warnings")
     public void handleCcCaseReceivedWithWarnings(final Envelope<CcCaseReceivedWithWarnings> envelope) {
-        final ProsecutionWithReferenceData prosecutionWithReferenceData = envelope.payload().getProsecutionWithReferenceData();
+        final ProsecutionWithReferenceData prosecutionWithReferenceData = prosecutionReferenceDataResolver.resolve(envelope.payload().getProsecutionWithReferenceData());
         final Prosecution prosecution = prosecutionWithReferenceData.getProsecution();
 
         final InitiateCourtProceedings initiateCourtProceedings = ccCaseToProsecutionCaseConverter.convert(
@@ -148,6 +152,20 @@ public class ProsecutionReceivedProcessor {
         emitPublicEvent(publicEvent, envelope);
     }
 
+    private CcCaseReceived withResolvedReferenceData(final CcCaseReceived ccCaseReceived) {
+        final ProsecutionWithReferenceData prosecutionWithReferenceData = ccCaseReceived.getProsecutionWithReferenceData();
+        final ProsecutionWithReferenceData resolved = prosecutionReferenceDataResolver.resolve(prosecutionWithReferenceData);
+        if (resolved == prosecutionWithReferenceData) {
+            return ccCaseReceived;
+        }
+
+        return CcCaseReceived.ccCaseReceived()
+                .withProsecutionWithReferenceData(resolved)
+                .withSummonsApprovedOutcome(ccCaseReceived.getSummonsApprovedOutcome())
+                .withId(ccCaseReceived.getId())
+                .build();
+    }
+
     private uk.gov.moj.cps.prosecutioncasefile.domain.event.CcCaseReceived getCcCaseReceived(final Prosecution prosecution, final Channel channel, final UUID caseId, final String prosecutorCaseReference, final ProsecutorsReferenceData prosecutorsReferenceData) {
         final DefenceCaseDetails defenceCaseDetails = defenceCaseDetails()
                 .withCaseId(caseId)
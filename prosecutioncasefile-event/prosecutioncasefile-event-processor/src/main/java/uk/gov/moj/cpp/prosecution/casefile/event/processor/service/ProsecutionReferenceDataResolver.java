@@ -0,0 +1,95 @@
+package uk.gov.moj.cpp.prosecution.casefile.event.processor.service;
+
+import static java.util.Optional.empty;
+import static java.util.stream.Collectors.toList;
+
+import uk.gov.moj.cpp.prosecution.casefile.domain.ProsecutionWithReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.domain.ReferenceDataKeys;
+import uk.gov.moj.cpp.prosecution.casefile.domain.ReferenceDataVO;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.BailStatusReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseMarker;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.HearingType;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ModeOfTrialReasonsReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ObservedEthnicityReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ReferenceDataCountryNationality;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.SelfdefinedEthnicityReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+
+import java.util.List;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Restores the reference data of a received case event that records it as
+ * {@link ReferenceDataKeys keys}, by looking each key up through the cached reference data queries.
+ * <p>
+ * Events raised before the keys were introduced carry the reference data itself and are returned
+ * unchanged.
+ */
+public class ProsecutionReferenceDataResolver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProsecutionReferenceDataResolver.class);
+
+    @Inject
+    private ReferenceDataQueryService referenceDataQueryService;
+
+    public ProsecutionWithReferenceData resolve(final ProsecutionWithReferenceData prosecutionWithReferenceData) {
+        final ReferenceDataKeys keys = prosecutionWithReferenceData.getReferenceDataKeys();
+        if (keys == null) {
+            return prosecutionWithReferenceData;
+        }
+
+        final ReferenceDataVO referenceDataVO = new ReferenceDataVO();
+        referenceDataVO.setOffenceReferenceData(prosecutionWithReferenceData.getReferenceDataVO().getOffenceReferenceData());
+
+        if (keys.getProsecutorId() != null) {
+            referenceDataVO.setProsecutorsReferenceData(referenceDataQueryService.getProsecutorById(keys.getProsecutorId()));
+        }
+        referenceDataVO.setOrganisationUnitWithCourtroomReferenceData(keys.getCourtroomOuCode() != null
+                ? referenceDataQueryService.retrieveOrganisationUnitWithCourtroom(keys.getCourtroomOuCode())
+                : empty());
+        if (keys.getHearingTypeId() != null) {
+            resolve("hearing type", referenceDataQueryService.retrieveHearingTypes().getHearingtypes(), HearingType::getId, List.of(keys.getHearingTypeId())).stream()
+                    .findFirst()
+                    .ifPresent(referenceDataVO::setHearingType);
+        }
+        if (!keys.getCaseMarkerCodes().isEmpty()) {
+            referenceDataVO.setCaseMarkers(resolve("case marker", referenceDataQueryService.getCaseMarkerDetails(), CaseMarker::getMarkerTypeCode, keys.getCaseMarkerCodes()));
+        }
+        if (!keys.getModeOfTrialReasonIds().isEmpty()) {
+            referenceDataVO.setModeOfTrialReferenceData(resolve("mode of trial reason", referenceDataQueryService.retrieveModeOfTrialReasons(), ModeOfTrialReasonsReferenceData::getId, keys.getModeOfTrialReasonIds()));
+        }
+        if (!keys.getCountryNationalityIds().isEmpty()) {
+            resolve("country nationality", referenceDataQueryService.retrieveCountryNationality(), ReferenceDataCountryNationality::getId, keys.getCountryNationalityIds())
+                    .forEach(referenceDataVO::addCountryNationalityReferenceData);
+        }
+        if (!keys.getSelfdefinedEthnicityIds().isEmpty()) {
+            referenceDataVO.setSelfdefinedEthnicityReferenceData(resolve("self defined ethnicity", referenceDataQueryService.retrieveSelfDefinedEthnicity(), SelfdefinedEthnicityReferenceData::getId, keys.getSelfdefinedEthnicityIds()));
+        }
+        if (!keys.getObservedEthnicityIds().isEmpty()) {
+            referenceDataVO.setObservedEthnicityReferenceData(resolve("observed ethnicity", referenceDataQueryService.retrieveObservedEthnicity(), ObservedEthnicityReferenceData::getId, keys.getObservedEthnicityIds()));
+        }
+        if (!keys.getBailStatusIds().isEmpty()) {
+            referenceDataVO.setBailStatusReferenceData(resolve("bail status", referenceDataQueryService.retrieveBailStatuses(), BailStatusReferenceData::getId, keys.getBailStatusIds()));
+        }
+
+        final ProsecutionWithReferenceData resolved = new ProsecutionWithReferenceData(prosecutionWithReferenceData.getProsecution(), referenceDataVO, prosecutionWithReferenceData.getExternalId());
+        resolved.setReferenceDataKeys(keys);
+        return resolved;
+    }
+
+    private static <T, K> List<T> resolve(final String referenceDataName, final List<T> referenceData, final Function<T, K> key, final List<K> keys) {
+        final List<T> resolved = referenceData.stream()
+                .filter(entry -> keys.contains(key.apply(entry)))
+                .collect(toList());
+
+        if (resolved.size() < keys.size()) {
+            LOGGER.warn("Resolved {} of {} {} reference data keys {}", resolved.size(), keys.size(), referenceDataName, keys);
+        }
+        return resolved;
+    }
+}
@@ -41,6 +41,7 @@ import uk.gov.moj.cpp.prosecution.casefile.event.CcCaseReceived;
 import uk.gov.moj.cpp.prosecution.casefile.event.CcCaseReceivedWithWarnings;
 import uk.gov.moj.cpp.prosecution.casefile.event.processor.converter.CCCaseToProsecutionCaseConverter;
 import uk.gov.moj.cpp.prosecution.casefile.event.processor.converter.ProsecutionCaseFileDefendantToDefenceDefendantConverter;
+import uk.gov.moj.cpp.prosecution.casefile.event.processor.service.ProsecutionReferenceDataResolver;
 import uk.gov.moj.cpp.prosecution.casefile.event.processor.utils.EnvelopeHelper;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DefenceDefendant;
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.DefendantProblem;
@@ -63,6 +64,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -97,6 +99,9 @@ public class ProsecutionReceivedProcessorTest {
     @Mock
     private Sender sender;
 
+    @Spy
+    private ProsecutionReferenceDataResolver prosecutionReferenceDataResolver;
+
     @InjectMocks
     private ProsecutionReceivedProcessor prosecutionReceivedProcessor;
 
@@ -0,0 +1,125 @@
+package uk.gov.moj.cpp.prosecution.casefile.event.processor.service;
+
+import static java.util.Arrays.asList;
+import static java.util.Optional.of;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseMarker.caseMarker;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.HearingType.hearingType;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.HearingTypes.hearingTypes;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.ObservedEthnicityReferenceData.observedEthnicityReferenceData;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenceReferenceData.offenceReferenceData;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.OrganisationUnitWithCourtroomReferenceData.organisationUnitWithCourtroomReferenceData;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.Prosecution.prosecution;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProsecutorsReferenceData.prosecutorsReferenceData;
+import static uk.gov.moj.cpp.prosecution.casefile.json.schemas.ReferenceDataCountryNationality.referenceDataCountryNationality;
+
+import uk.gov.moj.cpp.prosecution.casefile.domain.ProsecutionWithReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.domain.ReferenceDataVO;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.CaseMarker;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.HearingType;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ObservedEthnicityReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OffenceReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.OrganisationUnitWithCourtroomReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.Prosecution;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ProsecutorsReferenceData;
+import uk.gov.moj.cpp.prosecution.casefile.json.schemas.ReferenceDataCountryNationality;
+import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ProsecutionReferenceDataResolverTest {
+
+    private static final UUID EXTERNAL_ID = randomUUID();
+
+    private final ProsecutorsReferenceData prosecutor = prosecutorsReferenceData().withId(randomUUID()).withShortName("TFL").build();
+    private final OrganisationUnitWithCourtroomReferenceData courtroom = organisationUnitWithCourtroomReferenceData().withId("1").withOucode("B01LY00").build();
+    private final HearingType hearingType = hearingType().withId(randomUUID()).withHearingCode("FHG").build();
+    private final CaseMarker caseMarker = caseMarker().withMarkerTypeId(randomUUID()).withMarkerTypeCode("CM").build();
+    private final ReferenceDataCountryNationality nationality = referenceDataCountryNationality().withId(randomUUID().toString()).withIsoCode("GBR").build();
+    private final ObservedEthnicityReferenceData ethnicity = observedEthnicityReferenceData().withId(randomUUID()).withEthnicityCode("1").build();
+    private final OffenceReferenceData offenceReferenceData = offenceReferenceData().withCjsOffenceCode("CA03012").build();
+    private final Prosecution prosecution = prosecution().build();
+
+    @Mock
+    private ReferenceDataQueryService referenceDataQueryService;
+
+    @InjectMocks
+    private ProsecutionReferenceDataResolver prosecutionReferenceDataResolver;
+
+    @Test
+    public void shouldReturnProsecutionWithEmbeddedReferenceDataUnchanged() {
+        final ProsecutionWithReferenceData prosecutionWithReferenceData = new ProsecutionWithReferenceData(prosecution, referenceDataVO(), EXTERNAL_ID);
+
+        assertThat(prosecutionReferenceDataResolver.resolve(prosecutionWithReferenceData), is(sameInstance(prosecutionWithReferenceData)));
+        verifyNoInteractions(referenceDataQueryService);
+    }
+
+    @Test
+    public void shouldResolveReferenceDataRecordedAsKeys() {
+        final ProsecutionWithReferenceData recorded = new ProsecutionWithReferenceData(prosecution, referenceDataVO(), EXTERNAL_ID).withReferenceDataKeys();
+        when(referenceDataQueryService.getProsecutorById(prosecutor.getId())).thenReturn(prosecutor);
+        when(referenceDataQueryService.retrieveOrganisationUnitWithCourtroom("B01LY00")).thenReturn(of(courtroom));
+        when(referenceDataQueryService.retrieveHearingTypes()).thenReturn(hearingTypes()
+                .withHearingtypes(asList(hearingType().withId(randomUUID()).withHearingCode("TRL").build(), hearingType))
+                .build());
+        when(referenceDataQueryService.getCaseMarkerDetails()).thenReturn(asList(caseMarker().withMarkerTypeCode("OTHER").build(), caseMarker));
+        when(referenceDataQueryService.retrieveCountryNationality()).thenReturn(List.of(nationality));
+        when(referenceDataQueryService.retrieveObservedEthnicity()).thenReturn(List.of(ethnicity));
+
+        final ProsecutionWithReferenceData resolved = prosecutionReferenceDataResolver.resolve(recorded);
+
+        assertThat(resolved.getProsecution(), is(prosecution));
+        assertThat(resolved.getExternalId(), is(EXTERNAL_ID));
+        final ReferenceDataVO referenceDataVO = resolved.getReferenceDataVO();
+        assertThat(referenceDataVO.getOffenceReferenceData(), contains(offenceReferenceData));
+        assertThat(referenceDataVO.getProsecutorsReferenceData(), is(prosecutor));
+        assertThat(referenceDataVO.getOrganisationUnitWithCourtroomReferenceData(), is(of(courtroom)));
+        assertThat(referenceDataVO.getHearingType(), is(hearingType));
+        assertThat(referenceDataVO.getCaseMarkers(), contains(caseMarker));
+        assertThat(referenceDataVO.getCountryNationalityReferenceData(), contains(nationality));
+        assertThat(referenceDataVO.getObservedEthnicityReferenceData(), contains(ethnicity));
+        assertThat(referenceDataVO.getSelfdefinedEthnicityReferenceData(), is(empty()));
+        assertThat(referenceDataVO.getBailStatusReferenceData(), is(empty()));
+    }
+
+    @Test
+    public void shouldRecordOnlyOffenceReferenceDataAlongsideKeys() {
+        final ProsecutionWithReferenceData recorded = new ProsecutionWithReferenceData(prosecution, referenceDataVO(), EXTERNAL_ID).withReferenceDataKeys();
+
+        assertThat(recorded.getReferenceDataVO().getOffenceReferenceData(), contains(offenceReferenceData));
+        assertThat(recorded.getReferenceDataVO().getProsecutorsReferenceData(), is(nullValue()));
+        assertThat(recorded.getReferenceDataVO().getCaseMarkers(), is(empty()));
+        assertThat(recorded.getReferenceDataKeys().getProsecutorId(), is(prosecutor.getId()));
+        assertThat(recorded.getReferenceDataKeys().getCourtroomOuCode(), is("B01LY00"));
+        assertThat(recorded.getReferenceDataKeys().getCaseMarkerCodes(), contains("CM"));
+        assertThat(recorded.getReferenceDataKeys().getCountryNationalityIds(), contains(nationality.getId()));
+    }
+
+    private ReferenceDataVO referenceDataVO() {
+        final ReferenceDataVO referenceDataVO = new ReferenceDataVO();
+        referenceDataVO.addOffenceReferenceData(offenceReferenceData);
+        referenceDataVO.setProsecutorsReferenceData(prosecutor);
+        referenceDataVO.setOrganisationUnitWithCourtroomReferenceData(of(courtroom));
+        referenceDataVO.setHearingType(hearingType);
+        referenceDataVO.setCaseMarkers(List.of(caseMarker));
+        referenceDataVO.addCountryNationalityReferenceData(nationality);
+        referenceDataVO.setObservedEthnicityReferenceData(List.of(ethnicity));
+        return referenceDataVO;
+    }
+}
@@ -234,6 +234,7 @@ public class GetCountsCasesErrorsIT extends BaseIT {
     private static void cleanTables() {
         final DatabaseCleaner cleaner = new DatabaseCleaner();
         cleaner.cleanViewStoreTables("prosecutioncasefile", "business_validation_errors");
+        cleaner.cleanViewStoreTables("prosecutioncasefile", "business_validation_errors_summary");
         cleaner.cleanViewStoreTables("prosecutioncasefile", "resolved_cases");
     }
 
@@ -0,0 +1,117 @@
+package uk.gov.moj.cpp.prosecution.casefile.it;
+
+import static java.lang.String.format;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import uk.gov.justice.services.test.utils.persistence.TestJdbcConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Verifies against the view store that the listener and query access paths of
+ * business_validation_errors and resolved_cases are served by the indexes of changelog 039, and
+ * that the keyset pages of business_validation_errors_summary are ranges of the indexes of
+ * changelog 038. Sequential scans are disabled for each plan, so that the small test tables do not
+ * make the planner prefer them over a usable index.
+ */
+public class ViewStoreIndexIT {
+
+    private static final String CONTEXT_NAME = "prosecutioncasefile";
+
+    private static final UUID CASE_ID = randomUUID();
+    private static final UUID DEFENDANT_ID = randomUUID();
+
+    public static Stream<Arguments> accessPathToIndex() {
+        return Stream.of(
+                Arguments.of(format("SELECT * FROM business_validation_errors WHERE case_id = '%s' AND defendant_id = '%s'", CASE_ID, DEFENDANT_ID),
+                        "business_validation_errors_case_id_defendant_id_idx"),
+                Arguments.of(format("DELETE FROM business_validation_errors WHERE case_id = '%s' AND defendant_id IS NULL", CASE_ID),
+                        "business_validation_errors_case_id_defendant_id_idx"),
+                Arguments.of(format("DELETE FROM business_validation_errors WHERE defendant_id IN ('%s', '%s')", DEFENDANT_ID, randomUUID()),
+                        "business_validation_errors_defendant_id_idx"),
+                Arguments.of(format("DELETE FROM business_validation_errors WHERE case_id = '%s' AND first_name = 'Joe' AND last_name = 'Root'", CASE_ID),
+                        "business_validation_errors_case_id_first_name_last_name_idx"),
+                Arguments.of(format("DELETE FROM business_validation_errors WHERE case_id = '%s' AND organisation_name = 'Org'", CASE_ID),
+                        "business_validation_errors_case_id_organisation_name_idx"),
+                Arguments.of("SELECT count(DISTINCT case_id) FROM business_validation_errors WHERE upper(court_location) = 'LEEDS' AND upper(case_type) = 'CC'",
+                        "business_validation_errors_court_location_case_type_idx"),
+                Arguments.of("SELECT count(DISTINCT case_id) FROM resolved_cases WHERE resolution_date = current_date "
+                                + "AND upper(region) = 'NORTH' AND upper(court_location) = 'LEEDS' AND upper(case_type) = 'CC'",
+                        "resolved_cases_date_region_court_location_case_type_idx")
+        );
+    }
+
+    public static Stream<Arguments> keysetPageToIndex() {
+        return Stream.of(
+                Arguments.of(format("SELECT * FROM business_validation_errors_summary WHERE defendant_hearing_date <= '2024-05-01' "
+                                + "AND (defendant_hearing_date < '2024-05-01' OR case_id < '%s') "
+                                + "ORDER BY defendant_hearing_date DESC, case_id DESC LIMIT 21", CASE_ID),
+                        "business_validation_errors_summary_hearing_date_case_id_idx"),
+                Arguments.of(format("SELECT * FROM business_validation_errors_summary WHERE defendant_bail_status >= 'CONDITIONAL' "
+                                + "AND (defendant_bail_status > 'CONDITIONAL' OR case_id > '%s') "
+                                + "ORDER BY defendant_bail_status ASC, case_id ASC LIMIT 21", CASE_ID),
+                        "business_validation_errors_summary_bail_status_case_id_idx"),
+                Arguments.of(format("SELECT * FROM business_validation_errors_summary WHERE defendant_hearing_date IS NULL AND case_id > '%s' "
+                                + "ORDER BY defendant_hearing_date ASC, case_id ASC LIMIT 21", CASE_ID),
+                        "business_validation_errors_summary_hearing_date_case_id_idx")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("keysetPageToIndex")
+    public void shouldReadKeysetPageAsIndexRange(final String query, final String indexName) throws SQLException {
+        try (final Connection connection = new TestJdbcConnectionProvider().getViewStoreConnection(CONTEXT_NAME)) {
+            assertThat(isValidIndex(connection, indexName), is(true));
+            assertThat(explain(connection, query), allOf(containsString(indexName), containsString("Index Cond")));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("accessPathToIndex")
+    public void shouldUseIndexForAccessPath(final String query, final String indexName) throws SQLException {
+        try (final Connection connection = new TestJdbcConnectionProvider().getViewStoreConnection(CONTEXT_NAME)) {
+            assertThat(isValidIndex(connection, indexName), is(true));
+            assertThat(explain(connection, query), containsString(indexName));
+        }
+    }
+
+    private static boolean isValidIndex(final Connection connection, final String indexName) throws SQLException {
+        try (final PreparedStatement statement = connection.prepareStatement(
+                "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = ?")) {
+            statement.setString(1, indexName);
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static String explain(final Connection connection, final String query) throws SQLException {
+        connection.setAutoCommit(false);
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCAL enable_seqscan = off");
+            final StringBuilder plan = new StringBuilder();
+            try (final ResultSet resultSet = statement.executeQuery("EXPLAIN " + query)) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        } finally {
+            connection.rollback();
+        }
+    }
+}
@@ -52,7 +52,11 @@ public class CasefileQueryApi {
 
     @Handles("prosecutioncasefile.query.cases.errors")
     public JsonEnvelope getErrorDetailsForCases(final JsonEnvelope query) {
-        return casefileQueryView.getErrorDetailsForCases(query);
+        try {
+            return casefileQueryView.getErrorDetailsForCases(query);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid pagination of cases errors: " + e.getMessage(), e);
+        }
     }
 
     @Handles("prosecutioncasefile.query.counts-cases-errors")
@@ -84,6 +84,13 @@ public class CasefileQueryApiTest {
         verify(prosecutionCasefileQueryView).getErrorDetailsForCases(query);
     }
 
+    @Test
+    public void shouldRejectInvalidPaginationOfErrorDetailsForCasesAsBadRequest() {
+        when(prosecutionCasefileQueryView.getErrorDetailsForCases(query)).thenThrow(new IllegalArgumentException("cursor was issued for sort field REMAND_STATUS"));
+
+        assertThrows(BadRequestException.class, () -> casefileQueryApi.getErrorDetailsForCases(query));
+    }
+
     @Test
     public void shouldGetQueryCaseErrorsCountActionGroups() {
         when(prosecutionCasefileQueryView.casesErrorsCount(query)).thenReturn(response);
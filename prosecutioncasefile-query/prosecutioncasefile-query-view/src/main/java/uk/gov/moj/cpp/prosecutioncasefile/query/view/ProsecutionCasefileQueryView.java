@@ -28,6 +28,7 @@ import java.util.UUID;
 
 import javax.inject.Inject;
 import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
 import javax.json.JsonValue;
 import javax.persistence.NoResultException;
 
@@ -41,6 +42,7 @@ public class ProsecutionCasefileQueryView {
     public static final String CASES = "cases";
     public static final String RESULTS = "results";
     public static final String PAGE_COUNT = "pageCount";
+    public static final String NEXT_CURSOR = "nextCursor";
     public static final String FILTERS = "filters";
     public static final String COURT = "court";
     public static final String CASE_TYPE = "caseType";
@@ -138,9 +140,13 @@ public class ProsecutionCasefileQueryView {
 
     private JsonObject buildResponsePayload(final PaginationResult<BusinessValidationErrorView> paginationResult, final JsonObject filters) {
         final List<BusinessValidationErrorView> allBusinessValidationErrors = paginationResult.getResult();
-        return createObjectBuilder()
-                .add(RESULTS, paginationResult.getTotalResultCount())
-                .add(PAGE_COUNT, paginationResult.getPageCount())
+        final JsonObjectBuilder payloadBuilder = createObjectBuilder();
+        if (paginationResult.isCounted()) {
+            payloadBuilder.add(RESULTS, paginationResult.getTotalResultCount())
+                    .add(PAGE_COUNT, paginationResult.getPageCount());
+        }
+        paginationResult.getNextCursor().ifPresent(nextCursor -> payloadBuilder.add(NEXT_CURSOR, nextCursor));
+        return payloadBuilder
                 .add(CASES, (isEmpty(allBusinessValidationErrors)) ? createArrayBuilder().build() : listToJsonArrayConverter.convert(allBusinessValidationErrors))
                 .add(FILTERS, filters)
                 .build();
@@ -26,6 +26,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -82,34 +83,50 @@ public class BusinessErrorDetailsService {
 
     private PaginationResult<BusinessValidationErrorView> getAllErrorsPaginationResult(final PaginationResult<BusinessValidationErrorSummary> paginationResult, final PaginationParameter paginationParameter) {
         if (paginationResult.getResult().isEmpty()) {
-            return new PaginationResult<>(Collections.emptyList(), 0, 0);
+            return paginationResult.withResult(Collections.emptyList());
         }
 
         final List<UUID> caseIds = paginationResult.getResult().stream().map(result -> result.getCaseId()).collect(Collectors.toList());
         final List<BusinessValidationErrorDetails> businessValidationErrorDetailsList = businessValidationErrorsRepository.fetchAllCaseErrorDetailsByCaseIds(caseIds, paginationParameter);
 
         final Map<UUID, List<BusinessValidationErrorDetails>> collectionByCaseId = businessValidationErrorDetailsList.stream().collect(Collectors.groupingBy(s -> s.getCaseId(), LinkedHashMap::new, toList()));
+        final Map<UUID, ErrorCaseDetails> errorCaseDetailsByCaseId = getErrorCaseDetailsByCaseId(caseIds);
 
         final List<BusinessValidationErrorView> businessValidationErrorViewList  =
-                caseIds.stream().map(caseId -> {
-                    ErrorCaseDetails errorCaseDetailsJson = getErrorCaseDetails(caseId);
-                    return buildViewSortedByBailStatus(collectionByCaseId.get(caseId), errorCaseDetailsJson);
-                }).collect(Collectors.toList());
+                caseIds.stream().map(caseId -> buildViewSortedByBailStatus(collectionByCaseId.get(caseId), errorCaseDetailsByCaseId.get(caseId)))
+                        .collect(Collectors.toList());
 
-        return new PaginationResult<>(businessValidationErrorViewList, paginationResult.getTotalResultCount(), paginationResult.getPageCount());
+        return paginationResult.withResult(businessValidationErrorViewList);
     }
 
     private ErrorCaseDetails getErrorCaseDetails(final UUID caseId) {
         final List<BusinessValidationErrorCaseDetails> errorCaseDetails = businessValidationErrorCaseDetailsRepository.findByCaseId(caseId);
         ErrorCaseDetails errorCaseDetailsJson = null;
         if (errorCaseDetails != null && !errorCaseDetails.isEmpty()) {
-            try (JsonReader jsonReader = JsonObjects.createReader(new StringReader(errorCaseDetails.get(0).getCaseDetails()))) {
-                errorCaseDetailsJson = new ErrorCaseDetails(jsonReader.readObject().getJsonArray("defendants"));
-            }
+            errorCaseDetailsJson = parseErrorCaseDetails(errorCaseDetails.get(0));
         }
         return errorCaseDetailsJson;
     }
 
+    /**
+     * Loads the case details of all the cases of a page in one query, parsing only the first
+     * details of each case.
+     */
+    private Map<UUID, ErrorCaseDetails> getErrorCaseDetailsByCaseId(final List<UUID> caseIds) {
+        final Map<UUID, ErrorCaseDetails> errorCaseDetailsByCaseId = new HashMap<>();
+        final List<BusinessValidationErrorCaseDetails> errorCaseDetails = businessValidationErrorCaseDetailsRepository.findByCaseIds(caseIds);
+        if (errorCaseDetails != null) {
+            errorCaseDetails.forEach(details -> errorCaseDetailsByCaseId.computeIfAbsent(details.getCaseId(), caseId -> parseErrorCaseDetails(details)));
+        }
+        return errorCaseDetailsByCaseId;
+    }
+
+    private ErrorCaseDetails parseErrorCaseDetails(final BusinessValidationErrorCaseDetails errorCaseDetails) {
+        try (JsonReader jsonReader = JsonObjects.createReader(new StringReader(errorCaseDetails.getCaseDetails()))) {
+            return new ErrorCaseDetails(jsonReader.readObject().getJsonArray("defendants"));
+        }
+    }
+
     private BusinessValidationErrorView buildValidationErrorView(final List<BusinessValidationErrorDetails> listWithErrors, ErrorCaseDetails errorCaseDetails) {
         final List<BusinessValidationErrorDetails> listWithDefendantErrors = new ArrayList<>();
 
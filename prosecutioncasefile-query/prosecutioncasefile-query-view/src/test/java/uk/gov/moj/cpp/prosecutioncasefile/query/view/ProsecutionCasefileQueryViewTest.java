@@ -1,18 +1,28 @@
 package uk.gov.moj.cpp.prosecutioncasefile.query.view;
 
+import static java.util.Collections.emptyList;
 import static java.util.Optional.of;
 import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.spi.DefaultJsonMetadata.metadataBuilder;
 import static uk.gov.justice.services.test.utils.core.messaging.JsonEnvelopeBuilder.envelope;
+import static uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.OrderByField.HEARING_DATE;
 import static uk.gov.moj.cpp.prosecutioncasefile.query.view.utils.TestUtils.CASE_ID;
 import static uk.gov.moj.cpp.prosecutioncasefile.query.view.utils.TestUtils.PROSECUTOR_CASE_REFERENCE;
 import static uk.gov.moj.cpp.prosecutioncasefile.query.view.utils.TestUtils.createFirstDefendantCaseDetails;
 
 import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.prosecutioncasefile.mapping.FilterParameter;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PageCursor;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PaginationParameter;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PaginationResult;
+import uk.gov.moj.cpp.prosecutioncasefile.query.view.response.BusinessValidationErrorView;
 import uk.gov.moj.cpp.prosecutioncasefile.query.view.response.CaseDetailsView;
 import uk.gov.moj.cpp.prosecutioncasefile.query.view.response.CountsCasesErrorsView;
 import uk.gov.moj.cpp.prosecutioncasefile.query.view.service.BusinessErrorDetailsService;
@@ -21,8 +31,11 @@ import uk.gov.moj.cpp.prosecutioncasefile.query.view.service.CountsCasesErrorsSe
 
 import java.util.UUID;
 
+import javax.json.JsonObject;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -93,6 +106,31 @@ public class ProsecutionCasefileQueryViewTest {
         verify(businessErrorDetailsService).findAllErrorsByCaseId(eq(VALUE_CASE_ID));
     }
 
+    @Test
+    public void shouldReturnNextCursorWithoutCountsWhenPagingAfterCursor() {
+        final PageCursor cursor = new PageCursor(HEARING_DATE, randomUUID(), "2024-05-01");
+        final JsonEnvelope queryEnvelope = envelope()
+                .with(metadataBuilder()
+                        .withId(randomUUID())
+                        .withName("prosecutioncasefile.query.cases.errors")
+                        .withUserId(randomUUID().toString())
+                )
+                .withPayloadOf(cursor.encode(), "after")
+                .build();
+        when(businessErrorDetailsService.findAllErrors(any(PaginationParameter.class), any(FilterParameter.class)))
+                .thenReturn(PaginationResult.<BusinessValidationErrorView>uncounted(emptyList(), "nextPage"));
+
+        final JsonObject payload = queryView.getErrorDetailsForCases(queryEnvelope).payloadAsJsonObject();
+
+        final ArgumentCaptor<PaginationParameter> paginationParameter = ArgumentCaptor.forClass(PaginationParameter.class);
+        verify(businessErrorDetailsService).findAllErrors(paginationParameter.capture(), any(FilterParameter.class));
+        assertThat(paginationParameter.getValue().getAfter().get(), is(cursor));
+        assertThat(paginationParameter.getValue().isWithCount(), is(false));
+        assertThat(payload.getString("nextCursor"), is("nextPage"));
+        assertThat(payload.containsKey("results"), is(false));
+        assertThat(payload.containsKey("pageCount"), is(false));
+    }
+
     @Test
     public void shouldGetCountsCasesErrorsCorrectly() {
         final JsonEnvelope queryEnvelope = createQueryEnvelope("prosecutioncasefile.query.cases-errors-count");
@@ -9,6 +9,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsNull.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -33,6 +35,7 @@ import static uk.gov.moj.cpp.prosecutioncasefile.query.view.utils.TestUtils.crea
 import static uk.gov.moj.cpp.prosecutioncasefile.query.view.utils.TestUtils.newBusinessValidationErrorSummary;
 
 import uk.gov.moj.cpp.prosecutioncasefile.mapping.FilterParameter;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorCaseDetails;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorDetails;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorSummary;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PaginationParameter;
@@ -200,6 +203,10 @@ public class BusinessErrorDetailsServiceTest {
         when(businessValidationErrorSummaryRepository.fetchFilteredCaseErrorSummary(filterParameter, paginationParameter)).thenReturn(expectedPaginationResult);
         // Return all error detail records for case ids
         when(businessValidationErrorRepository.fetchAllCaseErrorDetailsByCaseIds(caseIds, paginationParameter)).thenReturn(businessValidationErrorDetailsList);
+        // Return case details of the whole page at once
+        when(businessValidationErrorCaseDetailsRepository.findByCaseIds(caseIds)).thenReturn(asList(
+                new BusinessValidationErrorCaseDetails(CASE_ID, "{\"defendants\":[{\"id\":\"" + VALUE_DEFENDANT_ID + "\"}]}"),
+                new BusinessValidationErrorCaseDetails(CASE_ID, "{\"defendants\":[]}")));
 
         final PaginationResult<BusinessValidationErrorView> actualPaginationResult = businessErrorDetailsService.findAllErrors(paginationParameter, filterParameter);
 
@@ -246,8 +253,13 @@ public class BusinessErrorDetailsServiceTest {
                 .filter(defendantErrorsView -> null != defendantErrorsView.getLastName())
                 .anyMatch(errorView -> errorView.getLastName().equalsIgnoreCase(LAST_NAME)), is(true));
 
+        assertThat(businessValidationErrorCases.get(0).getErrorCaseDetails().getDefendants().size(), is(1));
+        assertThat(businessValidationErrorCases.get(1).getErrorCaseDetails(), is(nullValue()));
+
         verify(businessValidationErrorSummaryRepository).fetchFilteredCaseErrorSummary(filterParameter, paginationParameter);
         verify(businessValidationErrorRepository).fetchAllCaseErrorDetailsByCaseIds(caseIds, paginationParameter);
+        verify(businessValidationErrorCaseDetailsRepository).findByCaseIds(caseIds);
+        verify(businessValidationErrorCaseDetailsRepository, never()).findByCaseId(any(UUID.class));
     }
 
     @Test
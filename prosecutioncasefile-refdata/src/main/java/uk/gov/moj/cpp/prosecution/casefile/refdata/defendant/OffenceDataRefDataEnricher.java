@@ -1,6 +1,7 @@
 package uk.gov.moj.cpp.prosecution.casefile.refdata.defendant;
 
-import static java.util.Objects.isNull;
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static java.util.Objects.nonNull;
 import static uk.gov.moj.cpp.prosecution.casefile.refdata.defendant.OffenceLocationHelper.getOffenceLocation;
 
 import uk.gov.moj.cpp.prosecution.casefile.domain.DefendantsWithReferenceData;
@@ -11,9 +12,14 @@ import uk.gov.moj.cpp.prosecution.casefile.service.ReferenceDataQueryService;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -26,35 +32,22 @@ public class OffenceDataRefDataEnricher implements DefendantRefDataEnricher {
     private ReferenceDataQueryService referenceDataQueryService;
 
     private static final String SOW_REF_VALUE = "MoJ";
+    private static final int OFFENCE_CODE_CHUNK_SIZE = 50;
 
     @Override
     public void enrich(final List<DefendantsWithReferenceData> defendantsWithReferenceDataList) {
-        final Map<String, List<OffenceReferenceData>> offenceReferenceDataMap = new HashMap<>();
-
+        final Map<Optional<String>, Map<String, List<OffenceReferenceData>>> offenceReferenceDataBySowRef = retrieveOffenceReferenceData(defendantsWithReferenceDataList);
 
         for(final DefendantsWithReferenceData defendantsWithReferenceData: defendantsWithReferenceDataList) {
 
-            final Optional<String> sowRef = defendantsWithReferenceData.isCivil() ? Optional.of(SOW_REF_VALUE) : Optional.empty();
+            final Map<String, List<OffenceReferenceData>> offenceReferenceDataMap = offenceReferenceDataBySowRef.get(sowRefFor(defendantsWithReferenceData));
 
             final List<Defendant> defendants = defendantsWithReferenceData.getDefendants();
-            final List<Offence> offences = defendants.stream()
-                    .flatMap(defendant -> defendant.getOffences().stream())
-                    .collect(Collectors.toList());
 
             final List<OffenceReferenceData> offenceReferenceDataList = new ArrayList<>();
 
-            offences.forEach(offence -> {
-                final String key = offence.getOffenceCode();
-                List<OffenceReferenceData> offenceReferenceData = offenceReferenceDataMap.get(key);
-                if (isNull(offenceReferenceData)) {
-                    offenceReferenceData = referenceDataQueryService.retrieveOffenceDataList(Lists.newArrayList(offence.getOffenceCode()), sowRef);
-                    offenceReferenceDataMap.put(offence.getOffenceCode(), offenceReferenceData);
-                }
-
-                if (!isOffenceRefDataExists(offenceReferenceDataList, offence.getOffenceCode())) {
-                    offenceReferenceDataList.addAll(offenceReferenceData);
-                }
-            });
+            offenceCodesOf(defendantsWithReferenceData).forEach(offenceCode ->
+                    offenceReferenceDataList.addAll(offenceReferenceDataMap.getOrDefault(offenceCode, defendantsWithReferenceData.getReferenceDataVO().findOffenceReferenceData(offenceCode))));
 
             final List<Defendant> newDefendants = new ArrayList<>();
             for (final Defendant defendant : defendants) {
@@ -74,6 +67,52 @@ public class OffenceDataRefDataEnricher implements DefendantRefDataEnricher {
 
     }
 
+    public static Optional<String> sowRefFor(final boolean civil) {
+        return civil ? Optional.of(SOW_REF_VALUE) : Optional.empty();
+    }
+
+    /**
+     * Resolves every distinct offence code in the batch with one offences-list request per sowRef
+     * group (split into chunks of {@value #OFFENCE_CODE_CHUNK_SIZE} codes), rather than one request
+     * per offence code. Codes whose reference data the defendants already carry, such as the offence
+     * of a group prosecution resolved when the group was initiated, are not requested again.
+     */
+    private Map<Optional<String>, Map<String, List<OffenceReferenceData>>> retrieveOffenceReferenceData(final List<DefendantsWithReferenceData> defendantsWithReferenceDataList) {
+        final Map<Optional<String>, Set<String>> offenceCodesBySowRef = new LinkedHashMap<>();
+        defendantsWithReferenceDataList.forEach(defendantsWithReferenceData ->
+                offenceCodesBySowRef.computeIfAbsent(sowRefFor(defendantsWithReferenceData), sowRef -> new LinkedHashSet<>())
+                        .addAll(offenceCodesOf(defendantsWithReferenceData).stream()
+                                .filter(offenceCode -> defendantsWithReferenceData.getReferenceDataVO().findOffenceReferenceData(offenceCode).isEmpty())
+                                .collect(Collectors.toList())));
+
+        final Map<Optional<String>, Map<String, List<OffenceReferenceData>>> offenceReferenceDataBySowRef = new HashMap<>();
+        offenceCodesBySowRef.forEach((sowRef, offenceCodes) -> {
+            final Map<String, List<OffenceReferenceData>> offenceReferenceDataMap = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+            Lists.partition(new ArrayList<>(offenceCodes), OFFENCE_CODE_CHUNK_SIZE).forEach(offenceCodesChunk -> {
+                final List<OffenceReferenceData> offenceReferenceData = referenceDataQueryService.retrieveOffenceDataList(offenceCodesChunk, sowRef);
+                if (nonNull(offenceReferenceData)) {
+                    offenceReferenceData.stream()
+                            .filter(referenceData -> nonNull(referenceData.getCjsOffenceCode()))
+                            .forEach(referenceData -> offenceReferenceDataMap.computeIfAbsent(referenceData.getCjsOffenceCode(), offenceCode -> new ArrayList<>()).add(referenceData));
+                }
+            });
+            offenceReferenceDataBySowRef.put(sowRef, offenceReferenceDataMap);
+        });
+        return offenceReferenceDataBySowRef;
+    }
+
+    private Set<String> offenceCodesOf(final DefendantsWithReferenceData defendantsWithReferenceData) {
+        return defendantsWithReferenceData.getDefendants().stream()
+                .flatMap(defendant -> defendant.getOffences().stream())
+                .map(Offence::getOffenceCode)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private Optional<String> sowRefFor(final DefendantsWithReferenceData defendantsWithReferenceData) {
+        return sowRefFor(defendantsWithReferenceData.isCivil());
+    }
+
     private Defendant createDefendantWithOffences(final Defendant defendant, final List<Offence> offences){
 
         return Defendant.defendant()
@@ -145,8 +184,4 @@ public class OffenceDataRefDataEnricher implements DefendantRefDataEnricher {
                 .build();
     }
 
-    private boolean isOffenceRefDataExists(final List<OffenceReferenceData> offenceReferenceDataList, final String offenceCode) {
-        return offenceReferenceDataList.stream().anyMatch(offenceReferenceData -> offenceReferenceData.getCjsOffenceCode().equals(offenceCode));
-    }
-
 }
\ No newline at end of file
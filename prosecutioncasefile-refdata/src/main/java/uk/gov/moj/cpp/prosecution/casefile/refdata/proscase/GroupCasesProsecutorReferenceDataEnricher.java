@@ -18,6 +18,9 @@ public class GroupCasesProsecutorReferenceDataEnricher implements GroupCasesRefe
 
     @Override
     public void enrich(final List<ProsecutionWithReferenceData> prosecutionWithReferenceDataList) {
+        if (!prosecutionWithReferenceDataList.isEmpty() && prosecutionWithReferenceDataList.stream().allMatch(each -> nonNull(each.getReferenceDataVO().getProsecutorsReferenceData()))) {
+            return;
+        }
 
         final Prosecutor prosecutor = prosecutionWithReferenceDataList.stream()
                 .map(ProsecutionWithReferenceData::getProsecution)
@@ -0,0 +1,364 @@
+package uk.gov.moj.cpp.prosecution.casefile.service;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.parseInt;
+import static java.util.Collections.unmodifiableMap;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import uk.gov.justice.services.common.configuration.Value;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process cache for reference data query results, shared by every {@link ReferenceDataQueryServiceImpl}
+ * instance in the deployment.
+ * <p>
+ * Entries are keyed by query name and query parameters and expire after a per-query TTL. Once an
+ * entry has passed its refresh-ahead point the first reader schedules a reload on the managed
+ * executor and every reader, including that one, keeps getting the current value until the reload
+ * replaces it, so a hot entry never goes cold and no request waits on a refresh. The refresh-ahead
+ * window is clamped to half the TTL of any query whose TTL is not longer than it. The cache holds at
+ * most {@code maxEntries} entries and evicts the least recently used one when full.
+ */
+@ApplicationScoped
+public class ReferenceDataCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    private static final String KEY_SEPARATOR = "|";
+    private static final String OVERRIDE_SEPARATOR = ",";
+    private static final String OVERRIDE_ASSIGNMENT = "=";
+
+    @Inject
+    @Value(key = "prosecutioncasefile.refdata.cache.enabled", defaultValue = "true")
+    private String enabledValue;
+
+    @Inject
+    @Value(key = "prosecutioncasefile.refdata.cache.ttl", defaultValue = "PT1H")
+    private String defaultTtlValue;
+
+    @Inject
+    @Value(key = "prosecutioncasefile.refdata.cache.ttl.overrides",
+            defaultValue = "referencedataoffences.query.offences-list=PT15M,referencedata.query.get.prosecutor.by.oucode=PT15M,referencedata.query.prosecutor=PT15M,referencedata.query.organisationunits=PT15M")
+    private String ttlOverridesValue;
+
+    @Inject
+    @Value(key = "prosecutioncasefile.refdata.cache.refresh-ahead", defaultValue = "PT5M")
+    private String refreshAheadValue;
+
+    @Inject
+    @Value(key = "prosecutioncasefile.refdata.cache.max-entries", defaultValue = "1000")
+    private String maxEntriesValue;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    private boolean enabled = true;
+    private Duration defaultTtl = Duration.ofHours(1);
+    private Duration refreshAhead = Duration.ofMinutes(5);
+    private Map<String, Duration> ttlOverrides = new HashMap<>();
+    private int maxEntries = 1000;
+
+    private Clock clock = Clock.systemUTC();
+    private Executor refreshExecutor;
+
+    private final Map<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CacheStatistics> statistics = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        enabled = parseBoolean(enabledValue);
+        defaultTtl = Duration.parse(defaultTtlValue);
+        refreshAhead = Duration.parse(refreshAheadValue);
+        maxEntries = parseInt(maxEntriesValue);
+        ttlOverrides = parseTtlOverrides(ttlOverridesValue);
+        refreshExecutor = managedExecutorService;
+
+        warnIfRefreshAheadNotShorterThan(defaultTtl, "the default ttl");
+        ttlOverrides.forEach((queryName, ttl) -> warnIfRefreshAheadNotShorterThan(ttl, queryName));
+
+        LOGGER.info("Reference data cache enabled: {}, default ttl: {}, refresh ahead: {}, max entries: {}, ttl overrides: {}",
+                enabled, defaultTtl, refreshAhead, maxEntries, ttlOverrides);
+    }
+
+    /**
+     * Returns the cached result of the given query, loading it with {@code loader} when absent or
+     * expired. Null results are never cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String queryName, final String parameters, final Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        final String key = keyOf(queryName, parameters);
+        final CacheStatistics queryStatistics = statisticsFor(queryName);
+        final Instant now = clock.instant();
+        final CacheEntry entry = getEntry(key);
+
+        if (entry == null || entry.isExpired(now)) {
+            queryStatistics.misses.increment();
+            final T value = loader.get();
+            put(key, queryName, value);
+            return value;
+        }
+
+        queryStatistics.hits.increment();
+
+        if (entry.isDueForRefresh(now) && entry.refreshing.compareAndSet(false, true)) {
+            refreshAhead(queryName, () -> put(key, queryName, loader.get()), List.of(entry));
+        }
+
+        return (T) entry.value;
+    }
+
+    /**
+     * Returns the cached results of a query made for several keys at once, caching the result of
+     * each key separately so that any later query sharing a key is served from the cache. The keys
+     * that are absent or expired are loaded with a single call to {@code loader}, which maps each key
+     * it was given to its result; the keys due for refresh are reloaded the same way in the
+     * background. Returns null when the cache is disabled and {@code loader} returns null.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> getAll(final String queryName, final Collection<K> keys, final Function<K, String> parameters,
+                                   final Function<List<K>, Map<K, V>> loader) {
+        if (!enabled) {
+            return loader.apply(new ArrayList<>(keys));
+        }
+
+        final CacheStatistics queryStatistics = statisticsFor(queryName);
+        final Instant now = clock.instant();
+        final Map<K, V> values = new LinkedHashMap<>();
+        final List<K> missedKeys = new ArrayList<>();
+        final List<K> refreshKeys = new ArrayList<>();
+        final List<CacheEntry> refreshEntries = new ArrayList<>();
+
+        for (final K key : keys) {
+            final CacheEntry entry = getEntry(keyOf(queryName, parameters.apply(key)));
+            if (entry == null || entry.isExpired(now)) {
+                queryStatistics.misses.increment();
+                missedKeys.add(key);
+                continue;
+            }
+
+            queryStatistics.hits.increment();
+            values.put(key, (V) entry.value);
+            if (entry.isDueForRefresh(now) && entry.refreshing.compareAndSet(false, true)) {
+                refreshKeys.add(key);
+                refreshEntries.add(entry);
+            }
+        }
+
+        if (!refreshKeys.isEmpty()) {
+            refreshAhead(queryName, () -> putAll(queryName, parameters, loader.apply(refreshKeys)), refreshEntries);
+        }
+
+        if (!missedKeys.isEmpty()) {
+            final Map<K, V> loadedValues = loader.apply(missedKeys);
+            putAll(queryName, parameters, loadedValues);
+            if (loadedValues != null) {
+                values.putAll(loadedValues);
+            }
+        }
+
+        return values;
+    }
+
+    public void invalidate(final String queryName) {
+        final String prefix = queryName + KEY_SEPARATOR;
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public Map<String, CacheStatistics> getStatistics() {
+        return unmodifiableMap(statistics);
+    }
+
+    void setClock(final Clock clock) {
+        this.clock = clock;
+    }
+
+    void setRefreshExecutor(final Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Reloads entries on the refresh executor. Without one, or when it rejects the reload, the
+     * entries are left to expire and are reloaded by the first reader after that.
+     */
+    private void refreshAhead(final String queryName, final Runnable reload, final List<CacheEntry> refreshedEntries) {
+        if (refreshExecutor == null) {
+            return;
+        }
+
+        statisticsFor(queryName).refreshes.increment();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    reload.run();
+                } catch (final RuntimeException e) {
+                    refreshedEntries.forEach(entry -> entry.refreshing.set(false));
+                    LOGGER.warn("Refresh ahead of {} failed, serving cached value", queryName, e);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            refreshedEntries.forEach(entry -> entry.refreshing.set(false));
+            LOGGER.warn("Refresh ahead of {} rejected, serving cached value", queryName, e);
+        }
+    }
+
+    private <K, V> void putAll(final String queryName, final Function<K, String> parameters, final Map<K, V> values) {
+        if (values != null) {
+            values.forEach((key, value) -> put(keyOf(queryName, parameters.apply(key)), queryName, value));
+        }
+    }
+
+    private void put(final String key, final String queryName, final Object value) {
+        if (value == null) {
+            return;
+        }
+
+        final Instant loadedAt = clock.instant();
+        final Duration ttl = ttlOverrides.getOrDefault(queryName, defaultTtl);
+        putEntry(key, new CacheEntry(value, loadedAt.plus(ttl), loadedAt.plus(ttl.minus(refreshWindow(ttl)))), queryName);
+    }
+
+    private Duration refreshWindow(final Duration ttl) {
+        return refreshAhead.compareTo(ttl) < 0 ? refreshAhead : ttl.dividedBy(2);
+    }
+
+    private void warnIfRefreshAheadNotShorterThan(final Duration ttl, final String ttlName) {
+        if (refreshAhead.compareTo(ttl) >= 0) {
+            LOGGER.warn("Reference data cache refresh ahead {} is not shorter than the ttl {} of {}, refreshing at half the ttl instead",
+                    refreshAhead, ttl, ttlName);
+        }
+    }
+
+    private static String keyOf(final String queryName, final String parameters) {
+        return queryName + KEY_SEPARATOR + parameters;
+    }
+
+    private CacheEntry getEntry(final String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private void putEntry(final String key, final CacheEntry entry, final String queryName) {
+        synchronized (entries) {
+            entries.put(key, entry);
+            if (entries.size() > maxEntries) {
+                final String eldestKey = entries.keySet().iterator().next();
+                entries.remove(eldestKey);
+                statisticsFor(queryName).evictions.increment();
+            }
+        }
+    }
+
+    private CacheStatistics statisticsFor(final String queryName) {
+        return statistics.computeIfAbsent(queryName, name -> new CacheStatistics());
+    }
+
+    private static Map<String, Duration> parseTtlOverrides(final String value) {
+        final Map<String, Duration> overrides = new HashMap<>();
+        if (isBlank(value)) {
+            return overrides;
+        }
+
+        for (final String override : value.split(OVERRIDE_SEPARATOR)) {
+            final String[] parts = override.split(OVERRIDE_ASSIGNMENT);
+            if (parts.length == 2) {
+                overrides.put(parts[0].trim(), Duration.parse(parts[1].trim()));
+            } else {
+                LOGGER.warn("Ignoring malformed reference data cache ttl override '{}'", override);
+            }
+        }
+        return overrides;
+    }
+
+    private static class CacheEntry {
+        private final Object value;
+        private final Instant expiresAt;
+        private final Instant refreshAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        CacheEntry(final Object value, final Instant expiresAt, final Instant refreshAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+
+        boolean isExpired(final Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+
+        boolean isDueForRefresh(final Instant now) {
+            return !now.isBefore(refreshAt);
+        }
+    }
+
+    public static class CacheStatistics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder refreshes = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        public long getRefreshes() {
+            return refreshes.sum();
+        }
+
+        public long getEvictions() {
+            return evictions.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "CacheStatistics{hits=" + getHits() + ", misses=" + getMisses() + ", refreshes=" + getRefreshes() + ", evictions=" + getEvictions() + "}";
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package uk.gov.moj.cpp.prosecution.casefile.service;
 
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static java.util.Collections.emptyList;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
@@ -71,9 +74,15 @@ import uk.gov.moj.cpp.prosecution.casefile.json.schemas.SummonsCodeReferenceData
 import uk.gov.moj.cpp.prosecution.casefile.json.schemas.VehicleCodeReferenceData;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -162,11 +171,18 @@ public class ReferenceDataQueryServiceImpl implements ReferenceDataQueryService
     public static final String QUERY_PARAM_OU_COURTROOM_NAME = "ouCourtRoomName";
     private static final String ENFORCEMENT_AREA_QUERY_NAME = "referencedata.query.enforcement-area";
     private static final String COURT_CODE_QUERY_PARAMETER = "localJusticeAreaNationalCourtCode";
+    private static final String NO_PARAMETERS = "";
 
     @Inject
     @ServiceComponent(COMMAND_API)
     private Requester requester;
 
+    @Inject
+    private ReferenceDataCache referenceDataCache;
+
+    @Inject
+    private ReferenceDataRequestCoalescer referenceDataRequestCoalescer;
+
     @Override
     public JsonObjectBuilder getCourtName(final JsonEnvelope envelope) {
 
@@ -205,77 +221,77 @@ public class ReferenceDataQueryServiceImpl implements ReferenceDataQueryService
 
     @Override
     public List<PoliceRankReferenceData> retrievePoliceRanks() {
-        return getRefDataStream(REFERENCEDATA_QUERY_POLICE_RANKS, FIELD_POLICE_RANKS, createObjectBuilder()).map(asPoliceRankRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_POLICE_RANKS, FIELD_POLICE_RANKS, asPoliceRankRefData());
     }
 
     @Override
     public List<ReferenceDataCountryNationality> retrieveCountryNationality() {
-        return getRefDataStream(REFERENCEDATA_QUERY_COUNTRY_NATIONALITIES, FIELD_COUNTRY_NATIONALITIES, createObjectBuilder()).map(asCountryNationalityRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_COUNTRY_NATIONALITIES, FIELD_COUNTRY_NATIONALITIES, asCountryNationalityRefData());
     }
 
     @Override
     public List<SummonsCodeReferenceData> retrieveSummonsCodes() {
-        return getRefDataStream(REFERENCEDATA_QUERY_SUMMONS_CODES, FIELD_SUMMONS_CODES, createObjectBuilder()).map(asSummonsCodeRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_SUMMONS_CODES, FIELD_SUMMONS_CODES, asSummonsCodeRefData());
     }
 
     @Override
     public List<AlcoholLevelMethodReferenceData> retrieveAlcoholLevelMethods() {
-        return getRefDataStream(REFERENCEDATA_QUERY_ALCOHOL_LEVEL_METHODS, FIELD_ALCOHOL_LEVEL_METHODS, createObjectBuilder()).map(asAlcoholLevelMethodRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_ALCOHOL_LEVEL_METHODS, FIELD_ALCOHOL_LEVEL_METHODS, asAlcoholLevelMethodRefData());
     }
 
     @Override
     public List<CustodyStatusReferenceData> retrieveCustodyStatuses() {
-        return getRefDataStream(REFERENCEDATA_QUERY_CUSTODY_STATUS, FIELD_CUSTODY_STATUSES, createObjectBuilder()).map(asCustodyStatusRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_CUSTODY_STATUS, FIELD_CUSTODY_STATUSES, asCustodyStatusRefData());
     }
 
     @Override
     public List<BailStatusReferenceData> retrieveBailStatuses() {
-        return getRefDataStream(REFERENCEDATA_QUERY_BAIL_STATUS, FIELD_BAIL_STATUSES, createObjectBuilder()).map(asBailStatusReferenceData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_BAIL_STATUS, FIELD_BAIL_STATUSES, asBailStatusReferenceData());
     }
 
     @Override
     public List<OffenceDateCodeReferenceData> retrieveOffenceDateCodes() {
-        return getRefDataStream(REFERENCE_DATA_QUERY_OFFENCE_DATE_CODE, FIELD_OFFENCE_DATE_CODES, createObjectBuilder()).map(asOffenceDateCodeRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCE_DATA_QUERY_OFFENCE_DATE_CODE, FIELD_OFFENCE_DATE_CODES, asOffenceDateCodeRefData());
     }
 
     @Override
     public List<OffenderCodeReferenceData> retrieveOffenderCodes() {
-        return getRefDataStream(REFERENCEDATA_QUERY_OFFENDER_CODES, FIELD_OFFENDER_CODES, createObjectBuilder()).map(asOffenderCodeRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_OFFENDER_CODES, FIELD_OFFENDER_CODES, asOffenderCodeRefData());
     }
 
     @Override
     public List<SelfdefinedEthnicityReferenceData> retrieveSelfDefinedEthnicity() {
-        return getRefDataStream(REFERENCEDATA_QUERY_SELF_DEFINED_ETHNICITY, FIELD_SELF_ETHNICITIES, createObjectBuilder()).map(asSelfDefinedEnthnicityRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_SELF_DEFINED_ETHNICITY, FIELD_SELF_ETHNICITIES, asSelfDefinedEnthnicityRefData());
     }
 
     @Override
     public List<ObservedEthnicityReferenceData> retrieveObservedEthnicity() {
-        return getRefDataStream(REFERENCE_DATA_QUERY_OBSERVED_ETHNICITY, FIELD_OBSERVED_ETHNICITIES, createObjectBuilder()).map(asObservedEnthnicityRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCE_DATA_QUERY_OBSERVED_ETHNICITY, FIELD_OBSERVED_ETHNICITIES, asObservedEnthnicityRefData());
     }
 
     @Override
     public List<LicenceCodeReferenceData> retrieveLicenceCode() {
-        return getRefDataStream(REFERENCEDATA_QUERY_LICENCE_CODE, FIELD_LICENCE_CODES, createObjectBuilder()).map(asLicenceCodeRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_LICENCE_CODE, FIELD_LICENCE_CODES, asLicenceCodeRefData());
     }
 
     @Override
     public List<PoliceForceReferenceData> retrievePoliceForceCode() {
-        return getRefDataStream(REFERENCEDATA_QUERY_POLICE_FORCE, FIELD_POLICE_FORCES, createObjectBuilder()).map(asPoliceForceRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_POLICE_FORCE, FIELD_POLICE_FORCES, asPoliceForceRefData());
     }
 
     @Override
     public List<VehicleCodeReferenceData> retrieveVehicleCodes() {
-        return getRefDataStream(REFERENCEDATA_QUERY_VEHICLE_CODE, FIELD_VEHICLE_CODES, createObjectBuilder()).map(asVehicleCodeRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_VEHICLE_CODE, FIELD_VEHICLE_CODES, asVehicleCodeRefData());
     }
 
     @Override
     public List<ModeOfTrialReasonsReferenceData> retrieveModeOfTrialReasons() {
-        return getRefDataStream(REFERENCEDATA_QUERY_MODE_OF_TRIAL_REASONS, FIELD_MODE_OF_TRIAL_REASONS, createObjectBuilder()).map(asModeOfTrialReasonsRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_MODE_OF_TRIAL_REASONS, FIELD_MODE_OF_TRIAL_REASONS, asModeOfTrialReasonsRefData());
     }
 
     @Override
     public List<CourtApplicationType> retrieveApplicationTypes() {
-        return getRefDataStream(REFERENCEDATA_QUERY_APPLICATION_TYPES, FIELD_APPLICATION_TYPES, createObjectBuilder()).map(asApplicationTypeRefData()).collect(Collectors.toList());
+        return getCachedRefDataList(REFERENCEDATA_QUERY_APPLICATION_TYPES, FIELD_APPLICATION_TYPES, asApplicationTypeRefData());
     }
 
     @Override
@@ -297,7 +313,8 @@ public class ReferenceDataQueryServiceImpl implements ReferenceDataQueryService
 
     @Override
     public List<MojOffences> retrieveOffencesByType(final String type) {
-        return getRefDataStream(REFERENCEDATA_QUERY_MOJ_OFFENCES, MOJ_OFFENCES, createObjectBuilder().add(FIELD_OFFENCE_TYPE, type)).map(asMojOffencesRefData()).collect(Collectors.toList());
+        return new ArrayList<>(getCached(REFERENCEDATA_QUERY_MOJ_OFFENCES, type, () ->
+                getRefDataStream(REFERENCEDATA_QUERY_MOJ_OFFENCES, MOJ_OFFENCES, createObjectBuilder().add(FIELD_OFFENCE_TYPE, type)).map(asMojOffencesRefData()).toList()));
     }
 
     @Override
@@ -313,62 +330,67 @@ public class ReferenceDataQueryServiceImpl implements ReferenceDataQueryService
 
     @Override
     public List<DocumentTypeAccessReferenceData> retrieveDocumentsTypeAccess() {
-        return getRefDataStream(REFERENCEDATA_QUERY_DOCUMENTS_TYPE_ACCESS, FIELD_DOCUMENTS_TYPE_ACCESS, createObjectBuilder().add("date", LocalDate.now().toString())).map(asDocumentsMetadataRefData()).collect(Collectors.toList());
+        final String date = LocalDate.now().toString();
+        return new ArrayList<>(getCached(REFERENCEDATA_QUERY_DOCUMENTS_TYPE_ACCESS, date, () ->
+                getRefDataStream(REFERENCEDATA_QUERY_DOCUMENTS_TYPE_ACCESS, FIELD_DOCUMENTS_TYPE_ACCESS, createObjectBuilder().add("date", date)).map(asDocumentsMetadataRefData()).toList()));
     }
 
     @Override
     public List<OrganisationUnitReferenceData> retrieveOrganisationUnits(final String ouCode) {
-        return getRefDataStream(REFERENCEDATA_QUERY_ORGANISATION_UNIT, ORGANISATION_UNITS, createObjectBuilder().add(SPIOUCODE, ouCode))
-                .map(asOrganisationUnitRefData()).toList();
+        return getCached(REFERENCEDATA_QUERY_ORGANISATION_UNIT, SPIOUCODE + "=" + ouCode, () ->
+                getRefDataStream(REFERENCEDATA_QUERY_ORGANISATION_UNIT, ORGANISATION_UNITS, createObjectBuilder().add(SPIOUCODE, ouCode))
+                        .map(asOrganisationUnitRefData()).toList());
     }
 
     @Override
     public List<OrganisationUnitReferenceData> retrieveOrganisationUnitsByOuCode(final String ouCode) {
-        return getRefDataStream(REFERENCEDATA_QUERY_ORGANISATION_UNIT, ORGANISATION_UNITS, createObjectBuilder().add(OUCODE, ouCode))
-                .map(asOrganisationUnitRefData()).toList();
+        return getCached(REFERENCEDATA_QUERY_ORGANISATION_UNIT, OUCODE + "=" + ouCode, () ->
+                getRefDataStream(REFERENCEDATA_QUERY_ORGANISATION_UNIT, ORGANISATION_UNITS, createObjectBuilder().add(OUCODE, ouCode))
+                        .map(asOrganisationUnitRefData()).toList());
     }
 
     @Override
     public boolean isInitiationCodeValid(final String initiationCode) {
-        return getRefDataStream(REFERENCEDATA_QUERY_INITIATION_TYPES, FIELD_INITIATION_TYPES, createObjectBuilder())
-                .map(initiationType -> (JsonObject) initiationType)
-                .anyMatch(initiationType -> initiationType.getString("code").equals(initiationCode));
+        return getInitiationCodes().contains(initiationCode);
     }
 
     @Override
     public List<String> getInitiationCodes() {
-        return getRefDataStream(REFERENCEDATA_QUERY_INITIATION_TYPES, FIELD_INITIATION_TYPES, createObjectBuilder())
-                .map(initiationType -> (JsonObject) initiationType)
-                .map(initiationType -> initiationType.getString("code")).collect(Collectors.toList());
+        return new ArrayList<>(getCached(REFERENCEDATA_QUERY_INITIATION_TYPES, NO_PARAMETERS, () ->
+                getRefDataStream(REFERENCEDATA_QUERY_INITIATION_TYPES, FIELD_INITIATION_TYPES, createObjectBuilder())
+                        .map(initiationType -> (JsonObject) initiationType)
+                        .map(initiationType -> initiationType.getString("code")).toList()));
     }
 
     @Override
     public HearingTypes retrieveHearingTypes() {
         return hearingTypes()
-                .withHearingtypes(getRefDataStream(REFERENCEDATA_QUERY_HEARING_TYPES, FIELD_HEARING_TYPES, createObjectBuilder()).map(asHearingTypesRefData()).collect(Collectors.toList()))
+                .withHearingtypes(getCachedRefDataList(REFERENCEDATA_QUERY_HEARING_TYPES, FIELD_HEARING_TYPES, asHearingTypesRefData()))
                 .build();
     }
 
     @Override
     public ProsecutorsReferenceData retrieveProsecutors(final String originatingOrganisation) {
+        return getCached(REFERENCE_DATA_QUERY_PROSECUTORS_BY_OUCODE, originatingOrganisation, () -> {
+            final JsonEnvelope envelope = envelopeFrom(getMetadataBuilder(REFERENCE_DATA_QUERY_PROSECUTORS_BY_OUCODE), createObjectBuilder().add(OUCODE, originatingOrganisation));
+            final JsonValue response = requester.requestAsAdmin(envelope, JsonObject.class).payload();
+            ProsecutorsReferenceData prosecutorsReferenceData = null;
+            if (null != response) {
+                prosecutorsReferenceData = asProsecutorRefData().apply(response);
+            }
 
-        final JsonEnvelope envelope = envelopeFrom(getMetadataBuilder(REFERENCE_DATA_QUERY_PROSECUTORS_BY_OUCODE), createObjectBuilder().add(OUCODE, originatingOrganisation));
-        final JsonValue response = requester.requestAsAdmin(envelope, JsonObject.class).payload();
-        ProsecutorsReferenceData prosecutorsReferenceData = null;
-        if (null != response) {
-            prosecutorsReferenceData = asProsecutorRefData().apply(response);
-        }
-
-        return prosecutorsReferenceData;
+            return prosecutorsReferenceData;
+        });
     }
 
     @Override
     public List<CaseMarker> getCaseMarkerDetails() {
-        return getRefDataStream(REFERENCE_DATA_QUERY_CASE_MARKERS, FIELD_CASE_MARKERS, createObjectBuilder()
-                .add(REFERENCE_DATA_QUERY_CATEGORIES_TEAMS, REFERENCE_DATA_QUERY_CATEGORIES_TEAM_CC)
-                .add(REFERENCE_DATA_QUERY_CATEGORIES_USAGE, REFERENCE_DATA_QUERY_CATEGORIES_CASE_MARKER))
-                .map(asCaseMarkerRefData())
-                .collect(Collectors.toList());
+        return new ArrayList<>(getCached(REFERENCE_DATA_QUERY_CASE_MARKERS, NO_PARAMETERS, () ->
+                getRefDataStream(REFERENCE_DATA_QUERY_CASE_MARKERS, FIELD_CASE_MARKERS, createObjectBuilder()
+                        .add(REFERENCE_DATA_QUERY_CATEGORIES_TEAMS, REFERENCE_DATA_QUERY_CATEGORIES_TEAM_CC)
+                        .add(REFERENCE_DATA_QUERY_CATEGORIES_USAGE, REFERENCE_DATA_QUERY_CATEGORIES_CASE_MARKER))
+                        .map(asCaseMarkerRefData())
+                        .toList()));
     }
 
     @Override
@@ -391,6 +413,39 @@ public class ReferenceDataQueryServiceImpl implements ReferenceDataQueryService
 
     @Override
     public List<OffenceReferenceData> retrieveOffenceDataList(final List<String> cjsOffenceCodeList, Optional<String> sowRef) {
+        final String sowRefParameter = sowRef.map(sowRefValue -> "|" + sowRefValue).orElse("");
+        final Map<String, List<OffenceReferenceData>> offenceDataByCode = referenceDataCache.getAll(REFERENCE_DATA_OFFENCE_QUERY_OFFENCE_LIST, cjsOffenceCodeList,
+                cjsOffenceCode -> cjsOffenceCode + sowRefParameter,
+                missedCjsOffenceCodes -> referenceDataRequestCoalescer.execute(REFERENCE_DATA_OFFENCE_QUERY_OFFENCE_LIST, String.join(",", missedCjsOffenceCodes) + sowRefParameter,
+                        () -> requestOffenceDataByCode(missedCjsOffenceCodes, sowRef)));
+
+        if (offenceDataByCode == null) {
+            return null;
+        }
+        return offenceDataByCode.values().stream().flatMap(List::stream).distinct().collect(Collectors.toList());
+    }
+
+    /**
+     * Requests the offence data of the given codes in one query and maps each code to its offence
+     * data, or to an empty list when reference data has none, so that unknown codes are cached too.
+     */
+    private Map<String, List<OffenceReferenceData>> requestOffenceDataByCode(final List<String> cjsOffenceCodeList, final Optional<String> sowRef) {
+        final List<OffenceReferenceData> offenceReferenceDataList = requestOffenceDataList(cjsOffenceCodeList, sowRef);
+        if (offenceReferenceDataList == null) {
+            return null;
+        }
+
+        final Map<String, List<OffenceReferenceData>> offenceDataByReturnedCode = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+        offenceReferenceDataList.stream()
+                .filter(offenceReferenceData -> nonNull(offenceReferenceData.getCjsOffenceCode()))
+                .forEach(offenceReferenceData -> offenceDataByReturnedCode.computeIfAbsent(offenceReferenceData.getCjsOffenceCode(), cjsOffenceCode -> new ArrayList<>()).add(offenceReferenceData));
+
+        final Map<String, List<OffenceReferenceData>> offenceDataByCode = new LinkedHashMap<>();
+        cjsOffenceCodeList.forEach(cjsOffenceCode -> offenceDataByCode.put(cjsOffenceCode, offenceDataByReturnedCode.getOrDefault(cjsOffenceCode, emptyList())));
+        return offenceDataByCode;
+    }
+
+    private List<OffenceReferenceData> requestOffenceDataList(final List<String> cjsOffenceCodeList, final Optional<String> sowRef) {
         final JsonObjectBuilder jsonObjectBuilder = createObjectBuilder().add("cjsoffencecode", String.join(",", cjsOffenceCodeList));
         sowRef.ifPresent(sowRefValue -> jsonObjectBuilder.add("sowRef", sowRefValue));
 
@@ -407,52 +462,45 @@ public class ReferenceDataQueryServiceImpl implements ReferenceDataQueryService
 
     @Override
     public ProsecutorsReferenceData getProsecutorsByOuCode(final Metadata metadata, final String ouCode) {
-        LOGGER.info("Requesting {} for OuCode {}", REFERENCEDATA_QUERY_GET_PROSECUTOR_BY_OUCODE, ouCode);
-        final JsonEnvelope prosecutorsQueryEnvelope = envelopeFrom(metadataFrom(metadata)
-                        .withName(REFERENCEDATA_QUERY_GET_PROSECUTOR_BY_OUCODE),
-                createObjectBuilder().
-                        add(OUCODE, ouCode));
+        return getCached(REFERENCEDATA_QUERY_GET_PROSECUTOR_BY_OUCODE, ouCode, () -> {
+            LOGGER.info("Requesting {} for OuCode {}", REFERENCEDATA_QUERY_GET_PROSECUTOR_BY_OUCODE, ouCode);
+            final JsonEnvelope prosecutorsQueryEnvelope = envelopeFrom(metadataFrom(metadata)
+                            .withName(REFERENCEDATA_QUERY_GET_PROSECUTOR_BY_OUCODE),
+                    createObjectBuilder().
+                            add(OUCODE, ouCode));
 
-        final JsonValue response = requester.requestAsAdmin(prosecutorsQueryEnvelope, JsonObject.class).payload();
+            final JsonValue response = requester.requestAsAdmin(prosecutorsQueryEnvelope, JsonObject.class).payload();
 
-        ProsecutorsReferenceData prosecutor = null;
-        if (null != response) {
-            prosecutor = asProsecutorRefData().apply(response);
-        }
+            ProsecutorsReferenceData prosecutor = null;
+            if (null != response) {
+                prosecutor = asProsecutorRefData().apply(response);
+            }
 
-        return prosecutor;
+            return prosecutor;
+        });
     }
 
     @Override
     public ProsecutorsReferenceData getProsecutorsByOuCode(final String ouCode){
-        final JsonEnvelope request = envelopeFrom(getMetadataBuilder(REFERENCEDATA_QUERY_GET_PROSECUTOR_BY_OUCODE),
-                createObjectBuilder().
-                        add(OUCODE, ouCode));
-
-        final JsonValue response = requester.requestAsAdmin(request, JsonObject.class).payload();
-
-        ProsecutorsReferenceData prosecutor = null;
-        if (null != response) {
-            prosecutor = asProsecutorRefData().apply(response);
-        }
-
-        return prosecutor;
+        return retrieveProsecutors(ouCode);
     }
 
     @Override
     public ProsecutorsReferenceData getProsecutorById(final UUID id) {
-        LOGGER.info("Requesting {} for ProsecutorId {}", REFERENCE_DATA_QUERY_NSP_PROSECUTORS_BY_ID, id);
-        final JsonEnvelope request = envelopeFrom(getMetadataBuilder(REFERENCE_DATA_QUERY_NSP_PROSECUTORS_BY_ID),
-                createObjectBuilder().add(ID, id.toString()));
+        return getCached(REFERENCE_DATA_QUERY_NSP_PROSECUTORS_BY_ID, id.toString(), () -> {
+            LOGGER.info("Requesting {} for ProsecutorId {}", REFERENCE_DATA_QUERY_NSP_PROSECUTORS_BY_ID, id);
+            final JsonEnvelope request = envelopeFrom(getMetadataBuilder(REFERENCE_DATA_QUERY_NSP_PROSECUTORS_BY_ID),
+                    createObjectBuilder().add(ID, id.toString()));
 
-        final JsonValue response = requester.requestAsAdmin(request, JsonObject.class).payload();
+            final JsonValue response = requester.requestAsAdmin(request, JsonObject.class).payload();
 
-        ProsecutorsReferenceData prosecutor = null;
-        if (null != response) {
-            prosecutor = asProsecutorRefData().apply(response);
-        }
+            ProsecutorsReferenceData prosecutor = null;
+            if (null != response) {
+                prosecutor = asProsecutorRefData().apply(response);
+            }
 
-        return prosecutor;
+            return prosecutor;
+        });
     }
 
     @Override
@@ -515,6 +563,15 @@ public class ReferenceDataQueryServiceImpl implements ReferenceDataQueryService
                 .build());
     }
 
+    private <T> T getCached(final String queryName, final String parameters, final Supplier<T> request) {
+        return referenceDataCache.get(queryName, parameters, () -> referenceDataRequestCoalescer.execute(queryName, parameters, request));
+    }
+
+    private <T> List<T> getCachedRefDataList(final String queryName, final String fieldName, final Function<JsonValue, T> mapper) {
+        return new ArrayList<>(getCached(queryName, NO_PARAMETERS, () ->
+                getRefDataStream(queryName, fieldName, createObjectBuilder()).map(mapper).toList()));
+    }
+
     private Stream<JsonValue> getRefDataStream(final String queryName, final String fieldName, final JsonObjectBuilder jsonObjectBuilder) {
         final JsonEnvelope envelope = envelopeFrom(getMetadataBuilder(queryName), jsonObjectBuilder);
         return requester.requestAsAdmin(envelope, JsonObject.class)
@@ -0,0 +1,71 @@
+package uk.gov.moj.cpp.prosecution.casefile.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Coalesces concurrent reference data requests with the same query name and parameters, so only
+ * one outbound request is in flight per key and every concurrent caller receives its result (or
+ * its failure). Nothing is retained once the request completes; caching is left to
+ * {@link ReferenceDataCache}, which sits above this.
+ */
+@ApplicationScoped
+public class ReferenceDataRequestCoalescer {
+
+    private static final String KEY_SEPARATOR = "|";
+
+    private final Map<String, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<>();
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(final String queryName, final String parameters, final Supplier<T> request) {
+        final String key = queryName + KEY_SEPARATOR + parameters;
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlightRequest = inFlightRequests.putIfAbsent(key, future);
+
+        if (inFlightRequest != null) {
+            coalescedRequests.increment();
+            return (T) await(inFlightRequest);
+        }
+
+        try {
+            final T result = request.get();
+            future.complete(result);
+            return result;
+        } catch (final Throwable e) {
+            // errors too must reach the coalesced callers, which otherwise wait forever
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, future);
+        }
+    }
+
+    public long getCoalescedRequests() {
+        return coalescedRequests.sum();
+    }
+
+    public int getInFlightRequests() {
+        return inFlightRequests.size();
+    }
+
+    private static Object await(final CompletableFuture<Object> inFlightRequest) {
+        try {
+            return inFlightRequest.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
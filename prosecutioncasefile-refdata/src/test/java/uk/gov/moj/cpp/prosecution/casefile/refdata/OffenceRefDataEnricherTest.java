@@ -9,6 +9,7 @@ import static org.hamcrest.Matchers.isA;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -49,7 +50,7 @@ public class OffenceRefDataEnricherTest {
 
     @BeforeEach
     public void setup() {
-        when(referenceDataQueryService.retrieveOffenceDataList(any(), any())).thenReturn(getMockOffenceReferenceData());
+        when(referenceDataQueryService.retrieveOffenceDataList(any(), any())).thenAnswer(invocation -> getMockOffenceReferenceData(invocation.getArgument(0)));
     }
 
     @Test
@@ -136,6 +137,40 @@ public class OffenceRefDataEnricherTest {
         verify(referenceDataQueryService, times(1)).retrieveOffenceDataList(Lists.newArrayList(buildOffence().getOffenceCode()), Optional.empty());
     }
 
+    @Test
+    public void shouldResolveAllDistinctOffenceCodesWithOneRequestPerSowRef() {
+        final List<DefendantsWithReferenceData> defendantsWithReferenceDataList = asList(
+                getMockDefendantsWithReferenceData(buildOffence(), null),
+                getMockDefendantsWithReferenceData(buildOffenceWithEmptyOffenceLocation(), null),
+                getMockDefendantsWithReferenceData(buildOffenceWithNullOffenceLocation(), null),
+                getMockDefendantsWithReferenceDataWithCivilFlag(buildOffenceWithSpacedOffenceLocation(), null));
+
+        offenceDataRefDataEnricher.enrich(defendantsWithReferenceDataList);
+
+        assertThat(defendantsWithReferenceDataList.get(0).getReferenceDataVO().getOffenceReferenceData().get(0).getCjsOffenceCode(), is("cjsOffenceCode"));
+        assertThat(defendantsWithReferenceDataList.get(1).getReferenceDataVO().getOffenceReferenceData().get(0).getCjsOffenceCode(), is("cjsOffenceCode2"));
+        assertThat(defendantsWithReferenceDataList.get(2).getReferenceDataVO().getOffenceReferenceData().get(0).getCjsOffenceCode(), is("cjsOffenceCode4"));
+        assertThat(defendantsWithReferenceDataList.get(3).getReferenceDataVO().getOffenceReferenceData().get(0).getCjsOffenceCode(), is("cjsOffenceCode3"));
+        verify(referenceDataQueryService).retrieveOffenceDataList(asList("cjsOffenceCode", "cjsOffenceCode2", "cjsOffenceCode4"), Optional.empty());
+        verify(referenceDataQueryService).retrieveOffenceDataList(asList("cjsOffenceCode3"), Optional.of("MoJ"));
+        verify(referenceDataQueryService, times(2)).retrieveOffenceDataList(any(), any());
+    }
+
+    @Test
+    public void shouldIgnoreOffenceReferenceDataWithoutOffenceCode() {
+        doAnswer(invocation -> {
+            final List<OffenceReferenceData> offenceReferenceData = new ArrayList<>(getMockOffenceReferenceData(invocation.getArgument(0)));
+            offenceReferenceData.add(OffenceReferenceData.offenceReferenceData().withOffenceId(randomUUID()).build());
+            return offenceReferenceData;
+        }).when(referenceDataQueryService).retrieveOffenceDataList(any(), any());
+        final DefendantsWithReferenceData defendantsWithReferenceData = getMockDefendantsWithReferenceData(buildOffence(), null);
+
+        offenceDataRefDataEnricher.enrich(defendantsWithReferenceData);
+
+        assertThat(defendantsWithReferenceData.getReferenceDataVO().getOffenceReferenceData().size(), is(1));
+        assertThat(defendantsWithReferenceData.getReferenceDataVO().getOffenceReferenceData().get(0).getCjsOffenceCode(), is("cjsOffenceCode"));
+    }
+
     private DefendantsWithReferenceData getMockDefendantsWithSameOffences(final Offence offence, final String prosecutionAuthorityShortName) {
         final List<Offence> offences = new ArrayList<>();
         offences.add(offence);
@@ -172,13 +207,14 @@ public class OffenceRefDataEnricherTest {
                 .withOffenceLocation(null).build();
     }
 
-    private List<OffenceReferenceData> getMockOffenceReferenceData() {
-        return asList(OffenceReferenceData
-                .offenceReferenceData()
-                .withCjsOffenceCode("cjsOffenceCode")
-                .withOffenceId(OFFENCE_UUID)
-                .withValidFrom("2019-04-01")
-                .build()
-        );
+    private List<OffenceReferenceData> getMockOffenceReferenceData(final List<String> offenceCodes) {
+        return offenceCodes.stream()
+                .map(offenceCode -> OffenceReferenceData
+                        .offenceReferenceData()
+                        .withCjsOffenceCode(offenceCode)
+                        .withOffenceId(OFFENCE_UUID)
+                        .withValidFrom("2019-04-01")
+                        .build())
+                .toList();
     }
 }
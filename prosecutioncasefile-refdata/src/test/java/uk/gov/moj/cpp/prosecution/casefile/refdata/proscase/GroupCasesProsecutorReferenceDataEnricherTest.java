@@ -3,11 +3,13 @@ package uk.gov.moj.cpp.prosecution.casefile.refdata.proscase;
 import static java.util.Arrays.asList;
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
@@ -81,6 +83,19 @@ public class GroupCasesProsecutorReferenceDataEnricherTest {
 
     }
 
+    @Test
+    public void shouldNotRetrieveProsecutorAlreadyResolvedForTheGroup() {
+
+        final ProsecutorsReferenceData groupProsecutor = getMockProsecutionRefData();
+        final List<ProsecutionWithReferenceData> prosecutionWithReferenceDataList = asList(getMockProsecutionWithReferenceData(true), getMockProsecutionWithReferenceData(true));
+        prosecutionWithReferenceDataList.forEach(each -> each.getReferenceDataVO().setProsecutorsReferenceData(groupProsecutor));
+
+        groupCasesProsecutorReferenceDataEnricher.enrich(prosecutionWithReferenceDataList);
+
+        verifyNoInteractions(referenceDataQueryService);
+        assertThat(prosecutionWithReferenceDataList.get(1).getReferenceDataVO().getProsecutorsReferenceData(), is(groupProsecutor));
+    }
+
     private ProsecutorsReferenceData getMockProsecutionRefData() {
         return ProsecutorsReferenceData.prosecutorsReferenceData()
                 .withFullName("Blake Austin")
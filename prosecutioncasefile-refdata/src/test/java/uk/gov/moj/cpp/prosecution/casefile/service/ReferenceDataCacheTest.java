@@ -0,0 +1,188 @@
+package uk.gov.moj.cpp.prosecution.casefile.service;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.stream.Collectors.toMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReferenceDataCacheTest {
+
+    private static final String QUERY_NAME = "referencedata.query.police-ranks";
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<List<String>> loadedKeys = new ArrayList<>();
+
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    public void setUp() {
+        referenceDataCache = new ReferenceDataCache();
+        referenceDataCache.setClock(Clock.fixed(NOW, UTC));
+        referenceDataCache.setRefreshExecutor(Runnable::run);
+    }
+
+    @Test
+    public void shouldLoadOnceAndServeSubsequentCallsFromCache() {
+        assertThat(referenceDataCache.get(QUERY_NAME, "", this::load), is("value-1"));
+        assertThat(referenceDataCache.get(QUERY_NAME, "", this::load), is("value-1"));
+
+        assertThat(loads.get(), is(1));
+        assertThat(referenceDataCache.getStatistics().get(QUERY_NAME).getHits(), is(1L));
+        assertThat(referenceDataCache.getStatistics().get(QUERY_NAME).getMisses(), is(1L));
+    }
+
+    @Test
+    public void shouldCacheEachParameterSetSeparately() {
+        assertThat(referenceDataCache.get(QUERY_NAME, "a", this::load), is("value-1"));
+        assertThat(referenceDataCache.get(QUERY_NAME, "b", this::load), is("value-2"));
+
+        assertThat(referenceDataCache.size(), is(2));
+    }
+
+    @Test
+    public void shouldRefreshAheadOfExpiry() {
+        referenceDataCache.get(QUERY_NAME, "", this::load);
+
+        referenceDataCache.setClock(Clock.fixed(NOW.plus(Duration.ofMinutes(56)), UTC));
+
+        assertThat(referenceDataCache.get(QUERY_NAME, "", this::load), is("value-1"));
+        assertThat(referenceDataCache.get(QUERY_NAME, "", this::load), is("value-2"));
+        assertThat(referenceDataCache.getStatistics().get(QUERY_NAME).getRefreshes(), is(1L));
+    }
+
+    @Test
+    public void shouldServeCachedValueWhileRefreshIsPending() {
+        final List<Runnable> pendingRefreshes = new ArrayList<>();
+        referenceDataCache.setRefreshExecutor(pendingRefreshes::add);
+        referenceDataCache.get(QUERY_NAME, "", this::load);
+
+        referenceDataCache.setClock(Clock.fixed(NOW.plus(Duration.ofMinutes(56)), UTC));
+
+        assertThat(referenceDataCache.get(QUERY_NAME, "", this::load), is("value-1"));
+        assertThat(referenceDataCache.get(QUERY_NAME, "", this::load), is("value-1"));
+        assertThat(pendingRefreshes.size(), is(1));
+        assertThat(loads.get(), is(1));
+
+        pendingRefreshes.get(0).run();
+
+        assertThat(referenceDataCache.get(QUERY_NAME, "", this::load), is("value-2"));
+    }
+
+    @Test
+    public void shouldClampRefreshAheadToHalfOfAShorterTtl() {
+        setField(referenceDataCache, "enabledValue", "true");
+        setField(referenceDataCache, "defaultTtlValue", "PT1H");
+        setField(referenceDataCache, "ttlOverridesValue", QUERY_NAME + "=PT2M");
+        setField(referenceDataCache, "refreshAheadValue", "PT5M");
+        setField(referenceDataCache, "maxEntriesValue", "1000");
+        referenceDataCache.init();
+        referenceDataCache.setRefreshExecutor(Runnable::run);
+        referenceDataCache.get(QUERY_NAME, "", this::load);
+
+        referenceDataCache.setClock(Clock.fixed(NOW.plus(Duration.ofSeconds(30)), UTC));
+        referenceDataCache.get(QUERY_NAME, "", this::load);
+        assertThat(referenceDataCache.getStatistics().get(QUERY_NAME).getRefreshes(), is(0L));
+
+        referenceDataCache.setClock(Clock.fixed(NOW.plus(Duration.ofSeconds(61)), UTC));
+        referenceDataCache.get(QUERY_NAME, "", this::load);
+        assertThat(referenceDataCache.getStatistics().get(QUERY_NAME).getRefreshes(), is(1L));
+    }
+
+    @Test
+    public void shouldLoadOnlyTheKeysNotAlreadyCached() {
+        referenceDataCache.getAll(QUERY_NAME, List.of("a"), Function.identity(), this::loadAll);
+
+        final Map<String, String> values = referenceDataCache.getAll(QUERY_NAME, List.of("a", "b"), Function.identity(), this::loadAll);
+
+        assertThat(values.get("a"), is("a-1"));
+        assertThat(values.get("b"), is("b-2"));
+        assertThat(loadedKeys, is(List.of(List.of("a"), List.of("b"))));
+        assertThat(referenceDataCache.getStatistics().get(QUERY_NAME).getHits(), is(1L));
+        assertThat(referenceDataCache.getStatistics().get(QUERY_NAME).getMisses(), is(2L));
+    }
+
+    @Test
+    public void shouldRefreshAheadOnlyTheKeysDueForRefresh() {
+        referenceDataCache.getAll(QUERY_NAME, List.of("a"), Function.identity(), this::loadAll);
+        referenceDataCache.setClock(Clock.fixed(NOW.plus(Duration.ofMinutes(56)), UTC));
+        referenceDataCache.getAll(QUERY_NAME, List.of("b"), Function.identity(), this::loadAll);
+
+        final Map<String, String> values = referenceDataCache.getAll(QUERY_NAME, List.of("a", "b"), Function.identity(), this::loadAll);
+
+        assertThat(values.get("a"), is("a-1"));
+        assertThat(loadedKeys, is(List.of(List.of("a"), List.of("b"), List.of("a"))));
+        assertThat(referenceDataCache.getAll(QUERY_NAME, List.of("a"), Function.identity(), this::loadAll).get("a"), is("a-3"));
+    }
+
+    @Test
+    public void shouldReloadOnceExpired() {
+        referenceDataCache.get(QUERY_NAME, "", this::load);
+
+        referenceDataCache.setClock(Clock.fixed(NOW.plus(Duration.ofHours(2)), UTC));
+
+        assertThat(referenceDataCache.get(QUERY_NAME, "", this::load), is("value-2"));
+        assertThat(referenceDataCache.getStatistics().get(QUERY_NAME).getMisses(), is(2L));
+    }
+
+    @Test
+    public void shouldServeCachedValueWhenRefreshAheadFails() {
+        referenceDataCache.get(QUERY_NAME, "", this::load);
+
+        referenceDataCache.setClock(Clock.fixed(NOW.plus(Duration.ofMinutes(56)), UTC));
+
+        assertThat(referenceDataCache.get(QUERY_NAME, "", () -> {
+            throw new IllegalStateException("referencedata unavailable");
+        }), is("value-1"));
+    }
+
+    @Test
+    public void shouldPropagateLoadFailureOnMiss() {
+        assertThrows(IllegalStateException.class, () -> referenceDataCache.get(QUERY_NAME, "", () -> {
+            throw new IllegalStateException("referencedata unavailable");
+        }));
+    }
+
+    @Test
+    public void shouldNotCacheNullResults() {
+        assertThat(referenceDataCache.get(QUERY_NAME, "", () -> null), is(nullValue()));
+
+        assertThat(referenceDataCache.size(), is(0));
+    }
+
+    @Test
+    public void shouldInvalidateAllEntriesOfAQuery() {
+        referenceDataCache.get(QUERY_NAME, "a", this::load);
+        referenceDataCache.get(QUERY_NAME, "b", this::load);
+        referenceDataCache.get("referencedata.query.bail-statuses", "", this::load);
+
+        referenceDataCache.invalidate(QUERY_NAME);
+
+        assertThat(referenceDataCache.size(), is(1));
+    }
+
+    private String load() {
+        return "value-" + loads.incrementAndGet();
+    }
+
+    private Map<String, String> loadAll(final List<String> keys) {
+        loadedKeys.add(keys);
+        final int load = loads.incrementAndGet();
+        return keys.stream().collect(toMap(Function.identity(), key -> key + "-" + load));
+    }
+}
@@ -12,6 +12,7 @@ import static org.hamcrest.core.IsNull.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.spi.DefaultJsonMetadata.metadataBuilder;
@@ -119,6 +120,12 @@ public class ReferenceDataQueryServiceTest {
     @Mock
     private Requester requester;
 
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+
+    @Spy
+    private ReferenceDataRequestCoalescer referenceDataRequestCoalescer = new ReferenceDataRequestCoalescer();
+
     @Spy
     private Enveloper enveloper = EnveloperFactory.createEnveloper();
 
@@ -194,6 +201,22 @@ public class ReferenceDataQueryServiceTest {
     }
 
 
+    @Test
+    public void shouldServeRepeatedCountryNationalityLookupsFromCache() {
+        final Metadata metadata = getMockMetadataWithName("NOT.referencedata.query.country-nationality");
+        final Envelope<JsonObject> countryNationalities = Envelope.envelopeFrom(metadata, getMockReferenceDataCountryNationalities());
+        when(requester.requestAsAdmin(any(JsonEnvelope.class), eq(JsonObject.class)))
+                .thenReturn(countryNationalities);
+
+        referenceDataService.retrieveCountryNationality();
+        final List<ReferenceDataCountryNationality> referenceDataCountryNationalities = referenceDataService.retrieveCountryNationality();
+
+        assertThat(referenceDataCountryNationalities.size(), is(3));
+        verify(requester, times(1)).requestAsAdmin(any(JsonEnvelope.class), eq(JsonObject.class));
+        assertThat(referenceDataCache.getStatistics().get("referencedata.query.country-nationality").getHits(), is(1L));
+        assertThat(referenceDataCache.getStatistics().get("referencedata.query.country-nationality").getMisses(), is(1L));
+    }
+
     @Test
     public void shouldRetrieveOffenceDateCodesList() {
         final Metadata metadata = getMockMetadataWithName("NOT.referencedata.query.offence-date-codes");
@@ -572,13 +595,32 @@ public class ReferenceDataQueryServiceTest {
 
         when(requester.requestAsAdmin(any(JsonEnvelope.class), eq(JsonObject.class))).thenReturn(mockRefDataEnvelope);
 
-        final List<OffenceReferenceData> offenceReferenceData = referenceDataService.retrieveOffenceDataList(List.of("OFCODE_12"), Optional.of("MoJ"));
+        final List<OffenceReferenceData> offenceReferenceData = referenceDataService.retrieveOffenceDataList(List.of("cjsOffenceCode", "cjsOffenceCode2"), Optional.of("MoJ"));
 
         assertThat(offenceReferenceData, is(notNullValue()));
         assertThat(offenceReferenceData.size(), is(2));
         assertThat(offenceReferenceData.get(0).getCjsOffenceCode(), is("cjsOffenceCode"));
     }
 
+    @Test
+    void shouldRequestOnlyTheOffenceCodesNotAlreadyCached() {
+        final Metadata metadata = getMockMetadataWithName("NOT.referencedataoffences.query.offences-list");
+        final Envelope<JsonObject> mockRefDataEnvelope = Envelope.envelopeFrom(metadata, getMockReferenceDataOffenceData());
+        when(requester.requestAsAdmin(any(JsonEnvelope.class), eq(JsonObject.class))).thenReturn(mockRefDataEnvelope);
+
+        referenceDataService.retrieveOffenceDataList(List.of("cjsOffenceCode"), Optional.of("MoJ"));
+        final List<OffenceReferenceData> offenceReferenceData = referenceDataService.retrieveOffenceDataList(List.of("cjsOffenceCode", "cjsOffenceCode2"), Optional.of("MoJ"));
+
+        assertThat(offenceReferenceData.size(), is(2));
+        assertThat(offenceReferenceData.get(0).getCjsOffenceCode(), is("cjsOffenceCode"));
+        assertThat(offenceReferenceData.get(1).getCjsOffenceCode(), is("cjsOffenceCode2"));
+
+        verify(requester, times(2)).requestAsAdmin(jsonEnvelopeCaptor.capture(), eq(JsonObject.class));
+        assertThat(jsonEnvelopeCaptor.getAllValues().get(0).payloadAsJsonObject().getString("cjsoffencecode"), is("cjsOffenceCode"));
+        assertThat(jsonEnvelopeCaptor.getAllValues().get(1).payloadAsJsonObject().getString("cjsoffencecode"), is("cjsOffenceCode2"));
+        assertThat(referenceDataCache.getStatistics().get("referencedataoffences.query.offences-list").getHits(), is(1L));
+    }
+
     @Test
     public void shouldReturnParentBundleRefData() {
 
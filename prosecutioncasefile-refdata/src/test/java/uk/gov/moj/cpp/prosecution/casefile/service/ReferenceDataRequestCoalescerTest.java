@@ -0,0 +1,112 @@
+package uk.gov.moj.cpp.prosecution.casefile.service;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ReferenceDataRequestCoalescerTest {
+
+    private static final String QUERY_NAME = "referencedata.query.get.prosecutor.by.oucode";
+    private static final int CALLERS = 8;
+
+    private final ReferenceDataRequestCoalescer referenceDataRequestCoalescer = new ReferenceDataRequestCoalescer();
+    private final ExecutorService executorService = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void shouldIssueOneRequestForConcurrentCallersWithSameKey() throws Exception {
+        final AtomicInteger requests = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executorService.submit(() -> referenceDataRequestCoalescer.execute(QUERY_NAME, "B01", () -> {
+                requests.incrementAndGet();
+                awaitQuietly(release);
+                return "prosecutor";
+            })));
+        }
+
+        while (referenceDataRequestCoalescer.getCoalescedRequests() < CALLERS - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (final Future<String> result : results) {
+            assertThat(result.get(5, SECONDS), is("prosecutor"));
+        }
+        assertThat(requests.get(), is(1));
+        assertThat(referenceDataRequestCoalescer.getInFlightRequests(), is(0));
+    }
+
+    @Test
+    public void shouldIssueSeparateRequestsForDifferentParameters() {
+        final AtomicInteger requests = new AtomicInteger();
+
+        referenceDataRequestCoalescer.execute(QUERY_NAME, "B01", requests::incrementAndGet);
+        referenceDataRequestCoalescer.execute(QUERY_NAME, "B02", requests::incrementAndGet);
+        referenceDataRequestCoalescer.execute(QUERY_NAME, "B01", requests::incrementAndGet);
+
+        assertThat(requests.get(), is(3));
+        assertThat(referenceDataRequestCoalescer.getCoalescedRequests(), is(0L));
+    }
+
+    @Test
+    public void shouldPropagateFailureAndReleaseKey() {
+        assertThrows(IllegalStateException.class, () -> referenceDataRequestCoalescer.execute(QUERY_NAME, "B01", () -> {
+            throw new IllegalStateException("referencedata unavailable");
+        }));
+
+        assertThat(referenceDataRequestCoalescer.getInFlightRequests(), is(0));
+        assertThat(referenceDataRequestCoalescer.execute(QUERY_NAME, "B01", () -> "prosecutor"), is("prosecutor"));
+    }
+
+    @Test
+    public void shouldPropagateErrorToCoalescedCallers() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executorService.submit(() -> referenceDataRequestCoalescer.<String>execute(QUERY_NAME, "B01", () -> {
+                awaitQuietly(release);
+                throw new StackOverflowError();
+            })));
+        }
+
+        while (referenceDataRequestCoalescer.getCoalescedRequests() < CALLERS - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (final Future<String> result : results) {
+            final ExecutionException executionException = assertThrows(ExecutionException.class, () -> result.get(5, SECONDS));
+            assertThat(executionException.getCause() instanceof StackOverflowError, is(true));
+        }
+        assertThat(referenceDataRequestCoalescer.getInFlightRequests(), is(0));
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
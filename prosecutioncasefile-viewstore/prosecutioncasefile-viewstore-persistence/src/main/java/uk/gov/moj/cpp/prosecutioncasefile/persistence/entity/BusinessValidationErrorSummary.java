@@ -10,7 +10,7 @@ import javax.persistence.Id;
 import javax.persistence.Table;
 
 @Entity
-@Table(name = "business_validation_errors_summary_view")
+@Table(name = "business_validation_errors_summary")
 public class BusinessValidationErrorSummary implements Serializable {
 
     @Id
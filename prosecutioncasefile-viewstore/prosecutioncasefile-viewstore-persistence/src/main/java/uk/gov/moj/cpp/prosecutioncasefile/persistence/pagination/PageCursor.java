@@ -0,0 +1,101 @@
+package uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a page in the (sort field, case id) ordering, from which the next
+ * page is read without an offset. Clients receive it as an opaque string and pass it back as the
+ * {@value PaginationConstant#AFTER} parameter, together with the sort field it was issued for.
+ */
+public class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final OrderByField sortField;
+    private final UUID caseId;
+    private final String sortValue;
+
+    public PageCursor(final OrderByField sortField, final UUID caseId, final String sortValue) {
+        if (sortField == null) {
+            throw new IllegalArgumentException("sortField is required");
+        }
+        if (caseId == null) {
+            throw new IllegalArgumentException("caseId is required");
+        }
+        this.sortField = sortField;
+        this.caseId = caseId;
+        this.sortValue = sortValue;
+    }
+
+    public static PageCursor decode(final String cursor) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            final int fieldSeparator = decoded.indexOf(SEPARATOR);
+            if (fieldSeparator < 0) {
+                throw new IllegalArgumentException("sort field is missing");
+            }
+            final OrderByField sortField = OrderByField.valueOf(decoded.substring(0, fieldSeparator));
+            final String position = decoded.substring(fieldSeparator + 1);
+            final int separator = position.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return new PageCursor(sortField, UUID.fromString(position), null);
+            }
+            final String sortValue = position.substring(separator + 1);
+            if (sortField == OrderByField.HEARING_DATE) {
+                LocalDate.parse(sortValue);
+            }
+            return new PageCursor(sortField, UUID.fromString(position.substring(0, separator)), sortValue);
+        } catch (final IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException(String.format("cursor %s is invalid", cursor), e);
+        }
+    }
+
+    public String encode() {
+        final String position = sortValue == null ? caseId.toString() : caseId + SEPARATOR + sortValue;
+        final String decoded = sortField.name() + SEPARATOR + position;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(UTF_8));
+    }
+
+    /**
+     * The sort field of the page the cursor was issued for.
+     */
+    public OrderByField getSortField() {
+        return sortField;
+    }
+
+    public UUID getCaseId() {
+        return caseId;
+    }
+
+    /**
+     * The sort field value of the last row, or null when that row has no value.
+     */
+    public String getSortValue() {
+        return sortValue;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PageCursor that = (PageCursor) o;
+        return sortField == that.sortField &&
+                Objects.equals(caseId, that.caseId) &&
+                Objects.equals(sortValue, that.sortValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortField, caseId, sortValue);
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination;
 
 import java.util.Objects;
+import java.util.Optional;
 
 public class PaginationParameter {
 
@@ -8,17 +9,32 @@ public class PaginationParameter {
     private final int pageNumber;
     private final SortOrder sortOrder;
     private final OrderByField sortField;
+    private final PageCursor after;
+    private final boolean withCount;
 
     public PaginationParameter(final int pageSize, final int pageNumber, final OrderByField sortField, final SortOrder sortOrder) {
+        this(pageSize, pageNumber, sortField, sortOrder, null, true);
+    }
+
+    /**
+     * @param after     when present, the page starts after this cursor and the page number is
+     *                  ignored; it must have been issued for the same sort field
+     * @param withCount whether the total number of results and pages is counted
+     */
+    public PaginationParameter(final int pageSize, final int pageNumber, final OrderByField sortField, final SortOrder sortOrder,
+                               final PageCursor after, final boolean withCount) {
         validateParam(sortField, "sortField");
         validateParam(sortOrder, "sortOrder");
         validateNumber(pageSize, "pageSize", PaginationConstant.MIN_PAGE_SIZE);
         validateNumber(pageNumber, "pageNumber", PaginationConstant.FIRST_PAGE_NUMBER);
+        validateCursor(after, sortField);
 
         this.pageSize = pageSize;
         this.pageNumber = pageNumber;
         this.sortOrder = sortOrder;
         this.sortField = sortField;
+        this.after = after;
+        this.withCount = withCount;
     }
 
     private void validateParam(final Object valueToValidate, final String parameterName) {
@@ -27,6 +43,12 @@ public class PaginationParameter {
         }
     }
 
+    private void validateCursor(final PageCursor cursor, final OrderByField sortField) {
+        if (cursor != null && cursor.getSortField() != sortField) {
+            throw new IllegalArgumentException(String.format("cursor was issued for sort field %s and cannot be used with sort field %s", cursor.getSortField(), sortField));
+        }
+    }
+
     private void validateNumber(final int valueToValidate, final String parameterName, final int minAllowedValue) {
         if (valueToValidate < minAllowedValue) {
             throw new IllegalArgumentException(String.format("value %s of %s is invalid and should be greater than %s", valueToValidate, parameterName, minAllowedValue));
@@ -49,6 +71,14 @@ public class PaginationParameter {
         return sortField;
     }
 
+    public Optional<PageCursor> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    public boolean isWithCount() {
+        return withCount;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -61,11 +91,13 @@ public class PaginationParameter {
         return pageSize == that.pageSize &&
                 pageNumber == that.pageNumber &&
                 sortOrder == that.sortOrder &&
-                sortField == that.sortField;
+                sortField == that.sortField &&
+                withCount == that.withCount &&
+                Objects.equals(after, that.after);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(pageSize, pageNumber, sortOrder, sortField);
+        return Objects.hash(pageSize, pageNumber, sortOrder, sortField, after, withCount);
     }
 }
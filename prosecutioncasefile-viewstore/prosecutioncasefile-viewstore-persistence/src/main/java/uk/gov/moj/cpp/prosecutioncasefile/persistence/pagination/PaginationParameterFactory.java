@@ -22,7 +22,10 @@ public class PaginationParameterFactory {
         final int pageNumber = requestJsonObject.getInt(PaginationConstant.PAGE_NUMBER, PaginationConstant.FIRST_PAGE_NUMBER);
         final SortOrder sortOrder = getEnum(requestJsonObject, PaginationConstant.SORT_ORDER, SortOrder.class).orElse(SortOrder.DESC);
         final OrderByField sortField = getEnum(requestJsonObject, PaginationConstant.SORT_FIELD, OrderByField.class).orElse(OrderByField.HEARING_DATE);
-        return new PaginationParameter(pageSize, pageNumber, sortField, sortOrder);
+        final String after = getString(requestJsonObject, PaginationConstant.AFTER);
+        final PageCursor cursor = after.isEmpty() ? null : PageCursor.decode(after);
+        final boolean withCount = getBoolean(requestJsonObject, PaginationConstant.WITH_COUNT).orElse(cursor == null);
+        return new PaginationParameter(pageSize, pageNumber, sortField, sortOrder, cursor, withCount);
     }
 
     private static boolean valueExists(final JsonObject jsonObject, final String key) {
@@ -37,6 +40,17 @@ public class PaginationParameterFactory {
                 .orElse(EMPTY);
     }
 
+    public static Optional<Boolean> getBoolean(final JsonObject jsonObject, final String key) {
+        if (!valueExists(jsonObject, key)) {
+            return Optional.empty();
+        }
+        final JsonValue value = jsonObject.get(key);
+        if (value.getValueType() == JsonValue.ValueType.STRING) {
+            return Optional.of(Boolean.parseBoolean(jsonObject.getString(key)));
+        }
+        return Optional.of(JsonValue.TRUE.equals(value));
+    }
+
     public static <E extends Enum<E>> Optional<E> getEnum(final JsonObject jsonObject, final String key, Class<E> clazz) {
         final String enumAsString = getString(jsonObject, key);
         return Optional.ofNullable(getCaseInsensitiveEnum(enumAsString, clazz));
@@ -5,16 +5,40 @@ import static java.util.Collections.unmodifiableList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 public class PaginationResult<E> {
     private final List<E> result;
     private final long pageCount;
     private final long totalResultCount;
+    private final boolean counted;
+    private final String nextCursor;
 
     public PaginationResult(final List<E> result, final long totalResultCount, final long pageCount) {
+        this(result, totalResultCount, pageCount, true, null);
+    }
+
+    private PaginationResult(final List<E> result, final long totalResultCount, final long pageCount, final boolean counted, final String nextCursor) {
         this.result = result != null ? unmodifiableList(result) : new ArrayList<>();
         this.totalResultCount = totalResultCount;
         this.pageCount = pageCount;
+        this.counted = counted;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <E> PaginationResult<E> counted(final List<E> result, final long totalResultCount, final long pageCount, final String nextCursor) {
+        return new PaginationResult<>(result, totalResultCount, pageCount, true, nextCursor);
+    }
+
+    public static <E> PaginationResult<E> uncounted(final List<E> result, final String nextCursor) {
+        return new PaginationResult<>(result, 0, 0, false, nextCursor);
+    }
+
+    /**
+     * Returns a result with the same counts and next cursor as this one but the given rows.
+     */
+    public <T> PaginationResult<T> withResult(final List<T> otherResult) {
+        return new PaginationResult<>(otherResult, totalResultCount, pageCount, counted, nextCursor);
     }
 
     public List<E> getResult() {
@@ -29,6 +53,20 @@ public class PaginationResult<E> {
         return totalResultCount;
     }
 
+    /**
+     * Whether the total result and page counts were computed; they are zero otherwise.
+     */
+    public boolean isCounted() {
+        return counted;
+    }
+
+    /**
+     * The cursor of the last row of this page, present only when more results follow it.
+     */
+    public Optional<String> getNextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -40,11 +78,13 @@ public class PaginationResult<E> {
         final PaginationResult<?> that = (PaginationResult<?>) o;
         return pageCount == that.pageCount &&
                 totalResultCount == that.totalResultCount &&
-                Objects.equals(result, that.result);
+                counted == that.counted &&
+                Objects.equals(result, that.result) &&
+                Objects.equals(nextCursor, that.nextCursor);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(result, pageCount, totalResultCount);
+        return Objects.hash(result, pageCount, totalResultCount, counted, nextCursor);
     }
 }
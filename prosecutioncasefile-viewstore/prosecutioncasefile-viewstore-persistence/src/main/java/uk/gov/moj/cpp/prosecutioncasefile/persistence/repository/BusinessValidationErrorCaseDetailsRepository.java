@@ -2,10 +2,13 @@ package uk.gov.moj.cpp.prosecutioncasefile.persistence.repository;
 
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorCaseDetails;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.apache.deltaspike.data.api.EntityRepository;
+import org.apache.deltaspike.data.api.Query;
+import org.apache.deltaspike.data.api.QueryParam;
 import org.apache.deltaspike.data.api.Repository;
 
 @Repository
@@ -14,6 +17,9 @@ public interface BusinessValidationErrorCaseDetailsRepository extends
 
     List<BusinessValidationErrorCaseDetails> findByCaseId(final UUID caseId);
 
+    @Query(value = "FROM BusinessValidationErrorCaseDetails d WHERE d.caseId in (:caseIds)")
+    List<BusinessValidationErrorCaseDetails> findByCaseIds(@QueryParam("caseIds") final Collection<UUID> caseIds);
+
     void deleteByCaseId(final UUID caseId);
 
 
@@ -1,21 +1,31 @@
 package uk.gov.moj.cpp.prosecutioncasefile.persistence.repository;
 
+import static java.util.Objects.nonNull;
+import static java.util.UUID.fromString;
+import static java.util.stream.Collectors.toList;
+
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorDetails;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorDetails_;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.DefendantDetails;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.OrganisationInformationDetails;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.PersonalInformationDetails;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PaginationParameter;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.SortOrder;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
 import org.apache.deltaspike.data.api.AbstractFullEntityRepository;
+import org.apache.deltaspike.data.api.Modifying;
 import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.QueryParam;
 import org.apache.deltaspike.data.api.QueryResult;
@@ -25,21 +35,76 @@ import org.apache.deltaspike.data.api.Repository;
 public abstract class BusinessValidationErrorRepository
         extends AbstractFullEntityRepository<BusinessValidationErrorDetails, UUID> {
 
+    private static final String DELETE_BY_DEFENDANT_IDS = "DELETE FROM BusinessValidationErrorDetails e WHERE e.defendantId in (:defendantIds)";
+
     public abstract List<BusinessValidationErrorDetails> findByCaseId(final UUID caseId);
 
     public abstract List<BusinessValidationErrorDetails> findByDefendantId(final UUID defendantId);
 
-    public abstract void deleteByCaseId(final UUID caseId);
+    @Modifying
+    @Query(value = "DELETE FROM BusinessValidationErrorDetails e WHERE e.caseId = :caseId")
+    public abstract void deleteByCaseId(@QueryParam("caseId") final UUID caseId);
 
-    public abstract void deleteByCaseIdAndDefendantIdIsNull(final UUID caseId);
+    @Modifying
+    @Query(value = "DELETE FROM BusinessValidationErrorDetails e WHERE e.caseId = :caseId AND e.defendantId IS NULL")
+    public abstract void deleteByCaseIdAndDefendantIdIsNull(@QueryParam("caseId") final UUID caseId);
 
-    public abstract void deleteByDefendantId(UUID defendantId);
+    @Modifying
+    @Query(value = "DELETE FROM BusinessValidationErrorDetails e WHERE e.defendantId = :defendantId")
+    public abstract void deleteByDefendantId(@QueryParam("defendantId") UUID defendantId);
 
-    public abstract void deleteByCaseIdAndDefendantId(final UUID caseId, final UUID defendantId);
+    /**
+     * Persists new errors without first looking each of them up, so that their inserts are sent
+     * to the database in JDBC batches when the transaction flushes.
+     */
+    public void saveAll(final Collection<BusinessValidationErrorDetails> errors) {
+        errors.forEach(entityManager()::persist);
+    }
 
-    public abstract void deleteByCaseIdAndFirstNameAndLastName(final UUID caseId, final String firstName, final String lastName);
+    public void deleteByDefendantIds(final Collection<UUID> defendantIds) {
+        if (!defendantIds.isEmpty()) {
+            entityManager().createQuery(DELETE_BY_DEFENDANT_IDS)
+                    .setParameter("defendantIds", defendantIds)
+                    .executeUpdate();
+        }
+    }
 
-    public abstract void deleteByCaseIdAndOrganisationName(final UUID caseId, final String organisationName);
+    /**
+     * Deletes, in one statement, the errors of the case matching any of the defendants by id, by
+     * first and last name of a person or by name of an organisation.
+     */
+    public void deleteByCaseIdAndDefendants(final UUID caseId, final Collection<DefendantDetails> defendants) {
+        if (defendants.isEmpty()) {
+            return;
+        }
+
+        final CriteriaBuilder criteriaBuilder = entityManager().getCriteriaBuilder();
+        final CriteriaDelete<BusinessValidationErrorDetails> criteriaDelete = criteriaBuilder.createCriteriaDelete(BusinessValidationErrorDetails.class);
+        final Root<BusinessValidationErrorDetails> e = criteriaDelete.from(BusinessValidationErrorDetails.class);
+
+        final List<Predicate> defendantPredicates = new ArrayList<>();
+        defendantPredicates.add(e.get(BusinessValidationErrorDetails_.defendantId).in(defendants.stream()
+                .map(defendant -> fromString(defendant.getDefendantId()))
+                .collect(toList())));
+        defendants.forEach(defendant -> {
+            final PersonalInformationDetails personalInformation = defendant.getPersonalInformation();
+            final OrganisationInformationDetails organisationInformation = defendant.getOrganisationInformation();
+            if (nonNull(personalInformation)) {
+                if (nonNull(personalInformation.getFirstName()) && nonNull(personalInformation.getLastName())) {
+                    defendantPredicates.add(criteriaBuilder.and(
+                            criteriaBuilder.equal(e.get(BusinessValidationErrorDetails_.firstName), personalInformation.getFirstName()),
+                            criteriaBuilder.equal(e.get(BusinessValidationErrorDetails_.lastName), personalInformation.getLastName())));
+                }
+            } else if (nonNull(organisationInformation) && nonNull(organisationInformation.getOrganisationName())) {
+                defendantPredicates.add(criteriaBuilder.equal(e.get(BusinessValidationErrorDetails_.organisationName), organisationInformation.getOrganisationName()));
+            }
+        });
+
+        criteriaDelete.where(
+                criteriaBuilder.equal(e.get(BusinessValidationErrorDetails_.caseId), caseId),
+                criteriaBuilder.or(defendantPredicates.toArray(new Predicate[defendantPredicates.size()])));
+        entityManager().createQuery(criteriaDelete).executeUpdate();
+    }
 
 
     public Long countOfCasesWithOutstandingErrors(
@@ -6,18 +6,23 @@ import static java.util.Objects.nonNull;
 import uk.gov.moj.cpp.prosecutioncasefile.mapping.FilterParameter;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorSummary;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorSummary_;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.OrderByField;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PageCursor;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PaginationParameter;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PaginationResult;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.SortOrder;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.BiFunction;
 
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
@@ -34,10 +39,37 @@ public abstract class BusinessValidationErrorSummaryRepository
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BusinessValidationErrorSummaryRepository.class);
     private static final String SELECT_ERROR_SUMMARY = "SELECT e FROM BusinessValidationErrorSummary e";
+    private static final String DELETE_CASE_ERROR_SUMMARY = "DELETE FROM business_validation_errors_summary WHERE case_id = :caseId";
+    private static final String INSERT_CASE_ERROR_SUMMARY = "INSERT INTO business_validation_errors_summary "
+            + "(case_id, court_location, case_type, urn, defendant_hearing_date, defendant_bail_status) "
+            + "SELECT e.case_id, MIN(e.court_location), MIN(e.case_type), MIN(e.urn), MIN(e.defendant_hearing_date), MIN(e.defendant_bail_status) "
+            + "FROM business_validation_errors e WHERE e.case_id = :caseId GROUP BY e.case_id";
 
     @Query(value = SELECT_ERROR_SUMMARY)
     public abstract QueryResult<BusinessValidationErrorSummary> fetchAllCaseErrorSummary();
 
+    /**
+     * Recomputes the summary row of a case from its business validation errors, removing it when
+     * the case has none left. Must be called whenever errors of the case are saved or deleted.
+     */
+    public void refreshCaseErrorSummary(final UUID caseId) {
+        entityManager().flush();
+        entityManager().createNativeQuery(DELETE_CASE_ERROR_SUMMARY)
+                .setParameter("caseId", caseId)
+                .executeUpdate();
+        entityManager().createNativeQuery(INSERT_CASE_ERROR_SUMMARY)
+                .setParameter("caseId", caseId)
+                .executeUpdate();
+    }
+
+    /**
+     * Returns a page of case error summaries ordered by the sort field and then case id.
+     * <p>
+     * A page with a cursor is read with a keyset predicate on (sort field, case id) rather than an
+     * offset, so it costs the same however deep it is; otherwise the page number gives the offset.
+     * The total is only counted when asked for. One row beyond the page size is read to tell
+     * whether another page follows, in which case the result carries the cursor of its last row.
+     */
     @SuppressWarnings({"squid:S2221"})
     public PaginationResult<BusinessValidationErrorSummary> fetchFilteredCaseErrorSummary(
             final FilterParameter filterParameter, final PaginationParameter paginationParameter) {
@@ -45,47 +77,136 @@ public abstract class BusinessValidationErrorSummaryRepository
         try {
             final CriteriaBuilder criteriaBuilder = entityManager().getCriteriaBuilder();
 
-            final CriteriaQuery<BusinessValidationErrorSummary> criteriaQuery =
-                    criteriaBuilder.createQuery(BusinessValidationErrorSummary.class);
-
-            final CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
+            final int pageSize = paginationParameter.getPageSize();
+            final List<BusinessValidationErrorSummary> rows = paginationParameter.getAfter().isPresent()
+                    ? fetchAfter(filterParameter, paginationParameter, paginationParameter.getAfter().get(), pageSize + 1)
+                    : fetch(filterParameter, paginationParameter, null, (paginationParameter.getPageNumber() - 1) * pageSize, pageSize + 1);
+            final List<BusinessValidationErrorSummary> errorSummaries = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+            final String nextCursor = rows.size() > pageSize ? cursorOf(errorSummaries.get(pageSize - 1), paginationParameter.getSortField()).encode() : null;
 
-            final Root<BusinessValidationErrorSummary> entityRoot = countQuery.from(criteriaQuery.getResultType());
-            countQuery.select(criteriaBuilder.count(entityRoot));
-            final List<Predicate> countQueryPredicates = buildPredicates(filterParameter, criteriaBuilder, entityRoot);
-            if (!countQueryPredicates.isEmpty()) {
-                final Predicate[] predicateArray = countQueryPredicates.toArray(new Predicate[countQueryPredicates.size()]);
-                countQuery.where(criteriaBuilder.and(predicateArray));
+            if (!paginationParameter.isWithCount()) {
+                return PaginationResult.uncounted(errorSummaries, nextCursor);
             }
 
-            final Long totalCount = entityManager().createQuery(countQuery).getSingleResult();
-            final int countPages = (int) Math.ceil((double) totalCount / (double) paginationParameter.getPageSize());
+            final Long totalCount = countFilteredCaseErrorSummary(filterParameter, criteriaBuilder);
+            final int countPages = (int) Math.ceil((double) totalCount / (double) pageSize);
+            return PaginationResult.counted(errorSummaries, totalCount, countPages, nextCursor);
+        } catch (Exception e) {
+            LOGGER.error("Error occurred while executing query", e);
+            return new PaginationResult<>(Collections.emptyList(), 0, 0);
+        }
+    }
 
-            final Root<BusinessValidationErrorSummary> e = criteriaQuery.from(BusinessValidationErrorSummary.class);
-            final List<Predicate> criteriaQueryPredicates = buildPredicates(filterParameter, criteriaBuilder, e);
-            if (!buildPredicates(filterParameter, criteriaBuilder, entityRoot).isEmpty()) {
-                final Predicate[] predicateArray = criteriaQueryPredicates.toArray(new Predicate[criteriaQueryPredicates.size()]);
-                criteriaQuery.where(criteriaBuilder.and(predicateArray));
-            }
+    private Long countFilteredCaseErrorSummary(final FilterParameter filterParameter, final CriteriaBuilder criteriaBuilder) {
+        final CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
 
+        final Root<BusinessValidationErrorSummary> entityRoot = countQuery.from(BusinessValidationErrorSummary.class);
+        countQuery.select(criteriaBuilder.count(entityRoot));
+        final List<Predicate> countQueryPredicates = buildPredicates(filterParameter, criteriaBuilder, entityRoot);
+        if (!countQueryPredicates.isEmpty()) {
+            final Predicate[] predicateArray = countQueryPredicates.toArray(new Predicate[countQueryPredicates.size()]);
+            countQuery.where(criteriaBuilder.and(predicateArray));
+        }
+
+        return entityManager().createQuery(countQuery).getSingleResult();
+    }
+
+    /**
+     * Reads the rows after the cursor. Rows with and without a sort value are read by separate
+     * queries, so that each is a single range of the (sort field, case id) index: first the rest of
+     * the run the cursor is in, then, when the page is not yet full and the other run comes later
+     * in the order, the start of that run. PostgreSQL places nulls last when ascending and first
+     * when descending.
+     */
+    private List<BusinessValidationErrorSummary> fetchAfter(final FilterParameter filterParameter, final PaginationParameter paginationParameter,
+                                                            final PageCursor cursor, final int maxResults) {
+        final List<BusinessValidationErrorSummary> rows = new ArrayList<>(fetch(filterParameter, paginationParameter,
+                (criteriaBuilder, e) -> buildKeysetPredicate(paginationParameter, cursor, criteriaBuilder, e), 0, maxResults));
+
+        final boolean ascending = paginationParameter.getSortOrder() == SortOrder.ASC;
+        final boolean nullSortValue = cursor.getSortValue() == null;
+        if (ascending != nullSortValue && rows.size() < maxResults) {
             final String orderByField = paginationParameter.getSortField().getFieldName();
-            if (paginationParameter.getSortOrder().toString().equalsIgnoreCase(SortOrder.ASC.toString())) {
-                criteriaQuery.orderBy(criteriaBuilder.asc(e.get(orderByField)));
-            } else {
-                criteriaQuery.orderBy(criteriaBuilder.desc(e.get(orderByField)));
-            }
+            rows.addAll(fetch(filterParameter, paginationParameter,
+                    (criteriaBuilder, e) -> nullSortValue ? criteriaBuilder.isNotNull(e.get(orderByField)) : criteriaBuilder.isNull(e.get(orderByField)),
+                    0, maxResults - rows.size()));
+        }
+        return rows;
+    }
 
-            final TypedQuery<BusinessValidationErrorSummary> typedQuery = entityManager()
-                    .createQuery(criteriaQuery)
-                    .setFirstResult((paginationParameter.getPageNumber() - 1) * paginationParameter.getPageSize())
-                    .setMaxResults(paginationParameter.getPageSize());
+    private List<BusinessValidationErrorSummary> fetch(final FilterParameter filterParameter, final PaginationParameter paginationParameter,
+                                                       final BiFunction<CriteriaBuilder, Root<BusinessValidationErrorSummary>, Predicate> keysetPredicate,
+                                                       final int firstResult, final int maxResults) {
+        final CriteriaBuilder criteriaBuilder = entityManager().getCriteriaBuilder();
 
-            final List<BusinessValidationErrorSummary> errorSummaries = typedQuery.getResultList();
-            return new PaginationResult<>(errorSummaries, totalCount, countPages);
-        } catch (Exception e) {
-            LOGGER.error("Error occurred while executing query", e);
-            return new PaginationResult<>(Collections.emptyList(), 0, 0);
+        final CriteriaQuery<BusinessValidationErrorSummary> criteriaQuery =
+                criteriaBuilder.createQuery(BusinessValidationErrorSummary.class);
+
+        final Root<BusinessValidationErrorSummary> e = criteriaQuery.from(BusinessValidationErrorSummary.class);
+        final List<Predicate> criteriaQueryPredicates = buildPredicates(filterParameter, criteriaBuilder, e);
+        if (keysetPredicate != null) {
+            criteriaQueryPredicates.add(keysetPredicate.apply(criteriaBuilder, e));
+        }
+        if (!criteriaQueryPredicates.isEmpty()) {
+            final Predicate[] predicateArray = criteriaQueryPredicates.toArray(new Predicate[criteriaQueryPredicates.size()]);
+            criteriaQuery.where(criteriaBuilder.and(predicateArray));
+        }
+
+        final String orderByField = paginationParameter.getSortField().getFieldName();
+        if (paginationParameter.getSortOrder().toString().equalsIgnoreCase(SortOrder.ASC.toString())) {
+            criteriaQuery.orderBy(criteriaBuilder.asc(e.get(orderByField)), criteriaBuilder.asc(e.get(BusinessValidationErrorSummary_.caseId)));
+        } else {
+            criteriaQuery.orderBy(criteriaBuilder.desc(e.get(orderByField)), criteriaBuilder.desc(e.get(BusinessValidationErrorSummary_.caseId)));
+        }
+
+        final TypedQuery<BusinessValidationErrorSummary> typedQuery = entityManager()
+                .createQuery(criteriaQuery)
+                .setFirstResult(firstResult)
+                .setMaxResults(maxResults);
+        return typedQuery.getResultList();
+    }
+
+    private static PageCursor cursorOf(final BusinessValidationErrorSummary summary, final OrderByField sortField) {
+        if (sortField == OrderByField.REMAND_STATUS) {
+            return new PageCursor(sortField, summary.getCaseId(), summary.getDefendantBailStatus());
+        }
+        final LocalDate hearingDate = summary.getDefendantHearingDate();
+        return new PageCursor(sortField, summary.getCaseId(), hearingDate == null ? null : hearingDate.toString());
+    }
+
+    private Predicate buildKeysetPredicate(final PaginationParameter paginationParameter, final PageCursor cursor,
+                                           final CriteriaBuilder criteriaBuilder, final Root<BusinessValidationErrorSummary> e) {
+        final boolean ascending = paginationParameter.getSortOrder() == SortOrder.ASC;
+        if (paginationParameter.getSortField() == OrderByField.REMAND_STATUS) {
+            return buildKeysetPredicate(ascending, e.get(BusinessValidationErrorSummary_.defendantBailStatus), cursor.getSortValue(),
+                    e.get(BusinessValidationErrorSummary_.caseId), cursor.getCaseId(), criteriaBuilder);
+        }
+        final LocalDate hearingDate = cursor.getSortValue() == null ? null : parse(cursor.getSortValue());
+        return buildKeysetPredicate(ascending, e.get(BusinessValidationErrorSummary_.defendantHearingDate), hearingDate,
+                e.get(BusinessValidationErrorSummary_.caseId), cursor.getCaseId(), criteriaBuilder);
+    }
+
+    /**
+     * Matches the rows after (sortValue, caseId) in the order of the page query that have a sort
+     * value when the cursor has one, and none when it has none. The leading bound on the sort
+     * field keeps the predicate a range of the (sort field, case id) index.
+     */
+    private static <Y extends Comparable<? super Y>> Predicate buildKeysetPredicate(final boolean ascending,
+                                                                                    final Path<Y> sortPath, final Y sortValue,
+                                                                                    final Path<UUID> caseIdPath, final UUID caseId,
+                                                                                    final CriteriaBuilder criteriaBuilder) {
+        if (sortValue == null) {
+            return criteriaBuilder.and(criteriaBuilder.isNull(sortPath),
+                    ascending ? criteriaBuilder.greaterThan(caseIdPath, caseId) : criteriaBuilder.lessThan(caseIdPath, caseId));
+        }
+        if (ascending) {
+            return criteriaBuilder.and(
+                    criteriaBuilder.greaterThanOrEqualTo(sortPath, sortValue),
+                    criteriaBuilder.or(criteriaBuilder.greaterThan(sortPath, sortValue), criteriaBuilder.greaterThan(caseIdPath, caseId)));
         }
+        return criteriaBuilder.and(
+                criteriaBuilder.lessThanOrEqualTo(sortPath, sortValue),
+                criteriaBuilder.or(criteriaBuilder.lessThan(sortPath, sortValue), criteriaBuilder.lessThan(caseIdPath, caseId)));
     }
 
     private List<Predicate> buildPredicates(final FilterParameter filterParameter,
@@ -0,0 +1,86 @@
+package uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination;
+
+import static java.util.UUID.randomUUID;
+import static javax.json.Json.createObjectBuilder;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.OrderByField.HEARING_DATE;
+import static uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.OrderByField.REMAND_STATUS;
+import static uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PaginationParameterFactory.newPaginationParameter;
+import static uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.SortOrder.ASC;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class PaginationParameterFactoryTest {
+
+    private static final UUID CASE_ID = randomUUID();
+
+    @Test
+    public void shouldCountPagesByNumberByDefault() {
+        final PaginationParameter paginationParameter = newPaginationParameter(createObjectBuilder()
+                .add(PaginationConstant.PAGE_NUMBER, 3)
+                .build());
+
+        assertThat(paginationParameter.getPageNumber(), is(3));
+        assertThat(paginationParameter.getAfter(), is(Optional.empty()));
+        assertThat(paginationParameter.isWithCount(), is(true));
+    }
+
+    @Test
+    public void shouldNotCountPagesAfterCursorByDefault() {
+        final PageCursor cursor = new PageCursor(REMAND_STATUS, CASE_ID, "REMANDED");
+
+        final PaginationParameter paginationParameter = newPaginationParameter(createObjectBuilder()
+                .add(PaginationConstant.AFTER, cursor.encode())
+                .add(PaginationConstant.SORT_FIELD, "remand_status")
+                .add(PaginationConstant.SORT_ORDER, "asc")
+                .build());
+
+        assertThat(paginationParameter.getAfter(), is(Optional.of(cursor)));
+        assertThat(paginationParameter.getSortField(), is(REMAND_STATUS));
+        assertThat(paginationParameter.getSortOrder(), is(ASC));
+        assertThat(paginationParameter.isWithCount(), is(false));
+    }
+
+    @Test
+    public void shouldReadWithCountGivenAsBooleanOrString() {
+        assertThat(newPaginationParameter(createObjectBuilder()
+                .add(PaginationConstant.AFTER, new PageCursor(HEARING_DATE, CASE_ID, null).encode())
+                .add(PaginationConstant.WITH_COUNT, true)
+                .build()).isWithCount(), is(true));
+        assertThat(newPaginationParameter(createObjectBuilder()
+                .add(PaginationConstant.WITH_COUNT, "false")
+                .build()).isWithCount(), is(false));
+    }
+
+    @Test
+    public void shouldDecodeEncodedCursor() {
+        assertThat(PageCursor.decode(new PageCursor(HEARING_DATE, CASE_ID, "2024-05-01").encode()), is(new PageCursor(HEARING_DATE, CASE_ID, "2024-05-01")));
+        assertThat(PageCursor.decode(new PageCursor(REMAND_STATUS, CASE_ID, "A|B").encode()), is(new PageCursor(REMAND_STATUS, CASE_ID, "A|B")));
+        assertThat(PageCursor.decode(new PageCursor(HEARING_DATE, CASE_ID, null).encode()), is(new PageCursor(HEARING_DATE, CASE_ID, null)));
+        assertThat(PageCursor.decode(new PageCursor(REMAND_STATUS, CASE_ID, "").encode()), is(new PageCursor(REMAND_STATUS, CASE_ID, "")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionOnCursorOfAnotherSortField() {
+        newPaginationParameter(createObjectBuilder()
+                .add(PaginationConstant.AFTER, new PageCursor(REMAND_STATUS, CASE_ID, "REMANDED").encode())
+                .add(PaginationConstant.SORT_FIELD, "hearing_date")
+                .build());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionOnCursorWithInvalidHearingDate() {
+        PageCursor.decode(new PageCursor(HEARING_DATE, CASE_ID, "REMANDED").encode());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionOnInvalidCursor() {
+        newPaginationParameter(createObjectBuilder()
+                .add(PaginationConstant.AFTER, "not a cursor")
+                .build());
+    }
+}
@@ -1,5 +1,7 @@
 package uk.gov.moj.cpp.prosecutioncasefile.persistence.repository;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Optional.empty;
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -9,6 +11,9 @@ import static org.hamcrest.Matchers.hasSize;
 
 import uk.gov.justice.services.test.utils.persistence.BaseTransactionalJunit4Test;
 import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorDetails;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.DefendantDetails;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.OrganisationInformationDetails;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.PersonalInformationDetails;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -145,20 +150,55 @@ public class BusinessValidationErrorRepositoryTest extends BaseTransactionalJuni
     }
 
     @Test
-    public void shouldDeleteErrorWithCaseIdAndDefendantFirstNameLastName(){
+    public void shouldDeleteErrorsOfCaseMatchingAnyDefendantByIdOrName() {
         final UUID caseId = randomUUID();
         final UUID defendantId = randomUUID();
-        final BusinessValidationErrorDetails caseLevelError = getBusinessValidationErrors(randomUUID(), caseId, null);
-        final BusinessValidationErrorDetails defendantLevelError = getBusinessValidationErrors(randomUUID(), caseId, defendantId);
-        businessValidationErrorsRepository.save(caseLevelError);
-        businessValidationErrorsRepository.save(defendantLevelError);
-        final List<BusinessValidationErrorDetails> errorsByCaseIdBeforeDeletion = businessValidationErrorsRepository.findByCaseId(caseId);
-        assertThat(errorsByCaseIdBeforeDeletion, hasSize(2));
+        final BusinessValidationErrorDetails errorById = getBusinessValidationErrors(randomUUID(), caseId, defendantId, "Ann", "Smith", null);
+        final BusinessValidationErrorDetails errorByPersonName = getBusinessValidationErrors(randomUUID(), caseId, randomUUID(), FIRST_NAME, LAST_NAME, null);
+        final BusinessValidationErrorDetails errorByOrganisationName = getBusinessValidationErrors(randomUUID(), caseId, randomUUID(), null, null, ORGANISATION_NAME);
+        final BusinessValidationErrorDetails errorOfOtherDefendant = getBusinessValidationErrors(randomUUID(), caseId, randomUUID(), "Ann", "Smith", "Other Org");
+        final BusinessValidationErrorDetails errorOfOtherCase = getBusinessValidationErrors(randomUUID(), randomUUID(), defendantId, FIRST_NAME, LAST_NAME, null);
+        businessValidationErrorsRepository.saveAll(asList(errorById, errorByPersonName, errorByOrganisationName, errorOfOtherDefendant, errorOfOtherCase));
+
+        final DefendantDetails person = new DefendantDetails();
+        person.setDefendantId(defendantId.toString());
+        final PersonalInformationDetails personalInformation = new PersonalInformationDetails();
+        personalInformation.setFirstName(FIRST_NAME);
+        personalInformation.setLastName(LAST_NAME);
+        person.setPersonalInformation(personalInformation);
+        final DefendantDetails organisation = new DefendantDetails();
+        organisation.setDefendantId(randomUUID().toString());
+        final OrganisationInformationDetails organisationInformation = new OrganisationInformationDetails();
+        organisationInformation.setOrganisationName(ORGANISATION_NAME);
+        organisation.setOrganisationInformation(organisationInformation);
+
+        businessValidationErrorsRepository.deleteByCaseIdAndDefendants(caseId, asList(person, organisation));
+
+        final List<BusinessValidationErrorDetails> errorsByCaseIdAfterDeletion = businessValidationErrorsRepository.findByCaseId(caseId);
+        assertThat(errorsByCaseIdAfterDeletion, hasSize(1));
+        assertThat(errorsByCaseIdAfterDeletion.get(0).getId(), is(errorOfOtherDefendant.getId()));
+        assertThat(businessValidationErrorsRepository.findByCaseId(errorOfOtherCase.getCaseId()), hasSize(1));
+    }
 
-        businessValidationErrorsRepository.deleteByCaseIdAndFirstNameAndLastName(caseId, "Joe", "Root");
+    @Test
+    public void shouldDeleteErrorsOfAllDefendantIds() {
+        final UUID caseId = randomUUID();
+        final UUID firstDefendantId = randomUUID();
+        final UUID secondDefendantId = randomUUID();
+        final UUID otherDefendantId = randomUUID();
+        businessValidationErrorsRepository.saveAll(asList(
+                getBusinessValidationErrors(randomUUID(), caseId, firstDefendantId),
+                getBusinessValidationErrors(randomUUID(), caseId, firstDefendantId),
+                getBusinessValidationErrors(randomUUID(), caseId, secondDefendantId),
+                getBusinessValidationErrors(randomUUID(), caseId, otherDefendantId),
+                getBusinessValidationErrors(randomUUID(), caseId, null)));
+
+        businessValidationErrorsRepository.deleteByDefendantIds(asList(firstDefendantId, secondDefendantId));
+        businessValidationErrorsRepository.deleteByDefendantIds(emptyList());
 
         final List<BusinessValidationErrorDetails> errorsByCaseIdAfterDeletion = businessValidationErrorsRepository.findByCaseId(caseId);
-        assertThat(errorsByCaseIdAfterDeletion, hasSize(0));
+        assertThat(errorsByCaseIdAfterDeletion, hasSize(2));
+        assertThat(businessValidationErrorsRepository.findByDefendantId(otherDefendantId), hasSize(1));
     }
 
 
@@ -168,6 +208,11 @@ public class BusinessValidationErrorRepositoryTest extends BaseTransactionalJuni
     }
 
     private BusinessValidationErrorDetails getBusinessValidationErrors(final UUID id, final UUID caseId, final UUID defendantId) {
+        return getBusinessValidationErrors(id, caseId, defendantId, FIRST_NAME, LAST_NAME, ORGANISATION_NAME);
+    }
+
+    private BusinessValidationErrorDetails getBusinessValidationErrors(final UUID id, final UUID caseId, final UUID defendantId,
+                                                                       final String firstName, final String lastName, final String organisationName) {
         final BusinessValidationErrorDetails businessValidationErrors = new BusinessValidationErrorDetails(
                 id,
                 ERRORVALUE,
@@ -181,9 +226,9 @@ public class BusinessValidationErrorRepositoryTest extends BaseTransactionalJuni
                 CASETYPE,
                 URN,
                 DEFENDANTBAILSTATUS,
-                FIRST_NAME,
-                LAST_NAME,
-                ORGANISATION_NAME,
+                firstName,
+                lastName,
+                organisationName,
                 DEFENDANTCHARGEDATE,
                 DEFENDANTHEARINGDATE,
                 null
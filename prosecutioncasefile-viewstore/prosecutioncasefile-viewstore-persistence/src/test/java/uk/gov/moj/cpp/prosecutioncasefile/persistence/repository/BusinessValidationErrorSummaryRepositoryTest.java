@@ -0,0 +1,168 @@
+package uk.gov.moj.cpp.prosecutioncasefile.persistence.repository;
+
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.moj.cpp.prosecutioncasefile.mapping.FilterParameter.filterParameterBuilder;
+import static uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.SortOrder.ASC;
+import static uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.SortOrder.DESC;
+
+import uk.gov.justice.services.test.utils.persistence.BaseTransactionalJunit4Test;
+import uk.gov.moj.cpp.prosecutioncasefile.mapping.FilterParameter;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorDetails;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.entity.BusinessValidationErrorSummary;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.OrderByField;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PageCursor;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PaginationParameter;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.PaginationResult;
+import uk.gov.moj.cpp.prosecutioncasefile.persistence.pagination.SortOrder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.inject.Inject;
+
+import org.apache.deltaspike.testcontrol.api.junit.CdiTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(CdiTestRunner.class)
+public class BusinessValidationErrorSummaryRepositoryTest extends BaseTransactionalJunit4Test {
+
+    private static final LocalDate HEARING_DATE = LocalDate.now().plusMonths(1);
+
+    @Inject
+    private BusinessValidationErrorRepository businessValidationErrorRepository;
+
+    @Inject
+    private BusinessValidationErrorSummaryRepository businessValidationErrorSummaryRepository;
+
+    @Test
+    public void shouldSummariseErrorsOfCaseWhenRefreshed() {
+        final UUID caseId = randomUUID();
+        businessValidationErrorRepository.save(error(caseId, "Leeds", HEARING_DATE.plusDays(1)));
+        businessValidationErrorRepository.save(error(caseId, "Bootle", HEARING_DATE));
+        businessValidationErrorRepository.save(error(randomUUID(), "Aldershot", HEARING_DATE));
+
+        businessValidationErrorSummaryRepository.refreshCaseErrorSummary(caseId);
+
+        final BusinessValidationErrorSummary summary = businessValidationErrorSummaryRepository.findBy(caseId);
+        assertThat(summary.getCourtLocation(), is("Bootle"));
+        assertThat(summary.getCaseType(), is("CC"));
+        assertThat(summary.getUrn(), is("88GD6251318"));
+        assertThat(summary.getDefendantHearingDate(), is(HEARING_DATE));
+        assertThat(summary.getDefendantBailStatus(), is("CONDITIONAL"));
+    }
+
+    @Test
+    public void shouldRemoveSummaryOfCaseWithoutErrorsWhenRefreshed() {
+        final UUID caseId = randomUUID();
+        businessValidationErrorRepository.save(error(caseId, "Leeds", HEARING_DATE));
+        businessValidationErrorSummaryRepository.refreshCaseErrorSummary(caseId);
+
+        businessValidationErrorRepository.deleteByCaseId(caseId);
+        businessValidationErrorSummaryRepository.refreshCaseErrorSummary(caseId);
+
+        assertThat(businessValidationErrorSummaryRepository.findBy(caseId), is(nullValue()));
+    }
+
+    @Test
+    public void shouldPageAfterCursorInTheSameOrderAsByPageNumber() {
+        final String court = randomUUID().toString();
+        givenCaseErrorSummaries(court, HEARING_DATE, HEARING_DATE.plusDays(2), HEARING_DATE.plusDays(1), HEARING_DATE.plusDays(1), HEARING_DATE.plusDays(1));
+
+        assertCursorPagesFollowPageNumbers(filterParameterBuilder().withCourt(court).build());
+    }
+
+    @Test
+    public void shouldPageAfterCursorAcrossCasesWithoutHearingDate() {
+        final String court = randomUUID().toString();
+        givenCaseErrorSummaries(court, null, HEARING_DATE.plusDays(1), null, HEARING_DATE, null);
+
+        assertCursorPagesFollowPageNumbers(filterParameterBuilder().withCourt(court).build());
+    }
+
+    private void assertCursorPagesFollowPageNumbers(final FilterParameter filterParameter) {
+        for (final SortOrder sortOrder : new SortOrder[]{ASC, DESC}) {
+            final List<UUID> byPageNumber = new ArrayList<>();
+            for (int pageNumber = 1; pageNumber <= 3; pageNumber++) {
+                byPageNumber.addAll(caseIds(businessValidationErrorSummaryRepository.fetchFilteredCaseErrorSummary(filterParameter,
+                        new PaginationParameter(2, pageNumber, OrderByField.HEARING_DATE, sortOrder))));
+            }
+
+            final List<UUID> byCursor = new ArrayList<>();
+            PaginationResult<BusinessValidationErrorSummary> page = businessValidationErrorSummaryRepository.fetchFilteredCaseErrorSummary(filterParameter,
+                    new PaginationParameter(2, 1, OrderByField.HEARING_DATE, sortOrder, null, false));
+            byCursor.addAll(caseIds(page));
+            while (page.getNextCursor().isPresent()) {
+                assertThat(page.isCounted(), is(false));
+                page = businessValidationErrorSummaryRepository.fetchFilteredCaseErrorSummary(filterParameter,
+                        new PaginationParameter(2, 1, OrderByField.HEARING_DATE, sortOrder, PageCursor.decode(page.getNextCursor().get()), false));
+                byCursor.addAll(caseIds(page));
+            }
+
+            assertThat(byPageNumber.size(), is(5));
+            assertThat(byCursor, is(byPageNumber));
+        }
+    }
+
+    @Test
+    public void shouldCountResultsOnlyWhenAsked() {
+        final String court = randomUUID().toString();
+        givenCaseErrorSummaries(court, HEARING_DATE, HEARING_DATE.plusDays(1), HEARING_DATE.plusDays(2));
+        final FilterParameter filterParameter = filterParameterBuilder().withCourt(court).build();
+
+        final PaginationResult<BusinessValidationErrorSummary> counted = businessValidationErrorSummaryRepository.fetchFilteredCaseErrorSummary(filterParameter,
+                new PaginationParameter(2, 1, OrderByField.HEARING_DATE, ASC));
+        final PaginationResult<BusinessValidationErrorSummary> lastPage = businessValidationErrorSummaryRepository.fetchFilteredCaseErrorSummary(filterParameter,
+                new PaginationParameter(2, 1, OrderByField.HEARING_DATE, ASC, PageCursor.decode(counted.getNextCursor().get()), false));
+
+        assertThat(counted.isCounted(), is(true));
+        assertThat(counted.getTotalResultCount(), is(3L));
+        assertThat(counted.getPageCount(), is(2L));
+        assertThat(lastPage.isCounted(), is(false));
+        assertThat(lastPage.getResult().size(), is(1));
+        assertThat(lastPage.getResult().get(0).getDefendantHearingDate(), is(HEARING_DATE.plusDays(2)));
+        assertThat(lastPage.getNextCursor(), is(Optional.empty()));
+    }
+
+    private void givenCaseErrorSummaries(final String courtLocation, final LocalDate... hearingDates) {
+        for (final LocalDate hearingDate : hearingDates) {
+            final UUID caseId = randomUUID();
+            businessValidationErrorRepository.save(error(caseId, courtLocation, hearingDate));
+            businessValidationErrorSummaryRepository.refreshCaseErrorSummary(caseId);
+        }
+    }
+
+    private static List<UUID> caseIds(final PaginationResult<BusinessValidationErrorSummary> page) {
+        return page.getResult().stream().map(BusinessValidationErrorSummary::getCaseId).collect(toList());
+    }
+
+    private static BusinessValidationErrorDetails error(final UUID caseId, final String courtLocation, final LocalDate hearingDate) {
+        return new BusinessValidationErrorDetails(
+                randomUUID(),
+                "no marker",
+                randomUUID().toString(),
+                "case.marker",
+                caseId,
+                randomUUID(),
+                "case.marker",
+                "Bootle",
+                courtLocation,
+                "CC",
+                "88GD6251318",
+                "CONDITIONAL",
+                "Joe",
+                "Root",
+                null,
+                HEARING_DATE.minusMonths(3),
+                hearingDate,
+                null
+        );
+    }
+}